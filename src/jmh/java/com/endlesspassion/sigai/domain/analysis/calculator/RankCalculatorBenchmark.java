@@ -0,0 +1,124 @@
+package com.endlesspassion.sigai.domain.analysis.calculator;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매출 순위 계산 벤치마크: 기존 RevenueComparisonService 인라인 루프 vs RankCalculator
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=RankCalculatorBenchmark
+ *
+ * 비교 항목:
+ * - inlineLoop: 기존 방식 (내림차순 리스트를 앞에서부터 훑으며 매장마다 BigDecimal 생성 후 비교)
+ * - calculatorRank: 분포(double[]) 생성 + 이진 탐색 (현재 서비스 경로)
+ * - calculatorRankPrebuilt: 이미 만든 분포에서 이진 탐색만
+ * - inlineLoopBatch / calculatorRankAll: 여러 매출(revenues개)을 같은 분포에 대해 순위 계산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RankCalculatorBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int peers;
+
+    @Param("8")
+    private int revenues;
+
+    private List<PublicProfitData> descendingData;
+    private double[] distribution;
+    private BigDecimal[] revenueDecimals;
+    private double[] revenueValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        descendingData = new ArrayList<>(peers);
+        double[] amounts = new double[peers];
+        for (int i = 0; i < peers; i++) {
+            PublicProfitData data = new PublicProfitData();
+            amounts[i] = Math.floor(random.nextDouble() * 1_000_000_000);
+            data.setThsmonSelngAmt(amounts[i]);
+            descendingData.add(data);
+        }
+        descendingData.sort(Comparator.comparing(PublicProfitData::getThsmonSelngAmt).reversed());
+        distribution = RankCalculator.toDistribution(amounts);
+
+        revenueDecimals = new BigDecimal[revenues];
+        revenueValues = new double[revenues];
+        for (int i = 0; i < revenues; i++) {
+            revenueValues[i] = Math.floor(random.nextDouble() * 1_000_000_000);
+            revenueDecimals[i] = BigDecimal.valueOf(revenueValues[i]);
+        }
+    }
+
+    @Benchmark
+    public int inlineLoop() {
+        return inlineRank(descendingData, revenueDecimals[0]);
+    }
+
+    @Benchmark
+    public int calculatorRank() {
+        double[] amounts = new double[descendingData.size()];
+        for (int i = 0; i < amounts.length; i++) {
+            Double amount = descendingData.get(i).getThsmonSelngAmt();
+            amounts[i] = amount != null ? amount : Double.NaN;
+        }
+        return RankCalculator.rank(RankCalculator.toDistribution(amounts), revenueValues[0]);
+    }
+
+    @Benchmark
+    public int calculatorRankPrebuilt() {
+        return RankCalculator.rank(distribution, revenueValues[0]);
+    }
+
+    @Benchmark
+    public void inlineLoopBatch(Blackhole blackhole) {
+        for (BigDecimal revenue : revenueDecimals) {
+            blackhole.consume(inlineRank(descendingData, revenue));
+        }
+    }
+
+    @Benchmark
+    public int[] calculatorRankAll() {
+        return RankCalculator.rankAll(distribution, revenueValues);
+    }
+
+    /**
+     * 기존 RevenueComparisonService.calculateRankForQuarter의 순위 계산 루프
+     */
+    private static int inlineRank(List<PublicProfitData> allData, BigDecimal revenue) {
+        int rank = 1;
+        for (PublicProfitData data : allData) {
+            if (data.getThsmonSelngAmt() != null &&
+                    BigDecimal.valueOf(data.getThsmonSelngAmt()).compareTo(revenue) > 0) {
+                rank++;
+            } else {
+                break;
+            }
+        }
+        return rank;
+    }
+}
@@ -0,0 +1,127 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컬럼형 저장소 조회 vs MongoDB 조회 벤치마크
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=MarketColumnStoreBenchmark
+ * (로컬 MongoDB에 public_profit_data / public_store_data가 적재되어 있어야 함, mongoUri 파라미터로 변경 가능)
+ *
+ * 비교 항목:
+ * - mongoFindOne: 기존 PublicDataService 경로 (쿼리 + BSON 디코딩 + POJO 매핑)
+ * - columnStoreFindProfitData: 사전 조회 + 인덱스 조회 + POJO 변환 (PublicDataService 대체 경로)
+ * - columnStoreMetricRead: POJO 없이 지표 하나만 읽는 경로 (계산기/배치에서 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarketColumnStoreBenchmark {
+
+    private static final int SAMPLE_SIZE = 4096;
+
+    @Param("mongodb://localhost:27017/sigai")
+    private String mongoUri;
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private MarketColumnStore store;
+
+    private String[] sampleQuarters;
+    private String[] sampleAreas;
+    private String[] sampleIndustries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mongoClient = MongoClients.create(mongoUri);
+        String database = mongoUri.substring(mongoUri.lastIndexOf('/') + 1);
+        mongoTemplate = new MongoTemplate(mongoClient, database);
+        store = new MarketColumnStoreLoader(mongoTemplate, event -> {}).load();
+        if (store.getRowCount() == 0) {
+            throw new IllegalStateException("벤치마크용 공공 데이터가 없습니다: " + mongoUri);
+        }
+
+        // 실제 존재하는 키를 무작위로 추출 (매 호출마다 다른 키를 조회하여 캐시 효과를 줄임)
+        Random random = new Random(42);
+        sampleQuarters = new String[SAMPLE_SIZE];
+        sampleAreas = new String[SAMPLE_SIZE];
+        sampleIndustries = new String[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            int row = random.nextInt(store.getRowCount());
+            sampleQuarters[i] = store.getQuarters().codeOf(store.quarterIdOf(row));
+            sampleAreas[i] = store.getAreas().codeOf(store.areaIdOf(row));
+            sampleIndustries[i] = store.getIndustries().codeOf(store.industryIdOf(row));
+        }
+
+        printHeapFootprintReport();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mongoClient.close();
+    }
+
+    @Benchmark
+    public PublicProfitData mongoFindOne() {
+        int i = next();
+        Query query = new Query(Criteria.where("stdr_yyqu_cd").is(sampleQuarters[i])
+                .and("trdar_cd").is(sampleAreas[i])
+                .and("svc_induty_cd").is(sampleIndustries[i]));
+        return mongoTemplate.findOne(query, PublicProfitData.class);
+    }
+
+    @Benchmark
+    public PublicProfitData columnStoreFindProfitData() {
+        int i = next();
+        return store.toProfitData(store.findRow(sampleQuarters[i], sampleAreas[i], sampleIndustries[i]));
+    }
+
+    @Benchmark
+    public double columnStoreMetricRead() {
+        int i = next();
+        int row = store.findRow(sampleQuarters[i], sampleAreas[i], sampleIndustries[i]);
+        return row >= 0 ? store.value(MarketMetric.THSMON_SELNG_AMT, row) : Double.NaN;
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (SAMPLE_SIZE - 1);
+        return cursor;
+    }
+
+    /**
+     * 힙 사용량 리포트: 컬럼형 저장소 vs 동일 데이터를 POJO 리스트로 들고 있을 때의 추정치
+     */
+    private void printHeapFootprintReport() {
+        int rows = store.getRowCount();
+        // POJO 추정: 객체 헤더 + 참조 필드 20개 + boxed Double(16바이트) 13~20개 + 키/라벨 문자열 7개
+        long pojoBytesPerRow = 16 + 20 * 4 + 20 * 16 + 7 * 56;
+        long columnBytes = store.heapFootprintBytes();
+        System.out.printf("%n[heap-footprint] rows=%d, columnStore=%,d bytes (%.1f B/row), pojoEstimate=%,d bytes (%d B/row)%n",
+                rows, columnBytes, (double) columnBytes / rows, pojoBytesPerRow * rows, pojoBytesPerRow);
+    }
+}
@@ -0,0 +1,109 @@
+package com.endlesspassion.sigai.global.util;
+
+import com.endlesspassion.sigai.domain.analysis.dto.response.ClosedComparison;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추세/변동성 계산 벤치마크: 기존 스트림 기반 계산 vs StatisticsUtils 단일 패스 계산
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=StatisticsUtilsBenchmark
+ *
+ * 비교 항목:
+ * - streamWindowAverages: 기존 ClosedComparisonService.determineTrend (subList().stream()으로 3개 분기 평균 두 번)
+ * - kernelWindowAverages: 같은 두 평균을 double[] 위에서 계산
+ * - streamMeanAndStdDev: 평균 스트림 + 편차 제곱합 스트림 (두 번 순회)
+ * - kernelMeanAndStdDev: Welford 단일 패스
+ * - kernelLinearTrend: 기울기 + 표준 오차 + 유의성 (현재 추세 판단 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticsUtilsBenchmark {
+
+    @Param({"8", "40", "400"})
+    private int quarters;
+
+    private List<ClosedComparison.QuarterlyClosedRate> rates;
+    private double[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        rates = new ArrayList<>(quarters);
+        values = new double[quarters];
+        for (int i = 0; i < quarters; i++) {
+            double rate = Math.round((10 + i * 0.1 + random.nextGaussian()) * 10) / 10.0;
+            rates.add(ClosedComparison.QuarterlyClosedRate.of(String.valueOf(i), rate, null, null, null));
+            values[i] = rate;
+        }
+    }
+
+    @Benchmark
+    public double streamWindowAverages() {
+        int size = rates.size();
+        double recentAvg = rates.subList(size - 3, size).stream()
+                .filter(r -> r.getClosedRate() != null)
+                .mapToDouble(ClosedComparison.QuarterlyClosedRate::getClosedRate)
+                .average()
+                .orElse(0.0);
+        double pastAvg = rates.subList(size - 6, size - 3).stream()
+                .filter(r -> r.getClosedRate() != null)
+                .mapToDouble(ClosedComparison.QuarterlyClosedRate::getClosedRate)
+                .average()
+                .orElse(0.0);
+        return recentAvg - pastAvg;
+    }
+
+    @Benchmark
+    public double kernelWindowAverages() {
+        int size = values.length;
+        return StatisticsUtils.mean(values, size - 3, 3) - StatisticsUtils.mean(values, size - 6, 3);
+    }
+
+    @Benchmark
+    public double streamMeanAndStdDev() {
+        double mean = rates.stream()
+                .filter(r -> r.getClosedRate() != null)
+                .mapToDouble(ClosedComparison.QuarterlyClosedRate::getClosedRate)
+                .average()
+                .orElse(0.0);
+        double squares = rates.stream()
+                .filter(r -> r.getClosedRate() != null)
+                .mapToDouble(r -> (r.getClosedRate() - mean) * (r.getClosedRate() - mean))
+                .sum();
+        return mean + Math.sqrt(squares / (rates.size() - 1));
+    }
+
+    @Benchmark
+    public double kernelMeanAndStdDev() {
+        StatisticsUtils.RunningStats stats = new StatisticsUtils.RunningStats();
+        for (double value : values) {
+            stats.add(value);
+        }
+        return stats.mean() + stats.stdDev();
+    }
+
+    @Benchmark
+    public boolean kernelLinearTrend() {
+        return StatisticsUtils.linearTrend(values).isSignificant();
+    }
+}
@@ -3,8 +3,10 @@ package com.endlesspassion.sigai;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing // JPA Auditing 활성화 (BaseTimeEntity의 @CreatedDate, @LastModifiedDate 자동 처리)
+@EnableScheduling // @Scheduled 작업 활성화 (상권 스냅샷 폴링 등)
 @SpringBootApplication
 public class SigAiApplication {
 
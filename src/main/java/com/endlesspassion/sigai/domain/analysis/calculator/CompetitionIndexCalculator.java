@@ -1,4 +1,27 @@
 package com.endlesspassion.sigai.domain.analysis.calculator;
 
-public class CompetitionIndexCalculator {
+/**
+ * 경쟁 강도 계산기
+ *
+ * 경쟁 강도 = 동일 업종 점포 수 / 상권 면적 (면적 정보가 없으면 점포 수 그대로)
+ */
+public final class CompetitionIndexCalculator {
+
+    private CompetitionIndexCalculator() {
+    }
+
+    /**
+     * @param storeCount 동일 업종 점포 수 (null이면 계산 불가)
+     * @param areaSize 상권 면적 (null 또는 0 이하면 면적 미적용)
+     * @return 경쟁 강도 (계산 불가면 null)
+     */
+    public static Double intensity(Double storeCount, Double areaSize) {
+        if (storeCount == null || storeCount.isNaN()) {
+            return null;
+        }
+        if (areaSize == null || !(areaSize > 0)) {
+            return storeCount;
+        }
+        return storeCount / areaSize;
+    }
 }
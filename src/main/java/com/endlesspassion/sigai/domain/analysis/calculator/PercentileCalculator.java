@@ -1,4 +1,79 @@
 package com.endlesspassion.sigai.domain.analysis.calculator;
 
-public class PercentileCalculator {
+/**
+ * 퍼센타일 계산기
+ *
+ * - topPercentile: 순위 기준 상위 퍼센트 (rank / total * 100, 소수점 첫째 자리)
+ * - percentile: 오름차순 정렬된 분포의 p 분위 값 (선형 보간, Excel PERCENTILE.INC와 동일)
+ * - percentRank: 값이 분포에서 차지하는 위치 (0~100, 선형 보간)
+ */
+public final class PercentileCalculator {
+
+    private PercentileCalculator() {
+    }
+
+    /**
+     * @param rank 1부터 시작하는 순위
+     * @param total 비교 대상 수 (상권 매출 분포 크기)
+     * @return 상위 퍼센트 (예: 3위/10개 → 30.0)
+     */
+    public static double topPercentile(int rank, int total) {
+        if (total <= 0) {
+            throw new IllegalArgumentException("전체 매장 수는 1 이상이어야 합니다.");
+        }
+        double topPercentile = ((double) rank / total) * 100;
+        return Math.round(topPercentile * 10.0) / 10.0;
+    }
+
+    /**
+     * @param ascending 오름차순 정렬된 분포 (비어 있으면 안 됨)
+     * @param p 0~100
+     * @return p 분위 값
+     */
+    public static double percentile(double[] ascending, double p) {
+        if (ascending.length == 0) {
+            throw new IllegalArgumentException("분포가 비어 있습니다.");
+        }
+        if (p < 0 || p > 100) {
+            throw new IllegalArgumentException("퍼센타일은 0~100 사이여야 합니다.");
+        }
+        double position = p / 100.0 * (ascending.length - 1);
+        int lower = (int) position;
+        if (lower >= ascending.length - 1) {
+            return ascending[ascending.length - 1];
+        }
+        double fraction = position - lower;
+        return ascending[lower] + fraction * (ascending[lower + 1] - ascending[lower]);
+    }
+
+    /**
+     * 여러 분위 값을 한 번에 계산
+     */
+    public static double[] percentiles(double[] ascending, double... ps) {
+        double[] result = new double[ps.length];
+        for (int i = 0; i < ps.length; i++) {
+            result[i] = percentile(ascending, ps[i]);
+        }
+        return result;
+    }
+
+    /**
+     * percentile의 역함수: 값이 분포의 몇 퍼센트 위치인지 (분포 밖이면 0 또는 100)
+     */
+    public static double percentRank(double[] ascending, double value) {
+        int n = ascending.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("분포가 비어 있습니다.");
+        }
+        if (value <= ascending[0]) {
+            return 0.0;
+        }
+        if (value >= ascending[n - 1]) {
+            return 100.0;
+        }
+        int upper = RankCalculator.upperBound(ascending, value); // ascending[upper - 1] <= value < ascending[upper]
+        int lower = upper - 1;
+        double fraction = (value - ascending[lower]) / (ascending[upper] - ascending[lower]);
+        return (lower + fraction) / (n - 1) * 100.0;
+    }
 }
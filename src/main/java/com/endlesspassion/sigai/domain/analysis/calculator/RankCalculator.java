@@ -1,4 +1,94 @@
 package com.endlesspassion.sigai.domain.analysis.calculator;
 
-public class RankCalculator {
+import java.util.Arrays;
+
+/**
+ * 매출 순위 계산기
+ *
+ * 비교 대상 분포는 오름차순 정렬된 double[]로 한 번만 만들고, 순위는 이진 탐색으로 구한다.
+ * - 순위 = (나보다 값이 큰 매장 수) + 1  → 동점이면 같은 순위 (1, 2, 2, 4 ...)
+ * - 박싱/BigDecimal 없이 계산하므로 조회마다 객체를 만들지 않는다
+ */
+public final class RankCalculator {
+
+    private RankCalculator() {
+    }
+
+    /**
+     * 원본 값 배열을 순위 계산용 분포로 변환 (NaN 제외, 오름차순 정렬된 복사본)
+     */
+    public static double[] toDistribution(double[] values) {
+        double[] sorted = new double[values.length];
+        int size = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) {
+                sorted[size++] = value;
+            }
+        }
+        if (size < sorted.length) {
+            sorted = Arrays.copyOf(sorted, size);
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * @param ascending 오름차순 정렬된 분포
+     * @param value 순위를 구할 값
+     * @return 1부터 시작하는 순위 (분포가 비어 있으면 1)
+     */
+    public static int rank(double[] ascending, double value) {
+        return ascending.length - upperBound(ascending, value) + 1;
+    }
+
+    /**
+     * 여러 값의 순위를 한 번에 계산
+     *
+     * 값의 정렬된 복사본을 오름차순으로 훑으면서 분포의 포인터를 한 방향으로만 옮기므로
+     * 분포는 한 번만 순회한다: O(n + m log m) (n: 분포 크기, m: 값 개수)
+     * 원래 순서의 순위는 정렬된 복사본에서 이진 탐색으로 찾는다 (같은 값은 순위도 같음). NaN은 rank와 같이 꼴찌 다음.
+     *
+     * @return values와 같은 순서의 순위 배열
+     */
+    public static int[] rankAll(double[] ascending, double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted); // NaN은 맨 뒤
+        int[] sortedRanks = new int[sorted.length];
+
+        int upper = 0; // 현재 값 이하인 분포 원소 수
+        for (int i = 0; i < sorted.length; i++) {
+            double value = sorted[i];
+            if (Double.isNaN(value)) {
+                sortedRanks[i] = ascending.length + 1;
+                continue;
+            }
+            while (upper < ascending.length && ascending[upper] <= value) {
+                upper++;
+            }
+            sortedRanks[i] = ascending.length - upper + 1;
+        }
+
+        int[] ranks = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ranks[i] = sortedRanks[Arrays.binarySearch(sorted, values[i])];
+        }
+        return ranks;
+    }
+
+    /**
+     * value보다 큰 첫 원소의 위치 (없으면 length)
+     */
+    static int upperBound(double[] ascending, double value) {
+        int low = 0;
+        int high = ascending.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ascending[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
 }
@@ -1,24 +1,41 @@
 package com.endlesspassion.sigai.domain.analysis.controller;
 
+import com.endlesspassion.sigai.domain.analysis.dto.request.BatchAnalysisReq;
 import com.endlesspassion.sigai.domain.analysis.dto.request.MarketAnalysisReq;
+import com.endlesspassion.sigai.domain.analysis.dto.request.RevenueSimulationReq;
+import com.endlesspassion.sigai.domain.analysis.dto.response.AnalysisStreamEvent;
+import com.endlesspassion.sigai.domain.analysis.dto.response.BatchAnalysisRes;
+import com.endlesspassion.sigai.domain.analysis.dto.response.RevenueSimulationRes;
+import com.endlesspassion.sigai.domain.analysis.service.AnalysisSnapshotService;
 import com.endlesspassion.sigai.domain.analysis.service.MarketAnalysisService;
 import com.endlesspassion.sigai.global.exception.ApiResponse;
+import com.fasterxml.jackson.databind.util.RawValue;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Tag(name = "분석 API", description = "소상공인 상권 분석 관련 API")
 @RequiredArgsConstructor
+@Validated
 @RestController
 @RequestMapping("/api/v1")
 public class AnalysisController {
 
     private final MarketAnalysisService marketAnalysisService;
+    private final AnalysisSnapshotService analysisSnapshotService;
 
     @Operation(
             summary = "가게 상권 분석",
@@ -105,4 +122,107 @@ public class AnalysisController {
         marketAnalysisService.analyze(req);
         return ApiResponse.success("상권 분석이 완료되었습니다");
     }
+
+    @Operation(
+            summary = "가게 상권 분석 (논블로킹)",
+            description = """
+                    `POST /api/v1/analysis`와 같은 분석을 논블로킹 공공 데이터 조회로 실행합니다.
+
+                    - 분석 대상 분기들의 매출/점포 데이터를 동시에 조회합니다.
+                    - 요청/응답 형식은 `POST /api/v1/analysis`와 동일합니다.
+                    """
+    )
+    @PostMapping("/analysis/reactive")
+    public Mono<ApiResponse<?>> analysisReactive(
+            @RequestBody MarketAnalysisReq req
+    ) {
+        return marketAnalysisService.analyzeReactive(req)
+                .<ApiResponse<?>>map(result -> ApiResponse.success("상권 분석이 완료되었습니다"));
+    }
+
+    @Operation(
+            summary = "가게 상권 분석 (분기별 스트리밍)",
+            description = """
+                    `POST /api/v1/analysis`와 같은 분석 결과를 분기가 계산되는 대로 하나씩 보냅니다.
+
+                    - `Accept: text/event-stream`: Server-Sent Events (event 이름 = type)
+                    - `Accept: application/x-ndjson`: 한 줄에 이벤트 하나
+                    - 분기마다 `REVENUE_RANK`, `CLOSED_RATE`가 과거 → 최신 순서로 오고, 마지막에 `SUMMARY`(추세, 평균 등)가 옵니다.
+                    - 요청 형식은 `POST /api/v1/analysis`와 동일합니다.
+                    """
+    )
+    @PostMapping(value = "/analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<AnalysisStreamEvent>> analysisStream(
+            @Valid @RequestBody MarketAnalysisReq req
+    ) {
+        return marketAnalysisService.analyzeStream(req)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType().name())
+                        .build());
+    }
+
+    @Operation(hidden = true)
+    @PostMapping(value = "/analysis/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AnalysisStreamEvent> analysisStreamNdjson(
+            @Valid @RequestBody MarketAnalysisReq req
+    ) {
+        return marketAnalysisService.analyzeStream(req);
+    }
+
+    @Operation(
+            summary = "여러 가게 일괄 상권 분석",
+            description = """
+                    여러 가게의 상권을 한 번에 분석합니다. (여러 매장을 운영하는 사장님용)
+
+                    - `storeIds`: 분석할 가게 ID 목록 (최대 100개) 또는 `phoneNumber`: 사장님의 모든 가게
+                    - `quarter`, `count`: `POST /api/v1/analysis`와 동일
+                    - 같은 상권/업종의 가게들은 공공 데이터를 한 번만 조회합니다.
+                    - 일부 가게 분석이 실패해도 나머지 결과는 `results`로, 실패한 가게는 `failures`로 응답합니다.
+                    """
+    )
+    @PostMapping("/analysis/batch")
+    public ApiResponse<BatchAnalysisRes> analysisBatch(
+            @Valid @RequestBody BatchAnalysisReq req
+    ) {
+        return ApiResponse.success(marketAnalysisService.analyzeBatch(req), "상권 분석이 완료되었습니다");
+    }
+
+    @Operation(
+            summary = "가상 매출 순위 시뮬레이션",
+            description = """
+                    "매출이 X원이면 몇 위일까?"를 여러 금액에 대해 한 번에 계산합니다.
+
+                    - `storeId`: 가게 ID (상권/업종 결정)
+                    - `quarters`: 비교할 분기 목록, YYYYQQ 형식 (최대 20개)
+                    - `revenues`: 가상 매출 금액 목록 (최대 1000개)
+                    - 분기별로 `revenues`와 같은 순서의 `ranks`, `topPercentiles` 배열과 실제 매출 기준 순위를 응답합니다.
+                    """
+    )
+    @PostMapping("/analysis/simulation")
+    public ApiResponse<RevenueSimulationRes> simulate(
+            @Valid @RequestBody RevenueSimulationReq req
+    ) {
+        return ApiResponse.success(marketAnalysisService.simulate(req), "매출 시뮬레이션이 완료되었습니다");
+    }
+
+    @Operation(
+            summary = "가게 상권 분석 조회 (사전 계산)",
+            description = """
+                    미리 계산해 둔 가게 상권 분석 결과를 조회합니다.
+
+                    - 매출 등록, 가게 정보 수정, 공공 데이터 동기화 시 백그라운드에서 다시 계산됩니다.
+                    - 계산된 결과가 없거나 최신이 아니면 바로 계산하여 응답합니다.
+                    - `quarter`: 기준 분기, YYYYQQ 형식 (생략 시 직전 분기)
+                    - `count`: 조회할 과거 분기 수 (1-20, 기본값: 8)
+                    """
+    )
+    @GetMapping("/analysis/stores/{storeId}")
+    public ApiResponse<RawValue> getAnalysis(
+            @PathVariable Long storeId,
+            @RequestParam(required = false) String quarter,
+            @RequestParam(defaultValue = "8") @Min(1) @Max(20) int count
+    ) {
+        String payload = analysisSnapshotService.getAnalysis(storeId, quarter, count);
+        return ApiResponse.success(new RawValue(payload), "상권 분석 조회가 완료되었습니다");
+    }
 }
@@ -0,0 +1,67 @@
+package com.endlesspassion.sigai.domain.analysis.document;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+
+/**
+ * 가게별 상권 분석 결과 (사전 계산)
+ *
+ * (가게, 기준 분기, 분기 수)마다 MarketAnalysisRes JSON을 그대로 저장하여 조회 시 역직렬화 없이 응답한다.
+ * - generation: 입력이 바뀔 때마다(매출 등록, 공공 데이터 동기화) 1씩 증가
+ * - version: payload를 계산할 때 읽은 generation
+ * - version == generation일 때만 최신 결과로 본다.
+ * 인덱스는 PublicDataIndexes에서 관리한다.
+ */
+@Document(collection = "store_analysis_snapshot")
+@Data
+public class StoreAnalysisSnapshot {
+
+    public static final String STORE_ID = "store_id";
+    public static final String GENERATION = "generation";
+    public static final String VERSION = "version";
+    public static final String PAYLOAD = "payload";
+    public static final String COMPUTED_AT = "computed_at";
+
+    @Id
+    private String id; // "가게ID:분기:분기수"
+
+    @Field(STORE_ID)
+    private Long storeId;
+
+    @Field("quarter")
+    private String quarter; // 기준 분기 (YYYYQQ)
+
+    @Field("count")
+    private Integer count; // 분기 수
+
+    @Field(GENERATION)
+    private Long generation;
+
+    @Field(VERSION)
+    private Long version;
+
+    @Field(PAYLOAD)
+    private String payload; // MarketAnalysisRes JSON
+
+    @Field(COMPUTED_AT)
+    private Date computedAt;
+
+    public static String idOf(Long storeId, String quarter, int count) {
+        return storeId + ":" + quarter + ":" + count;
+    }
+
+    public long currentGeneration() {
+        return generation != null ? generation : 0L;
+    }
+
+    /**
+     * @return 마지막 계산 이후 입력이 바뀌지 않았으면 true
+     */
+    public boolean isFresh() {
+        return payload != null && version != null && version == currentGeneration();
+    }
+}
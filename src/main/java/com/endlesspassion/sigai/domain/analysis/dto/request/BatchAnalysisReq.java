@@ -0,0 +1,41 @@
+package com.endlesspassion.sigai.domain.analysis.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 가게 일괄 상권 분석 요청 DTO
+ *
+ * storeIds 또는 phoneNumber 중 하나로 분석 대상 가게를 지정한다.
+ * (둘 다 있으면 storeIds 우선, phoneNumber면 해당 사장님의 모든 가게)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchAnalysisReq {
+
+    @Size(max = 100, message = "한 번에 최대 100개 가게까지 분석할 수 있습니다.")
+    private List<Long> storeIds; // 가게 ID 목록
+
+    private String phoneNumber; // 사장님 전화번호
+
+    @NotNull(message = "분기는 필수입니다.")
+    @Pattern(regexp = "^\\d{4}(0[1-4])$", message = "분기는 YYYYQQ 형식 (예: 202401)")
+    private String quarter; // 현재 분기
+
+    @Min(value = 1, message = "최소 1개 분기 이상 선택해야 합니다.")
+    @Max(value = 20, message = "최대 20개 분기까지 선택해야 합니다.")
+    @Builder.Default
+    private int count = 8; // 보여줄 분기 수
+}
@@ -0,0 +1,36 @@
+package com.endlesspassion.sigai.domain.analysis.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 가상 매출 순위 시뮬레이션 요청 DTO
+ *
+ * "매출이 X원이면 몇 위일까?"를 여러 금액(revenues)과 여러 분기(quarters)에 대해 한 번에 계산한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevenueSimulationReq {
+
+    @NotNull(message = "가게 ID는 필수입니다.")
+    private Long storeId; // 가게 ID (상권/업종 결정)
+
+    @NotEmpty(message = "분기는 최소 1개 이상이어야 합니다.")
+    @Size(max = 20, message = "최대 20개 분기까지 선택해야 합니다.")
+    private List<@Pattern(regexp = "^\\d{4}(0[1-4])$", message = "분기는 YYYYQQ 형식 (예: 202401)") String> quarters;
+
+    @NotNull(message = "가상 매출은 필수입니다.")
+    @Size(min = 1, max = 1000, message = "가상 매출은 1~1000개까지 입력할 수 있습니다.")
+    private double[] revenues; // 가상 매출 금액 (원)
+}
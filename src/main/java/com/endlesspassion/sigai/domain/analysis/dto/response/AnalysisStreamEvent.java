@@ -0,0 +1,52 @@
+package com.endlesspassion.sigai.domain.analysis.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 스트리밍 상권 분석 이벤트 (SSE 이벤트 1건 또는 NDJSON 한 줄)
+ *
+ * 분기마다 REVENUE_RANK, CLOSED_RATE가 과거 → 최신 순서로 하나씩 오고, 마지막에 SUMMARY가 한 번 온다.
+ * type에 해당하는 필드만 채워진다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalysisStreamEvent {
+
+    public enum Type {
+        REVENUE_RANK, // 분기별 매출 순위
+        CLOSED_RATE, // 분기별 폐업률
+        SUMMARY // 전체 분기 요약 (추세, 평균 등)
+    }
+
+    private Type type;
+    private RevenueComparison.QuarterlyRevenueRank revenueRank;
+    private ClosedComparison.QuarterlyClosedRate closedRate;
+    private MarketAnalysisSummary summary;
+
+    public static AnalysisStreamEvent revenueRank(RevenueComparison.QuarterlyRevenueRank revenueRank) {
+        return AnalysisStreamEvent.builder()
+                .type(Type.REVENUE_RANK)
+                .revenueRank(revenueRank)
+                .build();
+    }
+
+    public static AnalysisStreamEvent closedRate(ClosedComparison.QuarterlyClosedRate closedRate) {
+        return AnalysisStreamEvent.builder()
+                .type(Type.CLOSED_RATE)
+                .closedRate(closedRate)
+                .build();
+    }
+
+    public static AnalysisStreamEvent summary(MarketAnalysisSummary summary) {
+        return AnalysisStreamEvent.builder()
+                .type(Type.SUMMARY)
+                .summary(summary)
+                .build();
+    }
+}
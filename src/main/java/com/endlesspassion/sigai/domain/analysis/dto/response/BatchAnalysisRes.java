@@ -0,0 +1,46 @@
+package com.endlesspassion.sigai.domain.analysis.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여러 가게 일괄 상권 분석 결과
+ *
+ * 가게별 분석은 서로 독립적이므로, 일부 가게가 실패해도 나머지 결과는 그대로 내려준다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchAnalysisRes {
+
+    private List<MarketAnalysisRes> results; // 분석에 성공한 가게 (요청 순서)
+    private List<Failure> failures; // 분석에 실패한 가게
+    private Integer marketCount; // 공공 데이터를 조회한 서로 다른 (상권, 업종) 수
+
+    public static BatchAnalysisRes of(List<MarketAnalysisRes> results, List<Failure> failures, int marketCount) {
+        return BatchAnalysisRes.builder()
+                .results(results)
+                .failures(failures)
+                .marketCount(marketCount)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Failure {
+        private Long storeId; // 가게 ID
+        private String message; // 실패 사유
+
+        public static Failure of(Long storeId, String message) {
+            return Failure.builder()
+                    .storeId(storeId)
+                    .message(message)
+                    .build();
+        }
+    }
+}
@@ -19,6 +19,23 @@ public class ClosedComparison {
     private List<QuarterlyClosedRate> quarterlyClosedRates;
     private Double averageClosedRate; // 평균 폐업률(전체 분기 평균)
     private String trend; // 폐업률 추세(증가/감소/유지) "INCREASING", "DECREASING", "STABLE": 시간 나면 Enum Mapping
+    private Double trendSlope; // 분기당 폐업률 변화 추정치(% point, 최소제곱 기울기)
+    private Boolean trendSignificant; // 기울기가 통계적으로 유의한지 (유의수준 5%)
+    private Double volatility; // 분기별 폐업률의 표준편차(% point)
+
+    /**
+     * 폐업률 분석을 제때 완료하지 못했을 때 내려주는 빈 결과 (분기만 채우고 값은 null)
+     */
+    public static ClosedComparison empty(List<String> quarters) {
+        return ClosedComparison.builder()
+                .quarterlyClosedRates(quarters.stream().map(QuarterlyClosedRate::empty).toList())
+                .averageClosedRate(null)
+                .trend(null)
+                .trendSlope(null)
+                .trendSignificant(null)
+                .volatility(null)
+                .build();
+    }
 
     // 분기별 폐업률 상세 정보
     @Getter
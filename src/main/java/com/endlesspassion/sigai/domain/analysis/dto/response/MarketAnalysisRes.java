@@ -18,6 +18,7 @@ public class MarketAnalysisRes {
     private RevenueComparison revenueComparison; // 동일 상권 내 매출 비교
     private PopulationComparison populationComparison; // 동일 상권 내 인구 데이터 비교(이건 빈껍데기만 응답 예정)
     private ClosedComparison closedComparison; // 동일 상권 내 폐업률 비교
+    private MarketForecast forecast; // 동일 상권/업종 다음 분기 예측 (예측이 없으면 null)
 
     private LocalDate analyzedAt;
 
@@ -27,6 +28,17 @@ public class MarketAnalysisRes {
             RevenueComparison revenueComparison,
             PopulationComparison populationComparison,
             ClosedComparison closedComparison
+    ) {
+        return of(storeId, storeName, revenueComparison, populationComparison, closedComparison, null);
+    }
+
+    public static MarketAnalysisRes of(
+            Long storeId,
+            String storeName,
+            RevenueComparison revenueComparison,
+            PopulationComparison populationComparison,
+            ClosedComparison closedComparison,
+            MarketForecast forecast
     ) {
         return MarketAnalysisRes.builder()
                 .storeId(storeId)
@@ -34,6 +46,7 @@ public class MarketAnalysisRes {
                 .revenueComparison(revenueComparison)
                 .populationComparison(populationComparison)
                 .closedComparison(closedComparison)
+                .forecast(forecast)
                 .analyzedAt(LocalDate.now())
                 .build();
     }
@@ -0,0 +1,55 @@
+package com.endlesspassion.sigai.domain.analysis.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 스트리밍 상권 분석의 마지막 요약
+ *
+ * 분기별 결과는 이미 이벤트로 보냈으므로 MarketAnalysisRes에서 분기 목록을 뺀 값만 담는다.
+ */
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class MarketAnalysisSummary {
+
+    private Long storeId;
+    private String storeName;
+
+    private Double competitionIntensity; // RevenueComparison.competitionIntensity
+    private String revenueTrend; // RevenueComparison.revenueTrend
+    private Double revenueVolatility; // RevenueComparison.revenueVolatility
+
+    private Double averageClosedRate; // ClosedComparison.averageClosedRate
+    private String closedTrend; // ClosedComparison.trend
+    private Double closedTrendSlope; // ClosedComparison.trendSlope
+    private Boolean closedTrendSignificant; // ClosedComparison.trendSignificant
+    private Double closedVolatility; // ClosedComparison.volatility
+
+    private LocalDate analyzedAt;
+
+    public static MarketAnalysisSummary of(
+            Long storeId,
+            String storeName,
+            RevenueComparison revenueComparison,
+            ClosedComparison closedComparison
+    ) {
+        return MarketAnalysisSummary.builder()
+                .storeId(storeId)
+                .storeName(storeName)
+                .competitionIntensity(revenueComparison.getCompetitionIntensity())
+                .revenueTrend(revenueComparison.getRevenueTrend())
+                .revenueVolatility(revenueComparison.getRevenueVolatility())
+                .averageClosedRate(closedComparison.getAverageClosedRate())
+                .closedTrend(closedComparison.getTrend())
+                .closedTrendSlope(closedComparison.getTrendSlope())
+                .closedTrendSignificant(closedComparison.getTrendSignificant())
+                .closedVolatility(closedComparison.getVolatility())
+                .analyzedAt(LocalDate.now())
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.endlesspassion.sigai.domain.analysis.dto.response;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketForecast;
+import com.endlesspassion.sigai.global.util.Quarter;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사장님 상권/업종의 다음 분기들 예측 (사전 계산된 public_market_forecast 문서)
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class MarketForecast {
+
+    private String baseQuarter; // 학습에 쓴 마지막 분기 (YYYYQQ)
+    private List<String> quarters; // 예측 분기 (YYYYQQ, 과거 → 미래 순)
+    private List<Double> revenue; // 분기별 예측 상권 당월 매출 금액
+    private List<Double> closedRate; // 분기별 예측 폐업률(%)
+    private Double revenueRmse; // 매출 1분기 앞 예측 오차 (과거 데이터 기준 RMSE)
+    private Double closedRateRmse; // 폐업률 1분기 앞 예측 오차 (% point)
+    private String model; // 매출 예측 모델 (HOLT_WINTERS: 계절성 반영, HOLT: 추세만, NAIVE: 마지막 값 유지)
+
+    /**
+     * @return 문서가 없으면 null
+     */
+    public static MarketForecast from(PublicMarketForecast document) {
+        if (document == null) {
+            return null;
+        }
+        Quarter base = Quarter.parse(document.getBaseQuarter());
+        int horizon = document.getRevenue() != null ? document.getRevenue().size() : 0;
+        List<String> quarters = new ArrayList<>(horizon);
+        for (int step = 1; step <= horizon; step++) {
+            quarters.add(base.plus(step).code());
+        }
+        return MarketForecast.builder()
+                .baseQuarter(base.code())
+                .quarters(quarters)
+                .revenue(document.getRevenue())
+                .closedRate(document.getClsbizRt())
+                .revenueRmse(document.getRevenueRmse())
+                .closedRateRmse(document.getClsbizRmse())
+                .model(document.getModel())
+                .build();
+    }
+}
@@ -5,36 +5,70 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 /**
  * 인구 비교 분석 응답 DTO
  *
- * 현재는 구현하지 않음 (향후 확장 예정)
- * 프론트엔드에서 임시 데이터로 처리
- *
- * 향후 구현 예정 기능:
- * - 유동인구 추세
- * - 거주인구 추세
- * - 직장인구 추세
- * - 분기별 인구 변화 데이터
+ * 상권의 분기별 유동/상주/직장인구와 분석 기간 동안의 변화
+ * (서울시 상권분석서비스 길단위인구·상주인구·직장인구 데이터)
  */
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class PopulationComparison {
 
-    // 현재는 빈 껍데기
-    // 프론트에서 이 객체가 비어있으면 임시 데이터를 사용하도록 처리
-
     /**
      * 데이터 제공 여부 플래그
-     * false로 고정하여 프론트에 구현되지 않았음을 알림
+     * 분석 기간에 인구 데이터가 한 분기도 없으면 false (프론트에서 안내 문구 처리)
+     */
+    private boolean available;
+
+    /**
+     * 분기별 인구 데이터 리스트
+     * 최근 분기부터 과거 순으로 정렬
      */
-    private final boolean available = false;
+    private List<QuarterlyPopulation> quarterlyPopulations;
+    private Double averageFloatingPopulation; // 평균 유동인구(데이터 있는 분기 평균)
+    private Double floatingChangeRate; // 기간 유동인구 변화율(%): 가장 과거 → 최신 분기
+    private Double residentChangeRate; // 기간 상주인구 변화율(%)
+    private Double workingChangeRate; // 기간 직장인구 변화율(%)
+    private String floatingTrend; // 유동인구 추세 "INCREASING", "DECREASING", "STABLE" (회귀 기울기 유의성 기준)
+    private String residentTrend; // 상주인구 추세
+    private String workingTrend; // 직장인구 추세
+    private Double femaleFloatingRatio; // 최신 분기 유동인구 중 여성 비율(%)
+    private String mainFloatingAgeGroup; // 최신 분기 유동인구가 가장 많은 연령대 ("10대" ~ "60대 이상")
 
     /**
-     * 기본 생성자 - 빈 객체 생성
+     * 인구 데이터가 없거나 제때 조회하지 못했을 때 내려주는 빈 결과
      */
     public static PopulationComparison empty() {
-        return PopulationComparison.builder().build();
+        return PopulationComparison.builder()
+                .available(false)
+                .quarterlyPopulations(List.of())
+                .build();
+    }
+
+    // 분기별 인구 상세 정보
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class QuarterlyPopulation {
+
+        private String quarter; // 분기 코드
+        private Integer floatingPopulation; // 유동인구 수
+        private Integer residentPopulation; // 상주인구 수
+        private Integer workingPopulation; // 직장인구 수
+        private Double floatingChangeRate; // 전 분기 대비 유동인구 변화율(%)
+
+        public static QuarterlyPopulation empty(String quarter) {
+            return QuarterlyPopulation.builder()
+                    .quarter(quarter)
+                    .floatingPopulation(null)
+                    .residentPopulation(null)
+                    .workingPopulation(null)
+                    .floatingChangeRate(null)
+                    .build();
+        }
     }
-}
\ No newline at end of file
+}
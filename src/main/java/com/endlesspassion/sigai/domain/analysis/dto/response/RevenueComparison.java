@@ -13,13 +13,19 @@ public class RevenueComparison {
 
     private List<QuarterlyRevenueRank> quarterlyRevenueRanks;
     private Double competitionIntensity; // 최근 분기의 경쟁 강도[동일업종 점포수 / 상권 면적(면적 미존재 시 점포수 지표만)]
+    private String revenueTrend; // 사용자 매장 분기 매출 추세 "INCREASING", "DECREASING", "STABLE" (회귀 기울기 유의성 기준)
+    private Double revenueVolatility; // 사용자 매장 분기 매출의 변동계수(%): 표준편차 / 평균 * 100
 
     public static RevenueComparison of(
             List<QuarterlyRevenueRank> quarterlyRevenueRanks,
-            Double competitionIntensity) {
+            Double competitionIntensity,
+            String revenueTrend,
+            Double revenueVolatility) {
         return RevenueComparison.builder()
                 .quarterlyRevenueRanks(quarterlyRevenueRanks)
                 .competitionIntensity(competitionIntensity)
+                .revenueTrend(revenueTrend)
+                .revenueVolatility(revenueVolatility)
                 .build();
     }
 
@@ -29,9 +35,9 @@ public class RevenueComparison {
     public static class QuarterlyRevenueRank {
         private String quarter; // 분기 코드 (예: "202401" = 2024년 1분기)
         private BigDecimal revenue; // 사용자 매장의 매출액
-        private Double topPercentile; // 동일 상권, 동일 업종 내 상위 퍼센트
-        private Integer totalStoreCount;  // 전체 매장 수
-        private Integer rank; // 순위
+        private Double topPercentile; // 같은 분기, 같은 업종의 서울시 전체 상권 매출 분포에서의 상위 퍼센트
+        private Integer totalStoreCount;  // 비교 대상 상권 수 (같은 분기/업종에서 매출이 있는 상권 수, 점포 수가 아님. 응답 호환을 위해 필드명 유지)
+        private Integer rank; // 서울시 같은 업종 상권들 중 순위 (사장님보다 매출이 높은 상권 수 + 1)
         private Integer rankChange; // 전 분기 대비 변화
 
         public static QuarterlyRevenueRank of(
@@ -0,0 +1,62 @@
+package com.endlesspassion.sigai.domain.analysis.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 가상 매출 순위 시뮬레이션 결과
+ *
+ * 분기마다 요청한 가상 매출 순서 그대로 순위/상위 퍼센트 곡선을 배열로 내려준다.
+ * (revenues[i]의 순위는 ranks[i], 상위 퍼센트는 topPercentiles[i])
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevenueSimulationRes {
+
+    private Long storeId;
+    private double[] revenues; // 가상 매출 금액 (요청 순서)
+    private List<QuarterlyCurve> quarterlyCurves; // 분기별 순위 곡선 (요청 분기 순서)
+
+    public static RevenueSimulationRes of(Long storeId, double[] revenues, List<QuarterlyCurve> quarterlyCurves) {
+        return RevenueSimulationRes.builder()
+                .storeId(storeId)
+                .revenues(revenues)
+                .quarterlyCurves(quarterlyCurves)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class QuarterlyCurve {
+        private String quarter; // 분기 코드 (예: "202401")
+        private Integer totalStoreCount; // 비교 대상 상권 수 (같은 분기/업종에서 매출이 있는 서울시 상권 수, 필드명은 응답 호환용)
+        private BigDecimal currentRevenue; // 사용자 매장의 실제 분기 매출 (없으면 0)
+        private Integer currentRank; // 실제 매출 기준 순위
+        private int[] ranks; // 가상 매출별 순위
+        private double[] topPercentiles; // 가상 매출별 상위 퍼센트 (비교 대상이 없으면 null)
+
+        public static QuarterlyCurve of(
+                String quarter,
+                int totalStoreCount,
+                BigDecimal currentRevenue,
+                Integer currentRank,
+                int[] ranks,
+                double[] topPercentiles) {
+            return QuarterlyCurve.builder()
+                    .quarter(quarter)
+                    .totalStoreCount(totalStoreCount)
+                    .currentRevenue(currentRevenue)
+                    .currentRank(currentRank)
+                    .ranks(ranks)
+                    .topPercentiles(topPercentiles)
+                    .build();
+        }
+    }
+}
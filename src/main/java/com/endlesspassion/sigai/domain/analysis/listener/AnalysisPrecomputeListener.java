@@ -0,0 +1,107 @@
+package com.endlesspassion.sigai.domain.analysis.listener;
+
+import com.endlesspassion.sigai.domain.analysis.service.AnalysisSnapshotService;
+import com.endlesspassion.sigai.domain.publicdata.event.MarketDataReloadedEvent;
+import com.endlesspassion.sigai.domain.publicdata.event.PublicDataSyncedEvent;
+import com.endlesspassion.sigai.domain.store.event.StoreRevenueChangedEvent;
+import com.endlesspassion.sigai.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상권 분석 결과 사전 계산 워커
+ *
+ * - 매출 등록/가게 정보 수정(StoreRevenueChangedEvent, 커밋 후): 해당 가게 결과 무효화 + 재계산 대기열에 추가
+ * - 공공 데이터 변경: 전체 결과 무효화 + 모든 가게를 대기열에 추가
+ *   - 매출/점포: 컬럼형 저장소가 새 데이터로 교체된 뒤(MarketDataReloadedEvent) 처리해야 재계산이 새 데이터를 읽는다.
+ *     동기화 완료 이벤트는 저장소 재적재와 순서가 정해져 있지 않으므로, 저장소를 쓰지 않을 때만 동기화 완료로 처리한다.
+ *     기동("startup")과 스냅샷 폴링("poll")은 데이터가 바뀐 것이 아니거나 동기화한 노드가 이미 무효화했으므로 무시한다.
+ *   - 인구: 컬럼형 저장소와 무관하므로 동기화 완료(PublicDataSyncedEvent)로 처리
+ * - 주기적으로 대기열에서 가게를 꺼내 기본 분석 구간을 다시 계산 (같은 가게의 이벤트가 여러 번 와도 한 번만 계산)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisPrecomputeListener {
+
+    private static final String STARTUP_TRIGGER = "startup";
+    private static final String POLL_TRIGGER = "poll";
+
+    private final AnalysisSnapshotService analysisSnapshotService;
+    private final StoreRepository storeRepository;
+
+    private final Set<Long> pendingStoreIds = ConcurrentHashMap.newKeySet();
+
+    // 한 번에 다시 계산할 최대 가게 수
+    @Value("${sigai.analysis.precompute.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${sigai.public-data.column-store.enabled:true}")
+    private boolean columnStoreEnabled = true;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStoreRevenueChanged(StoreRevenueChangedEvent event) {
+        if (!analysisSnapshotService.isEnabled()) {
+            return;
+        }
+        analysisSnapshotService.invalidateStore(event.storeId());
+        pendingStoreIds.add(event.storeId());
+    }
+
+    @EventListener
+    public void onPublicDataSynced(PublicDataSyncedEvent event) {
+        if (event.isMarketData() && columnStoreEnabled) {
+            return; // onMarketDataReloaded에서 처리
+        }
+        invalidateAll(event.jobName());
+    }
+
+    @EventListener
+    public void onMarketDataReloaded(MarketDataReloadedEvent event) {
+        if (STARTUP_TRIGGER.equals(event.trigger()) || POLL_TRIGGER.equals(event.trigger())) {
+            return;
+        }
+        invalidateAll(event.trigger());
+    }
+
+    private void invalidateAll(String trigger) {
+        if (!analysisSnapshotService.isEnabled()) {
+            return;
+        }
+        analysisSnapshotService.invalidateAll();
+        pendingStoreIds.addAll(storeRepository.findAllIds());
+        log.info("({}) 공공 데이터 변경, 상권 분석 재계산 대기 가게 {}개", trigger, pendingStoreIds.size());
+    }
+
+    @Scheduled(fixedDelayString = "${sigai.analysis.precompute.drain-interval-ms:1000}")
+    public void drain() {
+        if (!analysisSnapshotService.isEnabled() || pendingStoreIds.isEmpty()) {
+            return;
+        }
+        Iterator<Long> iterator = pendingStoreIds.iterator();
+        int processed = 0;
+        while (iterator.hasNext() && processed < batchSize) {
+            Long storeId = iterator.next();
+            iterator.remove();
+            processed++;
+            try {
+                analysisSnapshotService.refresh(storeId);
+            } catch (IllegalArgumentException e) {
+                // 매출 데이터가 없거나 삭제된 가게: 조회 시 계산 경로에서 같은 오류로 응답
+                log.debug("상권 분석 사전 계산 건너뜀. storeId: {} ({})", storeId, e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("상권 분석 사전 계산 실패. storeId: {}", storeId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.endlesspassion.sigai.domain.analysis.service;
+
+import com.endlesspassion.sigai.domain.analysis.document.StoreAnalysisSnapshot;
+import com.endlesspassion.sigai.domain.analysis.dto.request.MarketAnalysisReq;
+import com.endlesspassion.sigai.global.util.Quarter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+import static com.endlesspassion.sigai.domain.analysis.document.StoreAnalysisSnapshot.*;
+
+/**
+ * 사전 계산된 상권 분석 결과 조회/저장
+ *
+ * - 조회: (가게, 분기, 분기 수) 키로 한 건만 읽고, 최신이 아니거나 없으면 바로 계산하여 저장 후 응답
+ * - 무효화: 입력이 바뀌면 generation만 올리고, 다시 계산은 AnalysisPrecomputeListener가 백그라운드에서 수행
+ * - 저장: 계산 시작 시 읽은 generation이 그대로일 때만 덮어쓴다 (계산 중 다시 무효화되면 저장하지 않음)
+ * - 비활성화 시(sigai.analysis.precompute.enabled=false) 저장 없이 매번 계산
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AnalysisSnapshotService {
+
+    private final MarketAnalysisService marketAnalysisService;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${sigai.analysis.precompute.enabled:false}")
+    private boolean enabled;
+
+    // 미리 계산해 둘 분기 수 목록 (기본 분석 요청의 count)
+    @Value("${sigai.analysis.precompute.counts:8}")
+    private int[] defaultCounts = {8};
+
+    // 기본 기준 분기 = 현재 분기 - quarterLag (공공 데이터는 분기가 끝난 뒤 공개됨)
+    @Value("${sigai.analysis.precompute.quarter-lag:1}")
+    private int quarterLag = 1;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param quarter 기준 분기 (YYYYQQ, null이면 기본 기준 분기)
+     * @return MarketAnalysisRes JSON
+     */
+    public String getAnalysis(Long storeId, String quarter, int count) {
+        String baseQuarter = quarter != null ? Quarter.parse(quarter).code() : defaultQuarter().code();
+        if (!enabled) {
+            return toJson(analyze(storeId, baseQuarter, count));
+        }
+
+        StoreAnalysisSnapshot snapshot = mongoTemplate.findById(
+                idOf(storeId, baseQuarter, count), StoreAnalysisSnapshot.class);
+        if (snapshot != null && snapshot.isFresh()) {
+            return snapshot.getPayload();
+        }
+        return recompute(storeId, baseQuarter, count, snapshot != null ? snapshot.currentGeneration() : 0L);
+    }
+
+    /**
+     * 가게의 기본 분석 구간들을 다시 계산 (이미 최신인 구간은 건너뜀)
+     */
+    public void refresh(Long storeId) {
+        String baseQuarter = defaultQuarter().code();
+        for (int count : defaultCounts) {
+            StoreAnalysisSnapshot snapshot = mongoTemplate.findById(
+                    idOf(storeId, baseQuarter, count), StoreAnalysisSnapshot.class);
+            if (snapshot != null && snapshot.isFresh()) {
+                continue;
+            }
+            recompute(storeId, baseQuarter, count, snapshot != null ? snapshot.currentGeneration() : 0L);
+        }
+    }
+
+    /**
+     * 가게의 모든 분석 결과를 최신이 아닌 상태로 표시
+     */
+    public void invalidateStore(Long storeId) {
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where(STORE_ID).is(storeId)),
+                new Update().inc(GENERATION, 1),
+                StoreAnalysisSnapshot.class);
+    }
+
+    /**
+     * 모든 가게의 분석 결과를 최신이 아닌 상태로 표시 (공공 데이터 동기화 후)
+     */
+    public void invalidateAll() {
+        long modified = mongoTemplate.updateMulti(
+                new Query(),
+                new Update().inc(GENERATION, 1),
+                StoreAnalysisSnapshot.class).getModifiedCount();
+        log.info("상권 분석 사전 계산 결과 {}건 무효화", modified);
+    }
+
+    private String recompute(Long storeId, String quarter, int count, long generation) {
+        String payload = toJson(analyze(storeId, quarter, count));
+        save(storeId, quarter, count, generation, payload);
+        return payload;
+    }
+
+    private void save(Long storeId, String quarter, int count, long generation, String payload) {
+        // 문서가 없으면 generation = 0으로 새로 만들고, 계산 중 generation이 올라갔으면 매칭되지 않아
+        // _id 중복으로 upsert가 실패한다 → 다음 재계산에 맡긴다.
+        Query query = Query.query(Criteria.where("_id").is(idOf(storeId, quarter, count))
+                .and(GENERATION).is(generation));
+        Update update = new Update()
+                .set(STORE_ID, storeId)
+                .set("quarter", quarter)
+                .set("count", count)
+                .set(VERSION, generation)
+                .set(PAYLOAD, payload)
+                .set(COMPUTED_AT, new Date());
+        try {
+            mongoTemplate.upsert(query, update, StoreAnalysisSnapshot.class);
+        } catch (DuplicateKeyException e) {
+            log.debug("계산 중 입력이 변경되어 분석 결과를 저장하지 않습니다. storeId: {}, quarter: {}, count: {}",
+                    storeId, quarter, count);
+        }
+    }
+
+    private Object analyze(Long storeId, String quarter, int count) {
+        return marketAnalysisService.analyze(MarketAnalysisReq.builder()
+                .storeId(storeId)
+                .quarter(quarter)
+                .count(count)
+                .build());
+    }
+
+    private Quarter defaultQuarter() {
+        LocalDate today = LocalDate.now();
+        return Quarter.ofMonth(today.getYear(), today.getMonthValue()).minus(quarterLag);
+    }
+
+    private String toJson(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상권 분석 결과를 저장할 수 없습니다.", e);
+        }
+    }
+}
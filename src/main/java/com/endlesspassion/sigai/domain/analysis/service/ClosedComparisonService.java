@@ -2,13 +2,16 @@ package com.endlesspassion.sigai.domain.analysis.service;
 
 import com.endlesspassion.sigai.domain.analysis.dto.response.ClosedComparison;
 import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import com.endlesspassion.sigai.domain.publicdata.dto.PublicMarketDataBundle;
 import com.endlesspassion.sigai.domain.publicdata.service.PublicDataService;
+import com.endlesspassion.sigai.global.util.StatisticsUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 폐업률 비교 분석 서비스
@@ -16,7 +19,8 @@ import java.util.List;
  * 책임:
  * 1. 동일 상권, 동일 업종의 폐업률 추세 계산
  * 2. 평균 폐업률 산출
- * 3. 폐업률 증가/감소 추세 판단
+ * 3. 폐업률 증가/감소 추세 판단 (회귀 기울기 유의성 + 최근/과거 3개 분기 평균 비교)
+ * 4. 폐업률 변동성(표준편차) 산출
  *
  * 폐업률의 의미:
  * - 높은 폐업률 = 시장 진입 장벽은 낮지만 생존이 어려움
@@ -28,12 +32,15 @@ import java.util.List;
 @Service
 public class ClosedComparisonService {
 
+    private static final int TREND_MIN_QUARTERS = 6;
+    private static final double TREND_THRESHOLD = 1.0; // 추세로 볼 최소 폐업률 변화(% point)
+
     private final PublicDataService publicDataService;
 
     /**
      * 폐업률 비교 분석 실행
      *
-     * @param quarters 분석할 분기 리스트 (과거 분기부터 최신 순, 오름차순)
+     * @param quarters 분석할 분기 리스트 (최신순 또는 과거순, 추세는 분기 코드 순서로 정렬하여 판단)
      * @param trdarCd 상권 코드
      * @param svcIndutyCd 업종 코드
      * @return 폐업률 비교 분석 결과
@@ -42,23 +49,53 @@ public class ClosedComparisonService {
             List<String> quarters,
             String trdarCd,
             String svcIndutyCd) {
+        return analyze(quarters, trdarCd, svcIndutyCd,
+                quarter -> publicDataService.findStoreData(quarter, trdarCd, svcIndutyCd));
+    }
+
+    /**
+     * 미리 조회해 둔 공공 데이터 묶음으로 폐업률 비교 분석 (추가 조회 없음)
+     */
+    public ClosedComparison analyze(List<String> quarters, PublicMarketDataBundle bundle) {
+        return analyze(quarters, bundle.getTrdarCd(), bundle.getSvcIndutyCd(), bundle::storeOf);
+    }
+
+    private ClosedComparison analyze(
+            List<String> quarters,
+            String trdarCd,
+            String svcIndutyCd,
+            Function<String, PublicStoreData> storeLookup) {
 
         List<ClosedComparison.QuarterlyClosedRate> quarterlyClosedRates = new ArrayList<>();
         Double previousRate = null;
-        double sumOfRates = 0.0;
-        int validCount = 0;
 
         // 각 분기별 폐업률 계산 (과거부터 최신 순)
         for (String quarter : quarters) {
             ClosedComparison.QuarterlyClosedRate rate = calculateClosedRateForQuarter(
-                    quarter, trdarCd, svcIndutyCd, previousRate);
+                    quarter, trdarCd, svcIndutyCd, previousRate, storeLookup.apply(quarter));
 
             quarterlyClosedRates.add(rate);
 
+            if (rate.getClosedRate() != null) {
+                previousRate = rate.getClosedRate();
+            }
+        }
+
+        return summarize(quarterlyClosedRates);
+    }
+
+    /**
+     * 분기별 폐업률이 모두 계산된 뒤 평균/추세/변동성을 더해 폐업률 비교 결과 생성
+     *
+     * @param quarterlyClosedRates 분기별 폐업률 (최신순 또는 과거순)
+     */
+    public ClosedComparison summarize(List<ClosedComparison.QuarterlyClosedRate> quarterlyClosedRates) {
+        double sumOfRates = 0.0;
+        int validCount = 0;
+        for (ClosedComparison.QuarterlyClosedRate rate : quarterlyClosedRates) {
             if (rate.getClosedRate() != null) {
                 sumOfRates += rate.getClosedRate();
                 validCount++;
-                previousRate = rate.getClosedRate();
             }
         }
 
@@ -68,12 +105,17 @@ public class ClosedComparisonService {
                 : null;
 
         // 폐업률 추세 판단
-        String trend = determineTrend(quarterlyClosedRates);
+        double[] chronologicalRates = chronologicalRates(quarterlyClosedRates);
+        StatisticsUtils.LinearTrend fit = StatisticsUtils.linearTrend(chronologicalRates);
+        String trend = determineTrend(chronologicalRates, fit).name();
 
         return ClosedComparison.builder()
                 .quarterlyClosedRates(quarterlyClosedRates)
                 .averageClosedRate(averageClosedRate)
                 .trend(trend)
+                .trendSlope(round(fit.slope(), 100))
+                .trendSignificant(Double.isNaN(fit.slope()) ? null : fit.isSignificant())
+                .volatility(round(StatisticsUtils.stdDev(chronologicalRates), 10))
                 .build();
     }
 
@@ -83,16 +125,16 @@ public class ClosedComparisonService {
      * 폐업률 = (폐업 점포 수 / 전체 점포 수) * 100
      *
      * 공공 데이터에서 이미 계산된 폐업률(clsbizRt)을 사용하되,
-     * 없는 경우 직접 계산
+     * 없는 경우 직접 계산 (스트리밍 분석에서는 분기 데이터가 준비되는 대로 호출)
+     *
+     * @param previousRate 폐업률이 있는 가장 최근 이전 분기의 폐업률 (없으면 null)
      */
-    private ClosedComparison.QuarterlyClosedRate calculateClosedRateForQuarter(
+    public ClosedComparison.QuarterlyClosedRate calculateClosedRateForQuarter(
             String quarter,
             String trdarCd,
             String svcIndutyCd,
-            Double previousRate) {
-
-        PublicStoreData storeData = publicDataService
-                .findStoreData(quarter, trdarCd, svcIndutyCd);
+            Double previousRate,
+            PublicStoreData storeData) {
 
         if (storeData == null) {
             log.warn("분기 {}에 대한 점포 데이터가 없습니다. 상권: {}, 업종: {}",
@@ -149,44 +191,62 @@ public class ClosedComparisonService {
      * 폐업률 추세 판단
      *
      * 로직:
-     * 1. 최근 3개 분기의 평균과 과거 3개 분기의 평균 비교
-     * 2. 차이가 1% 이상이면 증가/감소, 그 외는 안정
+     * 1. 분기별 폐업률의 최소제곱 기울기가 유의하고(t 검정, 유의수준 5%)
+     *    관측 구간 전체 변화량이 1% point 이상이면 기울기 방향으로 판단
+     * 2. 그렇지 않으면 최근 3개 분기 평균과 과거 3개 분기 평균을 비교하여 차이가 1% point 초과면 증가/감소
+     * 3. 그 외는 안정
      *
      * 왜 이 방식인가?
-     * - 단기 변동성을 완화하고 전반적인 추세 파악
-     * - 1% 임계값은 통계적 유의미성 고려 (조정 가능)
+     * - 기울기 유의성은 8개 분기 전체를 보고 일시적 변동과 실제 추세를 구분
+     * - 분기 수가 적어 유의성이 나오기 어려울 때는 기존 3개 분기 평균 비교로 최근의 급격한 변화를 놓치지 않음
+     *
+     * 분기 수가 6개 미만이면 항상 안정으로 판단
      *
-     * 주의: 리스트는 오름차순(과거→최신)으로 정렬되어 있음
+     * @param chronologicalRates 과거 → 최신 순서의 분기별 폐업률 (데이터 없는 분기는 NaN)
      */
-    private String determineTrend(List<ClosedComparison.QuarterlyClosedRate> rates) {
-        if (rates.size() < 6) {
-            return "STABLE"; // 데이터가 부족하면 안정으로 판단
+    private StatisticsUtils.Trend determineTrend(double[] chronologicalRates, StatisticsUtils.LinearTrend fit) {
+        int size = chronologicalRates.length;
+        if (size < TREND_MIN_QUARTERS) {
+            return StatisticsUtils.Trend.STABLE; // 데이터가 부족하면 안정으로 판단
+        }
+
+        StatisticsUtils.Trend slopeTrend = fit.classify(TREND_THRESHOLD);
+        if (slopeTrend != StatisticsUtils.Trend.STABLE) {
+            return slopeTrend;
         }
 
+        // 최근 3개 분기 평균과 과거 3개 분기 평균 (배열의 마지막 3개, 마지막에서 6~4번째)
+        double recentAvg = StatisticsUtils.mean(chronologicalRates, size - 3, 3);
+        double pastAvg = StatisticsUtils.mean(chronologicalRates, size - 6, 3);
+        double difference = recentAvg - pastAvg; // 한쪽 구간에 데이터가 전혀 없으면 NaN → 안정
+
+        if (difference > TREND_THRESHOLD) {
+            return StatisticsUtils.Trend.INCREASING; // 폐업률 증가 추세
+        } else if (difference < -TREND_THRESHOLD) {
+            return StatisticsUtils.Trend.DECREASING; // 폐업률 감소 추세
+        }
+        return StatisticsUtils.Trend.STABLE; // 안정적
+    }
+
+    /**
+     * 분기별 폐업률을 과거 → 최신 순서의 배열로 변환 (데이터 없는 분기는 NaN)
+     *
+     * 분기 목록은 과거순/최신순 모두 들어오므로, 첫 분기가 마지막 분기보다 최신이면 뒤집어서 담는다.
+     */
+    private static double[] chronologicalRates(List<ClosedComparison.QuarterlyClosedRate> rates) {
         int size = rates.size();
+        boolean newestFirst = size > 1
+                && rates.get(0).getQuarter().compareTo(rates.get(size - 1).getQuarter()) > 0;
 
-        // 최근 3개 분기 평균 (리스트의 마지막 3개)
-        double recentAvg = rates.subList(size - 3, size).stream()
-                .filter(r -> r.getClosedRate() != null)
-                .mapToDouble(ClosedComparison.QuarterlyClosedRate::getClosedRate)
-                .average()
-                .orElse(0.0);
-
-        // 과거 3개 분기 평균 (리스트의 마지막에서 6~4번째)
-        double pastAvg = rates.subList(size - 6, size - 3).stream()
-                .filter(r -> r.getClosedRate() != null)
-                .mapToDouble(ClosedComparison.QuarterlyClosedRate::getClosedRate)
-                .average()
-                .orElse(0.0);
-
-        double difference = recentAvg - pastAvg;
-
-        if (difference > 1.0) {
-            return "INCREASING"; // 폐업률 증가 추세
-        } else if (difference < -1.0) {
-            return "DECREASING"; // 폐업률 감소 추세
-        } else {
-            return "STABLE"; // 안정적
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            Double closedRate = rates.get(i).getClosedRate();
+            values[newestFirst ? size - 1 - i : i] = closedRate != null ? closedRate : Double.NaN;
         }
+        return values;
+    }
+
+    private static Double round(double value, int scale) {
+        return Double.isNaN(value) ? null : Math.round(value * scale) / (double) scale;
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,57 @@
 package com.endlesspassion.sigai.domain.analysis.service;
 
+import com.endlesspassion.sigai.domain.analysis.dto.request.BatchAnalysisReq;
 import com.endlesspassion.sigai.domain.analysis.dto.request.MarketAnalysisReq;
+import com.endlesspassion.sigai.domain.analysis.dto.request.RevenueSimulationReq;
+import com.endlesspassion.sigai.domain.analysis.dto.response.AnalysisStreamEvent;
+import com.endlesspassion.sigai.domain.analysis.dto.response.BatchAnalysisRes;
+import com.endlesspassion.sigai.domain.analysis.dto.response.ClosedComparison;
 import com.endlesspassion.sigai.domain.analysis.dto.response.MarketAnalysisRes;
+import com.endlesspassion.sigai.domain.analysis.dto.response.MarketAnalysisSummary;
+import com.endlesspassion.sigai.domain.analysis.dto.response.MarketForecast;
+import com.endlesspassion.sigai.domain.analysis.dto.response.PopulationComparison;
+import com.endlesspassion.sigai.domain.analysis.dto.response.RevenueComparison;
+import com.endlesspassion.sigai.domain.analysis.dto.response.RevenueSimulationRes;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketKey;
+import com.endlesspassion.sigai.domain.publicdata.dto.PublicMarketDataBundle;
+import com.endlesspassion.sigai.domain.publicdata.service.MarketForecastService;
+import com.endlesspassion.sigai.domain.publicdata.service.PublicDataService;
+import com.endlesspassion.sigai.domain.publicdata.service.ReactivePublicDataService;
 import com.endlesspassion.sigai.domain.store.entity.Store;
-import com.endlesspassion.sigai.domain.store.entity.StoreRevenue;
+import com.endlesspassion.sigai.domain.store.repository.QuarterlyRevenue;
 import com.endlesspassion.sigai.domain.store.repository.StoreRepository;
 import com.endlesspassion.sigai.domain.store.repository.StoreRevenueRepository;
+import com.endlesspassion.sigai.global.exception.GlobalException;
+import com.endlesspassion.sigai.global.exception.code.GlobalErrorCode;
+import com.endlesspassion.sigai.global.util.Quarter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 상권 분석 통합 서비스 (Facade)
@@ -22,7 +62,16 @@ import java.util.List;
  * - 클라이언트는 하나의 메서드만 호출하면 됨
  * - 내부적으로 복잡한 서비스 호출을 숨김
  * - 각 분석 서비스는 독립적으로 개발/테스트 가능
+ *
+ * 하위 분석(매출 비교, 인구 비교, 폐업률 비교, 예측)은 서로 독립적이고 MongoDB I/O 대기가 대부분이므로
+ * analysisExecutor에서 동시에 실행한다. 전체 응답 시간 ≈ 가장 느린 하위 분석 시간.
+ * 제한 시간은 하위 분석마다 제출 시점부터 따로 잰다 (앞 섹션을 기다린 시간이 뒤 섹션 제한 시간에 더해지지 않음).
+ * 시간을 넘긴 섹션은 결과만 버리며, 이미 실행 중인 MongoDB 조회는 중단되지 않고 끝까지 실행된다.
+ * - 매출 비교: 필수 섹션. 실패하면 요청 실패, 제한 시간 초과 시 REQUEST_TIMEOUT, 실행기 포화 시 SERVICE_UNAVAILABLE
+ * - 인구 비교 / 폐업률 비교: 선택 섹션. 실패하거나 제한 시간을 넘기거나 실행기가 포화되면 빈 섹션으로 응답
+ * - 예측: 동기화 후 미리 계산된 문서(public_market_forecast)를 _id로 한 건 읽기만 함. 없거나 실패하면 null
  */
+@Slf4j
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Service
@@ -31,14 +80,33 @@ public class MarketAnalysisService {
     private final StoreRepository storeRepository;
     private final StoreRevenueRepository storeRevenueRepository;
     private final RevenueComparisonService revenueComparisonService;
-    private final PopulationComparisonService populationComparisonService; // 이건 구현 안할 예정. 껍데기만 남기고, DTO도 빈 껍데기로만 제공 예정!, 프론트에서 알아서 가짜 데이터로 처리
+    private final PopulationComparisonService populationComparisonService;
     private final ClosedComparisonService closedComparisonService;
+    private final ReactivePublicDataService reactivePublicDataService;
+    private final PublicDataService publicDataService;
+    private final MarketForecastService marketForecastService;
+    private final ExecutorService analysisExecutor;
+
+    @Value("${sigai.analysis.timeout.revenue-ms:3000}")
+    private long revenueTimeoutMs = 3000;
+
+    @Value("${sigai.analysis.timeout.closed-ms:2000}")
+    private long closedTimeoutMs = 2000;
+
+    @Value("${sigai.analysis.timeout.population-ms:2000}")
+    private long populationTimeoutMs = 2000;
+
+    @Value("${sigai.analysis.timeout.forecast-ms:1000}")
+    private long forecastTimeoutMs = 1000;
+
+    @Value("${sigai.analysis.timeout.batch-ms:10000}")
+    private long batchTimeoutMs = 10000;
 
     /**
      * Req에서 받는 값들: 가게 정보(매출, 상권, 업종, 분석할 분기)
      * 사장님 정보를 상권 정보와 비교하여 매출, 인구, 폐업 데이터 분석하기
      * revenueComparisonService: 공공 데이터의 해당 분기들의 매출 통계 정보
-     * populationComparisonService: 공공 데이터의 해당 분기들의 인구 통계 정보(나중에 할 예정)
+     * populationComparisonService: 공공 데이터의 해당 분기들의 상권 인구 통계 정보
      * closedComparisonService: 공공 데이터의 해당 분기들의 폐업 통계 정보
      * 경쟁강도 = 동일업종 점포수 / 상권 면적(면적 미존재 시 점포수 지표만)(시간 되면)
      *
@@ -46,29 +114,388 @@ public class MarketAnalysisService {
      */
     public MarketAnalysisRes analyze(MarketAnalysisReq req) {
 
+        List<String> quarters = getQuarters(req.getQuarter(), req.getCount());
+        StoreContext context = loadStoreContext(req, quarters);
+
+        // 하위 분석은 공공 데이터(MongoDB)만 조회하므로 JPA 트랜잭션 밖의 스레드에서 실행해도 안전
+        CompletableFuture<RevenueComparison> revenue = submit(
+                () -> revenueComparisonService.analyze(
+                        quarters, context.trdarCd(), context.svcIndutyCd(), context.quarterlyRevenue()))
+                .orTimeout(revenueTimeoutMs, TimeUnit.MILLISECONDS);
+        CompletableFuture<ClosedComparison> closed = submit(
+                () -> closedComparisonService.analyze(quarters, context.trdarCd(), context.svcIndutyCd()))
+                .orTimeout(closedTimeoutMs, TimeUnit.MILLISECONDS);
+        CompletableFuture<PopulationComparison> population = submit(
+                () -> populationComparisonService.analyze(quarters, context.trdarCd()))
+                .orTimeout(populationTimeoutMs, TimeUnit.MILLISECONDS);
+        CompletableFuture<MarketForecast> forecast = submit(
+                () -> findForecast(context.trdarCd(), context.svcIndutyCd()))
+                .orTimeout(forecastTimeoutMs, TimeUnit.MILLISECONDS);
+
+        return MarketAnalysisRes.of(
+                req.getStoreId(),
+                context.storeName(),
+                awaitRequired(revenue, revenueTimeoutMs, "매출 비교"),
+                awaitOptional(population, populationTimeoutMs, "인구 비교", PopulationComparison.empty()),
+                awaitOptional(closed, closedTimeoutMs, "폐업률 비교", ClosedComparison.empty(quarters)),
+                awaitOptional(forecast, forecastTimeoutMs, "예측", null)
+        );
+    }
+
+    /**
+     * analysisExecutor에 하위 분석 제출 (실행기가 포화되어 거절되면 RejectedExecutionException으로 실패한 future)
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, analysisExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 필수 하위 분석 결과 대기: 실패 시 원래 예외를 그대로 던지고, 시간 초과 시 REQUEST_TIMEOUT, 실행기 포화 시 SERVICE_UNAVAILABLE
+     * (제한 시간은 제출 시 orTimeout으로 걸어 두었으므로 여기서는 완료만 기다림)
+     */
+    private <T> T awaitRequired(CompletableFuture<T> future, long timeoutMs, String name) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GlobalException(GlobalErrorCode.INTERNAL_ERROR);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                log.error("{} 분석 시간 초과 ({} ms)", name, timeoutMs);
+                throw new GlobalException(GlobalErrorCode.REQUEST_TIMEOUT);
+            }
+            if (cause instanceof RejectedExecutionException) {
+                log.error("{} 분석 실행기 포화로 작업이 거절되었습니다.", name);
+                throw new GlobalException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    /**
+     * 선택 하위 분석 결과 대기: 실패하거나 시간을 넘기거나 실행기가 포화되면 fallback(빈 섹션)으로 응답
+     */
+    private <T> T awaitOptional(CompletableFuture<T> future, long timeoutMs, String name, T fallback) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                log.warn("{} 분석 시간 초과 ({} ms), 빈 결과로 응답합니다.", name, timeoutMs);
+            } else if (cause instanceof RejectedExecutionException) {
+                log.warn("{} 분석 실행기 포화로 작업이 거절되어 빈 결과로 응답합니다.", name);
+            } else {
+                log.warn("{} 분석 실패, 빈 결과로 응답합니다.", name, cause);
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * analyze와 같은 분석을 논블로킹으로 실행
+     *
+     * - 가게/매출(JPA) 조회는 블로킹이므로 boundedElastic 스케줄러에서 실행
+     * - 공공 데이터는 ReactivePublicDataService로 모든 분기를 동시에 조회한 뒤, 묶음으로 계산
+     *   (블로킹 경로는 점포 데이터를 분기마다 순차 조회)
+     * - 블로킹 경로(analyze) 대비 처리량/p99 지연은 아직 부하 테스트로 비교하지 않았다.
+     *   같은 요청으로 /api/v1/analysis와 /api/v1/analysis/reactive를 부하 테스트해 수치를 확인하기 전까지는 analyze가 기본 경로다.
+     */
+    public Mono<MarketAnalysisRes> analyzeReactive(MarketAnalysisReq req) {
+        List<String> quarters = getQuarters(req.getQuarter(), req.getCount());
+
+        return Mono.fromCallable(() -> loadStoreContext(req, quarters))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(context -> Mono.zip(
+                        reactivePublicDataService.loadBundle(quarters, context.trdarCd(), context.svcIndutyCd()),
+                        Mono.fromCallable(() -> Optional.ofNullable(findForecast(context.trdarCd(), context.svcIndutyCd())))
+                                .subscribeOn(Schedulers.boundedElastic()))
+                        .map(tuple -> MarketAnalysisRes.of(
+                                req.getStoreId(),
+                                context.storeName(),
+                                revenueComparisonService.analyze(quarters, context.quarterlyRevenue(), tuple.getT1()),
+                                populationComparisonService.analyze(quarters, tuple.getT1()),
+                                closedComparisonService.analyze(quarters, tuple.getT1()),
+                                tuple.getT2().orElse(null)
+                        )));
+    }
+
+    /**
+     * analyze와 같은 분석을 분기 단위로 스트리밍
+     *
+     * - 분기마다 순위 비교 대상(업종 전체 상권 매출)/점포 데이터를 동시에 조회하되, flatMapSequential로 과거 → 최신 순서를 지켜 내보낸다.
+     *   (순위 변화/폐업률 변화가 직전 분기 결과에 의존하므로 순서가 필요)
+     * - 첫 분기 결과는 첫 분기 조회가 끝나는 즉시 나가므로, 분기 수가 많아도 첫 응답까지의 시간은 분기 하나 수준
+     * - 모든 분기가 끝나면 추세/평균 등 요약(SUMMARY)을 마지막으로 내보낸다.
+     */
+    public Flux<AnalysisStreamEvent> analyzeStream(MarketAnalysisReq req) {
+        List<String> quarters = getQuarters(req.getQuarter(), req.getCount());
+
+        return Mono.fromCallable(() -> loadStoreContext(req, quarters))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(context -> Flux.defer(() -> {
+                    QuarterStream stream = new QuarterStream(quarters, context);
+                    return Flux.range(0, quarters.size())
+                            .flatMapSequential(i -> loadQuarter(quarters.get(i), context))
+                            .concatMapIterable(stream::next)
+                            .concatWith(Mono.fromSupplier(() -> stream.summary(req.getStoreId())));
+                }));
+    }
+
+    /**
+     * 한 분기의 순위 비교 대상(같은 업종 전체 상권 매출)과 점포 데이터를 동시에 조회 (없는 데이터는 빈 배열/empty Optional)
+     */
+    private Mono<QuarterData> loadQuarter(String quarter, StoreContext context) {
+        Mono<double[]> industrySales = reactivePublicDataService
+                .findIndustrySalesByQuarters(List.of(quarter), context.svcIndutyCd())
+                .map(salesByQuarter -> salesByQuarter.getOrDefault(Quarter.parse(quarter).mongoKey(), new double[0]));
+        Mono<Optional<PublicStoreData>> store = reactivePublicDataService
+                .findStoreData(quarter, context.trdarCd(), context.svcIndutyCd())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        return Mono.zip(industrySales, store)
+                .map(tuple -> new QuarterData(quarter, tuple.getT1(), tuple.getT2().orElse(null)));
+    }
+
+    private record QuarterData(String quarter, double[] industrySales, PublicStoreData store) {
+    }
+
+    /**
+     * 스트리밍 분석에서 분기 사이에 이어지는 상태 (직전 분기 순위/폐업률, 요약에 필요한 분기별 결과)
+     *
+     * 구독마다 새로 만들고, concatMapIterable 안에서 순서대로 한 분기씩만 호출되므로 동기화가 필요 없다.
+     */
+    private final class QuarterStream {
+
+        private final List<String> quarters;
+        private final StoreContext context;
+        private final List<RevenueComparison.QuarterlyRevenueRank> ranks;
+        private final List<ClosedComparison.QuarterlyClosedRate> closedRates;
+        private Integer previousRank;
+        private Double previousClosedRate;
+        private Double competitionIntensity;
+
+        private QuarterStream(List<String> quarters, StoreContext context) {
+            this.quarters = quarters;
+            this.context = context;
+            this.ranks = new ArrayList<>(quarters.size());
+            this.closedRates = new ArrayList<>(quarters.size());
+        }
+
+        private List<AnalysisStreamEvent> next(QuarterData data) {
+            int index = ranks.size();
+            RevenueComparison.QuarterlyRevenueRank rank = revenueComparisonService.rankForQuarter(
+                    data.quarter(), context.trdarCd(), context.svcIndutyCd(),
+                    context.quarterlyRevenue().get(index), previousRank, data.industrySales());
+            ranks.add(rank);
+            previousRank = rank.getRank();
+
+            ClosedComparison.QuarterlyClosedRate closedRate = closedComparisonService.calculateClosedRateForQuarter(
+                    data.quarter(), context.trdarCd(), context.svcIndutyCd(), previousClosedRate, data.store());
+            closedRates.add(closedRate);
+            if (closedRate.getClosedRate() != null) {
+                previousClosedRate = closedRate.getClosedRate();
+            }
+
+            // 경쟁 강도는 analyze와 같이 첫 분기 점포 데이터 기준
+            if (index == 0) {
+                competitionIntensity = revenueComparisonService.calculateCompetitionIntensity(
+                        data.quarter(), context.trdarCd(), context.svcIndutyCd(), data.store());
+            }
+
+            return List.of(AnalysisStreamEvent.revenueRank(rank), AnalysisStreamEvent.closedRate(closedRate));
+        }
+
+        private AnalysisStreamEvent summary(Long storeId) {
+            return AnalysisStreamEvent.summary(MarketAnalysisSummary.of(
+                    storeId,
+                    context.storeName(),
+                    revenueComparisonService.summarize(quarters, context.quarterlyRevenue(), ranks, competitionIntensity),
+                    closedComparisonService.summarize(closedRates)));
+        }
+    }
+
+    /**
+     * 가상 매출 순위 시뮬레이션
+     *
+     * 분석 API를 매출만 바꿔 반복 호출하면 호출마다 모든 분기의 비교 대상 데이터를 다시 조회하므로,
+     * 분기마다 비교 대상 분포를 한 번만 불러와 요청한 모든 가상 매출의 순위를 한 번에 계산한다.
+     */
+    public RevenueSimulationRes simulate(RevenueSimulationReq req) {
+        for (double revenue : req.getRevenues()) {
+            if (!Double.isFinite(revenue) || revenue < 0) {
+                throw new IllegalArgumentException("가상 매출은 0 이상의 금액이어야 합니다: " + revenue);
+            }
+        }
+
+        Store store = storeRepository.findById(req.getStoreId())
+                .orElseThrow(() -> new IllegalArgumentException("해당 가게를 찾을 수 없습니다. ID: " + req.getStoreId()));
+        String trdarCd = store.getServiceArea().getCode();
+        String svcIndutyCd = store.getServiceIndustry().getCode();
+
+        List<String> quarters = new ArrayList<>(req.getQuarters().size());
+        for (String quarter : req.getQuarters()) {
+            quarters.add(Quarter.parse(quarter).code());
+        }
+        List<BigDecimal> currentRevenues = toQuarterlyRevenue(sumQuarterlyRevenue(List.of(store), quarters), quarters);
+
+        List<RevenueSimulationRes.QuarterlyCurve> curves = new ArrayList<>(quarters.size());
+        for (int i = 0; i < quarters.size(); i++) {
+            curves.add(revenueComparisonService.simulateQuarter(
+                    quarters.get(i), trdarCd, svcIndutyCd, currentRevenues.get(i), req.getRevenues()));
+        }
+        return RevenueSimulationRes.of(req.getStoreId(), req.getRevenues(), curves);
+    }
+
+    /**
+     * 여러 가게 일괄 상권 분석
+     *
+     * 가게마다 analyze를 호출하면 같은 상권/업종의 공공 데이터를 가게 수만큼 다시 조회하므로,
+     * 1. 모든 가게의 매출 데이터를 한 번에 조회 (JPA 1회)
+     * 2. 서로 다른 (상권, 업종)마다 공공 데이터 묶음을 한 번만 조회 (동시에)
+     * 3. 가게별 분석은 묶음으로 계산만 수행 (동시에)
+     * → MongoDB 조회 수는 가게 수가 아니라 서로 다른 상권/업종 수에 비례
+     *
+     * 일부 가게가 실패해도(매출 데이터 없음 등) 나머지 가게 결과는 그대로 응답한다.
+     */
+    public BatchAnalysisRes analyzeBatch(BatchAnalysisReq req) {
+        List<String> quarters = getQuarters(req.getQuarter(), req.getCount());
+        List<BatchAnalysisRes.Failure> failures = new ArrayList<>();
+        List<Store> stores = findStores(req, failures);
+        if (stores.isEmpty()) {
+            return BatchAnalysisRes.of(List.of(), failures, 0);
+        }
+
+        // 1. 매출 데이터: 모든 가게의 분석 기간 분기 매출 합계를 한 번에 집계 후 가게별로 분류
+        Map<Long, List<QuarterlyRevenue>> revenuesByStore = sumQuarterlyRevenue(stores, quarters).stream()
+                .collect(Collectors.groupingBy(QuarterlyRevenue::storeId));
+
+        // 2. 공공 데이터/예측: 서로 다른 (상권, 업종)마다 한 번만 조회
+        Map<MarketKey, CompletableFuture<PublicMarketDataBundle>> bundles = new LinkedHashMap<>();
+        Map<MarketKey, CompletableFuture<MarketForecast>> forecasts = new HashMap<>();
+        for (Store store : stores) {
+            bundles.computeIfAbsent(marketKeyOf(store), key -> submit(
+                    () -> publicDataService.loadBundle(quarters, key.trdarCd(), key.svcIndutyCd())));
+            forecasts.computeIfAbsent(marketKeyOf(store), key -> submit(
+                    () -> findForecast(key.trdarCd(), key.svcIndutyCd()))
+                    .exceptionally(e -> null)); // 예측은 선택 섹션
+        }
+
+        // 3. 가게별 분석 (묶음이 준비되는 대로 계산)
+        Map<Store, CompletableFuture<MarketAnalysisRes>> analyses = new LinkedHashMap<>();
+        for (Store store : stores) {
+            List<QuarterlyRevenue> revenues = revenuesByStore.getOrDefault(store.getId(), List.of());
+            if (revenues.isEmpty() && !storeRevenueRepository.existsByStore(store)) {
+                failures.add(BatchAnalysisRes.Failure.of(store.getId(), "해당 가게의 매출 데이터가 없습니다."));
+                continue;
+            }
+            List<BigDecimal> quarterlyRevenue = toQuarterlyRevenue(revenues, quarters);
+            MarketKey key = marketKeyOf(store);
+            analyses.put(store, bundles.get(key).thenCombineAsync(forecasts.get(key),
+                    (bundle, forecast) -> MarketAnalysisRes.of(
+                            store.getId(),
+                            store.getStoreName(),
+                            revenueComparisonService.analyze(quarters, quarterlyRevenue, bundle),
+                            populationComparisonService.analyze(quarters, bundle),
+                            closedComparisonService.analyze(quarters, bundle),
+                            forecast
+                    ), analysisExecutor));
+        }
+
+        // 4. 결과 수집 (전체 제한 시간 안에서)
+        List<MarketAnalysisRes> results = new ArrayList<>(analyses.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeoutMs);
+        for (Map.Entry<Store, CompletableFuture<MarketAnalysisRes>> entry : analyses.entrySet()) {
+            Long storeId = entry.getKey().getId();
+            try {
+                results.add(entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                entry.getValue().cancel(false); // 아직 시작하지 않은 계산만 건너뜀 (실행 중인 조회는 중단되지 않음)
+                failures.add(BatchAnalysisRes.Failure.of(storeId, GlobalErrorCode.REQUEST_TIMEOUT.getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GlobalException(GlobalErrorCode.INTERNAL_ERROR);
+            } catch (Exception e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("일괄 분석 중 가게 분석 실패. ID: {}", storeId, cause);
+                failures.add(BatchAnalysisRes.Failure.of(storeId, cause.getMessage()));
+            }
+        }
+
+        return BatchAnalysisRes.of(results, failures, bundles.size());
+    }
+
+    /**
+     * 요청의 가게 ID 목록(중복 제거, 요청 순서 유지) 또는 전화번호로 분석 대상 가게 조회
+     */
+    private List<Store> findStores(BatchAnalysisReq req, List<BatchAnalysisRes.Failure> failures) {
+        if (req.getStoreIds() != null && !req.getStoreIds().isEmpty()) {
+            LinkedHashSet<Long> storeIds = new LinkedHashSet<>(req.getStoreIds());
+            Map<Long, Store> storesById = storeRepository.findAllById(storeIds).stream()
+                    .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+            List<Store> stores = new ArrayList<>(storeIds.size());
+            for (Long storeId : storeIds) {
+                Store store = storesById.get(storeId);
+                if (store == null) {
+                    failures.add(BatchAnalysisRes.Failure.of(storeId, "해당 가게를 찾을 수 없습니다. ID: " + storeId));
+                } else {
+                    stores.add(store);
+                }
+            }
+            return stores;
+        }
+
+        if (req.getPhoneNumber() != null && !req.getPhoneNumber().isBlank()) {
+            List<Store> stores = storeRepository.findByMember_PhoneNumber(req.getPhoneNumber());
+            if (stores.isEmpty()) {
+                throw new IllegalArgumentException("해당 전화번호로 등록된 가게가 없습니다: " + req.getPhoneNumber());
+            }
+            return stores;
+        }
+
+        throw new IllegalArgumentException("가게 ID 목록 또는 전화번호 중 하나는 필수입니다.");
+    }
+
+    private static MarketKey marketKeyOf(Store store) {
+        return new MarketKey(store.getServiceArea().getCode(), store.getServiceIndustry().getCode());
+    }
+
+    private MarketForecast findForecast(String trdarCd, String svcIndutyCd) {
+        return MarketForecast.from(marketForecastService.find(trdarCd, svcIndutyCd));
+    }
+
+    /**
+     * 분석에 필요한 가게 정보 (상권/업종 코드, 분기별 매출)
+     */
+    private record StoreContext(String storeName, String trdarCd, String svcIndutyCd, List<BigDecimal> quarterlyRevenue) {
+    }
+
+    private StoreContext loadStoreContext(MarketAnalysisReq req, List<String> quarters) {
         Store store = storeRepository.findById(req.getStoreId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 가게를 찾을 수 없습니다. ID: " + req.getStoreId()));
 
         String trdarCd = store.getServiceArea().getCode(); // 상권 이름 -> 상권 코드
         String svcIndutyCd = store.getServiceIndustry().getCode(); // 업종 이름 -> 업종 코드
-        List<String> quarters = getQuarters(req.getQuarter(), req.getCount());
 
-        // 해당 가게의 월별 매출 데이터를 조회하여 분기별로 변환
-        List<StoreRevenue> monthlyRevenueList = storeRevenueRepository.findByStoreOrderByYearDescMonthDesc(store);
-        if (monthlyRevenueList.isEmpty()) {
+        // 분석 기간의 분기 매출 합계를 DB에서 집계 (기간 안에 매출이 없으면 가게 자체에 매출이 없는지 확인)
+        List<QuarterlyRevenue> revenues = sumQuarterlyRevenue(List.of(store), quarters);
+        if (revenues.isEmpty() && !storeRevenueRepository.existsByStore(store)) {
             throw new IllegalArgumentException("해당 가게의 매출 데이터가 없습니다. ID: " + req.getStoreId());
         }
 
-        // 월별 매출을 분기별로 그룹화하여 합산
-        List<BigDecimal> quarterlyRevenue = convertMonthlyToQuarterly(monthlyRevenueList, quarters);
+        List<BigDecimal> quarterlyRevenue = toQuarterlyRevenue(revenues, quarters);
 
-        return MarketAnalysisRes.of(
-                req.getStoreId(),
-                store.getStoreName(),
-                revenueComparisonService.analyze(quarters, trdarCd, svcIndutyCd, quarterlyRevenue),
-                populationComparisonService.analysis(),
-                closedComparisonService.analyze(quarters, trdarCd, svcIndutyCd)
-        );
+        return new StoreContext(store.getStoreName(), trdarCd, svcIndutyCd, quarterlyRevenue);
     }
 
     // Utils
@@ -84,81 +511,46 @@ public class MarketAnalysisService {
      * - 출력: ["202202", "202203", "202204", "202301", "202302", "202303", "202304", "202401"]
      */
     private List<String> getQuarters(String quarter, int count) {
-        java.util.List<String> quarters = new java.util.ArrayList<>();
-
-        // 년도와 분기 추출
-        int year = Integer.parseInt(quarter.substring(0, 4));
-        int quarterNum = Integer.parseInt(quarter.substring(4, 6));
-
-        // 시작 분기 계산 (count-1 분기 이전으로 이동)
-        for (int i = 0; i < count - 1; i++) {
-            quarterNum--;
-            if (quarterNum < 1) {
-                quarterNum = 4;
-                year--;
-            }
-        }
-
-        // 과거부터 현재까지 순차적으로 추가
-        for (int i = 0; i < count; i++) {
-            quarters.add(String.format("%04d%02d", year, quarterNum));
-
-            // 다음 분기로 이동
-            quarterNum++;
-            if (quarterNum > 4) {
-                quarterNum = 1;
-                year++;
-            }
+        List<String> quarters = new ArrayList<>(count);
+        for (Quarter q : Quarter.parse(quarter).lastQuarters(count)) {
+            quarters.add(q.code()); // 미리 만들어 둔 문자열 재사용
         }
-
         return quarters;
     }
 
     /**
-     * 월별 매출 데이터를 분기별로 그룹화하여 합산
-     *
-     * @param monthlyRevenueList 월별 매출 데이터 리스트
-     * @param quarters 필요한 분기 리스트 (YYYYQQ 형식, 최신순)
-     * @return 분기별 매출 리스트 (quarters 순서와 동일)
+     * 분석 기간(quarters 중 가장 과거 ~ 가장 최신 분기)의 분기 매출 합계를 DB에서 집계
      *
-     * 예시:
-     * - quarters = ["202404", "202403", "202402", "202401"]
-     * - 202404: 2024년 10, 11, 12월 매출 합산
-     * - 202403: 2024년 7, 8, 9월 매출 합산
-     * - 202402: 2024년 4, 5, 6월 매출 합산
-     * - 202401: 2024년 1, 2, 3월 매출 합산
+     * 월별 매출 엔티티를 전부 읽지 않으므로 조회량이 가게 운영 기간이 아니라 분석 기간에 비례한다.
      */
-    private List<BigDecimal> convertMonthlyToQuarterly(List<StoreRevenue> monthlyRevenueList, List<String> quarters) {
-        // 분기별 매출을 저장할 맵 (key: YYYYQQ, value: 합산된 매출)
-        java.util.Map<String, BigDecimal> quarterlyRevenueMap = new java.util.HashMap<>();
-
-        // 각 분기를 0으로 초기화
+    private List<QuarterlyRevenue> sumQuarterlyRevenue(List<Store> stores, List<String> quarters) {
+        Quarter oldest = Quarter.parse(quarters.get(0));
+        Quarter newest = oldest;
         for (String quarter : quarters) {
-            quarterlyRevenueMap.put(quarter, BigDecimal.ZERO);
+            Quarter q = Quarter.parse(quarter);
+            oldest = q.isBefore(oldest) ? q : oldest;
+            newest = q.isAfter(newest) ? q : newest;
         }
+        return storeRevenueRepository.sumQuarterlyRevenue(stores, oldest, newest);
+    }
 
-        // 월별 매출을 분기별로 그룹화하여 합산
-        for (StoreRevenue revenue : monthlyRevenueList) {
-            int year = revenue.getYear();
-            int month = revenue.getMonth();
-
-            // 월을 분기로 변환 (1~3월 -> 1분기, 4~6월 -> 2분기, 7~9월 -> 3분기, 10~12월 -> 4분기)
-            int quarterNum = (month - 1) / 3 + 1;
-            String quarterKey = String.format("%04d%02d", year, quarterNum);
-
-            // 요청된 분기에 해당하는 경우에만 합산
-            if (quarterlyRevenueMap.containsKey(quarterKey)) {
-                BigDecimal currentTotal = quarterlyRevenueMap.get(quarterKey);
-                quarterlyRevenueMap.put(quarterKey, currentTotal.add(revenue.getMonthlyRevenue()));
-            }
+    /**
+     * 분기 매출 합계를 quarters 순서의 리스트로 변환
+     *
+     * @param revenues 한 가게의 분기 매출 합계 (매출이 없는 분기는 없음)
+     * @param quarters 필요한 분기 리스트 (YYYYQQ 형식, 순서 무관)
+     * @return 분기별 매출 리스트 (quarters 순서와 동일, 매출이 없는 분기는 0)
+     */
+    private List<BigDecimal> toQuarterlyRevenue(List<QuarterlyRevenue> revenues, List<String> quarters) {
+        Map<Quarter, BigDecimal> revenueByQuarter = new HashMap<>();
+        for (QuarterlyRevenue revenue : revenues) {
+            revenueByQuarter.merge(Quarter.of(revenue.year(), revenue.quarter()), revenue.revenue(), BigDecimal::add);
         }
 
-        // quarters 순서대로 결과 리스트 생성
-        java.util.List<BigDecimal> result = new java.util.ArrayList<>();
+        List<BigDecimal> result = new ArrayList<>(quarters.size());
         for (String quarter : quarters) {
-            result.add(quarterlyRevenueMap.get(quarter));
+            result.add(revenueByQuarter.getOrDefault(Quarter.parse(quarter), BigDecimal.ZERO));
         }
-
         return result;
     }
 
@@ -1,11 +1,236 @@
 package com.endlesspassion.sigai.domain.analysis.service;
 
 import com.endlesspassion.sigai.domain.analysis.dto.response.PopulationComparison;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
+import com.endlesspassion.sigai.domain.publicdata.compact.PopulationType;
+import com.endlesspassion.sigai.domain.publicdata.dto.PublicMarketDataBundle;
+import com.endlesspassion.sigai.domain.publicdata.service.PublicDataService;
+import com.endlesspassion.sigai.global.util.Quarter;
+import com.endlesspassion.sigai.global.util.StatisticsUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 인구 비교 분석 서비스
+ *
+ * 책임:
+ * 1. 상권의 분기별 유동/상주/직장인구 정리
+ * 2. 분석 기간 동안의 인구 변화율 산출 (가장 과거 분기 → 최신 분기)과 인구별 추세(회귀 기울기 유의성) 판단
+ * 3. 최신 분기 유동인구의 성별/연령대 구성
+ *
+ * 인구 데이터는 상권 단위라 업종과 무관하며, 분석 기간 전체를 한 번에 읽는다.
+ * (직접 조회는 PublicDataService 조회 1회, 묶음 조회는 PublicMarketDataBundle에서 추가 조회 없음)
+ */
+@Slf4j
+@RequiredArgsConstructor
 @Service
 public class PopulationComparisonService {
-    public PopulationComparison analysis() {
-        return null;
+
+    private static final double TREND_MIN_CHANGE_RATIO = 0.05; // 구간 전체 인구 변화가 평균 인구의 5% 미만이면 안정
+
+    private static final String[] AGE_GROUP_NAMES = {"10대", "20대", "30대", "40대", "50대", "60대 이상"};
+
+    private final PublicDataService publicDataService;
+
+    /**
+     * 인구 비교 분석 실행
+     *
+     * @param quarters 분석할 분기 리스트 (최신순 또는 과거순)
+     * @param trdarCd 상권 코드
+     * @return 인구 비교 분석 결과 (데이터가 한 분기도 없으면 available = false)
+     */
+    public PopulationComparison analyze(List<String> quarters, String trdarCd) {
+        Map<String, CompactPopulationData> populationByQuarter = new HashMap<>();
+        for (CompactPopulationData data : publicDataService.findPopulationByQuarters(quarters, trdarCd)) {
+            populationByQuarter.putIfAbsent(data.getStdrYyquCd(), data);
+        }
+        return analyze(quarters, trdarCd,
+                quarter -> populationByQuarter.get(Quarter.parse(quarter).mongoKey()));
+    }
+
+    /**
+     * 미리 조회해 둔 공공 데이터 묶음으로 인구 비교 분석 (추가 조회 없음)
+     */
+    public PopulationComparison analyze(List<String> quarters, PublicMarketDataBundle bundle) {
+        return analyze(quarters, bundle.getTrdarCd(), bundle::populationOf);
+    }
+
+    private PopulationComparison analyze(
+            List<String> quarters,
+            String trdarCd,
+            Function<String, CompactPopulationData> populationLookup) {
+
+        // 과거 → 최신 순서로 계산한 뒤 응답은 최신순
+        List<String> chronological = new ArrayList<>(quarters);
+        chronological.sort(Comparator.comparing(Quarter::parse));
+
+        List<PopulationComparison.QuarterlyPopulation> quarterlyPopulations = new ArrayList<>(quarters.size());
+        CompactPopulationData latest = null;
+        Integer previousFloating = null;
+        long floatingSum = 0;
+        int floatingCount = 0;
+
+        for (String quarter : chronological) {
+            CompactPopulationData data = populationLookup.apply(quarter);
+            if (data == null) {
+                quarterlyPopulations.add(PopulationComparison.QuarterlyPopulation.empty(quarter));
+                continue;
+            }
+
+            Integer floating = total(PopulationType.FLOATING, data);
+            quarterlyPopulations.add(PopulationComparison.QuarterlyPopulation.builder()
+                    .quarter(quarter)
+                    .floatingPopulation(floating)
+                    .residentPopulation(total(PopulationType.RESIDENT, data))
+                    .workingPopulation(total(PopulationType.WORKING, data))
+                    .floatingChangeRate(changeRate(previousFloating, floating))
+                    .build());
+
+            if (floating != null) {
+                previousFloating = floating;
+                floatingSum += floating;
+                floatingCount++;
+            }
+            latest = data;
+        }
+
+        if (latest == null) {
+            log.warn("분석 기간의 인구 데이터가 없습니다. 상권: {}, 분기: {}", trdarCd, quarters);
+            return PopulationComparison.builder()
+                    .available(false)
+                    .quarterlyPopulations(reversed(quarterlyPopulations))
+                    .build();
+        }
+
+        List<Integer> latestFloating = PopulationType.FLOATING.valuesOf(latest);
+        return PopulationComparison.builder()
+                .available(true)
+                .quarterlyPopulations(reversed(quarterlyPopulations))
+                .averageFloatingPopulation(floatingCount > 0
+                        ? Math.round((double) floatingSum / floatingCount * 10) / 10.0
+                        : null)
+                .floatingChangeRate(periodChangeRate(PopulationType.FLOATING, quarterlyPopulations))
+                .residentChangeRate(periodChangeRate(PopulationType.RESIDENT, quarterlyPopulations))
+                .workingChangeRate(periodChangeRate(PopulationType.WORKING, quarterlyPopulations))
+                .floatingTrend(trend(PopulationType.FLOATING, quarterlyPopulations))
+                .residentTrend(trend(PopulationType.RESIDENT, quarterlyPopulations))
+                .workingTrend(trend(PopulationType.WORKING, quarterlyPopulations))
+                .femaleFloatingRatio(femaleRatio(latestFloating))
+                .mainFloatingAgeGroup(mainAgeGroup(latestFloating))
+                .build();
+    }
+
+    private static Integer total(PopulationType type, CompactPopulationData data) {
+        List<Integer> values = type.valuesOf(data);
+        return values != null && values.size() > PopulationType.TOTAL ? values.get(PopulationType.TOTAL) : null;
+    }
+
+    /**
+     * 인구 추세 판단 (매출 추세와 같은 기준)
+     *
+     * 분기별 인구의 최소제곱 기울기가 유의하고(t 검정, 유의수준 5%), 구간 전체 변화량이 평균 인구의 5% 이상일 때만
+     * 증가/감소로 판단한다. 값이 있는 분기가 3개 미만이면 유의성을 계산할 수 없으므로 안정.
+     *
+     * @param chronological 과거 → 최신 순서의 분기별 인구 (값이 없는 분기는 NaN으로 두어 분기 간격 유지)
+     */
+    private static String trend(
+            PopulationType type, List<PopulationComparison.QuarterlyPopulation> chronological) {
+        double[] values = new double[chronological.size()];
+        for (int i = 0; i < values.length; i++) {
+            Integer value = valueOf(type, chronological.get(i));
+            values[i] = value != null ? value : Double.NaN;
+        }
+        double mean = StatisticsUtils.mean(values);
+        if (Double.isNaN(mean)) {
+            return StatisticsUtils.Trend.STABLE.name();
+        }
+        return StatisticsUtils.linearTrend(values)
+                .classify(Math.abs(mean) * TREND_MIN_CHANGE_RATIO)
+                .name();
+    }
+
+    /**
+     * 기간 변화율: 값이 있는 가장 과거 분기 대비 가장 최신 분기 (두 분기 이상 있어야 계산)
+     *
+     * @param chronological 과거 → 최신 순서의 분기별 인구
+     */
+    private static Double periodChangeRate(
+            PopulationType type, List<PopulationComparison.QuarterlyPopulation> chronological) {
+        Integer from = null;
+        Integer to = null;
+        int count = 0;
+        for (PopulationComparison.QuarterlyPopulation population : chronological) {
+            Integer value = valueOf(type, population);
+            if (value == null) {
+                continue;
+            }
+            if (from == null) {
+                from = value;
+            }
+            to = value;
+            count++;
+        }
+        return count >= 2 ? changeRate(from, to) : null;
+    }
+
+    private static Integer valueOf(PopulationType type, PopulationComparison.QuarterlyPopulation population) {
+        return switch (type) {
+            case FLOATING -> population.getFloatingPopulation();
+            case RESIDENT -> population.getResidentPopulation();
+            case WORKING -> population.getWorkingPopulation();
+        };
+    }
+
+    /**
+     * 변화율(%) = (현재 - 이전) / 이전 * 100, 소수점 첫째자리
+     */
+    private static Double changeRate(Integer previous, Integer current) {
+        if (previous == null || current == null || previous == 0) {
+            return null;
+        }
+        return Math.round((current - previous) * 1000.0 / previous) / 10.0;
+    }
+
+    private static Double femaleRatio(List<Integer> values) {
+        if (values == null || values.size() <= PopulationType.FEMALE) {
+            return null;
+        }
+        Integer male = values.get(PopulationType.MALE);
+        Integer female = values.get(PopulationType.FEMALE);
+        if (male == null || female == null || male + female == 0) {
+            return null;
+        }
+        return Math.round(female * 1000.0 / (male + female)) / 10.0;
+    }
+
+    private static String mainAgeGroup(List<Integer> values) {
+        if (values == null || values.size() < PopulationType.AGE_10 + PopulationType.AGE_GROUPS) {
+            return null;
+        }
+        int main = -1;
+        int mainCount = 0;
+        for (int group = 0; group < PopulationType.AGE_GROUPS; group++) {
+            Integer count = values.get(PopulationType.AGE_10 + group);
+            if (count != null && count > mainCount) {
+                main = group;
+                mainCount = count;
+            }
+        }
+        return main >= 0 ? AGE_GROUP_NAMES[main] : null;
+    }
+
+    private static <T> List<T> reversed(List<T> chronological) {
+        List<T> result = new ArrayList<>(chronological);
+        Collections.reverse(result);
+        return result;
     }
 }
@@ -1,9 +1,15 @@
 package com.endlesspassion.sigai.domain.analysis.service;
 
+import com.endlesspassion.sigai.domain.analysis.calculator.CompetitionIndexCalculator;
+import com.endlesspassion.sigai.domain.analysis.calculator.PercentileCalculator;
+import com.endlesspassion.sigai.domain.analysis.calculator.RankCalculator;
 import com.endlesspassion.sigai.domain.analysis.dto.response.RevenueComparison;
-import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.analysis.dto.response.RevenueSimulationRes;
 import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import com.endlesspassion.sigai.domain.publicdata.dto.PublicMarketDataBundle;
 import com.endlesspassion.sigai.domain.publicdata.service.PublicDataService;
+import com.endlesspassion.sigai.global.util.Quarter;
+import com.endlesspassion.sigai.global.util.StatisticsUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,19 +17,24 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * 매출 비교 분석 서비스
  *
  * 책임:
- * 1. 동일 상권, 동일 업종 내에서 사용자 매장의 매출 순위 계산
+ * 1. 같은 분기, 같은 업종의 서울시 전체 상권 매출 분포에서 사용자 매장 매출의 순위 계산
+ *    ((분기, 상권, 업종) 매출 문서는 고유 키라 한 상권/업종 안에는 비교 대상이 1건뿐이므로 업종 전체 상권을 비교 대상으로 삼는다)
  * 2. 상위 퍼센타일 계산
  * 3. 경쟁 강도 지수 계산
+ * 4. 사용자 매장 분기 매출의 추세(회귀 기울기 유의성)와 변동계수 계산
  *
  * 알고리즘 설계 이유:
  * - MongoDB에서 윈도우 함수나 복잡한 집계는 제한적
  * - 애플리케이션 레벨에서 정렬 및 순위 계산이 더 명확하고 유지보수 용이
  * - 분기별 데이터량이 크지 않으므로 메모리 처리 가능
+ * - 순위/퍼센타일은 calculator 패키지의 primitive double[] 계산기로 계산 (박싱, BigDecimal 비교 없음)
  */
 
 @Slf4j
@@ -31,12 +42,14 @@ import java.util.List;
 @Service
 public class RevenueComparisonService {
 
+    private static final double REVENUE_TREND_MIN_CHANGE_RATIO = 0.05; // 구간 전체 매출 변화가 평균 매출의 5% 미만이면 안정
+
     private final PublicDataService publicDataService;
 
 
     // 공공 데이터로부터 다음 정보 가져오기
     // 매출 비교 그래프
-    //-동일 상권, 동일 업종 내 내 가게가 상위% (매출 상대지표)
+    //-같은 업종 서울시 전체 상권 중 내 가게가 상위% (매출 상대지표)
     //-순위 변화
     //경쟁강도 = 동일업종 점포수 / 상권 면적(면적 미존재 시 점포수 지표만)
 
@@ -46,6 +59,34 @@ public class RevenueComparisonService {
             String trdarCd,
             String svcIndutyCd,
             List<BigDecimal> revenues
+    ) {
+        // 모든 분기의 비교 대상 분포를 조회 1회로 읽음
+        Map<String, double[]> industrySales = publicDataService.findIndustrySalesByQuarters(quarters, svcIndutyCd);
+        return analyze(quarters, trdarCd, svcIndutyCd, revenues,
+                quarter -> industrySales.getOrDefault(Quarter.parse(quarter).mongoKey(), new double[0]),
+                quarter -> publicDataService.findStoreData(quarter, trdarCd, svcIndutyCd));
+    }
+
+    /**
+     * 미리 조회해 둔 공공 데이터 묶음으로 매출 비교 분석 (추가 조회 없음)
+     */
+    public RevenueComparison analyze(
+            List<String> quarters,
+            List<BigDecimal> revenues,
+            PublicMarketDataBundle bundle
+    ) {
+        return analyze(quarters, bundle.getTrdarCd(), bundle.getSvcIndutyCd(), revenues,
+                bundle::industrySalesOf,
+                bundle::storeOf);
+    }
+
+    private RevenueComparison analyze(
+            List<String> quarters,
+            String trdarCd,
+            String svcIndutyCd,
+            List<BigDecimal> revenues,
+            Function<String, double[]> industrySalesLookup,
+            Function<String, PublicStoreData> storeLookup
     ) {
         if (quarters.size() != revenues.size()) {
             throw new IllegalArgumentException("분기 수와 매출 데이터 수가 일치하지 않습니다.");
@@ -60,16 +101,116 @@ public class RevenueComparisonService {
             BigDecimal revenue = revenues.get(i);
 
             RevenueComparison.QuarterlyRevenueRank rank = calculateRankForQuarter(
-                    quarter, trdarCd, svcIndutyCd, revenue, previousRank);
+                    quarter, trdarCd, svcIndutyCd, revenue, previousRank, industrySalesLookup.apply(quarter));
             quarterlyRanks.add(rank);
             previousRank = rank.getRank();
         }
 
         // 경쟁 강도 계산 (최근 분기 기준)
         Double competitionIntensity = calculateCompetitionIntensity(
-                quarters.get(0), trdarCd, svcIndutyCd);
+                quarters.get(0), trdarCd, svcIndutyCd, storeLookup.apply(quarters.get(0)));
+
+        return summarize(quarters, revenues, quarterlyRanks, competitionIntensity);
+    }
+
+    /**
+     * 한 분기의 매출 순위 계산 (스트리밍 분석용: 분기 데이터가 준비되는 대로 호출)
+     *
+     * @param industrySales 해당 분기 같은 업종의 서울시 전체 상권 매출 금액 (정렬 무관, 없으면 빈 배열)
+     * @param previousRank 직전 분기 순위 (첫 분기 또는 직전 분기 데이터가 없으면 null)
+     */
+    public RevenueComparison.QuarterlyRevenueRank rankForQuarter(
+            String quarter,
+            String trdarCd,
+            String svcIndutyCd,
+            BigDecimal revenue,
+            Integer previousRank,
+            double[] industrySales
+    ) {
+        return calculateRankForQuarter(quarter, trdarCd, svcIndutyCd, revenue, previousRank, industrySales);
+    }
+
+    /**
+     * 분기별 순위가 모두 계산된 뒤 매출 추세/변동성을 더해 매출 비교 결과 생성
+     */
+    public RevenueComparison summarize(
+            List<String> quarters,
+            List<BigDecimal> revenues,
+            List<RevenueComparison.QuarterlyRevenueRank> quarterlyRanks,
+            Double competitionIntensity
+    ) {
+        // 매출 추세와 변동성 (과거 → 최신 순서)
+        double[] chronologicalRevenues = chronologicalRevenues(quarters, revenues);
+        String revenueTrend = determineRevenueTrend(chronologicalRevenues);
+        double volatility = StatisticsUtils.coefficientOfVariation(chronologicalRevenues);
+        Double revenueVolatility = Double.isNaN(volatility) ? null : Math.round(volatility * 10) / 10.0;
+
+        return RevenueComparison.of(quarterlyRanks, competitionIntensity, revenueTrend, revenueVolatility);
+    }
+
+    /**
+     * 한 분기의 가상 매출 순위 곡선 계산
+     *
+     * 비교 대상은 순위 분석(calculateRankForQuarter)과 같은 분기/업종의 서울시 전체 상권 매출 분포이며,
+     * 분기마다 한 번만 조회/정렬하고, 가상 매출들의 순위는 RankCalculator.rankAll로 분포를 한 번만 훑어 구한다.
+     * → 분기당 O(n log n) 준비 + O(n + m log m) 순위 (n: 비교 대상 상권 수, m: 가상 매출 수)
+     */
+    public RevenueSimulationRes.QuarterlyCurve simulateQuarter(
+            String quarter,
+            String trdarCd,
+            String svcIndutyCd,
+            BigDecimal currentRevenue,
+            double[] revenues
+    ) {
+        double[] distribution = RankCalculator.toDistribution(publicDataService
+                .findIndustrySalesByQuarters(List.of(quarter), svcIndutyCd)
+                .getOrDefault(Quarter.parse(quarter).mongoKey(), new double[0]));
+        int total = distribution.length;
+
+        int[] ranks = RankCalculator.rankAll(distribution, revenues);
+        double[] topPercentiles = total > 0 ? new double[revenues.length] : null;
+        if (topPercentiles != null) {
+            for (int i = 0; i < revenues.length; i++) {
+                // 모든 비교 대상보다 낮으면 순위는 total + 1이지만 상위 퍼센트는 100%로 표시
+                topPercentiles[i] = PercentileCalculator.topPercentile(Math.min(ranks[i], total), total);
+            }
+        }
 
-        return RevenueComparison.of(quarterlyRanks, competitionIntensity);
+        Integer currentRank = total > 0 ? RankCalculator.rank(distribution, currentRevenue.doubleValue()) : null;
+        return RevenueSimulationRes.QuarterlyCurve.of(quarter, total, currentRevenue, currentRank, ranks, topPercentiles);
+    }
+
+    /**
+     * 사용자 매장 분기 매출 추세 판단
+     *
+     * 매출의 최소제곱 기울기가 유의하고(t 검정, 유의수준 5%), 구간 전체 변화량이 평균 매출의 5% 이상일 때만
+     * 증가/감소로 판단한다. 관측 분기가 3개 미만이면 유의성을 계산할 수 없으므로 안정.
+     */
+    private static String determineRevenueTrend(double[] chronologicalRevenues) {
+        double mean = StatisticsUtils.mean(chronologicalRevenues);
+        if (Double.isNaN(mean)) {
+            return StatisticsUtils.Trend.STABLE.name();
+        }
+        return StatisticsUtils.linearTrend(chronologicalRevenues)
+                .classify(Math.abs(mean) * REVENUE_TREND_MIN_CHANGE_RATIO)
+                .name();
+    }
+
+    /**
+     * 분기별 매출을 과거 → 최신 순서의 배열로 변환 (매출이 없는 분기는 NaN)
+     *
+     * 분기 목록은 과거순/최신순 모두 들어오므로, 첫 분기가 마지막 분기보다 최신이면 뒤집어서 담는다.
+     */
+    private static double[] chronologicalRevenues(List<String> quarters, List<BigDecimal> revenues) {
+        int size = quarters.size();
+        boolean newestFirst = size > 1 && quarters.get(0).compareTo(quarters.get(size - 1)) > 0;
+
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            BigDecimal revenue = revenues.get(i);
+            values[newestFirst ? size - 1 - i : i] = revenue != null ? revenue.doubleValue() : Double.NaN;
+        }
+        return values;
     }
 
     private RevenueComparison.QuarterlyRevenueRank calculateRankForQuarter(
@@ -77,33 +218,24 @@ public class RevenueComparisonService {
             String trdarCd,
             String svcIndutyCd,
             BigDecimal revenue,
-            Integer previousRank
+            Integer previousRank,
+            double[] industrySales // 1. 같은 분기, 같은 업종의 서울시 전체 상권 매출 금액
     ) {
-        // 1. 동일 상권, 동일 업종의 모든 매출 데이터 조회(내림차순)
-        List<PublicProfitData> allData = publicDataService
-                .findAllProfitDataByMarketAndIndustry(quarter, trdarCd, svcIndutyCd);
-        if(allData.isEmpty()) {
+        double[] distribution = RankCalculator.toDistribution(industrySales);
+        if(distribution.length == 0) {
             log.warn("분기 {}에 대한 데이터가 없습니다. 상권: {}, 업종: {}",
                     quarter, trdarCd, svcIndutyCd);
             return RevenueComparison.QuarterlyRevenueRank.empty(quarter, revenue);
         }
 
-        // 2. 사장님 순위 계산(사장님보다 매출이 높은 매장수 + 1)
-        int rank = 1;
-        for (PublicProfitData data : allData) {
-            if (data.getThsmonSelngAmt() != null &&
-                    BigDecimal.valueOf(data.getThsmonSelngAmt()).compareTo(revenue) > 0) {
-                rank++;
-            } else {
-                break; // 이미 내림차순 정렬되어 있으므로 더 이상 확인 불필요
-            }
-        }
+        // 2. 사장님 순위 계산(사장님보다 매출이 높은 비교 대상 수 + 1, 동점은 같은 순위)
+        int rank = RankCalculator.rank(distribution, revenue.doubleValue());
 
-        int totalStores = allData.size();
+        // 매출 금액이 있는 비교 대상 상권만 센다 (순위 분포와 같은 모수, 점포 수가 아님)
+        int comparedAreas = distribution.length;
 
-        // 3. 상위 퍼센타일 계산
-        double topPercentile = ((double)rank / totalStores) * 100;
-        topPercentile = Math.round(topPercentile * 10.0) / 10.0; // 소수점 첫째 자리)
+        // 3. 상위 퍼센타일 계산 (소수점 첫째 자리, 모든 비교 대상보다 낮으면 100%)
+        double topPercentile = PercentileCalculator.topPercentile(Math.min(rank, comparedAreas), comparedAreas);
 
         // 4. 전 분기 대비 순위 변화
         Integer rankChange = null;
@@ -111,16 +243,14 @@ public class RevenueComparisonService {
             rankChange = previousRank - rank;
         }
 
-        return RevenueComparison.QuarterlyRevenueRank.of(quarter, revenue, topPercentile, totalStores, rank, rankChange);
+        return RevenueComparison.QuarterlyRevenueRank.of(quarter, revenue, topPercentile, comparedAreas, rank, rankChange);
     }
 
-    private Double calculateCompetitionIntensity(
+    public Double calculateCompetitionIntensity(
             String quarter,
             String trdarCd,
-            String svcIndutyCd) {
-
-        PublicStoreData storeData = publicDataService
-                .findStoreData(quarter, trdarCd, svcIndutyCd);
+            String svcIndutyCd,
+            PublicStoreData storeData) {
 
         if (storeData == null || storeData.getStorCo() == null) {
             log.warn("경쟁 강도 계산 실패: 점포 데이터 없음. 분기: {}, 상권: {}, 업종: {}",
@@ -128,6 +258,6 @@ public class RevenueComparisonService {
             return null;
         }
 
-        return storeData.getStorCo();
+        return CompetitionIndexCalculator.intensity(storeData.getStorCo(), null); // 상권 면적 데이터 없음
     }
 }
@@ -0,0 +1,85 @@
+package com.endlesspassion.sigai.domain.batch.config;
+
+import com.endlesspassion.sigai.domain.batch.listener.PublicDataSyncJobListener;
+import com.endlesspassion.sigai.domain.batch.processor.FloatingPopulationProcessor;
+import com.endlesspassion.sigai.domain.batch.processor.ResidentPopulationProcessor;
+import com.endlesspassion.sigai.domain.batch.processor.WorkingPopulationProcessor;
+import com.endlesspassion.sigai.domain.batch.reader.FloatingPopulationReader;
+import com.endlesspassion.sigai.domain.batch.reader.ResidentPopulationReader;
+import com.endlesspassion.sigai.domain.batch.reader.WorkingPopulationReader;
+import com.endlesspassion.sigai.domain.batch.writer.PopulationDataWriter;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
+import com.endlesspassion.sigai.domain.publicdata.event.PublicDataSyncedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * 상권 인구(유동/상주/직장) 동기화 작업
+ *
+ * 세 API를 Step 하나씩 차례로 읽어 같은 (분기, 상권) 문서(public_population_data_v2)의 종류별 배열에 upsert 한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PopulationDataSyncJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final FloatingPopulationReader floatingPopulationReader;
+    private final ResidentPopulationReader residentPopulationReader;
+    private final WorkingPopulationReader workingPopulationReader;
+
+    private final FloatingPopulationProcessor floatingPopulationProcessor;
+    private final ResidentPopulationProcessor residentPopulationProcessor;
+    private final WorkingPopulationProcessor workingPopulationProcessor;
+
+    private final PopulationDataWriter populationDataWriter;
+
+    private final PublicDataSyncJobListener publicDataSyncJobListener;
+
+    @Bean
+    public Job populationDataSyncJob() {
+        return new JobBuilder(PublicDataSyncedEvent.POPULATION_SYNC_JOB, jobRepository)
+                .listener(publicDataSyncJobListener)
+                .start(floatingPopulationSyncStep())
+                .next(residentPopulationSyncStep())
+                .next(workingPopulationSyncStep())
+                .build();
+    }
+
+    @Bean
+    public Step floatingPopulationSyncStep() {
+        return populationStep("floatingPopulationSyncStep", floatingPopulationReader, floatingPopulationProcessor);
+    }
+
+    @Bean
+    public Step residentPopulationSyncStep() {
+        return populationStep("residentPopulationSyncStep", residentPopulationReader, residentPopulationProcessor);
+    }
+
+    @Bean
+    public Step workingPopulationSyncStep() {
+        return populationStep("workingPopulationSyncStep", workingPopulationReader, workingPopulationProcessor);
+    }
+
+    private Step populationStep(String name, ItemReader<String> reader,
+                                ItemProcessor<String, List<CompactPopulationData>> processor) {
+        return new StepBuilder(name, jobRepository)
+                .<String, List<CompactPopulationData>>chunk(1, transactionManager)
+                .reader(reader)
+                .processor(processor)
+                .writer(populationDataWriter)
+                .build();
+    }
+}
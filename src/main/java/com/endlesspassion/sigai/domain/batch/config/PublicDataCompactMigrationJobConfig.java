@@ -0,0 +1,94 @@
+package com.endlesspassion.sigai.domain.batch.config;
+
+import com.endlesspassion.sigai.domain.batch.writer.CompactProfitDataWriter;
+import com.endlesspassion.sigai.domain.batch.writer.CompactStoreDataWriter;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.data.MongoCursorItemReader;
+import org.springframework.batch.item.data.builder.MongoCursorItemReaderBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+/**
+ * 공공 데이터 압축 스키마(v2) 이관 작업
+ *
+ * v1 컬렉션을 커서로 스트리밍하여 public_profit_data_v2 / public_store_data_v2 / public_market_label에 upsert한다.
+ * upsert 기반이므로 여러 번 실행해도 안전하며, 동기화 배치 이후 재실행하면 변경분이 반영된다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PublicDataCompactMigrationJobConfig {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MongoTemplate mongoTemplate;
+
+    private final CompactProfitDataWriter compactProfitDataWriter;
+    private final CompactStoreDataWriter compactStoreDataWriter;
+
+    @Bean
+    public Job publicDataCompactMigrationJob() {
+        return new JobBuilder("publicDataCompactMigrationJob", jobRepository)
+                .start(profitDataCompactMigrationStep())
+                .next(storeDataCompactMigrationStep())
+                .build();
+    }
+
+    @Bean
+    public Step profitDataCompactMigrationStep() {
+        return new StepBuilder("profitDataCompactMigrationStep", jobRepository)
+                .<PublicProfitData, PublicProfitData>chunk(CHUNK_SIZE, transactionManager)
+                .reader(profitDataMigrationReader())
+                .writer(compactProfitDataWriter)
+                .build();
+    }
+
+    @Bean
+    public Step storeDataCompactMigrationStep() {
+        return new StepBuilder("storeDataCompactMigrationStep", jobRepository)
+                .<PublicStoreData, PublicStoreData>chunk(CHUNK_SIZE, transactionManager)
+                .reader(storeDataMigrationReader())
+                .writer(compactStoreDataWriter)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public MongoCursorItemReader<PublicProfitData> profitDataMigrationReader() {
+        return new MongoCursorItemReaderBuilder<PublicProfitData>()
+                .name("profitDataMigrationReader")
+                .template(mongoTemplate)
+                .targetType(PublicProfitData.class)
+                .jsonQuery("{}")
+                .sorts(Map.of("_id", Sort.Direction.ASC))
+                .batchSize(CHUNK_SIZE)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public MongoCursorItemReader<PublicStoreData> storeDataMigrationReader() {
+        return new MongoCursorItemReaderBuilder<PublicStoreData>()
+                .name("storeDataMigrationReader")
+                .template(mongoTemplate)
+                .targetType(PublicStoreData.class)
+                .jsonQuery("{}")
+                .sorts(Map.of("_id", Sort.Direction.ASC))
+                .batchSize(CHUNK_SIZE)
+                .build();
+    }
+}
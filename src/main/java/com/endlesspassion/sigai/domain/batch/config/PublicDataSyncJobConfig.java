@@ -2,6 +2,7 @@ package com.endlesspassion.sigai.domain.batch.config;
 
 import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
 import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.batch.listener.PublicDataSyncJobListener;
 import com.endlesspassion.sigai.domain.batch.processor.ProfitDataProcessor;
 import com.endlesspassion.sigai.domain.batch.processor.StoreDataProcessor;
 import com.endlesspassion.sigai.domain.batch.reader.ProfitDataReader;
@@ -38,11 +39,14 @@ public class PublicDataSyncJobConfig {
     private final ProfitDataWriter profitDataWriter;
     private final StoreDataWriter storeDataWriter;
 
+    private final PublicDataSyncJobListener publicDataSyncJobListener;
+
     // ========== 매출 데이터 동기화 작업 ==========
 
     @Bean
     public Job profitDataSyncJob() {
         return new JobBuilder("profitDataSyncJob", jobRepository)
+                .listener(publicDataSyncJobListener)
                 .start(profitDataSyncStep())
                 .build();
     }
@@ -62,6 +66,7 @@ public class PublicDataSyncJobConfig {
     @Bean
     public Job storeDataSyncJob() {
         return new JobBuilder("storeDataSyncJob", jobRepository)
+                .listener(publicDataSyncJobListener)
                 .start(storeDataSyncStep())
                 .build();
     }
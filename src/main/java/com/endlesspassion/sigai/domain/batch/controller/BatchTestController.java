@@ -20,15 +20,21 @@ public class BatchTestController {
     private final JobLauncher jobLauncher;
     private final Job profitDataSyncJob;
     private final Job storeDataSyncJob;
+    private final Job populationDataSyncJob;
+    private final Job publicDataCompactMigrationJob;
 
     public BatchTestController(
             JobLauncher jobLauncher,
             @Qualifier("profitDataSyncJob") Job profitDataSyncJob,
-            @Qualifier("storeDataSyncJob") Job storeDataSyncJob
+            @Qualifier("storeDataSyncJob") Job storeDataSyncJob,
+            @Qualifier("populationDataSyncJob") Job populationDataSyncJob,
+            @Qualifier("publicDataCompactMigrationJob") Job publicDataCompactMigrationJob
     ) {
         this.jobLauncher = jobLauncher;
         this.profitDataSyncJob = profitDataSyncJob;
         this.storeDataSyncJob = storeDataSyncJob;
+        this.populationDataSyncJob = populationDataSyncJob;
+        this.publicDataCompactMigrationJob = publicDataCompactMigrationJob;
     }
 
     @PostMapping("/seoul-data-sync")
@@ -48,8 +54,13 @@ public class BatchTestController {
             jobLauncher.run(storeDataSyncJob, jobParameters);
             log.info(">>> 2. StoreData 동기화 완료");
 
+            log.info(">>> 3. PopulationData 동기화 시작");
+            jobLauncher.run(populationDataSyncJob, jobParameters);
+            log.info(">>> 3. PopulationData 동기화 완료");
+
             log.info("===== 서울 공공데이터 배치 실행 완료 =====");
-            return "배치 실행 성공: " + LocalDateTime.now() + "\n- ProfitData 동기화 완료\n- StoreData 동기화 완료";
+            return "배치 실행 성공: " + LocalDateTime.now()
+                    + "\n- ProfitData 동기화 완료\n- StoreData 동기화 완료\n- PopulationData 동기화 완료";
 
         } catch (Exception e) {
             log.error("배치 실행 실패", e);
@@ -96,4 +107,44 @@ public class BatchTestController {
             return "StoreData 배치 실행 실패: " + e.getMessage();
         }
     }
+
+    @PostMapping("/population-data-sync")
+    public String runPopulationDataSyncJob() {
+        try {
+            log.info("===== PopulationData 배치 수동 실행 요청 =====");
+
+            JobParameters jobParameters = new JobParametersBuilder()
+                .addString("requestTime", LocalDateTime.now().toString())
+                .toJobParameters();
+
+            jobLauncher.run(populationDataSyncJob, jobParameters);
+
+            log.info("===== PopulationData 배치 실행 완료 =====");
+            return "PopulationData 배치 실행 성공: " + LocalDateTime.now();
+
+        } catch (Exception e) {
+            log.error("PopulationData 배치 실행 실패", e);
+            return "PopulationData 배치 실행 실패: " + e.getMessage();
+        }
+    }
+
+    @PostMapping("/compact-migration")
+    public String runCompactMigrationJob() {
+        try {
+            log.info("===== 공공데이터 압축 스키마(v2) 이관 수동 실행 요청 =====");
+
+            JobParameters jobParameters = new JobParametersBuilder()
+                .addString("requestTime", LocalDateTime.now().toString())
+                .toJobParameters();
+
+            jobLauncher.run(publicDataCompactMigrationJob, jobParameters);
+
+            log.info("===== 공공데이터 압축 스키마(v2) 이관 완료 =====");
+            return "압축 스키마 이관 성공: " + LocalDateTime.now();
+
+        } catch (Exception e) {
+            log.error("압축 스키마 이관 실패", e);
+            return "압축 스키마 이관 실패: " + e.getMessage();
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package com.endlesspassion.sigai.domain.batch.listener;
+
+import com.endlesspassion.sigai.domain.publicdata.event.PublicDataSyncedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공공 데이터 동기화 Job 완료 리스너
+ *
+ * Job이 COMPLETED 상태로 끝나면 PublicDataSyncedEvent를 발행하여
+ * 인메모리 저장소 재적재 등 후속 작업이 동기화 결과를 반영하도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicDataSyncJobListener implements JobExecutionListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        String jobName = jobExecution.getJobInstance().getJobName();
+
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            log.warn("({}) 동기화가 완료되지 않아 후속 작업을 건너뜁니다. status={}", jobName, jobExecution.getStatus());
+            return;
+        }
+
+        log.info("({}) 동기화 완료 이벤트 발행: jobExecutionId={}", jobName, jobExecution.getId());
+        eventPublisher.publishEvent(new PublicDataSyncedEvent(jobName, jobExecution.getId(), LocalDateTime.now()));
+    }
+}
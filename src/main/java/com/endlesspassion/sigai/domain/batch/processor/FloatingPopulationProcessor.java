@@ -0,0 +1,14 @@
+package com.endlesspassion.sigai.domain.batch.processor;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.PopulationType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FloatingPopulationProcessor extends PopulationDataProcessor {
+
+    public FloatingPopulationProcessor(ObjectMapper objectMapper, @Value("${seoul.api.flpop-service}") String serviceName) {
+        super(objectMapper, serviceName, PopulationType.FLOATING);
+    }
+}
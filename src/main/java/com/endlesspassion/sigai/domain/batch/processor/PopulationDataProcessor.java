@@ -0,0 +1,69 @@
+package com.endlesspassion.sigai.domain.batch.processor;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPublicDataMapper;
+import com.endlesspassion.sigai.domain.publicdata.compact.PopulationType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상권 인구 API 응답 → 압축 스키마(v2) 변환
+ *
+ * 유동/상주/직장인구 API는 필드 접미사만 다르므로(PopulationType) 종류별 하위 클래스가 서비스명과 종류만 지정한다.
+ * 인구는 v1 컬렉션 없이 바로 public_population_data_v2에 적재한다.
+ */
+@Slf4j
+public class PopulationDataProcessor extends AbstractPublicDataProcessor<CompactPopulationData> {
+
+    private final String serviceName;
+    private final PopulationType type;
+
+    public PopulationDataProcessor(ObjectMapper objectMapper, String serviceName, PopulationType type) {
+        super(objectMapper);
+        this.serviceName = serviceName;
+        this.type = type;
+    }
+
+    @Override
+    protected String getServiceName() {
+        return serviceName;
+    }
+
+    @Override
+    protected CompactPopulationData parseRowToEntity(JsonNode rowNode) throws Exception {
+        String stdrYyquCd = getTextValue(rowNode, "STDR_YYQU_CD");
+        String trdarCd = getTextValue(rowNode, "TRDAR_CD");
+        if (stdrYyquCd == null || trdarCd == null) {
+            log.warn("({}) 분기/상권 코드가 없는 행은 건너뜁니다: {}", serviceName, rowNode);
+            return null;
+        }
+
+        List<Double> values = new ArrayList<>(PopulationType.API_PREFIXES.size());
+        for (int i = 0; i < PopulationType.API_PREFIXES.size(); i++) {
+            values.add(getDoubleValue(rowNode, type.apiField(i)));
+        }
+        return CompactPublicDataMapper.toPopulation(type, stdrYyquCd, trdarCd, values);
+    }
+
+    private String getTextValue(JsonNode node, String fieldName) {
+        JsonNode fieldNode = node.get(fieldName);
+        return (fieldNode != null && !fieldNode.isNull()) ? fieldNode.asText() : null;
+    }
+
+    private Double getDoubleValue(JsonNode node, String fieldName) {
+        JsonNode fieldNode = node.get(fieldName);
+        if (fieldNode == null || fieldNode.isNull()) {
+            return null;
+        }
+        try {
+            return fieldNode.asDouble();
+        } catch (Exception e) {
+            log.warn("Failed to parse double value for field '{}': {}", fieldName, fieldNode.asText());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.endlesspassion.sigai.domain.batch.processor;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.PopulationType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ResidentPopulationProcessor extends PopulationDataProcessor {
+
+    public ResidentPopulationProcessor(ObjectMapper objectMapper, @Value("${seoul.api.repop-service}") String serviceName) {
+        super(objectMapper, serviceName, PopulationType.RESIDENT);
+    }
+}
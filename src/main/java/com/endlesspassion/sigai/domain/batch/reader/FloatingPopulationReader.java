@@ -0,0 +1,23 @@
+package com.endlesspassion.sigai.domain.batch.reader;
+
+import com.endlesspassion.sigai.domain.batch.service.GetPublicDataService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Scope(value = "step", proxyMode = ScopedProxyMode.TARGET_CLASS)
+public class FloatingPopulationReader extends AbstractPublicApiReader {
+
+    public FloatingPopulationReader(
+            GetPublicDataService publicDataService,
+            @Value("${seoul.api.flpop-key}") String apiKey,
+            @Value("${seoul.api.flpop-service}") String serviceName
+    ) {
+        super(publicDataService, apiKey, serviceName);
+        log.info("FloatingPopulationReader 생성 완료: serviceName={}", serviceName);
+    }
+}
@@ -0,0 +1,23 @@
+package com.endlesspassion.sigai.domain.batch.reader;
+
+import com.endlesspassion.sigai.domain.batch.service.GetPublicDataService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Scope(value = "step", proxyMode = ScopedProxyMode.TARGET_CLASS)
+public class WorkingPopulationReader extends AbstractPublicApiReader {
+
+    public WorkingPopulationReader(
+            GetPublicDataService publicDataService,
+            @Value("${seoul.api.wrcpop-key}") String apiKey,
+            @Value("${seoul.api.wrcpop-service}") String serviceName
+    ) {
+        super(publicDataService, apiKey, serviceName);
+        log.info("WorkingPopulationReader 생성 완료: serviceName={}", serviceName);
+    }
+}
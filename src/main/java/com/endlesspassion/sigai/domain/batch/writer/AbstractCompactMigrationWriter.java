@@ -0,0 +1,94 @@
+package com.endlesspassion.sigai.domain.batch.writer;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactSchema;
+import com.endlesspassion.sigai.domain.publicdata.compact.MarketLabel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * v1 공공 데이터 문서를 압축 스키마(v2) 컬렉션으로 옮기는 Writer
+ *
+ * 이관 Job(기존 데이터 일괄 이관)과 동기화 배치 writer(ProfitDataWriter/StoreDataWriter, 새로 받은 청크)가 함께 사용한다.
+ * - (분기, 상권, 업종) 키로 upsert하므로 재실행해도 결과가 같다
+ * - 라벨은 청크 안에서 중복을 제거한 뒤 public_market_label에 upsert
+ *
+ * @param <S> v1 문서 타입
+ * @param <T> v2 문서 타입
+ */
+@Slf4j
+@RequiredArgsConstructor
+public abstract class AbstractCompactMigrationWriter<S, T> implements ItemWriter<S> {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void write(Chunk<? extends S> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Class<T> targetClass = getTargetClass();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, targetClass);
+        Map<String, MarketLabel> labels = new LinkedHashMap<>();
+
+        for (S source : chunk.getItems()) {
+            T target = convert(source);
+            Document doc = new Document();
+            mongoTemplate.getConverter().write(target, doc); // @Field 축약 키, int32 타입으로 변환
+            doc.remove("_id");
+            doc.remove("_class");
+
+            bulkOps.upsert(uniqueQuery(doc), Update.fromDocument(new Document("$set", doc)));
+            for (MarketLabel label : labelsOf(source)) {
+                labels.putIfAbsent(label.getId(), label);
+            }
+        }
+        bulkOps.execute();
+        upsertLabels(labels.values().stream().toList());
+
+        log.info("압축 스키마 이관: {} {}건, 라벨 {}건", getEntityName(), chunk.size(), labels.size());
+    }
+
+    private void upsertLabels(List<MarketLabel> labels) {
+        if (labels.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MarketLabel.class);
+        for (MarketLabel label : labels) {
+            Document doc = new Document();
+            mongoTemplate.getConverter().write(label, doc);
+            doc.remove("_id");
+            doc.remove("_class");
+            bulkOps.upsert(new Query(Criteria.where("_id").is(label.getId())),
+                    Update.fromDocument(new Document("$set", doc)));
+        }
+        bulkOps.execute();
+    }
+
+    private static Query uniqueQuery(Document doc) {
+        return new Query(
+                Criteria.where(CompactSchema.QUARTER).is(doc.get(CompactSchema.QUARTER))
+                        .and(CompactSchema.AREA).is(doc.get(CompactSchema.AREA))
+                        .and(CompactSchema.INDUSTRY).is(doc.get(CompactSchema.INDUSTRY)));
+    }
+
+    protected abstract String getEntityName();
+
+    protected abstract Class<T> getTargetClass();
+
+    protected abstract T convert(S source);
+
+    protected abstract List<MarketLabel> labelsOf(S source);
+}
@@ -47,6 +47,14 @@ public abstract class AbstractPublicDataWriter<T> implements ItemWriter<List<T>>
         log.info("Successfully executed Bulk Upsert for {} {} entities to MongoDB",
                 upsertCount,
                 getEntityName());
+
+        afterWrite(allEntities);
+    }
+
+    /**
+     * v1 컬렉션 upsert 이후 같은 청크로 추가 작업 (압축 스키마 동기화 등)
+     */
+    protected void afterWrite(List<T> entities) throws Exception {
     }
 
     protected abstract String getEntityName();
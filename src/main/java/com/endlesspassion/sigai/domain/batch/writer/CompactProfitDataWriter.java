@@ -0,0 +1,38 @@
+package com.endlesspassion.sigai.domain.batch.writer;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactProfitData;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPublicDataMapper;
+import com.endlesspassion.sigai.domain.publicdata.compact.MarketLabel;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class CompactProfitDataWriter extends AbstractCompactMigrationWriter<PublicProfitData, CompactProfitData> {
+
+    public CompactProfitDataWriter(MongoTemplate mongoTemplate) {
+        super(mongoTemplate);
+    }
+
+    @Override
+    protected String getEntityName() {
+        return "ProfitData";
+    }
+
+    @Override
+    protected Class<CompactProfitData> getTargetClass() {
+        return CompactProfitData.class;
+    }
+
+    @Override
+    protected CompactProfitData convert(PublicProfitData source) {
+        return CompactPublicDataMapper.toCompact(source);
+    }
+
+    @Override
+    protected List<MarketLabel> labelsOf(PublicProfitData source) {
+        return List.of(CompactPublicDataMapper.areaLabel(source), CompactPublicDataMapper.industryLabel(source));
+    }
+}
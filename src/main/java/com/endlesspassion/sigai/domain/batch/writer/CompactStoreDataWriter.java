@@ -0,0 +1,38 @@
+package com.endlesspassion.sigai.domain.batch.writer;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPublicDataMapper;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactStoreData;
+import com.endlesspassion.sigai.domain.publicdata.compact.MarketLabel;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class CompactStoreDataWriter extends AbstractCompactMigrationWriter<PublicStoreData, CompactStoreData> {
+
+    public CompactStoreDataWriter(MongoTemplate mongoTemplate) {
+        super(mongoTemplate);
+    }
+
+    @Override
+    protected String getEntityName() {
+        return "StoreData";
+    }
+
+    @Override
+    protected Class<CompactStoreData> getTargetClass() {
+        return CompactStoreData.class;
+    }
+
+    @Override
+    protected CompactStoreData convert(PublicStoreData source) {
+        return CompactPublicDataMapper.toCompact(source);
+    }
+
+    @Override
+    protected List<MarketLabel> labelsOf(PublicStoreData source) {
+        return List.of(CompactPublicDataMapper.areaLabel(source), CompactPublicDataMapper.industryLabel(source));
+    }
+}
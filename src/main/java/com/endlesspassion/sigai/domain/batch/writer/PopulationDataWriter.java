@@ -0,0 +1,53 @@
+package com.endlesspassion.sigai.domain.batch.writer;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactSchema;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상권 인구 데이터 Writer (public_population_data_v2)
+ *
+ * (분기, 상권) 키로 upsert하고, 변환기가 null 필드를 쓰지 않으므로 Step마다 자기 인구 종류 배열만 $set 된다.
+ * (유동인구 Step이 상주/직장인구 배열을 지우지 않음)
+ */
+@Component
+public class PopulationDataWriter extends AbstractPublicDataWriter<CompactPopulationData> {
+
+    private final MongoTemplate mongoTemplate;
+
+    public PopulationDataWriter(MongoTemplate mongoTemplate) {
+        super(mongoTemplate);
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    protected String getEntityName() {
+        return "PopulationData";
+    }
+
+    @Override
+    protected Class<CompactPopulationData> getEntityClass() {
+        return CompactPopulationData.class;
+    }
+
+    @Override
+    protected Query buildUniqueQuery(CompactPopulationData entity) {
+        return new Query(
+                Criteria.where(CompactSchema.AREA).is(entity.getTrdarCd())
+                        .and(CompactSchema.QUARTER).is(entity.getStdrYyquCd()));
+    }
+
+    @Override
+    protected Update buildUpdate(CompactPopulationData entity) {
+        Document doc = new Document();
+        mongoTemplate.getConverter().write(entity, doc); // @Field 축약 키, null 필드 제외
+        doc.remove("_id");
+        doc.remove("_class");
+        return Update.fromDocument(new Document("$set", doc));
+    }
+}
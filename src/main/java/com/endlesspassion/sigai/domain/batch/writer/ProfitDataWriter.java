@@ -4,21 +4,26 @@ import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
+import org.springframework.batch.item.Chunk;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 public class ProfitDataWriter extends AbstractPublicDataWriter<PublicProfitData> {
 
     private final ObjectMapper objectMapper;
+    private final CompactProfitDataWriter compactWriter;
 
-    public ProfitDataWriter(MongoTemplate mongoTemplate, ObjectMapper objectMapper) {
+    public ProfitDataWriter(MongoTemplate mongoTemplate, ObjectMapper objectMapper, CompactProfitDataWriter compactWriter) {
         super(mongoTemplate);
         this.objectMapper = objectMapper;
+        this.compactWriter = compactWriter;
     }
 
     @Override
@@ -58,4 +63,12 @@ public class ProfitDataWriter extends AbstractPublicDataWriter<PublicProfitData>
         // $set 연산자로 감싸서 Update 객체로 변환
         return Update.fromDocument(new Document("$set", doc));
     }
+
+    /**
+     * 같은 청크를 압축 스키마(v2) 컬렉션과 라벨에도 upsert하여 동기화 후에도 v2가 최신 상태를 유지하도록 함
+     */
+    @Override
+    protected void afterWrite(List<PublicProfitData> entities) throws Exception {
+        compactWriter.write(new Chunk<>(entities));
+    }
 }
@@ -3,41 +3,60 @@ package com.endlesspassion.sigai.domain.predict.ai;
 
 import com.endlesspassion.sigai.domain.predict.ai.dto.AiPredictReq;
 import com.endlesspassion.sigai.domain.predict.ai.dto.AiPredictRes;
-import com.endlesspassion.sigai.domain.predict.client.dto.PredictReq;
-import com.endlesspassion.sigai.domain.predict.client.dto.PredictRes;
-import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
-import com.endlesspassion.sigai.domain.publicdata.service.PublicDataService;
-import com.endlesspassion.sigai.domain.store.entity.Store;
+import com.endlesspassion.sigai.global.exception.GlobalException;
+import com.endlesspassion.sigai.global.exception.code.GlobalErrorCode;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-
-import java.util.List;
-
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AI 예측 서버 호출
+ *
+ * 응답을 기다리며 스레드를 잡고 있지 않도록 Mono로 돌려준다. (구독을 취소하면 AI 서버 요청도 끊음)
+ * - 연결/응답 대기 제한 시간: AiWebClientConfig
+ * - 전체 제한 시간: sigai.ai.deadline-ms (넘기면 REQUEST_TIMEOUT)
+ * - AI 서버 연결 실패/오류 응답/빈 응답: SERVICE_UNAVAILABLE
+ */
+@Slf4j
 @Service
 public class AiPredictService {
 
     private final WebClient webClient;
 
+    @Value("${sigai.ai.deadline-ms:8000}")
+    private long deadlineMs = 8000;
+
     public AiPredictService(@Qualifier("aiApiWebClient") WebClient webClient) {
         this.webClient = webClient;
     }
 
-    public AiPredictRes predict(AiPredictReq req) {
-
-
-        // webclient로 ai로부터 요청 후 응답 가져오기!
-        AiPredictRes res = webClient.post()
+    public Mono<AiPredictRes> predict(AiPredictReq req) {
+        return webClient.post()
                 .uri("/predict")
                 .bodyValue(req)
                 .retrieve() // 응답 수신
                 .bodyToMono(AiPredictRes.class)
-                .block(); // 동기식으로 결과 기다림
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("AI 서버로부터 응답을 받지 못했습니다.");
+                    return new GlobalException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+                }))
+                .timeout(Duration.ofMillis(deadlineMs))
+                .onErrorMap(e -> !(e instanceof GlobalException), this::toGlobalException);
+    }
 
-        if (res == null) {
-            throw new RuntimeException("AI 서버로부터 응답을 받지 못했습니다.");
+    private GlobalException toGlobalException(Throwable e) {
+        if (e instanceof TimeoutException || e.getCause() instanceof ReadTimeoutException) {
+            log.error("AI 예측 시간 초과 (전체 {} ms)", deadlineMs);
+            return new GlobalException(GlobalErrorCode.REQUEST_TIMEOUT);
         }
-
-        return res;
+        log.error("AI 예측 요청 실패: {}", e.getMessage());
+        return new GlobalException(GlobalErrorCode.SERVICE_UNAVAILABLE);
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,10 @@
 package com.endlesspassion.sigai.domain.predict.ai.dto;
 
 import com.endlesspassion.sigai.domain.predict.client.dto.PredictReq;
-import com.endlesspassion.sigai.domain.predict.client.service.QuarterUtil;
 import com.endlesspassion.sigai.domain.store.entity.Store;
 import com.endlesspassion.sigai.domain.store.entity.StoreRevenue;
 import com.endlesspassion.sigai.global.common.enums.ServiceIndustryAiMap; // AI 업종 매핑 Enum
+import com.endlesspassion.sigai.global.util.Quarter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 
@@ -60,11 +60,11 @@ public class AiPredictReq {
             Double publicRatio, // AI 매출 비율
             Double publicCountRatio, // AI 매출 건수 비율
             Double publicCloseRatio, // AI 폐업 비율
-            QuarterUtil quarterUtil // 분기 변환기
+            Quarter quarter // 예측 기준 분기
     ) {
         // --- 1. 기본 정보 변환 ---
-        // (가정) QuarterUtil에 "20241" -> 202410 (AI가 원하는 YYYYMM 형식) 변환 로직
-        Integer taYm = quarterUtil.convertQuarterToAiMonth(req.getQuarter());
+        // AI가 원하는 YYYYMM 형식은 분기의 마지막 월 (예: 2024년 1분기 -> 202403)
+        Integer taYm = quarter.lastYearMonth();
         String aiIndustryName = ServiceIndustryAiMap.getAiCategoryByCode(store.getServiceIndustry().getCode());
         String operationMonths = req.getMonthsOfOperation() + "개월";
 
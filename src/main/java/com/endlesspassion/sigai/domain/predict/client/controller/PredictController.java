@@ -1,7 +1,6 @@
 package com.endlesspassion.sigai.domain.predict.client.controller;
 
 import com.endlesspassion.sigai.domain.predict.client.dto.PredictReq;
-import com.endlesspassion.sigai.domain.predict.client.dto.PredictRes; // Import 추가
 import com.endlesspassion.sigai.domain.predict.client.service.PredictService;
 import com.endlesspassion.sigai.global.exception.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @Tag(name = "예측 API", description = "소상공인 폐업 예측 관련 API")
 @RestController
@@ -128,11 +128,11 @@ public class PredictController {
     })
     @PostMapping("/predict")
     @SuppressWarnings("unused")
-    public ApiResponse<?> predict(
+    public Mono<ApiResponse<?>> predict(
             @Valid @RequestBody PredictReq request // @Valid 추가, DTO 이름 수정 없음
     ) {
-        // [수정] 서비스 로직 호출 및 응답 반환
-        PredictRes response = predictService.predict(request);
-        return ApiResponse.success(response);
+        // AI 서버 응답을 기다리는 동안 요청 스레드를 반환 (클라이언트가 끊기거나 비동기 요청 시간이 지나면 구독 취소)
+        return predictService.predict(request)
+                .<ApiResponse<?>>map(ApiResponse::success);
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.endlesspassion.sigai.domain.predict.client.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.*;
 
 @Getter
@@ -14,6 +15,7 @@ public class PredictReq {
     private Long storeId;
 
     @NotBlank(message = "현재 분기는 필수입니다.")
+    @Pattern(regexp = "^\\d{4}0?[1-4]$", message = "분기는 YYYYQ (예: 20241) 또는 YYYYQQ (예: 202401) 형식")
     private String quarter;
 
     @NotNull(message = "운영 개월 수는 필수입니다.")
@@ -2,7 +2,6 @@ package com.endlesspassion.sigai.domain.predict.client.service;
 
 import com.endlesspassion.sigai.domain.predict.ai.AiPredictService;
 import com.endlesspassion.sigai.domain.predict.ai.dto.AiPredictReq;
-import com.endlesspassion.sigai.domain.predict.ai.dto.AiPredictRes;
 import com.endlesspassion.sigai.domain.predict.client.dto.ChangedClose;
 import com.endlesspassion.sigai.domain.predict.client.dto.ChangedRevenue;
 import com.endlesspassion.sigai.domain.predict.client.dto.PredictReq;
@@ -14,39 +13,68 @@ import com.endlesspassion.sigai.domain.store.entity.Store;
 import com.endlesspassion.sigai.domain.store.entity.StoreRevenue;
 import com.endlesspassion.sigai.domain.store.repository.StoreRepository;
 import com.endlesspassion.sigai.domain.store.repository.StoreRevenueRepository;
-// [수정] import 경로를 global.utils -> domain.predict.client.service로 변경
-import com.endlesspassion.sigai.domain.predict.client.service.QuarterUtil;
+import com.endlesspassion.sigai.global.util.Quarter;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
-@Transactional(readOnly = true)
 public class PredictService {
 
     private final AiPredictService aiPredictService;
     private final PublicDataService publicDataService;
     private final StoreRepository storeRepository;
     private final StoreRevenueRepository storeRevenueRepository;
-    private final QuarterUtil quarterUtil; // (주입)
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * 폐업 예측 메인 서비스 (Facade Method)
      *
+     * DB/공공데이터 조회는 boundedElastic에서, AI 서버 호출은 논블로킹으로 처리하므로
+     * AI 서버 응답을 기다리는 동안 요청 스레드를 잡고 있지 않는다. (구독 취소 시 AI 서버 요청도 끊음)
+     * Mono를 반환하는 메소드에는 @Transactional이 적용되지 않으므로, 조회 트랜잭션은 prepare에서 직접 연다.
+     *
      * @param req (storeId, quarter, monthsOfOperation)
      * @return PredictRes (예측 결과 + 분기 대비 변화 DTO)
      */
-    public PredictRes predict(PredictReq req) {
+    public Mono<PredictRes> predict(PredictReq req) {
+        return Mono.fromCallable(() -> prepare(req))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(context -> aiPredictService.predict(context.aiPredictReq())
+                        .map(aiPredictRes -> {
+                            // 7. 최종 응답 조립 (AI 결과 + 전분기 대비 변화)
+                            log.info("Step 5/5: 최종 응답 조립");
+                            return PredictRes.of(
+                                    aiPredictRes,
+                                    context.changedRevenue(),
+                                    context.changedClose()
+                            );
+                        }));
+    }
+
+    /**
+     * AI 요청과 "전분기 대비" DTO 준비 (boundedElastic 스레드에서 읽기 전용 트랜잭션으로 블로킹 조회)
+     */
+    private PredictContext prepare(PredictReq req) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> loadContext(req));
+    }
+
+    private PredictContext loadContext(PredictReq req) {
 
-        String currentQuarter = req.getQuarter();
-        // [수정] QuarterUtil import가 정상화되어 'getPreviousQuarter'가 인식됩니다.
-        String previousQuarter = quarterUtil.getPreviousQuarter(currentQuarter); // 예: "20241" -> "20234"
+        Quarter quarter = Quarter.parse(req.getQuarter());
+        String currentQuarter = quarter.mongoKey();
+        String previousQuarter = quarter.previous().mongoKey(); // 예: "20241" -> "20234"
 
         // 1. 예측할 가게 정보와 (사장님이 입력한) 최근 매출 정보 가져오기
         log.info("Step 1/5: 가게 정보 조회 (Store ID: {})", req.getStoreId());
@@ -74,7 +102,7 @@ public class PredictService {
         Double[] aiRevenueMetrics = getAiRevenueMetrics(currentProfit);
         Double aiClosureMetric = getAiClosureMetric(currentStore);
 
-        // 5. AI 서버에 폐업률 예측 요청
+        // 5. AI 서버에 보낼 폐업률 예측 요청
         log.info("Step 4/5: AI 서버에 예측 요청");
         AiPredictReq aiPredictReq = AiPredictReq.to(
                 req, store, storeRevenue,
@@ -82,21 +110,17 @@ public class PredictService {
                 aiRevenueMetrics[1], // [1] = 매출 비율
                 aiRevenueMetrics[2], // [2] = 매출 건수 비율
                 aiClosureMetric,
-                quarterUtil
+                quarter
         );
-        AiPredictRes aiPredictRes = aiPredictService.predict(aiPredictReq);
 
         // 6. 프론트엔드 응답용 "전분기 대비" DTO 생성 (헬퍼 함수 사용)
         ChangedRevenue changedRevenue = getChangedRevenue(currentProfit, previousProfit);
         ChangedClose changedClose = getChangedClose(currentStore, previousStore);
 
-        // 7. 최종 응답 조립 (AI 결과 + 전분기 대비 변화)
-        log.info("Step 5/5: 최종 응답 조립");
-        return PredictRes.of(
-                aiPredictRes,
-                changedRevenue,
-                changedClose
-        );
+        return new PredictContext(aiPredictReq, changedRevenue, changedClose);
+    }
+
+    private record PredictContext(AiPredictReq aiPredictReq, ChangedRevenue changedRevenue, ChangedClose changedClose) {
     }
 
     // --- AI 요청용 데이터 추출 헬퍼 ---
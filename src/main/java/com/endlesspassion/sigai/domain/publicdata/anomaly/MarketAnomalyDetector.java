@@ -0,0 +1,297 @@
+package com.endlesspassion.sigai.domain.publicdata.anomaly;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketDataView;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketSeriesMatrix;
+import com.endlesspassion.sigai.global.common.enums.SeoulGuCommercialArea;
+import com.endlesspassion.sigai.global.util.Quarter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 서울시 전체 (상권, 업종) 분기 변화 이상 탐지
+ *
+ * 분기 대비 변화(매출: 로그 변화율, 폐업률: %p 차이)를 두 기준으로 견고한(robust) 표준 점수로 바꾼다.
+ * - 자기 이력: 같은 계열의 직전 window개 분기 변화의 중앙값/MAD
+ * - 자치구 동료: 같은 분기, 같은 자치구(SeoulGuCommercialArea.guOf), 같은 업종 상권들 변화의 중앙값/MAD
+ *   (자치구를 알 수 없는 상권은 동료 그룹에 넣지 않고 동료 점수를 NaN으로 둔다)
+ * 견고한 표준 점수 = 0.6745 * (x - 중앙값) / MAD (Iglewicz-Hoaglin). MAD가 0이면 평균 절대 편차로 대신한다.
+ *
+ * 한 기준이라도 |z| ≥ threshold면 WARNING, 두 기준 모두 넘으면 CRITICAL.
+ *
+ * MarketSeriesMatrix의 계열 × 분기 배열을 그대로 읽고, 자기 이력은 계열 구간, 자치구 동료는 동료 그룹 구간 단위로
+ * ForkJoinPool에서 나누어 계산한다. 점수 배열도 같은 배치의 double[]이므로 계산 중에는 객체를 만들지 않는다.
+ */
+public final class MarketAnomalyDetector {
+
+    static final int MIN_HISTORY = 4; // 자기 이력 점수를 매기는 최소 변화 수
+    static final int MIN_PEERS = 5; // 동료 점수를 매기는 최소 상권 수
+    private static final double MAD_SCALE = 0.6745; // 정규분포에서 MAD ≈ 0.6745σ
+    private static final double MEAN_AD_SCALE = 0.7979; // 정규분포에서 평균 절대 편차 ≈ 0.7979σ
+    private static final int SPLIT_THRESHOLD = 256;
+
+    private MarketAnomalyDetector() {
+    }
+
+    public enum Metric {
+        REVENUE, // 당월 매출 금액 (변화 = 직전 분기 대비 %)
+        CLOSED_RATE // 폐업률 (변화 = 직전 분기 대비 %p)
+    }
+
+    public enum Severity {
+        WARNING, // 자기 이력 또는 자치구 동료 중 한 기준에서 이상
+        CRITICAL // 두 기준 모두에서 이상
+    }
+
+    /**
+     * @param change 직전 분기 대비 변화 (매출: %, 폐업률: %p)
+     * @param selfScore 자기 이력 기준 견고한 표준 점수 (이력이 부족하면 NaN)
+     * @param peerScore 자치구 동료 기준 견고한 표준 점수 (동료가 부족하면 NaN)
+     */
+    public record Anomaly(
+            Metric metric,
+            Quarter quarter,
+            String trdarCd,
+            String trdarCdNm,
+            String svcIndutyCd,
+            String gu,
+            double value,
+            double previousValue,
+            double change,
+            double selfScore,
+            double peerScore,
+            Severity severity
+    ) {
+    }
+
+    /**
+     * @param window 자기 이력으로 볼 직전 분기 수
+     * @param threshold 이상으로 볼 |견고한 표준 점수| 기준 (보통 3.5)
+     * @param pool 병렬 처리용 풀
+     * @return 이상 기록 (지표, 분기, 계열 순)
+     */
+    public static List<Anomaly> detect(MarketDataView view, int window, double threshold, ForkJoinPool pool) {
+        if (window < MIN_HISTORY) {
+            throw new IllegalArgumentException("이력 분기 수는 " + MIN_HISTORY + " 이상이어야 합니다: " + window);
+        }
+        if (!(threshold > 0)) {
+            throw new IllegalArgumentException("이상 기준 점수는 0보다 커야 합니다: " + threshold);
+        }
+        MarketSeriesMatrix matrix = MarketSeriesMatrix.build(view, MarketMetric.THSMON_SELNG_AMT, MarketMetric.CLSBIZ_RT);
+        if (matrix.seriesCount() == 0) {
+            return List.of();
+        }
+
+        String[] guOfSeries = new String[matrix.seriesCount()];
+        int[][] peerGroups = peerGroups(matrix, guOfSeries);
+
+        List<Anomaly> anomalies = new ArrayList<>();
+        for (Metric metric : Metric.values()) {
+            double[] values = matrix.values(metric == Metric.REVENUE ? MarketMetric.THSMON_SELNG_AMT : MarketMetric.CLSBIZ_RT);
+            double[] changes = changes(values, matrix.length(), metric);
+            double[] selfScores = new double[changes.length];
+            double[] peerScores = new double[changes.length];
+            Arrays.fill(peerScores, Double.NaN); // 동료 그룹이 없는 계열은 점수 없음
+
+            pool.invoke(new ChunkTask(0, matrix.seriesCount(),
+                    (from, to) -> scoreHistory(changes, matrix.length(), window, selfScores, from, to)));
+            pool.invoke(new ChunkTask(0, peerGroups.length,
+                    (from, to) -> scorePeers(changes, matrix.length(), peerGroups, peerScores, from, to)));
+
+            collect(matrix, metric, values, changes, selfScores, peerScores, guOfSeries, threshold, anomalies);
+        }
+        return anomalies;
+    }
+
+    /**
+     * (자치구, 업종)별 계열 번호 목록 (자치구를 알 수 없는 계열은 제외)
+     */
+    private static int[][] peerGroups(MarketSeriesMatrix matrix, String[] guOfSeries) {
+        Map<String, String> guByTrdarCd = new HashMap<>();
+        Map<String, List<Integer>> members = new HashMap<>();
+        for (int series = 0; series < matrix.seriesCount(); series++) {
+            String gu = guByTrdarCd.computeIfAbsent(matrix.trdarCdOf(series), SeoulGuCommercialArea::guOf);
+            guOfSeries[series] = gu;
+            if (gu == null) {
+                continue;
+            }
+            members.computeIfAbsent(gu + ":" + matrix.svcIndutyCdOf(series), key -> new ArrayList<>()).add(series);
+        }
+        int[][] groups = new int[members.size()][];
+        int index = 0;
+        for (List<Integer> group : members.values()) {
+            groups[index++] = group.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return groups;
+    }
+
+    /**
+     * 계열별 직전 분기 대비 변화 (첫 분기, 결측, 매출 0 이하는 NaN)
+     */
+    private static double[] changes(double[] values, int length, Metric metric) {
+        double[] changes = new double[values.length];
+        for (int base = 0; base < values.length; base += length) {
+            changes[base] = Double.NaN;
+            for (int t = 1; t < length; t++) {
+                double previous = values[base + t - 1];
+                double current = values[base + t];
+                if (metric == Metric.REVENUE) {
+                    changes[base + t] = previous > 0 && current > 0 ? Math.log(current / previous) : Double.NaN;
+                } else {
+                    changes[base + t] = current - previous; // 둘 중 하나라도 NaN이면 NaN
+                }
+            }
+        }
+        return changes;
+    }
+
+    private static void scoreHistory(double[] changes, int length, int window, double[] scores, int from, int to) {
+        double[] scratch = new double[window];
+        double[] center = new double[2];
+        for (int series = from; series < to; series++) {
+            int base = series * length;
+            for (int t = 0; t < length; t++) {
+                double change = changes[base + t];
+                if (Double.isNaN(change)) {
+                    scores[base + t] = Double.NaN;
+                    continue;
+                }
+                int count = 0;
+                for (int h = Math.max(0, t - window); h < t; h++) {
+                    double past = changes[base + h];
+                    if (!Double.isNaN(past)) {
+                        scratch[count++] = past;
+                    }
+                }
+                scores[base + t] = count >= MIN_HISTORY && robustCenter(scratch, count, center)
+                        ? (change - center[0]) / center[1]
+                        : Double.NaN;
+            }
+        }
+    }
+
+    private static void scorePeers(double[] changes, int length, int[][] groups, double[] scores, int from, int to) {
+        double[] center = new double[2];
+        for (int g = from; g < to; g++) {
+            int[] group = groups[g];
+            double[] scratch = new double[group.length];
+            for (int t = 0; t < length; t++) {
+                int count = 0;
+                for (int series : group) {
+                    double change = changes[series * length + t];
+                    if (!Double.isNaN(change)) {
+                        scratch[count++] = change;
+                    }
+                }
+                boolean scored = count >= MIN_PEERS && robustCenter(scratch, count, center);
+                for (int series : group) {
+                    int index = series * length + t;
+                    scores[index] = scored ? (changes[index] - center[0]) / center[1] : Double.NaN;
+                }
+            }
+        }
+    }
+
+    /**
+     * sample[0, count)의 중앙값과 견고한 표준편차 추정치(MAD / 0.6745)를 center[0], center[1]에 기록 (sample은 정렬/덮어씀)
+     *
+     * @return 흩어짐이 전혀 없어 점수를 매길 수 없으면 false
+     */
+    private static boolean robustCenter(double[] sample, int count, double[] center) {
+        Arrays.sort(sample, 0, count);
+        double median = median(sample, count);
+        double meanAbsoluteDeviation = 0;
+        for (int i = 0; i < count; i++) {
+            sample[i] = Math.abs(sample[i] - median);
+            meanAbsoluteDeviation += sample[i];
+        }
+        meanAbsoluteDeviation /= count;
+        Arrays.sort(sample, 0, count);
+        double mad = median(sample, count);
+        center[0] = median;
+        if (mad > 0) {
+            center[1] = mad / MAD_SCALE;
+        } else if (meanAbsoluteDeviation > 0) {
+            center[1] = meanAbsoluteDeviation / MEAN_AD_SCALE;
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static double median(double[] sorted, int count) {
+        int middle = count / 2;
+        return count % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static void collect(MarketSeriesMatrix matrix, Metric metric, double[] values, double[] changes,
+                                double[] selfScores, double[] peerScores, String[] guOfSeries,
+                                double threshold, List<Anomaly> anomalies) {
+        int length = matrix.length();
+        for (int t = 1; t < length; t++) {
+            Quarter quarter = null;
+            for (int series = 0; series < matrix.seriesCount(); series++) {
+                int index = series * length + t;
+                boolean self = Math.abs(selfScores[index]) >= threshold; // NaN이면 false
+                boolean peer = Math.abs(peerScores[index]) >= threshold;
+                if (!self && !peer) {
+                    continue;
+                }
+                if (quarter == null) {
+                    quarter = matrix.quarterAt(t);
+                }
+                double change = metric == Metric.REVENUE ? Math.expm1(changes[index]) * 100 : changes[index];
+                anomalies.add(new Anomaly(
+                        metric,
+                        quarter,
+                        matrix.trdarCdOf(series),
+                        matrix.trdarCdNmOf(series),
+                        matrix.svcIndutyCdOf(series),
+                        guOfSeries[series],
+                        values[index],
+                        values[index - 1],
+                        change,
+                        selfScores[index],
+                        peerScores[index],
+                        self && peer ? Severity.CRITICAL : Severity.WARNING));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkBody {
+        void run(int from, int to);
+    }
+
+    /**
+     * [from, to) 구간을 반씩 나누어 병렬 처리 (구간이 작으면 한 번에 처리)
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final ChunkBody body;
+
+        private ChunkTask(int from, int to, ChunkBody body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                body.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, middle, body), new ChunkTask(middle, to, body));
+        }
+    }
+}
@@ -0,0 +1,487 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactSchema;
+import com.endlesspassion.sigai.domain.publicdata.compact.MarketLabel;
+import org.bson.Document;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 공공 상권 데이터(매출 + 점포)의 인메모리 컬럼형 저장소
+ *
+ * 구조:
+ * - 분기/상권/업종 코드는 MarketDictionary로 int id 인코딩
+ * - 한 행 = (분기, 상권, 업종) 하나. 매출/점포 데이터가 같은 행을 공유
+ * - 지표마다 primitive 배열 하나 (double[] 또는 float[]), 값이 없으면 NaN
+ * - (분기, 상권, 업종) → 행 번호는 조밀한 int[] 인덱스로 O(1) 조회
+ *
+ * 왜 이 방식인가?
+ * - MongoDB 문서 + boxed Double POJO 대비 행당 메모리가 수십 분의 일 수준
+ * - 조회 시 네트워크 왕복/BSON 디코딩이 없음
+ * - 적재 후에는 불변이므로 락 없이 여러 요청이 동시에 읽을 수 있음
+ */
+public final class MarketColumnStore implements MarketDataView {
+
+    private static final byte PROFIT_FLAG = 1;
+    private static final byte STORE_FLAG = 2;
+
+    private final MarketDictionary quarters;
+    private final MarketDictionary areas;
+    private final MarketDictionary industries;
+
+    // (quarterId * areaCount + areaId) * industryCount + industryId → 행 번호 (없으면 -1)
+    private final int[] rowByKey;
+
+    private final int rowCount;
+    private final int[] quarterIds;
+    private final int[] areaIds;
+    private final int[] industryIds;
+    private final byte[] datasetFlags;
+
+    private final double[][] wideColumns;
+    private final float[][] narrowColumns;
+
+    // 상권/업종 id별 라벨 (문서마다 반복되던 *_nm 필드를 한 번만 보관)
+    private final String[] areaNames;
+    private final String[] areaSeCodes;
+    private final String[] areaSeNames;
+    private final String[] industryNames;
+
+    private MarketColumnStore(Builder builder,
+                              MarketDictionary quarters,
+                              MarketDictionary areas,
+                              MarketDictionary industries,
+                              int[] quarterRemap,
+                              int[] areaRemap,
+                              int[] industryRemap) {
+        this.quarters = quarters;
+        this.areas = areas;
+        this.industries = industries;
+        this.rowCount = builder.rowCount;
+
+        this.quarterIds = new int[rowCount];
+        this.areaIds = new int[rowCount];
+        this.industryIds = new int[rowCount];
+        this.datasetFlags = Arrays.copyOf(builder.datasetFlags, rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            quarterIds[row] = quarterRemap[builder.quarterIds[row]];
+            areaIds[row] = areaRemap[builder.areaIds[row]];
+            industryIds[row] = industryRemap[builder.industryIds[row]];
+        }
+
+        this.wideColumns = new double[MarketMetric.wideCount()][];
+        this.narrowColumns = new float[MarketMetric.narrowCount()][];
+        for (MarketMetric metric : MarketMetric.all()) {
+            double[] source = builder.columns[metric.ordinal()];
+            if (metric.isWide()) {
+                wideColumns[metric.getColumnIndex()] = Arrays.copyOf(source, rowCount);
+            } else {
+                float[] column = new float[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    column[row] = (float) source[row];
+                }
+                narrowColumns[metric.getColumnIndex()] = column;
+            }
+        }
+
+        this.areaNames = remapLabels(builder.areaNames, areaRemap, areas.size());
+        this.areaSeCodes = remapLabels(builder.areaSeCodes, areaRemap, areas.size());
+        this.areaSeNames = remapLabels(builder.areaSeNames, areaRemap, areas.size());
+        this.industryNames = remapLabels(builder.industryNames, industryRemap, industries.size());
+
+        this.rowByKey = new int[Math.multiplyExact(Math.multiplyExact(quarters.size(), areas.size()), industries.size())];
+        Arrays.fill(rowByKey, -1);
+        for (int row = 0; row < rowCount; row++) {
+            rowByKey[key(quarterIds[row], areaIds[row], industryIds[row])] = row;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * (분기, 상권, 업종)에 해당하는 행 번호 조회
+     *
+     * @return 행 번호 (데이터가 없으면 -1)
+     */
+    @Override
+    public int findRow(String quarter, String trdarCd, String svcIndutyCd) {
+        int quarterId = quarters.idOf(quarter);
+        int areaId = areas.idOf(trdarCd);
+        int industryId = industries.idOf(svcIndutyCd);
+        if (quarterId < 0 || areaId < 0 || industryId < 0) {
+            return -1;
+        }
+        return rowByKey[key(quarterId, areaId, industryId)];
+    }
+
+    public int findRow(int quarterId, int areaId, int industryId) {
+        return rowByKey[key(quarterId, areaId, industryId)];
+    }
+
+    @Override
+    public boolean hasProfit(int row) {
+        return row >= 0 && (datasetFlags[row] & PROFIT_FLAG) != 0;
+    }
+
+    @Override
+    public boolean hasStore(int row) {
+        return row >= 0 && (datasetFlags[row] & STORE_FLAG) != 0;
+    }
+
+    /**
+     * @return 지표 값 (값이 없으면 NaN)
+     */
+    @Override
+    public double value(MarketMetric metric, int row) {
+        return metric.isWide()
+                ? wideColumns[metric.getColumnIndex()][row]
+                : narrowColumns[metric.getColumnIndex()][row];
+    }
+
+    @Override
+    public double[] valuesAcrossAreas(MarketMetric metric, String quarter, String svcIndutyCd) {
+        int quarterId = quarters.idOf(quarter);
+        int industryId = industries.idOf(svcIndutyCd);
+        if (quarterId < 0 || industryId < 0) {
+            return new double[0];
+        }
+        double[] values = new double[areas.size()];
+        int size = 0;
+        for (int areaId = 0; areaId < areas.size(); areaId++) {
+            int row = rowByKey[key(quarterId, areaId, industryId)];
+            double value = row >= 0 ? value(metric, row) : Double.NaN;
+            if (!Double.isNaN(value)) {
+                values[size++] = value;
+            }
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    public int quarterIdOf(int row) {
+        return quarterIds[row];
+    }
+
+    public int areaIdOf(int row) {
+        return areaIds[row];
+    }
+
+    public int industryIdOf(int row) {
+        return industryIds[row];
+    }
+
+    byte datasetFlagsOf(int row) {
+        return datasetFlags[row];
+    }
+
+    String areaNameOf(int areaId) {
+        return areaNames[areaId];
+    }
+
+    String areaSeCodeOf(int areaId) {
+        return areaSeCodes[areaId];
+    }
+
+    String areaSeNameOf(int areaId) {
+        return areaSeNames[areaId];
+    }
+
+    String industryNameOf(int industryId) {
+        return industryNames[industryId];
+    }
+
+    public MarketDictionary getQuarters() {
+        return quarters;
+    }
+
+    public MarketDictionary getAreas() {
+        return areas;
+    }
+
+    public MarketDictionary getIndustries() {
+        return industries;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public String quarterCodeOf(int row) {
+        return quarters.codeOf(quarterIds[row]);
+    }
+
+    @Override
+    public String trdarCdOf(int row) {
+        return areas.codeOf(areaIds[row]);
+    }
+
+    @Override
+    public String trdarCdNmOf(int row) {
+        return areaNames[areaIds[row]];
+    }
+
+    @Override
+    public String trdarSeCdOf(int row) {
+        return areaSeCodes[areaIds[row]];
+    }
+
+    @Override
+    public String trdarSeCdNmOf(int row) {
+        return areaSeNames[areaIds[row]];
+    }
+
+    @Override
+    public String svcIndutyCdOf(int row) {
+        return industries.codeOf(industryIds[row]);
+    }
+
+    @Override
+    public String svcIndutyCdNmOf(int row) {
+        return industryNames[industryIds[row]];
+    }
+
+    /**
+     * 저장소가 차지하는 힙 메모리 추정치 (배열 헤더 16바이트 기준)
+     */
+    public long heapFootprintBytes() {
+        long bytes = quarters.heapFootprintBytes() + areas.heapFootprintBytes() + industries.heapFootprintBytes();
+        bytes += 16L + 4L * rowByKey.length;
+        bytes += 3 * (16L + 4L * rowCount);
+        bytes += 16L + rowCount;
+        bytes += wideColumns.length * (16L + 8L * rowCount);
+        bytes += narrowColumns.length * (16L + 4L * rowCount);
+        bytes += labelFootprint(areaNames) + labelFootprint(areaSeCodes)
+                + labelFootprint(areaSeNames) + labelFootprint(industryNames);
+        return bytes;
+    }
+
+    private int key(int quarterId, int areaId, int industryId) {
+        return (quarterId * areas.size() + areaId) * industries.size() + industryId;
+    }
+
+    private static String[] remapLabels(Map<Integer, String> labels, int[] remap, int size) {
+        String[] result = new String[size];
+        labels.forEach((tempId, label) -> result[remap[tempId]] = label);
+        return result;
+    }
+
+    private static long labelFootprint(String[] labels) {
+        long bytes = 16L + 4L * labels.length;
+        for (String label : labels) {
+            if (label != null) {
+                // 한글 라벨은 UTF-16 (2바이트/문자)
+                bytes += 40L + 2L * label.length();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * MongoDB 원본 문서를 한 건씩 받아 저장소를 구성하는 빌더 (적재 스레드 전용, 스레드 안전하지 않음)
+     *
+     * v1 문서(addProfitDocument/addStoreDocument)와 압축 스키마 v2 문서(addCompact*Document) 모두 받을 수 있다.
+     * v2 문서에는 라벨이 없으므로 addLabelDocument로 라벨을 먼저 추가한다.
+     */
+    public static final class Builder {
+
+        private final MarketDictionary.Builder quarterDictionary = new MarketDictionary.Builder();
+        private final MarketDictionary.Builder areaDictionary = new MarketDictionary.Builder();
+        private final MarketDictionary.Builder industryDictionary = new MarketDictionary.Builder();
+
+        // 임시 키 → 행 번호 (적재 시에만 사용)
+        private final Map<Long, Integer> rowByTempKey = new HashMap<>();
+
+        private int rowCount;
+        private int[] quarterIds = new int[1024];
+        private int[] areaIds = new int[1024];
+        private int[] industryIds = new int[1024];
+        private byte[] datasetFlags = new byte[1024];
+        private final double[][] columns = new double[MarketMetric.all().length][1024];
+
+        private final Map<Integer, String> areaNames = new HashMap<>();
+        private final Map<Integer, String> areaSeCodes = new HashMap<>();
+        private final Map<Integer, String> areaSeNames = new HashMap<>();
+        private final Map<Integer, String> industryNames = new HashMap<>();
+
+        // 압축 스키마 적재용 라벨 (코드 → 라벨 문서), 문서보다 먼저 추가
+        private final Map<String, Document> areaLabels = new HashMap<>();
+        private final Map<String, Document> industryLabels = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * public_profit_data 원본 문서 추가
+         */
+        public Builder addProfitDocument(Document document) {
+            return add(document, MarketMetric.Dataset.PROFIT, PROFIT_FLAG);
+        }
+
+        /**
+         * public_store_data 원본 문서 추가
+         */
+        public Builder addStoreDocument(Document document) {
+            return add(document, MarketMetric.Dataset.STORE, STORE_FLAG);
+        }
+
+        /**
+         * public_market_label 원본 문서 추가 (압축 스키마 문서보다 먼저 추가해야 라벨이 연결됨)
+         */
+        public Builder addLabelDocument(Document document) {
+            String code = document.getString(CompactSchema.LABEL_CODE);
+            if (code == null) {
+                return this;
+            }
+            if (MarketLabel.AREA.equals(document.getString(CompactSchema.LABEL_TYPE))) {
+                areaLabels.put(code, document);
+            } else if (MarketLabel.INDUSTRY.equals(document.getString(CompactSchema.LABEL_TYPE))) {
+                industryLabels.put(code, document);
+            }
+            return this;
+        }
+
+        /**
+         * public_profit_data_v2 원본 문서 추가
+         */
+        public Builder addCompactProfitDocument(Document document) {
+            return addCompact(document, MarketMetric.Dataset.PROFIT, PROFIT_FLAG);
+        }
+
+        /**
+         * public_store_data_v2 원본 문서 추가
+         */
+        public Builder addCompactStoreDocument(Document document) {
+            return addCompact(document, MarketMetric.Dataset.STORE, STORE_FLAG);
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        public MarketColumnStore build() {
+            int[] quarterRemap = new int[quarterDictionary.size()];
+            int[] areaRemap = new int[areaDictionary.size()];
+            int[] industryRemap = new int[industryDictionary.size()];
+            return new MarketColumnStore(this,
+                    quarterDictionary.build(quarterRemap),
+                    areaDictionary.build(areaRemap),
+                    industryDictionary.build(industryRemap),
+                    quarterRemap, areaRemap, industryRemap);
+        }
+
+        private Builder add(Document document, MarketMetric.Dataset dataset, byte flag) {
+            String quarter = document.getString("stdr_yyqu_cd");
+            String trdarCd = document.getString("trdar_cd");
+            String svcIndutyCd = document.getString("svc_induty_cd");
+            if (quarter == null || trdarCd == null || svcIndutyCd == null) {
+                return this; // 키가 없는 문서는 조회 불가능하므로 제외
+            }
+
+            int row = rowOf(quarter, trdarCd, svcIndutyCd);
+            int areaId = areaIds[row];
+            int industryId = industryIds[row];
+            areaNames.putIfAbsent(areaId, document.getString("trdar_cd_nm"));
+            areaSeCodes.putIfAbsent(areaId, document.getString("trdar_se_cd"));
+            areaSeNames.putIfAbsent(areaId, document.getString("trdar_se_cd_nm"));
+            industryNames.putIfAbsent(industryId, document.getString("svc_induty_cd_nm"));
+
+            datasetFlags[row] |= flag;
+            for (MarketMetric metric : MarketMetric.all()) {
+                if (metric.getDataset() == dataset) {
+                    columns[metric.ordinal()][row] = toDouble(document.get(metric.getField()));
+                }
+            }
+            return this;
+        }
+
+        private Builder addCompact(Document document, MarketMetric.Dataset dataset, byte flag) {
+            String quarter = document.getString(CompactSchema.QUARTER);
+            String trdarCd = document.getString(CompactSchema.AREA);
+            String svcIndutyCd = document.getString(CompactSchema.INDUSTRY);
+            if (quarter == null || trdarCd == null || svcIndutyCd == null) {
+                return this; // 키가 없는 문서는 조회 불가능하므로 제외
+            }
+
+            int row = rowOf(quarter, trdarCd, svcIndutyCd);
+            int areaId = areaIds[row];
+            int industryId = industryIds[row];
+            Document areaLabel = areaLabels.get(trdarCd);
+            if (areaLabel != null) {
+                areaNames.putIfAbsent(areaId, areaLabel.getString(CompactSchema.LABEL_NAME));
+                areaSeCodes.putIfAbsent(areaId, areaLabel.getString(CompactSchema.LABEL_SE_CODE));
+                areaSeNames.putIfAbsent(areaId, areaLabel.getString(CompactSchema.LABEL_SE_NAME));
+            }
+            Document industryLabel = industryLabels.get(svcIndutyCd);
+            if (industryLabel != null) {
+                industryNames.putIfAbsent(industryId, industryLabel.getString(CompactSchema.LABEL_NAME));
+            }
+
+            datasetFlags[row] |= flag;
+            for (MarketMetric metric : MarketMetric.all()) {
+                if (metric.getDataset() == dataset) {
+                    columns[metric.ordinal()][row] = toDouble(document.get(metric.getCompactField()));
+                }
+            }
+            return this;
+        }
+
+        /**
+         * (분기, 상권, 업종) 행 번호 (처음 보는 키면 행 추가)
+         */
+        private int rowOf(String quarter, String trdarCd, String svcIndutyCd) {
+            int quarterId = quarterDictionary.intern(quarter);
+            int areaId = areaDictionary.intern(trdarCd);
+            int industryId = industryDictionary.intern(svcIndutyCd);
+
+            long tempKey = ((long) quarterId << 40) | ((long) areaId << 20) | industryId;
+            Integer row = rowByTempKey.get(tempKey);
+            if (row == null) {
+                row = appendRow(quarterId, areaId, industryId);
+                rowByTempKey.put(tempKey, row);
+            }
+            return row;
+        }
+
+        private int appendRow(int quarterId, int areaId, int industryId) {
+            if (rowCount == quarterIds.length) {
+                int capacity = rowCount * 2;
+                quarterIds = Arrays.copyOf(quarterIds, capacity);
+                areaIds = Arrays.copyOf(areaIds, capacity);
+                industryIds = Arrays.copyOf(industryIds, capacity);
+                datasetFlags = Arrays.copyOf(datasetFlags, capacity);
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = Arrays.copyOf(columns[i], capacity);
+                }
+            }
+            int row = rowCount++;
+            quarterIds[row] = quarterId;
+            areaIds[row] = areaId;
+            industryIds[row] = industryId;
+            for (double[] column : columns) {
+                column[row] = Double.NaN;
+            }
+            return row;
+        }
+
+        private static double toDouble(Object value) {
+            if (value instanceof Number number) {
+                return number.doubleValue();
+            }
+            if (value instanceof String text) {
+                try {
+                    return Double.parseDouble(text);
+                } catch (NumberFormatException e) {
+                    return Double.NaN;
+                }
+            }
+            return Double.NaN;
+        }
+    }
+}
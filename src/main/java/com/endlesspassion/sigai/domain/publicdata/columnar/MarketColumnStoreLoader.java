@@ -0,0 +1,241 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactProfitData;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactStoreData;
+import com.endlesspassion.sigai.domain.publicdata.compact.MarketLabel;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import com.endlesspassion.sigai.domain.publicdata.event.MarketDataReloadedEvent;
+import com.endlesspassion.sigai.domain.publicdata.event.PublicDataSyncedEvent;
+import com.mongodb.client.MongoCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 컬럼형 상권 저장소 적재/교체 담당
+ *
+ * - 애플리케이션 기동 완료 시: 스냅샷 파일이 있으면 mmap으로 바로 열고, 없으면 MongoDB에서 적재
+ * - 공공 데이터 동기화 배치가 끝날 때마다(PublicDataSyncedEvent): MongoDB에서 재적재 후 스냅샷 파일 갱신
+ * - 주기적으로 스냅샷 헤더를 확인하여 다른 노드/프로세스가 기록한 새 스냅샷이 있으면 교체
+ * - 새 뷰를 완성한 뒤 volatile 참조만 교체하므로, 적재 중에도 기존 뷰로 조회 가능
+ * - 새 뷰를 설치할 때마다(MongoDB 재적재, 기동 시 스냅샷, 폴링으로 받은 스냅샷) MarketDataReloadedEvent 발행
+ *   (새 저장소가 필요한 후속 작업용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketColumnStoreLoader {
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${sigai.public-data.column-store.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sigai.public-data.column-store.compact-source:true}")
+    private boolean compactSourceEnabled;
+
+    @Value("${sigai.public-data.snapshot.enabled:false}")
+    private boolean snapshotEnabled;
+
+    @Value("${sigai.public-data.snapshot.path:${java.io.tmpdir}/sigai/market-snapshot.bin}")
+    private String snapshotPath;
+
+    private volatile MarketDataView store;
+
+    /**
+     * @return 현재 적재된 뷰 (비활성화 또는 적재 전이면 null → 호출 측은 MongoDB로 조회)
+     */
+    public MarketDataView getStore() {
+        return store;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled && snapshotEnabled && installSnapshot("startup")) {
+            return;
+        }
+        reload("startup", 0L);
+    }
+
+    @EventListener
+    public void onPublicDataSynced(PublicDataSyncedEvent event) {
+        if (!event.isMarketData()) {
+            return;
+        }
+        reload(event.jobName(), event.jobExecutionId() != null ? event.jobExecutionId() : 0L);
+    }
+
+    /**
+     * 다른 노드가 기록한 새 스냅샷이 있는지 헤더만 읽어 확인하고, 있으면 교체
+     */
+    @Scheduled(fixedDelayString = "${sigai.public-data.snapshot.poll-interval-ms:30000}")
+    public void pollSnapshot() {
+        if (!enabled || !snapshotEnabled || !Files.exists(snapshotPath())) {
+            return;
+        }
+        try {
+            long[] version = MarketSnapshot.peekVersion(snapshotPath());
+            if (version != null && !Arrays.equals(version, currentSnapshotVersion())) {
+                installSnapshot("poll");
+            }
+        } catch (Exception e) {
+            log.warn("상권 스냅샷 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void reload(String trigger, long jobExecutionId) {
+        if (!enabled) {
+            return;
+        }
+        MarketColumnStore loaded;
+        try {
+            loaded = load();
+        } catch (Exception e) {
+            // 적재 실패 시 기존 저장소(또는 MongoDB 조회)를 그대로 사용
+            log.error("컬럼형 상권 저장소 적재 실패 (trigger: {})", trigger, e);
+            return;
+        }
+        MarketDataView view = loaded;
+        if (snapshotEnabled) {
+            try {
+                MarketSnapshotWriter.write(loaded, jobExecutionId, snapshotPath());
+                log.info("상권 스냅샷 기록 완료: {} (jobExecutionId: {})", snapshotPath(), jobExecutionId);
+                // 기록한 파일을 바로 매핑하여 힙 저장소는 GC되도록 하고, 폴링에서 같은 파일을 다시 열지 않도록 함
+                MarketSnapshot snapshot = openSnapshot(trigger);
+                if (snapshot != null) {
+                    view = snapshot;
+                }
+            } catch (Exception e) {
+                // 스냅샷 기록 실패 시 힙 저장소를 그대로 사용
+                log.error("상권 스냅샷 기록 실패 (trigger: {})", trigger, e);
+            }
+        }
+        install(view, trigger, jobExecutionId);
+    }
+
+    /**
+     * 스냅샷 파일을 열어 설치
+     *
+     * @return 설치했으면 true (파일이 없거나 열 수 없으면 false)
+     */
+    private synchronized boolean installSnapshot(String trigger) {
+        MarketSnapshot snapshot = openSnapshot(trigger);
+        if (snapshot == null) {
+            return false;
+        }
+        install(snapshot, trigger, snapshot.getJobExecutionId());
+        return true;
+    }
+
+    /**
+     * 새 뷰로 교체하고 후속 작업에 알림 (뷰를 교체하는 모든 경로는 이 메서드를 거친다)
+     */
+    private void install(MarketDataView view, String trigger, long jobExecutionId) {
+        this.store = view;
+        eventPublisher.publishEvent(new MarketDataReloadedEvent(trigger, jobExecutionId, view));
+    }
+
+    private MarketSnapshot openSnapshot(String trigger) {
+        Path path = snapshotPath();
+        if (!Files.exists(path)) {
+            return null;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            MarketSnapshot snapshot = MarketSnapshot.open(path);
+            log.info("상권 스냅샷 열기 (trigger: {}): 행 {}개, {} KB, jobExecutionId {}, 소요 {} ms",
+                    trigger, snapshot.getRowCount(), snapshot.sizeBytes() / 1024,
+                    snapshot.getJobExecutionId(), (System.nanoTime() - startedAt) / 1_000_000);
+            return snapshot;
+        } catch (Exception e) {
+            log.warn("상권 스냅샷을 열 수 없어 무시합니다 ({}): {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private long[] currentSnapshotVersion() {
+        if (store instanceof MarketSnapshot snapshot) {
+            return new long[]{snapshot.getJobExecutionId(), snapshot.getCreatedAt()};
+        }
+        return null;
+    }
+
+    private Path snapshotPath() {
+        return Paths.get(snapshotPath);
+    }
+
+    /**
+     * MongoDB 두 컬렉션을 원본 문서 그대로 스트리밍하여 새 저장소를 구성한다.
+     * POJO 매핑을 거치지 않으므로 boxed Double 객체가 생성되지 않는다.
+     *
+     * 압축 스키마(v2) 컬렉션이 v1만큼 채워져 있으면(이관 완료, 이후 동기화 배치가 함께 갱신) v2에서 읽는다.
+     * 키가 짧고 건수가 int32라 전송/디코딩할 바이트가 적다. 이관 전이면 v1에서 읽는다.
+     */
+    public MarketColumnStore load() {
+        long startedAt = System.currentTimeMillis();
+        MarketColumnStore.Builder builder = MarketColumnStore.builder();
+
+        boolean compact = compactSourceEnabled && compactPopulated();
+        if (compact) {
+            stream(MarketLabel.class, builder::addLabelDocument); // 라벨을 먼저 읽어야 v2 문서에 연결됨
+            stream(CompactProfitData.class, builder::addCompactProfitDocument);
+            stream(CompactStoreData.class, builder::addCompactStoreDocument);
+        } else {
+            stream(PublicProfitData.class, builder::addProfitDocument);
+            stream(PublicStoreData.class, builder::addStoreDocument);
+        }
+
+        MarketColumnStore loaded = builder.build();
+        log.info("컬럼형 상권 저장소 적재 완료 ({}): 행 {}개 (분기 {}, 상권 {}, 업종 {}), 힙 사용량 약 {} KB, 소요 {} ms",
+                compact ? "v2" : "v1",
+                loaded.getRowCount(),
+                loaded.getQuarters().size(),
+                loaded.getAreas().size(),
+                loaded.getIndustries().size(),
+                loaded.heapFootprintBytes() / 1024,
+                System.currentTimeMillis() - startedAt);
+        return loaded;
+    }
+
+    /**
+     * v2 컬렉션 문서 수가 v1 이상인지 (메타데이터 기반 추정 개수라 전체 스캔 없음)
+     */
+    private boolean compactPopulated() {
+        long profit = estimatedCount(PublicProfitData.class);
+        long compactProfit = estimatedCount(CompactProfitData.class);
+        long store = estimatedCount(PublicStoreData.class);
+        long compactStore = estimatedCount(CompactStoreData.class);
+        if (compactProfit > 0 && compactProfit >= profit && compactStore >= store) {
+            return true;
+        }
+        log.warn("압축 스키마(v2) 컬렉션이 아직 이관되지 않아 v1에서 적재합니다 (매출 {}/{}, 점포 {}/{})",
+                compactProfit, profit, compactStore, store);
+        return false;
+    }
+
+    private long estimatedCount(Class<?> entityClass) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass)).estimatedDocumentCount();
+    }
+
+    private void stream(Class<?> entityClass, Consumer<Document> consumer) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        try (MongoCursor<Document> cursor = mongoTemplate.getCollection(collection).find().batchSize(5000).iterator()) {
+            cursor.forEachRemaining(consumer);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+
+/**
+ * 공공 상권 데이터 읽기 전용 뷰
+ *
+ * 구현체:
+ * - MarketColumnStore: MongoDB에서 적재한 힙 기반 컬럼형 저장소
+ * - MarketSnapshot: 스냅샷 파일을 mmap으로 연 오프힙 저장소
+ *
+ * 행 번호는 구현체 내부에서만 의미가 있으므로 같은 뷰 인스턴스 안에서만 사용한다.
+ */
+public interface MarketDataView {
+
+    /**
+     * (분기, 상권, 업종)에 해당하는 행 번호 조회
+     *
+     * @return 행 번호 (데이터가 없으면 -1)
+     */
+    int findRow(String quarter, String trdarCd, String svcIndutyCd);
+
+    boolean hasProfit(int row);
+
+    boolean hasStore(int row);
+
+    /**
+     * @return 지표 값 (값이 없으면 NaN)
+     */
+    double value(MarketMetric metric, int row);
+
+    /**
+     * 한 분기/업종에서 지표 값이 있는 모든 상권의 값 (순서 없음, 값이 없는 상권 제외)
+     *
+     * 상권 수만큼 (분기, 상권, 업종) 키만 훑으므로 전체 행을 훑지 않는다.
+     *
+     * @return 값 배열 (분기/업종이 없으면 빈 배열)
+     */
+    double[] valuesAcrossAreas(MarketMetric metric, String quarter, String svcIndutyCd);
+
+    int getRowCount();
+
+    // ========== 행의 키/라벨 ==========
+
+    String quarterCodeOf(int row);
+
+    String trdarCdOf(int row);
+
+    String trdarCdNmOf(int row);
+
+    String trdarSeCdOf(int row);
+
+    String trdarSeCdNmOf(int row);
+
+    String svcIndutyCdOf(int row);
+
+    String svcIndutyCdNmOf(int row);
+
+    // ========== 기존 조회 API 호환 ==========
+
+    /**
+     * 행을 기존 조회 API와 동일한 매출 문서 객체로 변환 (매출 데이터가 없으면 null)
+     */
+    default PublicProfitData toProfitData(int row) {
+        if (!hasProfit(row)) {
+            return null;
+        }
+        PublicProfitData data = new PublicProfitData();
+        data.setStdrYyquCd(quarterCodeOf(row));
+        data.setTrdarSeCd(trdarSeCdOf(row));
+        data.setTrdarSeCdNm(trdarSeCdNmOf(row));
+        data.setTrdarCd(trdarCdOf(row));
+        data.setTrdarCdNm(trdarCdNmOf(row));
+        data.setSvcIndutyCd(svcIndutyCdOf(row));
+        data.setSvcIndutyCdNm(svcIndutyCdNmOf(row));
+        data.setThsmonSelngAmt(boxed(MarketMetric.THSMON_SELNG_AMT, row));
+        data.setMlSelngAmt(boxed(MarketMetric.ML_SELNG_AMT, row));
+        data.setFmlSelngAmt(boxed(MarketMetric.FML_SELNG_AMT, row));
+        data.setThsmonSelngCo(boxed(MarketMetric.THSMON_SELNG_CO, row));
+        data.setMdwkSelngCo(boxed(MarketMetric.MDWK_SELNG_CO, row));
+        data.setMlSelngCo(boxed(MarketMetric.ML_SELNG_CO, row));
+        data.setFmlSelngCo(boxed(MarketMetric.FML_SELNG_CO, row));
+        data.setAgrde10SelngCo(boxed(MarketMetric.AGRDE_10_SELNG_CO, row));
+        data.setAgrde20SelngCo(boxed(MarketMetric.AGRDE_20_SELNG_CO, row));
+        data.setAgrde30SelngCo(boxed(MarketMetric.AGRDE_30_SELNG_CO, row));
+        data.setAgrde40SelngCo(boxed(MarketMetric.AGRDE_40_SELNG_CO, row));
+        data.setAgrde50SelngCo(boxed(MarketMetric.AGRDE_50_SELNG_CO, row));
+        data.setAgrde60AboveSelngCo(boxed(MarketMetric.AGRDE_60_ABOVE_SELNG_CO, row));
+        return data;
+    }
+
+    /**
+     * 행을 기존 조회 API와 동일한 점포 문서 객체로 변환 (점포 데이터가 없으면 null)
+     */
+    default PublicStoreData toStoreData(int row) {
+        if (!hasStore(row)) {
+            return null;
+        }
+        PublicStoreData data = new PublicStoreData();
+        data.setStdrYyquCd(quarterCodeOf(row));
+        data.setTrdarSeCd(trdarSeCdOf(row));
+        data.setTrdarSeCdNm(trdarSeCdNmOf(row));
+        data.setTrdarCd(trdarCdOf(row));
+        data.setTrdarCdNm(trdarCdNmOf(row));
+        data.setSvcIndutyCd(svcIndutyCdOf(row));
+        data.setSvcIndutyCdNm(svcIndutyCdNmOf(row));
+        data.setStorCo(boxed(MarketMetric.STOR_CO, row));
+        data.setSimilrIndutyStorCo(boxed(MarketMetric.SIMILR_INDUTY_STOR_CO, row));
+        data.setOpbizRt(boxed(MarketMetric.OPBIZ_RT, row));
+        data.setOpbizStorCo(boxed(MarketMetric.OPBIZ_STOR_CO, row));
+        data.setClsbizRt(boxed(MarketMetric.CLSBIZ_RT, row));
+        data.setClsbizStorCo(boxed(MarketMetric.CLSBIZ_STOR_CO, row));
+        data.setFrcStorCo(boxed(MarketMetric.FRC_STOR_CO, row));
+        return data;
+    }
+
+    private Double boxed(MarketMetric metric, int row) {
+        double value = value(metric, row);
+        return Double.isNaN(value) ? null : value;
+    }
+}
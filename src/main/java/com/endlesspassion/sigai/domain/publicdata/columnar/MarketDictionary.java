@@ -0,0 +1,92 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문자열 코드(분기/상권/업종)를 0부터 시작하는 int id로 매핑하는 사전
+ *
+ * - id는 코드의 사전순 정렬 순서와 같다 (분기 id 순서 = 시간 순서)
+ * - 적재 이후에는 불변이므로 여러 스레드에서 동시에 읽어도 안전
+ */
+public final class MarketDictionary {
+
+    private final String[] codes;
+    private final Map<String, Integer> idByCode;
+
+    MarketDictionary(String[] codes) {
+        this.codes = codes;
+        this.idByCode = new HashMap<>(codes.length * 2);
+        for (int id = 0; id < codes.length; id++) {
+            idByCode.put(codes[id], id);
+        }
+    }
+
+    /**
+     * @return 코드에 해당하는 id (없으면 -1)
+     */
+    public int idOf(String code) {
+        if (code == null) {
+            return -1;
+        }
+        Integer id = idByCode.get(code);
+        return id != null ? id : -1;
+    }
+
+    public String codeOf(int id) {
+        return codes[id];
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    long heapFootprintBytes() {
+        // 코드 문자열(헤더 + 바이트) + 배열 참조 + HashMap 엔트리(약 48바이트)
+        long bytes = 16L + 4L * codes.length;
+        for (String code : codes) {
+            bytes += 40L + code.length();
+        }
+        return bytes + 48L * codes.length;
+    }
+
+    /**
+     * 적재 중에만 사용하는 가변 사전.
+     * 등장 순서대로 임시 id를 부여하고, build 시 정렬된 id로 재배치한다.
+     */
+    static final class Builder {
+
+        private final List<String> codes = new ArrayList<>();
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        int intern(String code) {
+            Integer id = ids.get(code);
+            if (id == null) {
+                id = codes.size();
+                codes.add(code);
+                ids.put(code, id);
+            }
+            return id;
+        }
+
+        int size() {
+            return codes.size();
+        }
+
+        /**
+         * @param remap 임시 id → 정렬된 id 매핑을 채울 배열 (길이 = size())
+         */
+        MarketDictionary build(int[] remap) {
+            String[] sorted = codes.toArray(new String[0]);
+            Arrays.sort(sorted);
+            MarketDictionary dictionary = new MarketDictionary(sorted);
+            for (int tempId = 0; tempId < codes.size(); tempId++) {
+                remap[tempId] = dictionary.idOf(codes.get(tempId));
+            }
+            return dictionary;
+        }
+    }
+}
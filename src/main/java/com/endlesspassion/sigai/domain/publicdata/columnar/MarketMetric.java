@@ -0,0 +1,91 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactSchema;
+import lombok.Getter;
+
+/**
+ * 컬럼형 상권 저장소에 적재되는 지표 목록
+ *
+ * - dataset: 원본 컬렉션 (매출 / 점포)
+ * - field: MongoDB 필드명 (문서에서 바로 읽기 위해 사용)
+ * - compactField: 압축 스키마(v2) 필드 키 (CompactSchema)
+ * - wide: true면 double 컬럼, false면 float 컬럼으로 저장
+ *
+ * 매출 금액은 수천억 원 단위까지 커질 수 있어 float 정밀도(유효숫자 7자리)로는 부족하므로 double,
+ * 개업/폐업률은 3.3처럼 소수 값이라 float로 저장하면 3.2999999...로 바뀌므로 원본 값 그대로 돌려주도록 double,
+ * 건수는 정수이고 2^24(약 1,677만)까지는 float로도 정확하므로 메모리를 절반만 사용한다.
+ */
+@Getter
+public enum MarketMetric {
+
+    // --- 매출 (public_profit_data) ---
+    THSMON_SELNG_AMT(Dataset.PROFIT, "thsmon_selng_amt", CompactSchema.SALES_AMT, true),                   // 당월_매출_금액
+    ML_SELNG_AMT(Dataset.PROFIT, "ml_selng_amt", CompactSchema.MALE_SALES_AMT, true),                      // 남성_매출_금액
+    FML_SELNG_AMT(Dataset.PROFIT, "fml_selng_amt", CompactSchema.FEMALE_SALES_AMT, true),                  // 여성_매출_금액
+    THSMON_SELNG_CO(Dataset.PROFIT, "thsmon_selng_co", CompactSchema.SALES_CO, false),                     // 당월_매출_건수
+    MDWK_SELNG_CO(Dataset.PROFIT, "mdwk_selng_co", CompactSchema.WEEKDAY_SALES_CO, false),                 // 주중_매출_건수
+    ML_SELNG_CO(Dataset.PROFIT, "ml_selng_co", CompactSchema.MALE_SALES_CO, false),                        // 남성_매출_건수
+    FML_SELNG_CO(Dataset.PROFIT, "fml_selng_co", CompactSchema.FEMALE_SALES_CO, false),                    // 여성_매출_건수
+    AGRDE_10_SELNG_CO(Dataset.PROFIT, "agrde_10_selng_co", CompactSchema.AGE_10_SALES_CO, false),
+    AGRDE_20_SELNG_CO(Dataset.PROFIT, "agrde_20_selng_co", CompactSchema.AGE_20_SALES_CO, false),
+    AGRDE_30_SELNG_CO(Dataset.PROFIT, "agrde_30_selng_co", CompactSchema.AGE_30_SALES_CO, false),
+    AGRDE_40_SELNG_CO(Dataset.PROFIT, "agrde_40_selng_co", CompactSchema.AGE_40_SALES_CO, false),
+    AGRDE_50_SELNG_CO(Dataset.PROFIT, "agrde_50_selng_co", CompactSchema.AGE_50_SALES_CO, false),
+    AGRDE_60_ABOVE_SELNG_CO(Dataset.PROFIT, "agrde_60_above_selng_co", CompactSchema.AGE_60_SALES_CO, false),
+
+    // --- 점포 (public_store_data) ---
+    STOR_CO(Dataset.STORE, "stor_co", CompactSchema.STORE_CO, false),                                      // 점포_수
+    SIMILR_INDUTY_STOR_CO(Dataset.STORE, "similr_induty_stor_co", CompactSchema.SIMILAR_STORE_CO, false),  // 유사_업종_점포_수
+    OPBIZ_RT(Dataset.STORE, "opbiz_rt", CompactSchema.OPEN_RATE, true),                                    // 개업_율
+    OPBIZ_STOR_CO(Dataset.STORE, "opbiz_stor_co", CompactSchema.OPEN_STORE_CO, false),                     // 개업_점포_수
+    CLSBIZ_RT(Dataset.STORE, "clsbiz_rt", CompactSchema.CLOSE_RATE, true),                                 // 폐업_률
+    CLSBIZ_STOR_CO(Dataset.STORE, "clsbiz_stor_co", CompactSchema.CLOSE_STORE_CO, false),                  // 폐업_점포_수
+    FRC_STOR_CO(Dataset.STORE, "frc_stor_co", CompactSchema.FRANCHISE_STORE_CO, false);                    // 프랜차이즈_점포_수
+
+    public enum Dataset {
+        PROFIT, STORE
+    }
+
+    private static final MarketMetric[] VALUES = values();
+    private static final int WIDE_COUNT;
+    private static final int NARROW_COUNT;
+
+    static {
+        int wide = 0;
+        int narrow = 0;
+        for (MarketMetric metric : VALUES) {
+            metric.columnIndex = metric.wide ? wide++ : narrow++;
+        }
+        WIDE_COUNT = wide;
+        NARROW_COUNT = narrow;
+    }
+
+    private final Dataset dataset;
+    private final String field;
+    private final String compactField;
+    private final boolean wide;
+
+    /**
+     * double 컬럼 그룹 또는 float 컬럼 그룹 내에서의 위치
+     */
+    private int columnIndex;
+
+    MarketMetric(Dataset dataset, String field, String compactField, boolean wide) {
+        this.dataset = dataset;
+        this.field = field;
+        this.compactField = compactField;
+        this.wide = wide;
+    }
+
+    static MarketMetric[] all() {
+        return VALUES;
+    }
+
+    static int wideCount() {
+        return WIDE_COUNT;
+    }
+
+    static int narrowCount() {
+        return NARROW_COUNT;
+    }
+}
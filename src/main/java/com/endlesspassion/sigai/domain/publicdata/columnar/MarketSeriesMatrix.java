@@ -0,0 +1,152 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import com.endlesspassion.sigai.global.util.Quarter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컬럼형 상권 저장소를 (상권, 업종) 계열 × 분기 행렬로 재배치한 값 (불변)
+ *
+ * 지표마다 double[] 하나에 계열 우선으로 이어 붙인다: 계열 s의 분기 t 값 = values[s * length + t].
+ * - 분기 축은 전체 데이터의 가장 오래된 분기 ~ 최신 분기이고 모든 계열이 같은 축을 쓴다. (값이 없으면 NaN)
+ * - 계열 하나의 시계열은 연속 메모리이므로 계열 단위 계산(예측, 이상 탐지)이 캐시를 따라 순차로 읽는다.
+ */
+public final class MarketSeriesMatrix {
+
+    private final List<String> trdarCds;
+    private final List<String> trdarCdNms;
+    private final List<String> svcIndutyCds;
+    private final Quarter firstQuarter;
+    private final int length;
+    private final Map<MarketMetric, double[]> values;
+
+    private MarketSeriesMatrix(List<String> trdarCds, List<String> trdarCdNms, List<String> svcIndutyCds,
+                               Quarter firstQuarter, int length, Map<MarketMetric, double[]> values) {
+        this.trdarCds = trdarCds;
+        this.trdarCdNms = trdarCdNms;
+        this.svcIndutyCds = svcIndutyCds;
+        this.firstQuarter = firstQuarter;
+        this.length = length;
+        this.values = values;
+    }
+
+    /**
+     * @param metrics 행렬로 만들 지표 (매출 지표는 매출 데이터가 있는 행, 점포 지표는 점포 데이터가 있는 행만 채움)
+     */
+    public static MarketSeriesMatrix build(MarketDataView view, MarketMetric... metrics) {
+        int rowCount = view.getRowCount();
+        Map<MarketMetric, double[]> values = new EnumMap<>(MarketMetric.class);
+        if (rowCount == 0) {
+            for (MarketMetric metric : metrics) {
+                values.put(metric, new double[0]);
+            }
+            return new MarketSeriesMatrix(List.of(), List.of(), List.of(), null, 0, values);
+        }
+
+        // 1. 행별 분기 번호 + 전체 분기 범위 (분기 문자열은 종류가 적으므로 캐시)
+        Map<String, Integer> packedByCode = new HashMap<>();
+        int[] packedOfRow = new int[rowCount];
+        int minPacked = Integer.MAX_VALUE;
+        int maxPacked = Integer.MIN_VALUE;
+        for (int row = 0; row < rowCount; row++) {
+            int packed = packedByCode.computeIfAbsent(view.quarterCodeOf(row), code -> Quarter.parse(code).packed());
+            packedOfRow[row] = packed;
+            minPacked = Math.min(minPacked, packed);
+            maxPacked = Math.max(maxPacked, packed);
+        }
+        int length = maxPacked - minPacked + 1;
+
+        // 2. 행마다 계열 번호 부여
+        Map<String, Integer> seriesIds = new HashMap<>();
+        List<String> trdarCds = new ArrayList<>();
+        List<String> trdarCdNms = new ArrayList<>();
+        List<String> svcIndutyCds = new ArrayList<>();
+        int[] seriesOfRow = new int[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            String trdarCd = view.trdarCdOf(row);
+            String svcIndutyCd = view.svcIndutyCdOf(row);
+            String key = trdarCd + ":" + svcIndutyCd;
+            Integer id = seriesIds.get(key);
+            if (id == null) {
+                id = trdarCds.size();
+                seriesIds.put(key, id);
+                trdarCds.add(trdarCd);
+                trdarCdNms.add(view.trdarCdNmOf(row));
+                svcIndutyCds.add(svcIndutyCd);
+            }
+            seriesOfRow[row] = id;
+        }
+
+        // 3. 지표별 계열 × 분기 배열 채우기
+        int seriesCount = trdarCds.size();
+        for (MarketMetric metric : metrics) {
+            double[] matrix = new double[seriesCount * length];
+            Arrays.fill(matrix, Double.NaN);
+            boolean profit = metric.getDataset() == MarketMetric.Dataset.PROFIT;
+            for (int row = 0; row < rowCount; row++) {
+                if (profit ? view.hasProfit(row) : view.hasStore(row)) {
+                    matrix[seriesOfRow[row] * length + packedOfRow[row] - minPacked] = view.value(metric, row);
+                }
+            }
+            values.put(metric, matrix);
+        }
+        return new MarketSeriesMatrix(trdarCds, trdarCdNms, svcIndutyCds, Quarter.ofPacked(minPacked), length, values);
+    }
+
+    public int seriesCount() {
+        return trdarCds.size();
+    }
+
+    /**
+     * @return 분기 축 길이 (모든 계열 공통)
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return 분기 축의 첫 분기 (데이터가 없으면 null)
+     */
+    public Quarter firstQuarter() {
+        return firstQuarter;
+    }
+
+    /**
+     * @return 분기 축의 마지막 분기 (데이터가 없으면 null)
+     */
+    public Quarter lastQuarter() {
+        return firstQuarter != null ? firstQuarter.plus(length - 1) : null;
+    }
+
+    public Quarter quarterAt(int index) {
+        return firstQuarter.plus(index);
+    }
+
+    public String trdarCdOf(int series) {
+        return trdarCds.get(series);
+    }
+
+    public String trdarCdNmOf(int series) {
+        return trdarCdNms.get(series);
+    }
+
+    public String svcIndutyCdOf(int series) {
+        return svcIndutyCds.get(series);
+    }
+
+    /**
+     * 지표의 계열 × 분기 배열 (복사하지 않고 그대로 반환하므로 수정 금지)
+     */
+    public double[] values(MarketMetric metric) {
+        double[] matrix = values.get(metric);
+        if (matrix == null) {
+            throw new IllegalArgumentException("행렬에 포함되지 않은 지표입니다: " + metric);
+        }
+        return matrix;
+    }
+}
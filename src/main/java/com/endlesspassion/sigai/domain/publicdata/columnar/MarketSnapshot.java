@@ -0,0 +1,248 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketSnapshotFormat.Layout;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static com.endlesspassion.sigai.domain.publicdata.columnar.MarketSnapshotFormat.*;
+
+/**
+ * 스냅샷 파일을 읽기 전용 mmap으로 연 상권 데이터 뷰
+ *
+ * - 열 때 헤더 검증 + CRC 확인만 하고 힙 자료구조는 만들지 않는다 (코드 조회는 매핑된 정렬 배열 이진 탐색)
+ * - 페이지는 OS 페이지 캐시를 그대로 쓰므로, 같은 호스트의 여러 JVM이 같은 파일을 열면 메모리를 공유한다
+ * - 매핑은 채널을 닫아도 유지되며, 이 객체가 GC될 때 해제된다
+ *   (새 스냅샷이 rename으로 교체되어도 기존 매핑은 이전 inode를 계속 가리키므로 안전)
+ */
+public final class MarketSnapshot implements MarketDataView {
+
+    private final ByteBuffer buffer;
+    private final Layout layout;
+    private final Path path;
+    private final long jobExecutionId;
+    private final long createdAt;
+
+    private MarketSnapshot(ByteBuffer buffer, Layout layout, Path path) {
+        this.buffer = buffer;
+        this.layout = layout;
+        this.path = path;
+        this.jobExecutionId = buffer.getLong(OFFSET_JOB_ID);
+        this.createdAt = buffer.getLong(OFFSET_CREATED_AT);
+    }
+
+    /**
+     * 스냅샷 파일 열기
+     *
+     * @throws IllegalArgumentException 포맷/버전/크기/체크섬이 맞지 않는 경우
+     */
+    public static MarketSnapshot open(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IllegalArgumentException("스냅샷 파일이 너무 작습니다: " + path);
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.getInt(OFFSET_MAGIC) != MAGIC) {
+            throw new IllegalArgumentException("스냅샷 파일 형식이 아닙니다: " + path);
+        }
+        if (buffer.getInt(OFFSET_VERSION) != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 스냅샷 버전입니다: " + buffer.getInt(OFFSET_VERSION));
+        }
+        Layout layout = Layout.readFrom(buffer);
+        if (layout.fileSize() != buffer.capacity() || buffer.getLong(OFFSET_FILE_SIZE) != buffer.capacity()) {
+            throw new IllegalArgumentException("스냅샷 파일 크기가 헤더와 다릅니다: " + path);
+        }
+        if (MarketSnapshotWriter.checksum(buffer, layout.fileSize()) != buffer.getLong(OFFSET_CRC)) {
+            throw new IllegalArgumentException("스냅샷 체크섬이 일치하지 않습니다: " + path);
+        }
+        return new MarketSnapshot(buffer, layout, path);
+    }
+
+    /**
+     * 헤더만 읽어 (원본 Job 실행 id, 생성 시각) 확인 — 새 스냅샷 도착 여부 폴링용
+     *
+     * @return [jobExecutionId, createdAt], 파일이 없거나 헤더가 올바르지 않으면 null
+     */
+    static long[] peekVersion(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // 헤더 전체를 읽을 때까지 반복
+            }
+            if (header.hasRemaining() || header.getInt(OFFSET_MAGIC) != MAGIC) {
+                return null;
+            }
+            return new long[]{header.getLong(OFFSET_JOB_ID), header.getLong(OFFSET_CREATED_AT)};
+        }
+    }
+
+    // ========== 조회 ==========
+
+    @Override
+    public int findRow(String quarter, String trdarCd, String svcIndutyCd) {
+        int quarterId = search(quarter, layout.quarterCodes(), layout.widths()[WIDTH_QUARTER_CODE], layout.quarterCount());
+        int areaId = search(trdarCd, layout.areaCodes(), layout.widths()[WIDTH_AREA_CODE], layout.areaCount());
+        int industryId = search(svcIndutyCd, layout.industryCodes(), layout.widths()[WIDTH_INDUSTRY_CODE], layout.industryCount());
+        if (quarterId < 0 || areaId < 0 || industryId < 0) {
+            return -1;
+        }
+        int key = (quarterId * layout.areaCount() + areaId) * layout.industryCount() + industryId;
+        return buffer.getInt((int) layout.rowByKey() + 4 * key);
+    }
+
+    @Override
+    public boolean hasProfit(int row) {
+        return row >= 0 && (buffer.get((int) layout.datasetFlags() + row) & 1) != 0;
+    }
+
+    @Override
+    public boolean hasStore(int row) {
+        return row >= 0 && (buffer.get((int) layout.datasetFlags() + row) & 2) != 0;
+    }
+
+    @Override
+    public double value(MarketMetric metric, int row) {
+        if (metric.isWide()) {
+            return buffer.getDouble((int) layout.wideColumns() + 8 * (layout.rowCount() * metric.getColumnIndex() + row));
+        }
+        return buffer.getFloat((int) layout.narrowColumns() + 4 * (layout.rowCount() * metric.getColumnIndex() + row));
+    }
+
+    @Override
+    public double[] valuesAcrossAreas(MarketMetric metric, String quarter, String svcIndutyCd) {
+        int quarterId = search(quarter, layout.quarterCodes(), layout.widths()[WIDTH_QUARTER_CODE], layout.quarterCount());
+        int industryId = search(svcIndutyCd, layout.industryCodes(), layout.widths()[WIDTH_INDUSTRY_CODE], layout.industryCount());
+        if (quarterId < 0 || industryId < 0) {
+            return new double[0];
+        }
+        double[] values = new double[layout.areaCount()];
+        int size = 0;
+        for (int areaId = 0; areaId < layout.areaCount(); areaId++) {
+            int key = (quarterId * layout.areaCount() + areaId) * layout.industryCount() + industryId;
+            int row = buffer.getInt((int) layout.rowByKey() + 4 * key);
+            double value = row >= 0 ? value(metric, row) : Double.NaN;
+            if (!Double.isNaN(value)) {
+                values[size++] = value;
+            }
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public int getRowCount() {
+        return layout.rowCount();
+    }
+
+    @Override
+    public String quarterCodeOf(int row) {
+        return label(layout.quarterCodes(), WIDTH_QUARTER_CODE, id(layout.quarterIds(), row));
+    }
+
+    @Override
+    public String trdarCdOf(int row) {
+        return label(layout.areaCodes(), WIDTH_AREA_CODE, id(layout.areaIds(), row));
+    }
+
+    @Override
+    public String trdarCdNmOf(int row) {
+        return label(layout.areaNames(), WIDTH_AREA_NAME, id(layout.areaIds(), row));
+    }
+
+    @Override
+    public String trdarSeCdOf(int row) {
+        return label(layout.areaSeCodes(), WIDTH_AREA_SE_CODE, id(layout.areaIds(), row));
+    }
+
+    @Override
+    public String trdarSeCdNmOf(int row) {
+        return label(layout.areaSeNames(), WIDTH_AREA_SE_NAME, id(layout.areaIds(), row));
+    }
+
+    @Override
+    public String svcIndutyCdOf(int row) {
+        return label(layout.industryCodes(), WIDTH_INDUSTRY_CODE, id(layout.industryIds(), row));
+    }
+
+    @Override
+    public String svcIndutyCdNmOf(int row) {
+        return label(layout.industryNames(), WIDTH_INDUSTRY_NAME, id(layout.industryIds(), row));
+    }
+
+    public long getJobExecutionId() {
+        return jobExecutionId;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long sizeBytes() {
+        return layout.fileSize();
+    }
+
+    // ========== 내부 ==========
+
+    private int id(long section, int row) {
+        return buffer.getInt((int) section + 4 * row);
+    }
+
+    private String label(long section, int widthIndex, int id) {
+        int width = layout.widths()[widthIndex];
+        return getFixed(buffer, (int) section + id * width, width);
+    }
+
+    /**
+     * 정렬된 고정 폭 코드 배열에서 이진 탐색 (UTF-8 바이트 부호 없는 비교 = 코드 문자열 사전순)
+     *
+     * @return id (없으면 -1)
+     */
+    private int search(String code, long section, int width, int count) {
+        if (code == null) {
+            return -1;
+        }
+        byte[] target = code.getBytes(StandardCharsets.UTF_8);
+        if (target.length > width) {
+            return -1;
+        }
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare((int) section + mid * width, width, target);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compare(int offset, int width, byte[] target) {
+        for (int i = 0; i < width; i++) {
+            int stored = buffer.get(offset + i) & 0xFF;
+            int wanted = i < target.length ? target[i] & 0xFF : 0;
+            if (stored != wanted) {
+                return stored - wanted;
+            }
+        }
+        return 0;
+    }
+}
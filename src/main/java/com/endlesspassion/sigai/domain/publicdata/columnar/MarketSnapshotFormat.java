@@ -0,0 +1,189 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상권 스냅샷 파일 포맷 (리틀 엔디언, 고정 폭, 컬럼형)
+ *
+ * [헤더 128바이트]
+ *   0 int  magic ("SGMS")          4 int  version
+ *   8 long 원본 동기화 Job 실행 id  16 long 생성 시각 (epoch ms)
+ *  24 long 본문 CRC32              32 long 파일 전체 크기
+ *  40 int  행 수                   44/48/52 int 분기/상권/업종 수
+ *  56 int  double 컬럼 수          60 int  float 컬럼 수
+ *  64~88 int 고정 폭 문자열 너비 (분기 코드, 상권 코드, 업종 코드, 상권명, 상권 구분 코드, 상권 구분명, 업종명)
+ *
+ * [본문] 각 섹션은 8바이트 정렬
+ *   분기/상권/업종 코드 (정렬된 고정 폭 UTF-8, 0으로 패딩) → 조밀 인덱스 int[]
+ *   → 행별 분기/상권/업종 id int[] → 데이터셋 플래그 byte[]
+ *   → double 컬럼들 → float 컬럼들 → 상권/업종 라벨 (고정 폭 UTF-8)
+ *
+ * 포맷이 바뀌면 VERSION을 올린다. 버전이 다른 파일은 열지 않고 MongoDB 적재로 대체한다.
+ */
+final class MarketSnapshotFormat {
+
+    static final int MAGIC = 0x534D4753; // "SGMS" (리틀 엔디언)
+    static final int VERSION = 2; // 2: 개업/폐업률을 double 컬럼으로 이동
+    static final int HEADER_SIZE = 128;
+
+    static final int OFFSET_MAGIC = 0;
+    static final int OFFSET_VERSION = 4;
+    static final int OFFSET_JOB_ID = 8;
+    static final int OFFSET_CREATED_AT = 16;
+    static final int OFFSET_CRC = 24;
+    static final int OFFSET_FILE_SIZE = 32;
+    static final int OFFSET_ROW_COUNT = 40;
+    static final int OFFSET_QUARTER_COUNT = 44;
+    static final int OFFSET_AREA_COUNT = 48;
+    static final int OFFSET_INDUSTRY_COUNT = 52;
+    static final int OFFSET_WIDE_COUNT = 56;
+    static final int OFFSET_NARROW_COUNT = 60;
+    static final int OFFSET_WIDTHS = 64;
+
+    static final int WIDTH_QUARTER_CODE = 0;
+    static final int WIDTH_AREA_CODE = 1;
+    static final int WIDTH_INDUSTRY_CODE = 2;
+    static final int WIDTH_AREA_NAME = 3;
+    static final int WIDTH_AREA_SE_CODE = 4;
+    static final int WIDTH_AREA_SE_NAME = 5;
+    static final int WIDTH_INDUSTRY_NAME = 6;
+    static final int WIDTH_COUNT = 7;
+
+    private MarketSnapshotFormat() {
+    }
+
+    /**
+     * 헤더 값으로부터 계산한 섹션별 시작 위치
+     */
+    record Layout(int rowCount,
+                  int quarterCount,
+                  int areaCount,
+                  int industryCount,
+                  int wideCount,
+                  int narrowCount,
+                  int[] widths,
+                  long quarterCodes,
+                  long areaCodes,
+                  long industryCodes,
+                  long rowByKey,
+                  long quarterIds,
+                  long areaIds,
+                  long industryIds,
+                  long datasetFlags,
+                  long wideColumns,
+                  long narrowColumns,
+                  long areaNames,
+                  long areaSeCodes,
+                  long areaSeNames,
+                  long industryNames,
+                  long fileSize) {
+
+        static Layout of(int rowCount, int quarterCount, int areaCount, int industryCount,
+                         int wideCount, int narrowCount, int[] widths) {
+            long keyCount = (long) quarterCount * areaCount * industryCount;
+
+            long position = HEADER_SIZE;
+            long quarterCodes = position;
+            position = align(position + (long) quarterCount * widths[WIDTH_QUARTER_CODE]);
+            long areaCodes = position;
+            position = align(position + (long) areaCount * widths[WIDTH_AREA_CODE]);
+            long industryCodes = position;
+            position = align(position + (long) industryCount * widths[WIDTH_INDUSTRY_CODE]);
+            long rowByKey = position;
+            position = align(position + 4L * keyCount);
+            long quarterIds = position;
+            position = align(position + 4L * rowCount);
+            long areaIds = position;
+            position = align(position + 4L * rowCount);
+            long industryIds = position;
+            position = align(position + 4L * rowCount);
+            long datasetFlags = position;
+            position = align(position + rowCount);
+            long wideColumns = position;
+            position = align(position + 8L * rowCount * wideCount);
+            long narrowColumns = position;
+            position = align(position + 4L * rowCount * narrowCount);
+            long areaNames = position;
+            position = align(position + (long) areaCount * widths[WIDTH_AREA_NAME]);
+            long areaSeCodes = position;
+            position = align(position + (long) areaCount * widths[WIDTH_AREA_SE_CODE]);
+            long areaSeNames = position;
+            position = align(position + (long) areaCount * widths[WIDTH_AREA_SE_NAME]);
+            long industryNames = position;
+            position = align(position + (long) industryCount * widths[WIDTH_INDUSTRY_NAME]);
+
+            return new Layout(rowCount, quarterCount, areaCount, industryCount, wideCount, narrowCount, widths,
+                    quarterCodes, areaCodes, industryCodes, rowByKey, quarterIds, areaIds, industryIds,
+                    datasetFlags, wideColumns, narrowColumns, areaNames, areaSeCodes, areaSeNames,
+                    industryNames, position);
+        }
+
+        static Layout readFrom(ByteBuffer header) {
+            int[] widths = new int[WIDTH_COUNT];
+            for (int i = 0; i < WIDTH_COUNT; i++) {
+                widths[i] = header.getInt(OFFSET_WIDTHS + 4 * i);
+            }
+            return of(header.getInt(OFFSET_ROW_COUNT),
+                    header.getInt(OFFSET_QUARTER_COUNT),
+                    header.getInt(OFFSET_AREA_COUNT),
+                    header.getInt(OFFSET_INDUSTRY_COUNT),
+                    header.getInt(OFFSET_WIDE_COUNT),
+                    header.getInt(OFFSET_NARROW_COUNT),
+                    widths);
+        }
+
+        void writeTo(ByteBuffer header) {
+            header.putInt(OFFSET_ROW_COUNT, rowCount);
+            header.putInt(OFFSET_QUARTER_COUNT, quarterCount);
+            header.putInt(OFFSET_AREA_COUNT, areaCount);
+            header.putInt(OFFSET_INDUSTRY_COUNT, industryCount);
+            header.putInt(OFFSET_WIDE_COUNT, wideCount);
+            header.putInt(OFFSET_NARROW_COUNT, narrowCount);
+            for (int i = 0; i < WIDTH_COUNT; i++) {
+                header.putInt(OFFSET_WIDTHS + 4 * i, widths[i]);
+            }
+            header.putLong(OFFSET_FILE_SIZE, fileSize);
+        }
+    }
+
+    static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    /**
+     * 고정 폭 문자열 너비 (UTF-8 최대 바이트 수, 최소 1)
+     */
+    static int maxWidth(String[] values) {
+        int width = 1;
+        for (String value : values) {
+            if (value != null) {
+                width = Math.max(width, value.getBytes(StandardCharsets.UTF_8).length);
+            }
+        }
+        return width;
+    }
+
+    static void putFixed(ByteBuffer buffer, int offset, int width, String value) {
+        if (value == null) {
+            return; // 0으로 채워진 칸 = null
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(offset + i, bytes[i]);
+        }
+    }
+
+    static String getFixed(ByteBuffer buffer, int offset, int width) {
+        int length = 0;
+        while (length < width && buffer.get(offset + length) != 0) {
+            length++;
+        }
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
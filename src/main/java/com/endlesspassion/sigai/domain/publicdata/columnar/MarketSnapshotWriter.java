@@ -0,0 +1,147 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketSnapshotFormat.Layout;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static com.endlesspassion.sigai.domain.publicdata.columnar.MarketSnapshotFormat.*;
+
+/**
+ * MarketColumnStore를 스냅샷 파일로 기록
+ *
+ * 같은 디렉토리의 임시 파일에 모두 기록하고 fsync 한 뒤 원자적 rename으로 교체한다.
+ * 따라서 읽는 쪽은 항상 완성된 이전 파일이나 완성된 새 파일 중 하나만 보게 된다.
+ */
+final class MarketSnapshotWriter {
+
+    private MarketSnapshotWriter() {
+    }
+
+    static void write(MarketColumnStore store, long jobExecutionId, Path target) throws IOException {
+        MarketDictionary quarters = store.getQuarters();
+        MarketDictionary areas = store.getAreas();
+        MarketDictionary industries = store.getIndustries();
+        int rowCount = store.getRowCount();
+
+        String[] areaNames = new String[areas.size()];
+        String[] areaSeCodes = new String[areas.size()];
+        String[] areaSeNames = new String[areas.size()];
+        for (int areaId = 0; areaId < areas.size(); areaId++) {
+            areaNames[areaId] = store.areaNameOf(areaId);
+            areaSeCodes[areaId] = store.areaSeCodeOf(areaId);
+            areaSeNames[areaId] = store.areaSeNameOf(areaId);
+        }
+        String[] industryNames = new String[industries.size()];
+        for (int industryId = 0; industryId < industries.size(); industryId++) {
+            industryNames[industryId] = store.industryNameOf(industryId);
+        }
+
+        int[] widths = new int[WIDTH_COUNT];
+        widths[WIDTH_QUARTER_CODE] = maxWidth(codes(quarters));
+        widths[WIDTH_AREA_CODE] = maxWidth(codes(areas));
+        widths[WIDTH_INDUSTRY_CODE] = maxWidth(codes(industries));
+        widths[WIDTH_AREA_NAME] = maxWidth(areaNames);
+        widths[WIDTH_AREA_SE_CODE] = maxWidth(areaSeCodes);
+        widths[WIDTH_AREA_SE_NAME] = maxWidth(areaSeNames);
+        widths[WIDTH_INDUSTRY_NAME] = maxWidth(industryNames);
+
+        Layout layout = Layout.of(rowCount, quarters.size(), areas.size(), industries.size(),
+                MarketMetric.wideCount(), MarketMetric.narrowCount(), widths);
+        if (layout.fileSize() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("스냅샷 크기가 단일 매핑 한도(2GB)를 초과합니다: " + layout.fileSize());
+        }
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, layout.fileSize());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            writeCodes(buffer, layout.quarterCodes(), widths[WIDTH_QUARTER_CODE], codes(quarters));
+            writeCodes(buffer, layout.areaCodes(), widths[WIDTH_AREA_CODE], codes(areas));
+            writeCodes(buffer, layout.industryCodes(), widths[WIDTH_INDUSTRY_CODE], codes(industries));
+
+            int key = 0;
+            for (int q = 0; q < quarters.size(); q++) {
+                for (int a = 0; a < areas.size(); a++) {
+                    for (int i = 0; i < industries.size(); i++) {
+                        buffer.putInt((int) layout.rowByKey() + 4 * key++, store.findRow(q, a, i));
+                    }
+                }
+            }
+
+            for (int row = 0; row < rowCount; row++) {
+                buffer.putInt((int) layout.quarterIds() + 4 * row, store.quarterIdOf(row));
+                buffer.putInt((int) layout.areaIds() + 4 * row, store.areaIdOf(row));
+                buffer.putInt((int) layout.industryIds() + 4 * row, store.industryIdOf(row));
+                buffer.put((int) layout.datasetFlags() + row, store.datasetFlagsOf(row));
+            }
+
+            for (MarketMetric metric : MarketMetric.all()) {
+                if (metric.isWide()) {
+                    int base = (int) layout.wideColumns() + 8 * rowCount * metric.getColumnIndex();
+                    for (int row = 0; row < rowCount; row++) {
+                        buffer.putDouble(base + 8 * row, store.value(metric, row));
+                    }
+                } else {
+                    int base = (int) layout.narrowColumns() + 4 * rowCount * metric.getColumnIndex();
+                    for (int row = 0; row < rowCount; row++) {
+                        buffer.putFloat(base + 4 * row, (float) store.value(metric, row));
+                    }
+                }
+            }
+
+            writeCodes(buffer, layout.areaNames(), widths[WIDTH_AREA_NAME], areaNames);
+            writeCodes(buffer, layout.areaSeCodes(), widths[WIDTH_AREA_SE_CODE], areaSeCodes);
+            writeCodes(buffer, layout.areaSeNames(), widths[WIDTH_AREA_SE_NAME], areaSeNames);
+            writeCodes(buffer, layout.industryNames(), widths[WIDTH_INDUSTRY_NAME], industryNames);
+
+            // 헤더는 본문 CRC를 계산한 뒤 마지막에 기록
+            buffer.putInt(OFFSET_MAGIC, MAGIC);
+            buffer.putInt(OFFSET_VERSION, VERSION);
+            buffer.putLong(OFFSET_JOB_ID, jobExecutionId);
+            buffer.putLong(OFFSET_CREATED_AT, System.currentTimeMillis());
+            layout.writeTo(buffer);
+            buffer.putLong(OFFSET_CRC, checksum(buffer, layout.fileSize()));
+
+            buffer.force();
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 헤더를 제외한 본문 전체의 CRC32
+     */
+    static long checksum(ByteBuffer buffer, long fileSize) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_SIZE, (int) fileSize - HEADER_SIZE));
+        return crc.getValue();
+    }
+
+    private static String[] codes(MarketDictionary dictionary) {
+        String[] codes = new String[dictionary.size()];
+        for (int id = 0; id < codes.length; id++) {
+            codes[id] = dictionary.codeOf(id);
+        }
+        return codes;
+    }
+
+    private static void writeCodes(MappedByteBuffer buffer, long offset, int width, String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            putFixed(buffer, (int) offset + i * width, width, values[i]);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.endlesspassion.sigai.domain.publicdata.compact;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.List;
+
+/**
+ * 상권 인구 데이터 압축 스키마(v2) — (분기, 상권)마다 문서 하나, 키는 CompactSchema 참고
+ *
+ * 유동/상주/직장인구는 서로 다른 API에서 오므로 동기화 Step마다 자기 배열만 $set 한다.
+ * 배열 위치는 PopulationType의 TOTAL ~ AGE_60 (값이 없으면 배열 자체가 없음)
+ */
+@Document(collection = "public_population_data_v2")
+@Data
+public class CompactPopulationData {
+
+    @Id
+    private String id;
+
+    @Field(CompactSchema.SCHEMA_VERSION)
+    private Integer schemaVersion;
+
+    @Field(CompactSchema.QUARTER)
+    private String stdrYyquCd;
+
+    @Field(CompactSchema.AREA)
+    private String trdarCd;
+
+    @Field(CompactSchema.FLOATING_POPULATION)
+    private List<Integer> floating; // 길단위 유동인구
+
+    @Field(CompactSchema.RESIDENT_POPULATION)
+    private List<Integer> resident; // 상주인구
+
+    @Field(CompactSchema.WORKING_POPULATION)
+    private List<Integer> working; // 직장인구
+}
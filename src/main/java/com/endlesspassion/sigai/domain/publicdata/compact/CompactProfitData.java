@@ -0,0 +1,70 @@
+package com.endlesspassion.sigai.domain.publicdata.compact;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 매출 데이터 압축 스키마(v2) — 필드 의미는 PublicProfitData와 동일, 키는 CompactSchema 참고
+ */
+@Document(collection = "public_profit_data_v2")
+@Data
+public class CompactProfitData {
+
+    @Id
+    private String id;
+
+    @Field(CompactSchema.SCHEMA_VERSION)
+    private Integer schemaVersion;
+
+    @Field(CompactSchema.QUARTER)
+    private String stdrYyquCd;
+
+    @Field(CompactSchema.AREA)
+    private String trdarCd;
+
+    @Field(CompactSchema.INDUSTRY)
+    private String svcIndutyCd;
+
+    // --- 매출 금액 (수천억 원까지 가능하므로 double 유지) ---
+    @Field(CompactSchema.SALES_AMT)
+    private Double thsmonSelngAmt;
+
+    @Field(CompactSchema.MALE_SALES_AMT)
+    private Double mlSelngAmt;
+
+    @Field(CompactSchema.FEMALE_SALES_AMT)
+    private Double fmlSelngAmt;
+
+    // --- 매출 건수 (int32) ---
+    @Field(CompactSchema.SALES_CO)
+    private Integer thsmonSelngCo;
+
+    @Field(CompactSchema.WEEKDAY_SALES_CO)
+    private Integer mdwkSelngCo;
+
+    @Field(CompactSchema.MALE_SALES_CO)
+    private Integer mlSelngCo;
+
+    @Field(CompactSchema.FEMALE_SALES_CO)
+    private Integer fmlSelngCo;
+
+    @Field(CompactSchema.AGE_10_SALES_CO)
+    private Integer agrde10SelngCo;
+
+    @Field(CompactSchema.AGE_20_SALES_CO)
+    private Integer agrde20SelngCo;
+
+    @Field(CompactSchema.AGE_30_SALES_CO)
+    private Integer agrde30SelngCo;
+
+    @Field(CompactSchema.AGE_40_SALES_CO)
+    private Integer agrde40SelngCo;
+
+    @Field(CompactSchema.AGE_50_SALES_CO)
+    private Integer agrde50SelngCo;
+
+    @Field(CompactSchema.AGE_60_SALES_CO)
+    private Integer agrde60AboveSelngCo;
+}
@@ -0,0 +1,107 @@
+package com.endlesspassion.sigai.domain.publicdata.compact;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * v1 공공 데이터 문서 → 압축 스키마(v2) 변환
+ *
+ * - 건수/점포 수: 원본 API가 "12.0" 형태의 실수로 내려주므로 반올림하여 int로 저장
+ * - 상권명/업종명/상권 구분: 문서에서 제거하고 MarketLabel로 분리
+ * - 인구: v1 문서 없이 API 응답에서 바로 압축 스키마로 변환 (종류별 배열 하나)
+ */
+public final class CompactPublicDataMapper {
+
+    private CompactPublicDataMapper() {
+    }
+
+    public static CompactProfitData toCompact(PublicProfitData source) {
+        CompactProfitData target = new CompactProfitData();
+        target.setSchemaVersion(CompactSchema.VERSION);
+        target.setStdrYyquCd(source.getStdrYyquCd());
+        target.setTrdarCd(source.getTrdarCd());
+        target.setSvcIndutyCd(source.getSvcIndutyCd());
+
+        target.setThsmonSelngAmt(source.getThsmonSelngAmt());
+        target.setMlSelngAmt(source.getMlSelngAmt());
+        target.setFmlSelngAmt(source.getFmlSelngAmt());
+
+        target.setThsmonSelngCo(toCount(source.getThsmonSelngCo()));
+        target.setMdwkSelngCo(toCount(source.getMdwkSelngCo()));
+        target.setMlSelngCo(toCount(source.getMlSelngCo()));
+        target.setFmlSelngCo(toCount(source.getFmlSelngCo()));
+        target.setAgrde10SelngCo(toCount(source.getAgrde10SelngCo()));
+        target.setAgrde20SelngCo(toCount(source.getAgrde20SelngCo()));
+        target.setAgrde30SelngCo(toCount(source.getAgrde30SelngCo()));
+        target.setAgrde40SelngCo(toCount(source.getAgrde40SelngCo()));
+        target.setAgrde50SelngCo(toCount(source.getAgrde50SelngCo()));
+        target.setAgrde60AboveSelngCo(toCount(source.getAgrde60AboveSelngCo()));
+        return target;
+    }
+
+    public static CompactStoreData toCompact(PublicStoreData source) {
+        CompactStoreData target = new CompactStoreData();
+        target.setSchemaVersion(CompactSchema.VERSION);
+        target.setStdrYyquCd(source.getStdrYyquCd());
+        target.setTrdarCd(source.getTrdarCd());
+        target.setSvcIndutyCd(source.getSvcIndutyCd());
+
+        target.setStorCo(toCount(source.getStorCo()));
+        target.setSimilrIndutyStorCo(toCount(source.getSimilrIndutyStorCo()));
+        target.setOpbizRt(source.getOpbizRt());
+        target.setOpbizStorCo(toCount(source.getOpbizStorCo()));
+        target.setClsbizRt(source.getClsbizRt());
+        target.setClsbizStorCo(toCount(source.getClsbizStorCo()));
+        target.setFrcStorCo(toCount(source.getFrcStorCo()));
+        return target;
+    }
+
+    /**
+     * @param values PopulationType.API_PREFIXES 순서의 인구 수 (원본 실수값)
+     */
+    public static CompactPopulationData toPopulation(
+            PopulationType type, String stdrYyquCd, String trdarCd, List<Double> values) {
+        CompactPopulationData target = new CompactPopulationData();
+        target.setSchemaVersion(CompactSchema.VERSION);
+        target.setStdrYyquCd(stdrYyquCd);
+        target.setTrdarCd(trdarCd);
+
+        List<Integer> counts = new ArrayList<>(values.size());
+        for (Double value : values) {
+            counts.add(toCount(value));
+        }
+        type.setValues(target, counts);
+        return target;
+    }
+
+    public static MarketLabel areaLabel(PublicProfitData source) {
+        return MarketLabel.area(source.getTrdarCd(), source.getTrdarCdNm(),
+                source.getTrdarSeCd(), source.getTrdarSeCdNm());
+    }
+
+    public static MarketLabel areaLabel(PublicStoreData source) {
+        return MarketLabel.area(source.getTrdarCd(), source.getTrdarCdNm(),
+                source.getTrdarSeCd(), source.getTrdarSeCdNm());
+    }
+
+    public static MarketLabel industryLabel(PublicProfitData source) {
+        return MarketLabel.industry(source.getSvcIndutyCd(), source.getSvcIndutyCdNm());
+    }
+
+    public static MarketLabel industryLabel(PublicStoreData source) {
+        return MarketLabel.industry(source.getSvcIndutyCd(), source.getSvcIndutyCdNm());
+    }
+
+    /**
+     * 실수로 저장된 건수를 int로 변환 (int 범위를 넘으면 데이터 오류이므로 예외)
+     */
+    static Integer toCount(Double value) {
+        if (value == null || value.isNaN()) {
+            return null;
+        }
+        return Math.toIntExact(Math.round(value));
+    }
+}
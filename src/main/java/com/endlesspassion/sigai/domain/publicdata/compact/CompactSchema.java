@@ -0,0 +1,61 @@
+package com.endlesspassion.sigai.domain.publicdata.compact;
+
+/**
+ * 공공 데이터 압축 스키마(v2) 필드 키
+ *
+ * v1(public_profit_data / public_store_data) 대비 변경점:
+ * - 필드 키를 1~3자로 축약 (문서마다 반복되는 키 길이가 문서 크기의 절반 가까이 차지)
+ * - 건수/점포 수는 double 대신 int32 (8바이트 → 4바이트)
+ * - 상권명/업종명/상권 구분은 문서에서 제거하고 public_market_label 컬렉션에 한 번만 저장
+ * - 스키마 버전 필드(v)로 이후 포맷 변경 시 구분
+ */
+public final class CompactSchema {
+
+    public static final int VERSION = 2;
+
+    // 공통 키
+    public static final String SCHEMA_VERSION = "v";
+    public static final String QUARTER = "q";           // stdr_yyqu_cd
+    public static final String AREA = "a";              // trdar_cd
+    public static final String INDUSTRY = "i";          // svc_induty_cd
+
+    // 매출 (public_profit_data_v2)
+    public static final String SALES_AMT = "sa";        // thsmon_selng_amt
+    public static final String MALE_SALES_AMT = "msa";  // ml_selng_amt
+    public static final String FEMALE_SALES_AMT = "fsa"; // fml_selng_amt
+    public static final String SALES_CO = "sc";         // thsmon_selng_co
+    public static final String WEEKDAY_SALES_CO = "wsc"; // mdwk_selng_co
+    public static final String MALE_SALES_CO = "msc";   // ml_selng_co
+    public static final String FEMALE_SALES_CO = "fsc"; // fml_selng_co
+    public static final String AGE_10_SALES_CO = "a10"; // agrde_10_selng_co
+    public static final String AGE_20_SALES_CO = "a20";
+    public static final String AGE_30_SALES_CO = "a30";
+    public static final String AGE_40_SALES_CO = "a40";
+    public static final String AGE_50_SALES_CO = "a50";
+    public static final String AGE_60_SALES_CO = "a60"; // agrde_60_above_selng_co
+
+    // 점포 (public_store_data_v2)
+    public static final String STORE_CO = "st";         // stor_co
+    public static final String SIMILAR_STORE_CO = "ss"; // similr_induty_stor_co
+    public static final String OPEN_RATE = "or";        // opbiz_rt
+    public static final String OPEN_STORE_CO = "oc";    // opbiz_stor_co
+    public static final String CLOSE_RATE = "cr";       // clsbiz_rt
+    public static final String CLOSE_STORE_CO = "cc";   // clsbiz_stor_co
+    public static final String FRANCHISE_STORE_CO = "fr"; // frc_stor_co
+
+    // 인구 (public_population_data_v2) — 상권 단위(업종 키 없음)
+    // 종류마다 [총, 남, 여, 10대, 20대, 30대, 40대, 50대, 60대 이상] int32 배열 하나 (PopulationType 참고)
+    public static final String FLOATING_POPULATION = "fp"; // *_flpop_co (길단위 유동인구)
+    public static final String RESIDENT_POPULATION = "rp"; // *_repop_co (상주인구)
+    public static final String WORKING_POPULATION = "wp";  // *_wrc_popltn_co (직장인구)
+
+    // 라벨 (public_market_label)
+    public static final String LABEL_TYPE = "t";
+    public static final String LABEL_CODE = "c";
+    public static final String LABEL_NAME = "n";
+    public static final String LABEL_SE_CODE = "sc";
+    public static final String LABEL_SE_NAME = "sn";
+
+    private CompactSchema() {
+    }
+}
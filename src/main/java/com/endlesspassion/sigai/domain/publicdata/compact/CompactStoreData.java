@@ -0,0 +1,50 @@
+package com.endlesspassion.sigai.domain.publicdata.compact;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 점포 데이터 압축 스키마(v2) — 필드 의미는 PublicStoreData와 동일, 키는 CompactSchema 참고
+ */
+@Document(collection = "public_store_data_v2")
+@Data
+public class CompactStoreData {
+
+    @Id
+    private String id;
+
+    @Field(CompactSchema.SCHEMA_VERSION)
+    private Integer schemaVersion;
+
+    @Field(CompactSchema.QUARTER)
+    private String stdrYyquCd;
+
+    @Field(CompactSchema.AREA)
+    private String trdarCd;
+
+    @Field(CompactSchema.INDUSTRY)
+    private String svcIndutyCd;
+
+    @Field(CompactSchema.STORE_CO)
+    private Integer storCo; // 점포_수
+
+    @Field(CompactSchema.SIMILAR_STORE_CO)
+    private Integer similrIndutyStorCo; // 유사_업종_점포_수
+
+    @Field(CompactSchema.OPEN_RATE)
+    private Double opbizRt; // 개업_율 (비율이므로 double 유지)
+
+    @Field(CompactSchema.OPEN_STORE_CO)
+    private Integer opbizStorCo; // 개업_점포_수
+
+    @Field(CompactSchema.CLOSE_RATE)
+    private Double clsbizRt; // 폐업_률
+
+    @Field(CompactSchema.CLOSE_STORE_CO)
+    private Integer clsbizStorCo; // 폐업_점포_수
+
+    @Field(CompactSchema.FRANCHISE_STORE_CO)
+    private Integer frcStorCo; // 프랜차이즈_점포_수
+}
@@ -0,0 +1,57 @@
+package com.endlesspassion.sigai.domain.publicdata.compact;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 상권/업종 라벨 (압축 스키마에서 문서마다 반복되던 *_nm 필드를 분리)
+ *
+ * _id = 종류 + ":" + 코드 (예: "A:3110001", "I:CS100001")
+ */
+@Document(collection = "public_market_label")
+@Data
+public class MarketLabel {
+
+    public static final String AREA = "A";
+    public static final String INDUSTRY = "I";
+
+    @Id
+    private String id;
+
+    @Field(CompactSchema.LABEL_TYPE)
+    private String type; // A: 상권, I: 업종
+
+    @Field(CompactSchema.LABEL_CODE)
+    private String code;
+
+    @Field(CompactSchema.LABEL_NAME)
+    private String name; // 상권_코드_명 / 서비스_업종_코드_명
+
+    @Field(CompactSchema.LABEL_SE_CODE)
+    private String seCode; // 상권_구분_코드 (상권만)
+
+    @Field(CompactSchema.LABEL_SE_NAME)
+    private String seName; // 상권_구분_코드_명 (상권만)
+
+    public static MarketLabel area(String code, String name, String seCode, String seName) {
+        MarketLabel label = new MarketLabel();
+        label.setId(AREA + ":" + code);
+        label.setType(AREA);
+        label.setCode(code);
+        label.setName(name);
+        label.setSeCode(seCode);
+        label.setSeName(seName);
+        return label;
+    }
+
+    public static MarketLabel industry(String code, String name) {
+        MarketLabel label = new MarketLabel();
+        label.setId(INDUSTRY + ":" + code);
+        label.setType(INDUSTRY);
+        label.setCode(code);
+        label.setName(name);
+        return label;
+    }
+}
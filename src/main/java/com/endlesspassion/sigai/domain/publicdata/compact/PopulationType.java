@@ -0,0 +1,63 @@
+package com.endlesspassion.sigai.domain.publicdata.compact;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상권 인구 종류 (서울시 상권분석서비스 API별 필드 접미사와 압축 스키마 키)
+ *
+ * API 필드는 "{구분}_{접미사}" 형태 (예: TOT_FLPOP_CO, AGRDE_20_REPOP_CO, FML_WRC_POPLTN_CO)이고,
+ * 압축 스키마에는 API_PREFIXES 순서의 int32 배열로 저장한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PopulationType {
+
+    FLOATING("FLPOP_CO", CompactSchema.FLOATING_POPULATION),
+    RESIDENT("REPOP_CO", CompactSchema.RESIDENT_POPULATION),
+    WORKING("WRC_POPLTN_CO", CompactSchema.WORKING_POPULATION);
+
+    // 배열 위치
+    public static final int TOTAL = 0;
+    public static final int MALE = 1;
+    public static final int FEMALE = 2;
+    public static final int AGE_10 = 3; // 10대 ~ 60대 이상: AGE_10 + 0 ~ 5
+    public static final int AGE_GROUPS = 6;
+
+    /**
+     * 배열 위치별 API 필드 접두사
+     */
+    public static final List<String> API_PREFIXES = List.of(
+            "TOT", "ML", "FML", "AGRDE_10", "AGRDE_20", "AGRDE_30", "AGRDE_40", "AGRDE_50", "AGRDE_60_ABOVE");
+
+    private final String apiSuffix;
+    private final String field;
+
+    public String apiField(int index) {
+        return API_PREFIXES.get(index) + "_" + apiSuffix;
+    }
+
+    /**
+     * @return 문서의 이 종류 배열 (없으면 null)
+     */
+    public List<Integer> valuesOf(CompactPopulationData data) {
+        if (data == null) {
+            return null;
+        }
+        return switch (this) {
+            case FLOATING -> data.getFloating();
+            case RESIDENT -> data.getResident();
+            case WORKING -> data.getWorking();
+        };
+    }
+
+    public void setValues(CompactPopulationData data, List<Integer> values) {
+        switch (this) {
+            case FLOATING -> data.setFloating(values);
+            case RESIDENT -> data.setResident(values);
+            case WORKING -> data.setWorking(values);
+        }
+    }
+}
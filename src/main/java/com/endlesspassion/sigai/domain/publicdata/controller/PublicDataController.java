@@ -0,0 +1,225 @@
+package com.endlesspassion.sigai.domain.publicdata.controller;
+
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketAnomalies;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketHistory;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketPercentile;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketRankingPage;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketRollup;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketSurvival;
+import com.endlesspassion.sigai.domain.publicdata.dto.SimilarMarkets;
+import com.endlesspassion.sigai.domain.publicdata.service.MarketAnomalyService;
+import com.endlesspassion.sigai.domain.publicdata.service.MarketRollupService;
+import com.endlesspassion.sigai.domain.publicdata.service.MarketSketchService;
+import com.endlesspassion.sigai.domain.publicdata.service.MarketSurvivalService;
+import com.endlesspassion.sigai.domain.publicdata.service.PublicDataService;
+import com.endlesspassion.sigai.domain.publicdata.service.SimilarMarketService;
+import com.endlesspassion.sigai.global.exception.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Tag(name = "공공 데이터 API", description = "서울시 상권 공공 데이터 조회 API")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/public-data")
+public class PublicDataController {
+
+    private final PublicDataService publicDataService;
+    private final SimilarMarketService similarMarketService;
+    private final MarketAnomalyService marketAnomalyService;
+    private final MarketRollupService marketRollupService;
+    private final MarketSketchService marketSketchService;
+    private final MarketSurvivalService marketSurvivalService;
+    private final ObjectMapper objectMapper;
+
+    @Operation(
+            summary = "분기/업종별 상권 매출 순위",
+            description = """
+                    한 분기, 한 업종의 모든 상권을 매출 순으로 순위 매겨 페이지 단위로 조회합니다.
+
+                    - `quarter`: 분기 코드 (예: 20243)
+                    - `svcIndutyCd`: 업종 코드 (예: CS100001)
+                    - `maxTopPercentile`: 상위 몇 %까지만 조회 (예: 10 → 상위 10%)
+                    - `cursor`: 이전 응답의 `nextCursor` (첫 페이지는 생략)
+                    - `size`: 페이지 크기 (1-200, 기본값: 20)
+                    """
+    )
+    @GetMapping("/rankings")
+    public ApiResponse<MarketRankingPage> rankings(
+            @RequestParam String quarter,
+            @RequestParam String svcIndutyCd,
+            @RequestParam(required = false) Double maxTopPercentile,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(
+                publicDataService.findIndustryRanking(quarter, svcIndutyCd, cursor, size, maxTopPercentile));
+    }
+
+    @Operation(
+            summary = "상권/업종 전체 분기 이력",
+            description = """
+                    한 상권, 한 업종의 모든 분기 데이터를 한 번에 조회합니다. (차트용)
+
+                    - 지표마다 `quarters`와 같은 길이의 배열로 내려주며, 데이터가 없는 분기는 null입니다.
+                    - 응답에 ETag가 포함됩니다. `If-None-Match`로 다시 요청하면 변경이 없을 때 304를 반환합니다.
+                    """
+    )
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<MarketHistory>> history(
+            @RequestParam String trdarCd,
+            @RequestParam String svcIndutyCd,
+            WebRequest webRequest
+    ) throws JsonProcessingException {
+        ApiResponse<MarketHistory> body = ApiResponse.success(publicDataService.findMarketHistory(trdarCd, svcIndutyCd));
+
+        // 공공 데이터는 분기 단위로만 바뀌므로 응답 내용 해시로 ETag를 만들어 재전송을 줄임
+        String etag = "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(body)) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 Not Modified
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(10, TimeUnit.MINUTES).mustRevalidate())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "유사 상권 검색",
+            description = """
+                    같은 분기, 같은 업종에서 기준 상권과 가장 비슷한 상권을 조회합니다.
+
+                    - 비교 특성: 매출 수준, 폐업률, 개업률, 프랜차이즈 비중, 연령대별 매출 구성
+                    - `quarter`: 분기 코드 (예: 20243 또는 202403)
+                    - `trdarCd`: 기준 상권 코드, `svcIndutyCd`: 업종 코드
+                    - `k`: 조회할 상권 수 (1-50, 기본값: 10)
+                    """
+    )
+    @GetMapping("/similar-markets")
+    public ApiResponse<SimilarMarkets> similarMarkets(
+            @RequestParam String quarter,
+            @RequestParam String trdarCd,
+            @RequestParam String svcIndutyCd,
+            @RequestParam(defaultValue = "10") int k
+    ) {
+        return ApiResponse.success(similarMarketService.findSimilarMarkets(quarter, trdarCd, svcIndutyCd, k));
+    }
+
+    @Operation(
+            summary = "상권 이상 변화 목록",
+            description = """
+                    동기화 후 서울시 전체 상권/업종을 훑어, 직전 분기 대비 매출 또는 폐업률 변화가
+                    자기 이력이나 같은 자치구/업종 상권들에 비해 비정상적으로 큰 상권을 점수 순으로 조회합니다.
+
+                    - `quarter`: 분기 코드 (예: 20243)
+                    - `metric`: REVENUE(매출) / CLOSED_RATE(폐업률) (생략 시 전체)
+                    - `severity`: WARNING(한 기준에서 이상) / CRITICAL(두 기준 모두 이상) (생략 시 전체)
+                    - `gu`: 자치구 (예: 강남구, 생략 시 전체)
+                    - `svcIndutyCd`: 업종 코드 (예: CS100001, 생략 시 전체)
+                    - `size`: 조회 건수 (1-200, 기본값: 50)
+                    """
+    )
+    @GetMapping("/anomalies")
+    public ApiResponse<MarketAnomalies> anomalies(
+            @RequestParam String quarter,
+            @RequestParam(required = false) String metric,
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) String gu,
+            @RequestParam(required = false) String svcIndutyCd,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ApiResponse.success(
+                marketAnomalyService.findAnomalies(quarter, metric, severity, gu, svcIndutyCd, size));
+    }
+
+    @Operation(
+            summary = "자치구/업종 집계",
+            description = """
+                    한 분기, 한 자치구, 한 업종 상권들의 매출/폐업률 합계·평균·사분위수를 조회합니다. (동기화 후 미리 계산)
+
+                    - `quarter`: 분기 코드 (예: 20243)
+                    - `gu`: 자치구 (예: 성동구)
+                    - `svcIndutyCd`: 업종 코드 (예: CS100010)
+                    """
+    )
+    @GetMapping("/rollups/gu")
+    public ApiResponse<MarketRollup> guRollup(
+            @RequestParam String quarter,
+            @RequestParam String gu,
+            @RequestParam String svcIndutyCd
+    ) {
+        return ApiResponse.success(marketRollupService.findGuRollup(quarter, gu, svcIndutyCd));
+    }
+
+    @Operation(
+            summary = "업종 집계 (서울시 전체)",
+            description = """
+                    한 분기, 한 업종의 서울시 전체 상권 매출/폐업률 합계·평균·사분위수를 조회합니다. (동기화 후 미리 계산)
+
+                    - `quarter`: 분기 코드 (예: 20243)
+                    - `svcIndutyCd`: 업종 코드 (예: CS100010)
+                    """
+    )
+    @GetMapping("/rollups/industry")
+    public ApiResponse<MarketRollup> industryRollup(
+            @RequestParam String quarter,
+            @RequestParam String svcIndutyCd
+    ) {
+        return ApiResponse.success(marketRollupService.findIndustryRollup(quarter, svcIndutyCd));
+    }
+
+    @Operation(
+            summary = "분기/자치구/업종 묶음 분위",
+            description = """
+                    여러 분기, 자치구, 업종을 묶은 그룹 안에서 값의 위치(하위/상위 %)와 주요 분위수를 조회합니다.
+                    집계 셀마다 저장된 분위수 스케치를 병합하므로 근사값입니다. (순위 오차 약 1.65% 이내)
+
+                    - `quarter`: 분기 코드, 여러 개 가능 (예: 20243)
+                    - `svcIndutyCd`: 업종 코드, 여러 개 가능 (예: CS100010)
+                    - `gu`: 자치구, 여러 개 가능 (생략하면 서울시 전체)
+                    - `metric`: REVENUE(매출, 기본값) / CLOSED_RATE(폐업률)
+                    - `value`: 위치를 볼 값 (생략하면 분위수만)
+                    """
+    )
+    @GetMapping("/percentiles")
+    public ApiResponse<MarketPercentile> percentile(
+            @RequestParam List<String> quarter,
+            @RequestParam List<String> svcIndutyCd,
+            @RequestParam(required = false) List<String> gu,
+            @RequestParam(required = false) String metric,
+            @RequestParam(required = false) Double value
+    ) {
+        return ApiResponse.success(marketSketchService.findPercentile(quarter, gu, svcIndutyCd, metric, value));
+    }
+
+    @Operation(
+            summary = "상권/업종 점포 생존 곡선",
+            description = """
+                    지금 영업 중인 점포가 1 ~ 20분기 뒤에도 남아 있을 확률(%)을 조회합니다. (동기화 후 미리 계산)
+                    최근 분기들의 점포 수와 폐업 점포 수로 추정하며, 같은 업종의 자치구/서울시 기준 곡선을 함께 내려줍니다.
+
+                    - `trdarCd`: 상권 코드 (예: 3110001)
+                    - `svcIndutyCd`: 업종 코드 (예: CS100001)
+                    """
+    )
+    @GetMapping("/survival")
+    public ApiResponse<MarketSurvival> survival(
+            @RequestParam String trdarCd,
+            @RequestParam String svcIndutyCd
+    ) {
+        return ApiResponse.success(marketSurvivalService.find(trdarCd, svcIndutyCd));
+    }
+}
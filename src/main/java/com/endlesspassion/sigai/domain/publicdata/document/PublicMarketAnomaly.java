@@ -0,0 +1,68 @@
+package com.endlesspassion.sigai.domain.publicdata.document;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+
+/**
+ * 상권/업종 분기 변화 이상 기록 (사전 계산)
+ *
+ * 상권 데이터가 다시 적재될 때 MarketAnomalyService가 서울시 전체를 한 번에 훑어 이상으로 판정된 (분기, 상권, 업종, 지표)만 저장한다.
+ * 인덱스는 PublicDataIndexes에서 관리한다.
+ */
+@Document(collection = "public_market_anomaly")
+@Data
+public class PublicMarketAnomaly {
+
+    @Id
+    private String id; // 지표:분기:상권_코드:서비스_업종_코드
+
+    @Field("stdr_yyqu_cd")
+    private String stdrYyquCd; // 기준_년분기_코드
+
+    @Field("metric")
+    private String metric; // REVENUE(당월 매출 금액) / CLOSED_RATE(폐업률)
+
+    @Field("trdar_cd")
+    private String trdarCd; // 상권_코드
+
+    @Field("trdar_cd_nm")
+    private String trdarCdNm; // 상권_코드_명
+
+    @Field("svc_induty_cd")
+    private String svcIndutyCd; // 서비스_업종_코드
+
+    @Field("gu")
+    private String gu; // 자치구 (동료 비교 기준)
+
+    @Field("value")
+    private Double value; // 이번 분기 값
+
+    @Field("previous_value")
+    private Double previousValue; // 직전 분기 값
+
+    @Field("change")
+    private Double change; // 직전 분기 대비 변화 (매출: %, 폐업률: %p)
+
+    @Field("self_score")
+    private Double selfScore; // 자기 이력 기준 견고한 표준 점수
+
+    @Field("peer_score")
+    private Double peerScore; // 같은 자치구/업종 상권 기준 견고한 표준 점수
+
+    @Field("score")
+    private Double score; // max(|self_score|, |peer_score|), 정렬용
+
+    @Field("severity")
+    private String severity; // WARNING / CRITICAL
+
+    @Field("refreshed_at")
+    private Date refreshedAt;
+
+    public static String idOf(String metric, String quarter, String trdarCd, String svcIndutyCd) {
+        return metric + ":" + quarter + ":" + trdarCd + ":" + svcIndutyCd;
+    }
+}
@@ -0,0 +1,54 @@
+package com.endlesspassion.sigai.domain.publicdata.document;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 상권/업종별 매출·폐업률 예측 (사전 계산)
+ *
+ * 상권 데이터가 다시 적재될 때 MarketForecastService가 모든 (상권, 업종) 계열을 Holt-Winters로 맞춘 결과를 저장한다.
+ * _id가 "상권코드:업종코드"이므로 분석 응답에서는 _id 단건 조회만 수행한다.
+ */
+@Document(collection = "public_market_forecast")
+@Data
+public class PublicMarketForecast {
+
+    @Id
+    private String id; // 상권_코드:서비스_업종_코드
+
+    @Field("trdar_cd")
+    private String trdarCd; // 상권_코드
+
+    @Field("svc_induty_cd")
+    private String svcIndutyCd; // 서비스_업종_코드
+
+    @Field("base_quarter")
+    private String baseQuarter; // 학습에 쓴 마지막 분기 ("YYYYQ"), 예측은 다음 분기부터
+
+    @Field("revenue")
+    private List<Double> revenue; // 분기별 예측 당월_매출_금액
+
+    @Field("clsbiz_rt")
+    private List<Double> clsbizRt; // 분기별 예측 폐업_률
+
+    @Field("revenue_rmse")
+    private Double revenueRmse; // 매출 1분기 앞 예측 오차 (RMSE)
+
+    @Field("clsbiz_rmse")
+    private Double clsbizRmse; // 폐업률 1분기 앞 예측 오차 (RMSE)
+
+    @Field("model")
+    private String model; // 매출 예측 모델 (HOLT_WINTERS / HOLT / NAIVE)
+
+    @Field("refreshed_at")
+    private Date refreshedAt;
+
+    public static String idOf(String trdarCd, String svcIndutyCd) {
+        return trdarCd + ":" + svcIndutyCd;
+    }
+}
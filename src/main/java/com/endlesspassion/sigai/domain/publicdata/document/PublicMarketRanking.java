@@ -0,0 +1,49 @@
+package com.endlesspassion.sigai.domain.publicdata.document;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+
+/**
+ * 분기/업종별 상권 매출 순위 (사전 계산)
+ *
+ * 동기화 배치가 끝날 때 public_profit_data 전체를 $setWindowFields로 순위 매긴 결과를 $merge로 저장한다.
+ * 인덱스는 PublicDataIndexes에서 관리한다.
+ */
+@Document(collection = "public_market_ranking")
+@Data
+public class PublicMarketRanking {
+
+    @Id
+    private String id;
+
+    @Field("stdr_yyqu_cd")
+    private String stdrYyquCd; // 기준_년분기_코드
+
+    @Field("svc_induty_cd")
+    private String svcIndutyCd; // 서비스_업종_코드
+
+    @Field("trdar_cd")
+    private String trdarCd; // 상권_코드
+
+    @Field("trdar_cd_nm")
+    private String trdarCdNm; // 상권_코드_명
+
+    @Field("thsmon_selng_amt")
+    private Double thsmonSelngAmt; // 당월_매출_금액
+
+    @Field("rank")
+    private Integer rank; // 매출 순위 (동점은 같은 순위)
+
+    @Field("total_count")
+    private Integer totalCount; // 같은 분기/업종의 상권 수
+
+    @Field("top_percentile")
+    private Double topPercentile; // 상위 퍼센트 (rank / total_count * 100)
+
+    @Field("refreshed_at")
+    private Date refreshedAt;
+}
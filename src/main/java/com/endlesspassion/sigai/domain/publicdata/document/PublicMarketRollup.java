@@ -0,0 +1,81 @@
+package com.endlesspassion.sigai.domain.publicdata.document;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+
+/**
+ * 분기 × 자치구 × 업종 / 분기 × 업종 집계 (사전 계산)
+ *
+ * 상권 데이터가 다시 적재될 때 MarketRollupService가 MarketRollupCube로 만든 셀을 저장한다.
+ * _id가 "분기:자치구:업종"(서울시 전체는 자치구 자리에 ALL)이므로 집계 조회는 _id 단건 조회 한 번이다.
+ * 셀마다 직렬화한 분위수 스케치(KllSketch.toBytes)를 함께 저장하여, 여러 셀을 묶은 분위/순위는 스케치 병합으로 구한다.
+ */
+@Document(collection = "public_market_rollup")
+@Data
+public class PublicMarketRollup {
+
+    @Id
+    private String id; // 기준_년분기_코드:자치구:서비스_업종_코드
+
+    @Field("stdr_yyqu_cd")
+    private String stdrYyquCd; // 기준_년분기_코드
+
+    @Field("gu")
+    private String gu; // 자치구 (서울시 전체는 ALL)
+
+    @Field("svc_induty_cd")
+    private String svcIndutyCd; // 서비스_업종_코드
+
+    @Field("svc_induty_cd_nm")
+    private String svcIndutyCdNm; // 서비스_업종_코드_명
+
+    @Field("market_count")
+    private Integer marketCount; // 상권 수
+
+    @Field("revenue")
+    private Stats revenue; // 상권별 당월_매출_금액 요약
+
+    @Field("clsbiz_rt")
+    private Stats clsbizRt; // 상권별 폐업_률 요약
+
+    @Field("stor_co")
+    private Double storCo; // 점포_수 합계
+
+    @Field("clsbiz_stor_co")
+    private Double clsbizStorCo; // 폐업_점포_수 합계
+
+    @Field("revenue_sketch")
+    private byte[] revenueSketch; // 상권별 당월_매출_금액 분위수 스케치
+
+    @Field("clsbiz_rt_sketch")
+    private byte[] clsbizRtSketch; // 상권별 폐업_률 분위수 스케치
+
+    @Field("refreshed_at")
+    private Date refreshedAt;
+
+    @Data
+    public static class Stats {
+
+        @Field("count")
+        private Integer count; // 값이 있는 상권 수
+
+        @Field("sum")
+        private Double sum;
+
+        @Field("mean")
+        private Double mean;
+
+        @Field("p25")
+        private Double p25;
+
+        @Field("p50")
+        private Double p50;
+
+        @Field("p75")
+        private Double p75;
+    }
+}
@@ -0,0 +1,59 @@
+package com.endlesspassion.sigai.domain.publicdata.document;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 상권/자치구/서울시 업종별 점포 생존 곡선 (사전 계산)
+ *
+ * 상권 데이터가 다시 적재될 때 MarketSurvivalService가 MarketSurvivalEstimator로 추정한 곡선을 저장한다.
+ * _id가 "범위:지역:업종"(예: MARKET:3110001:CS100001, GU:종로구:CS100001, CITY:ALL:CS100001)이므로
+ * 한 상권의 곡선과 자치구/서울시 기준 곡선을 _id $in 조회 한 번으로 읽는다.
+ * 곡선은 만분율 정수 배열로 저장한다. (20분기 곡선이 int32 20개)
+ */
+@Document(collection = "public_market_survival")
+@Data
+public class PublicMarketSurvival {
+
+    @Id
+    private String id; // 범위:지역:서비스_업종_코드
+
+    @Field("scope")
+    private String scope; // MARKET / GU / CITY
+
+    @Field("code")
+    private String code; // 상권_코드 (MARKET), 자치구 (GU), ALL (CITY)
+
+    @Field("gu")
+    private String gu; // 자치구 (CITY거나 추정하지 못하면 null)
+
+    @Field("svc_induty_cd")
+    private String svcIndutyCd; // 서비스_업종_코드
+
+    @Field("base_quarter")
+    private String baseQuarter; // 추정에 쓴 마지막 분기 ("YYYYQ"), 곡선은 다음 분기부터
+
+    @Field("window")
+    private Integer window; // 추정에 쓴 분기 수
+
+    @Field("at_risk")
+    private Double atRisk; // 분기별 점포 수 합계 (위험 집합)
+
+    @Field("events")
+    private Double events; // 폐업 점포 수 합계
+
+    @Field("survival_bp")
+    private List<Integer> survivalBp; // k분기 뒤 생존 확률 (만분율, 1분기 뒤부터)
+
+    @Field("refreshed_at")
+    private Date refreshedAt;
+
+    public static String idOf(String scope, String code, String svcIndutyCd) {
+        return scope + ":" + code + ":" + svcIndutyCd;
+    }
+}
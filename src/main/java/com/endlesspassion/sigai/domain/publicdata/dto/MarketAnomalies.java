@@ -0,0 +1,61 @@
+package com.endlesspassion.sigai.domain.publicdata.dto;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketAnomaly;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 분기의 상권/업종 이상 기록 목록 (점수 내림차순)
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class MarketAnomalies {
+
+    private String quarter; // 분기 코드
+    private List<Anomaly> anomalies;
+
+    public static MarketAnomalies of(String quarter, List<PublicMarketAnomaly> documents) {
+        return MarketAnomalies.builder()
+                .quarter(quarter)
+                .anomalies(documents.stream().map(Anomaly::from).toList())
+                .build();
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Anomaly {
+        private String metric; // REVENUE / CLOSED_RATE
+        private String severity; // WARNING / CRITICAL
+        private String trdarCd; // 상권 코드
+        private String trdarCdNm; // 상권 이름
+        private String svcIndutyCd; // 업종 코드
+        private String gu; // 자치구
+        private Double value; // 이번 분기 값 (매출 금액 또는 폐업률)
+        private Double previousValue; // 직전 분기 값
+        private Double change; // 직전 분기 대비 변화 (매출: %, 폐업률: %p)
+        private Double selfScore; // 자기 이력 기준 점수
+        private Double peerScore; // 같은 자치구/업종 상권 기준 점수
+
+        public static Anomaly from(PublicMarketAnomaly document) {
+            return Anomaly.builder()
+                    .metric(document.getMetric())
+                    .severity(document.getSeverity())
+                    .trdarCd(document.getTrdarCd())
+                    .trdarCdNm(document.getTrdarCdNm())
+                    .svcIndutyCd(document.getSvcIndutyCd())
+                    .gu(document.getGu())
+                    .value(document.getValue())
+                    .previousValue(document.getPreviousValue())
+                    .change(document.getChange())
+                    .selfScore(document.getSelfScore())
+                    .peerScore(document.getPeerScore())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.endlesspassion.sigai.domain.publicdata.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 한 상권/업종의 전체 분기 이력 (차트용 컬럼형 JSON)
+ *
+ * 분기마다 객체를 만드는 대신 지표별로 quarters와 같은 길이의 병렬 배열을 내려준다.
+ * i번째 값은 quarters.get(i) 분기의 값이며, 해당 분기 데이터가 없으면 null.
+ * 예) quarters: ["20231", "20232"], thsmonSelngAmt: [1.2E8, 1.5E8], storCo: [12.0, null]
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class MarketHistory {
+
+    private String trdarCd; // 상권 코드
+    private String trdarCdNm; // 상권 이름
+    private String svcIndutyCd; // 업종 코드
+    private String svcIndutyCdNm; // 업종 이름
+    private List<String> quarters; // 분기 코드 (오름차순)
+
+    // --- 매출 ---
+    private List<Double> thsmonSelngAmt; // 당월 매출 금액
+    private List<Double> thsmonSelngCo; // 당월 매출 건수
+    private List<Double> mlSelngAmt; // 남성 매출 금액
+    private List<Double> fmlSelngAmt; // 여성 매출 금액
+    private List<Double> agrde10SelngCo; // 연령대 10 매출 건수
+    private List<Double> agrde20SelngCo;
+    private List<Double> agrde30SelngCo;
+    private List<Double> agrde40SelngCo;
+    private List<Double> agrde50SelngCo;
+    private List<Double> agrde60AboveSelngCo; // 연령대 60 이상 매출 건수
+
+    // --- 점포 ---
+    private List<Double> storCo; // 점포 수
+    private List<Double> opbizRt; // 개업률
+    private List<Double> clsbizRt; // 폐업률
+
+    public static MarketHistory empty(String trdarCd, String svcIndutyCd) {
+        return MarketHistory.builder()
+                .trdarCd(trdarCd)
+                .svcIndutyCd(svcIndutyCd)
+                .quarters(List.of())
+                .thsmonSelngAmt(List.of())
+                .thsmonSelngCo(List.of())
+                .mlSelngAmt(List.of())
+                .fmlSelngAmt(List.of())
+                .agrde10SelngCo(List.of())
+                .agrde20SelngCo(List.of())
+                .agrde30SelngCo(List.of())
+                .agrde40SelngCo(List.of())
+                .agrde50SelngCo(List.of())
+                .agrde60AboveSelngCo(List.of())
+                .storCo(List.of())
+                .opbizRt(List.of())
+                .clsbizRt(List.of())
+                .build();
+    }
+}
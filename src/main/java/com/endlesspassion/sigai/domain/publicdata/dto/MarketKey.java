@@ -0,0 +1,9 @@
+package com.endlesspassion.sigai.domain.publicdata.dto;
+
+/**
+ * 공공 데이터 상권 키 (상권 코드, 업종 코드)
+ *
+ * 같은 분기 범위를 분석하는 여러 가게가 같은 상권/업종이면 공공 데이터를 한 번만 조회하기 위한 키
+ */
+public record MarketKey(String trdarCd, String svcIndutyCd) {
+}
@@ -0,0 +1,47 @@
+package com.endlesspassion.sigai.domain.publicdata.dto;
+
+import com.endlesspassion.sigai.global.util.KllSketch;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 분기/자치구/업종 묶음 안의 분위 (분위수 스케치 병합 결과, 근사값)
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class MarketPercentile {
+
+    private String metric; // REVENUE / CLOSED_RATE
+    private Long count; // 묶음 안의 값 수 (상권 × 분기)
+    private Double value; // 위치를 본 값 (요청하지 않았으면 null)
+    private Double percentile; // value 이하 비율(%)
+    private Double topPercentile; // 상위 몇 % (100 - percentile)
+    private Double min; // 최솟값
+    private Double p10; // 하위 10%
+    private Double p25; // 하위 25%
+    private Double p50; // 중앙값
+    private Double p75; // 하위 75%
+    private Double p90; // 하위 90%
+    private Double max; // 최댓값
+
+    public static MarketPercentile of(String metric, KllSketch sketch, Double value) {
+        Double percentile = value != null ? Math.round(sketch.rank(value) * 10000.0) / 100.0 : null;
+        return MarketPercentile.builder()
+                .metric(metric)
+                .count(sketch.getN())
+                .value(value)
+                .percentile(percentile)
+                .topPercentile(percentile != null ? Math.round((100.0 - percentile) * 100.0) / 100.0 : null)
+                .min(sketch.getMin())
+                .p10(sketch.quantile(0.1))
+                .p25(sketch.quantile(0.25))
+                .p50(sketch.quantile(0.5))
+                .p75(sketch.quantile(0.75))
+                .p90(sketch.quantile(0.9))
+                .max(sketch.getMax())
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.endlesspassion.sigai.domain.publicdata.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 분기/업종별 상권 매출 순위 한 페이지
+ *
+ * 키셋 페이지네이션: 다음 페이지는 nextCursor를 그대로 cursor로 넘겨 조회한다 (마지막 페이지면 null).
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class MarketRankingPage {
+
+    private String quarter; // 분기 코드
+    private String svcIndutyCd; // 업종 코드
+    private List<Entry> entries;
+    private String nextCursor;
+
+    public static MarketRankingPage of(String quarter, String svcIndutyCd, List<Entry> entries, String nextCursor) {
+        return MarketRankingPage.builder()
+                .quarter(quarter)
+                .svcIndutyCd(svcIndutyCd)
+                .entries(entries)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Entry {
+        private String trdarCd; // 상권 코드
+        private String trdarCdNm; // 상권 이름
+        private Double thsmonSelngAmt; // 당월 매출 금액
+        private Integer rank; // 순위 (동점은 같은 순위)
+        private Integer totalCount; // 같은 분기/업종의 상권 수
+        private Double topPercentile; // 상위 퍼센트
+        private String percentileBand; // 퍼센타일 구간: "TOP_10", "TOP_25", "TOP_50", "BOTTOM_50"
+
+        public static Entry of(
+                String trdarCd,
+                String trdarCdNm,
+                Double thsmonSelngAmt,
+                Integer rank,
+                Integer totalCount,
+                Double topPercentile) {
+            return Entry.builder()
+                    .trdarCd(trdarCd)
+                    .trdarCdNm(trdarCdNm)
+                    .thsmonSelngAmt(thsmonSelngAmt)
+                    .rank(rank)
+                    .totalCount(totalCount)
+                    .topPercentile(topPercentile)
+                    .percentileBand(bandOf(topPercentile))
+                    .build();
+        }
+
+        private static String bandOf(Double topPercentile) {
+            if (topPercentile == null) {
+                return null;
+            }
+            if (topPercentile <= 10) {
+                return "TOP_10";
+            } else if (topPercentile <= 25) {
+                return "TOP_25";
+            } else if (topPercentile <= 50) {
+                return "TOP_50";
+            }
+            return "BOTTOM_50";
+        }
+    }
+}
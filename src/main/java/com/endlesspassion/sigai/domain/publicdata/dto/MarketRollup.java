@@ -0,0 +1,72 @@
+package com.endlesspassion.sigai.domain.publicdata.dto;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketRollup;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 분기 × 자치구 × 업종(또는 서울시 전체 업종) 집계
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class MarketRollup {
+
+    private String quarter; // 분기 코드
+    private String gu; // 자치구 (서울시 전체면 null)
+    private String svcIndutyCd; // 업종 코드
+    private String svcIndutyCdNm; // 업종 이름
+    private Integer marketCount; // 상권 수
+    private Stats revenue; // 상권별 당월 매출 금액
+    private Stats closedRate; // 상권별 폐업률(%)
+    private Double storeCount; // 점포 수 합계
+    private Double closedStoreCount; // 폐업 점포 수 합계
+    private Double pooledClosedRate; // 점포 가중 폐업률(%) = 폐업 점포 수 합계 / 점포 수 합계 * 100
+
+    public static MarketRollup from(PublicMarketRollup document, boolean cityWide) {
+        Double storeCount = document.getStorCo();
+        Double closedStoreCount = document.getClsbizStorCo();
+        return MarketRollup.builder()
+                .quarter(document.getStdrYyquCd())
+                .gu(cityWide ? null : document.getGu())
+                .svcIndutyCd(document.getSvcIndutyCd())
+                .svcIndutyCdNm(document.getSvcIndutyCdNm())
+                .marketCount(document.getMarketCount())
+                .revenue(Stats.from(document.getRevenue()))
+                .closedRate(Stats.from(document.getClsbizRt()))
+                .storeCount(storeCount)
+                .closedStoreCount(closedStoreCount)
+                .pooledClosedRate(storeCount != null && storeCount > 0 && closedStoreCount != null
+                        ? Math.round(closedStoreCount / storeCount * 10000.0) / 100.0
+                        : null)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Stats {
+        private Integer count; // 값이 있는 상권 수
+        private Double sum; // 합계
+        private Double mean; // 평균
+        private Double p25; // 하위 25%
+        private Double p50; // 중앙값
+        private Double p75; // 하위 75%
+
+        public static Stats from(PublicMarketRollup.Stats stats) {
+            if (stats == null) {
+                return null;
+            }
+            return Stats.builder()
+                    .count(stats.getCount())
+                    .sum(stats.getSum())
+                    .mean(stats.getMean())
+                    .p25(stats.getP25())
+                    .p50(stats.getP50())
+                    .p75(stats.getP75())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.endlesspassion.sigai.domain.publicdata.dto;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketSurvival;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상권/업종 점포 생존 곡선과 같은 업종의 자치구/서울시 기준 곡선
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class MarketSurvival {
+
+    private String trdarCd; // 상권 코드
+    private String svcIndutyCd; // 업종 코드
+    private String gu; // 자치구 (추정하지 못하면 null)
+    private String baseQuarter; // 추정에 쓴 마지막 분기, 곡선은 다음 분기부터
+    private Curve market; // 상권 곡선
+    private Curve guBaseline; // 같은 자치구, 같은 업종 곡선 (없으면 null)
+    private Curve cityBaseline; // 서울시 전체, 같은 업종 곡선 (없으면 null)
+
+    public static MarketSurvival of(
+            String trdarCd,
+            String svcIndutyCd,
+            PublicMarketSurvival market,
+            PublicMarketSurvival gu,
+            PublicMarketSurvival city) {
+        return MarketSurvival.builder()
+                .trdarCd(trdarCd)
+                .svcIndutyCd(svcIndutyCd)
+                .gu(market.getGu())
+                .baseQuarter(market.getBaseQuarter())
+                .market(Curve.from(market))
+                .guBaseline(gu != null ? Curve.from(gu) : null)
+                .cityBaseline(city != null ? Curve.from(city) : null)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Curve {
+
+        private Integer window; // 추정에 쓴 분기 수
+        private Double atRisk; // 분기별 점포 수 합계
+        private Double events; // 폐업 점포 수 합계
+        private Double quarterlyClosedRate; // 분기 평균 폐업 위험(%) = 폐업 점포 수 합계 / 점포 수 합계 * 100
+        private List<Double> survivalRates; // k분기 뒤 생존율(%), 1분기 뒤부터
+        private Double oneYearSurvivalRate; // 4분기 뒤 생존율(%)
+        private Double threeYearSurvivalRate; // 12분기 뒤 생존율(%)
+        private Double fiveYearSurvivalRate; // 20분기 뒤 생존율(%)
+        private Integer medianSurvivalQuarters; // 생존율이 처음 50% 이하가 되는 분기 (곡선 안에 없으면 null)
+
+        public static Curve from(PublicMarketSurvival document) {
+            List<Integer> basisPoints = document.getSurvivalBp() != null ? document.getSurvivalBp() : List.of();
+            List<Double> rates = new ArrayList<>(basisPoints.size());
+            Integer median = null;
+            for (int i = 0; i < basisPoints.size(); i++) {
+                Integer basisPoint = basisPoints.get(i);
+                rates.add(basisPoint != null ? basisPoint / 100.0 : null);
+                if (median == null && basisPoint != null && basisPoint <= 5000) {
+                    median = i + 1;
+                }
+            }
+            Double atRisk = document.getAtRisk();
+            Double events = document.getEvents();
+            return Curve.builder()
+                    .window(document.getWindow())
+                    .atRisk(atRisk)
+                    .events(events)
+                    .quarterlyClosedRate(atRisk != null && atRisk > 0 && events != null
+                            ? Math.round(events / atRisk * 10000.0) / 100.0
+                            : null)
+                    .survivalRates(rates)
+                    .oneYearSurvivalRate(rateAt(rates, 4))
+                    .threeYearSurvivalRate(rateAt(rates, 12))
+                    .fiveYearSurvivalRate(rateAt(rates, 20))
+                    .medianSurvivalQuarters(median)
+                    .build();
+        }
+
+        private static Double rateAt(List<Double> rates, int quarters) {
+            return rates.size() >= quarters ? rates.get(quarters - 1) : null;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.endlesspassion.sigai.domain.publicdata.dto;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import com.endlesspassion.sigai.global.util.Quarter;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 상권/업종의 여러 분기 공공 데이터를 미리 모아둔 묶음
+ *
+ * 분석 서비스가 분기마다 조회하는 대신, 필요한 데이터를 한 번에(동시에) 받아 두고 계산에만 사용한다.
+ * 데이터가 없는 분기는 맵에 키가 없다. 인구 데이터는 상권 단위이므로 업종과 무관하다.
+ * 매출 순위 비교 대상인 같은 분기/업종의 서울시 전체 상권 매출 금액도 분기별로 함께 담는다.
+ * 맵은 공공 데이터 분기 키("YYYYQ")로 저장하고, 조회는 "YYYYQ"/"YYYYQQ" 어느 형식으로 해도 된다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class PublicMarketDataBundle {
+
+    private final String trdarCd;
+    private final String svcIndutyCd;
+    private final List<String> quarters;
+    private final Map<String, PublicProfitData> profitByQuarter;
+    private final Map<String, PublicStoreData> storeByQuarter;
+    private final Map<String, CompactPopulationData> populationByQuarter;
+    private final Map<String, double[]> industrySalesByQuarter;
+
+    public static PublicMarketDataBundle of(
+            String trdarCd,
+            String svcIndutyCd,
+            List<String> quarters,
+            Map<String, PublicProfitData> profitByQuarter,
+            Map<String, PublicStoreData> storeByQuarter
+    ) {
+        return of(trdarCd, svcIndutyCd, quarters, profitByQuarter, storeByQuarter, Map.of());
+    }
+
+    public static PublicMarketDataBundle of(
+            String trdarCd,
+            String svcIndutyCd,
+            List<String> quarters,
+            Map<String, PublicProfitData> profitByQuarter,
+            Map<String, PublicStoreData> storeByQuarter,
+            Map<String, CompactPopulationData> populationByQuarter
+    ) {
+        return of(trdarCd, svcIndutyCd, quarters, profitByQuarter, storeByQuarter, populationByQuarter, Map.of());
+    }
+
+    public static PublicMarketDataBundle of(
+            String trdarCd,
+            String svcIndutyCd,
+            List<String> quarters,
+            Map<String, PublicProfitData> profitByQuarter,
+            Map<String, PublicStoreData> storeByQuarter,
+            Map<String, CompactPopulationData> populationByQuarter,
+            Map<String, double[]> industrySalesByQuarter
+    ) {
+        return new PublicMarketDataBundle(trdarCd, svcIndutyCd, quarters,
+                profitByQuarter, storeByQuarter, populationByQuarter, industrySalesByQuarter);
+    }
+
+    /**
+     * @return 분기의 매출 데이터 (없으면 null)
+     */
+    public PublicProfitData profitOf(String quarter) {
+        return profitByQuarter.get(Quarter.parse(quarter).mongoKey());
+    }
+
+    /**
+     * @return 분기의 점포 데이터 (없으면 null)
+     */
+    public PublicStoreData storeOf(String quarter) {
+        return storeByQuarter.get(Quarter.parse(quarter).mongoKey());
+    }
+
+    /**
+     * @return 분기의 상권 인구 데이터 (없으면 null)
+     */
+    public CompactPopulationData populationOf(String quarter) {
+        return populationByQuarter.get(Quarter.parse(quarter).mongoKey());
+    }
+
+    /**
+     * @return 분기의 같은 업종 서울시 전체 상권 매출 금액 (정렬 안 됨, 없으면 빈 배열)
+     */
+    public double[] industrySalesOf(String quarter) {
+        return industrySalesByQuarter.getOrDefault(Quarter.parse(quarter).mongoKey(), new double[0]);
+    }
+}
@@ -0,0 +1,67 @@
+package com.endlesspassion.sigai.domain.publicdata.dto;
+
+import com.endlesspassion.sigai.domain.publicdata.similarity.MarketFeatureIndex;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 같은 업종에서 기준 상권과 가장 비슷한 상권 목록 (유사도 내림차순)
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class SimilarMarkets {
+
+    private String quarter; // 분기 코드
+    private String trdarCd; // 기준 상권 코드
+    private String svcIndutyCd; // 업종 코드
+    private List<Market> markets;
+
+    public static SimilarMarkets of(
+            String quarter,
+            String trdarCd,
+            String svcIndutyCd,
+            List<MarketFeatureIndex.Neighbor> neighbors) {
+        return SimilarMarkets.builder()
+                .quarter(quarter)
+                .trdarCd(trdarCd)
+                .svcIndutyCd(svcIndutyCd)
+                .markets(neighbors.stream().map(Market::from).toList())
+                .build();
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Market {
+        private String trdarCd; // 상권 코드
+        private String trdarCdNm; // 상권 이름
+        private Double similarity; // 유사도 (0~1, 1 / (1 + 거리))
+        private Double distance; // 정규화된 특성 공간의 거리
+        private Double thsmonSelngAmt; // 당월 매출 금액
+        private Double clsbizRt; // 폐업률
+        private Double opbizRt; // 개업률
+        private Double franchiseShare; // 프랜차이즈 점포 비중 (0~1)
+
+        public static Market from(MarketFeatureIndex.Neighbor neighbor) {
+            return Market.builder()
+                    .trdarCd(neighbor.trdarCd())
+                    .trdarCdNm(neighbor.trdarCdNm())
+                    .similarity(Math.round(1000.0 / (1.0 + neighbor.distance())) / 1000.0)
+                    .distance(Math.round(neighbor.distance() * 1000.0) / 1000.0)
+                    .thsmonSelngAmt(nullIfNaN(neighbor.revenue()))
+                    .clsbizRt(nullIfNaN(neighbor.closedRate()))
+                    .opbizRt(nullIfNaN(neighbor.openRate()))
+                    .franchiseShare(nullIfNaN(neighbor.franchiseShare()))
+                    .build();
+        }
+
+        private static Double nullIfNaN(double value) {
+            return Double.isNaN(value) ? null : value;
+        }
+    }
+}
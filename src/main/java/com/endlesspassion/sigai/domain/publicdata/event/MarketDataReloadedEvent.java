@@ -0,0 +1,21 @@
+package com.endlesspassion.sigai.domain.publicdata.event;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketDataView;
+
+/**
+ * 컬럼형 상권 저장소를 새 뷰로 교체했을 때 발행되는 이벤트
+ * (MongoDB 재적재, 기동 시 스냅샷 열기, 다른 노드가 기록한 스냅샷으로 교체 모두 포함)
+ *
+ * PublicDataSyncedEvent 리스너끼리는 실행 순서가 정해져 있지 않으므로,
+ * 새로 적재된 저장소가 필요한 후속 작업(예측 등)은 이 이벤트를 받는다.
+ *
+ * @param trigger 적재 원인 ("startup", 스냅샷 폴링 "poll" 또는 동기화 배치 Job 이름)
+ * @param jobExecutionId 동기화 배치 JobExecution ID (기동 시 MongoDB 적재면 0, 스냅샷이면 스냅샷을 만든 Job)
+ * @param view 새로 적재된 저장소
+ */
+public record MarketDataReloadedEvent(
+        String trigger,
+        long jobExecutionId,
+        MarketDataView view
+) {
+}
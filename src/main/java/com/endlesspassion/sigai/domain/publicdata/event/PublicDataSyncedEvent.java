@@ -0,0 +1,26 @@
+package com.endlesspassion.sigai.domain.publicdata.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공공 데이터 동기화 배치가 정상 완료되었을 때 발행되는 이벤트
+ *
+ * @param jobName 완료된 배치 Job 이름 (예: "profitDataSyncJob", "populationDataSyncJob")
+ * @param jobExecutionId Spring Batch JobExecution ID (수집 작업 식별자)
+ * @param completedAt 완료 시각
+ */
+public record PublicDataSyncedEvent(
+        String jobName,
+        Long jobExecutionId,
+        LocalDateTime completedAt
+) {
+
+    public static final String POPULATION_SYNC_JOB = "populationDataSyncJob";
+
+    /**
+     * @return 매출/점포 데이터가 바뀌었을 수 있는 동기화인지 (인구 동기화는 상권 매출/점포 저장소와 무관)
+     */
+    public boolean isMarketData() {
+        return !POPULATION_SYNC_JOB.equals(jobName);
+    }
+}
@@ -0,0 +1,195 @@
+package com.endlesspassion.sigai.domain.publicdata.existence;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import com.endlesspassion.sigai.domain.publicdata.event.PublicDataSyncedEvent;
+import com.endlesspassion.sigai.domain.publicdata.repository.PublicDataQueries;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공공 데이터 키 존재 인덱스
+ *
+ * 서울시 데이터에는 존재하지 않는 (상권, 업종) 조합이 많아, 분석 요청마다 분기별로 빈 결과를 MongoDB에서 조회하게 된다.
+ * 기동 시와 동기화 배치 완료 시 두 컬렉션의 (분기, 상권, 업종) 키만 스트리밍하여 Bloom 필터를 만들고,
+ * PublicDataService/ReactivePublicDataService가 MongoDB 조회 전에 확인하여 확실히 없는 키는 조회를 생략한다.
+ *
+ * 메트릭:
+ * - sigai.public_data.existence.lookups{dataset, result=skipped|passed}: 조회 생략/통과 수
+ * - sigai.public_data.existence.false_positives{dataset}: 필터는 통과했지만 MongoDB에 데이터가 없던 수
+ * - sigai.public_data.existence.expected_fpp{dataset}: 적재된 키 수 기준 예상 오탐률
+ *
+ * 필터가 아직 만들어지지 않았거나 비활성화되어 있으면 항상 "있을 수 있음"으로 응답한다.
+ *
+ * 두 서비스 모두 컬럼형 저장소가 적재되어 있으면 필터를 보지 않고 인메모리에서 응답하므로,
+ * 컬럼형 저장소가 켜져 있으면(sigai.public-data.column-store.enabled) 키 전체 스캔 비용만 들고 쓰이지 않는다.
+ * 따라서 컬럼형 저장소가 꺼져 있어 모든 조회가 MongoDB로 가는 경우에만 적재한다.
+ */
+@Slf4j
+@Component
+public class MarketExistenceIndex {
+
+    private static final long MIN_EXPECTED_INSERTIONS = 1_000;
+    private static final double GROWTH_HEADROOM = 1.2; // 다음 분기 데이터가 추가되어도 오탐률이 크게 늘지 않도록 여유
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double fpp;
+
+    private volatile Map<MarketMetric.Dataset, MarketKeyBloomFilter> filters = Map.of(); // 적재 완료 후 통째로 교체
+    private final Map<MarketMetric.Dataset, Counter> skipped = new EnumMap<>(MarketMetric.Dataset.class);
+    private final Map<MarketMetric.Dataset, Counter> passed = new EnumMap<>(MarketMetric.Dataset.class);
+    private final Map<MarketMetric.Dataset, Counter> falsePositives = new EnumMap<>(MarketMetric.Dataset.class);
+
+    public MarketExistenceIndex(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${sigai.public-data.existence-index.enabled:true}") boolean enabled,
+            @Value("${sigai.public-data.existence-index.fpp:0.01}") double fpp,
+            @Value("${sigai.public-data.column-store.enabled:true}") boolean columnStoreEnabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled && !columnStoreEnabled;
+        this.fpp = fpp;
+
+        for (MarketMetric.Dataset dataset : MarketMetric.Dataset.values()) {
+            String tag = dataset.name().toLowerCase();
+            skipped.put(dataset, Counter.builder("sigai.public_data.existence.lookups")
+                    .tag("dataset", tag).tag("result", "skipped").register(meterRegistry));
+            passed.put(dataset, Counter.builder("sigai.public_data.existence.lookups")
+                    .tag("dataset", tag).tag("result", "passed").register(meterRegistry));
+            falsePositives.put(dataset, Counter.builder("sigai.public_data.existence.false_positives")
+                    .tag("dataset", tag).register(meterRegistry));
+            Gauge.builder("sigai.public_data.existence.expected_fpp", this, index -> index.expectedFpp(dataset))
+                    .tag("dataset", tag).register(meterRegistry);
+        }
+    }
+
+    /**
+     * @return false면 해당 키의 데이터가 확실히 없음 (조회 생략 가능)
+     */
+    public boolean mightContain(MarketMetric.Dataset dataset, String quarter, String trdarCd, String svcIndutyCd) {
+        MarketKeyBloomFilter filter = filterOf(dataset);
+        if (filter == null) {
+            return true;
+        }
+        boolean result = filter.mightContain(quarter, trdarCd, svcIndutyCd);
+        (result ? passed : skipped).get(dataset).increment();
+        return result;
+    }
+
+    /**
+     * 여러 분기 중 "있을 수 있음"으로 나온 분기만 남긴다 (중복 분기는 한 번만)
+     *
+     * @return 조회가 필요한 분기 (비어 있으면 조회 생략)
+     */
+    public List<String> candidates(
+            MarketMetric.Dataset dataset, List<String> quarters, String trdarCd, String svcIndutyCd) {
+        List<String> candidates = new ArrayList<>(quarters.size());
+        for (String quarter : quarters) {
+            if (!candidates.contains(quarter) && mightContain(dataset, quarter, trdarCd, svcIndutyCd)) {
+                candidates.add(quarter);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 필터를 통과했지만 MongoDB 조회 결과가 없었을 때 호출 (실측 오탐 집계)
+     */
+    public void recordMiss(MarketMetric.Dataset dataset) {
+        recordMisses(dataset, 1);
+    }
+
+    /**
+     * 여러 분기 조회에서 후보 분기 수보다 결과가 적었을 때 호출
+     */
+    public void recordMisses(MarketMetric.Dataset dataset, int misses) {
+        if (misses > 0 && filterOf(dataset) != null) {
+            falsePositives.get(dataset).increment(misses);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            log.info("공공 데이터 존재 인덱스 비활성화 (컬럼형 저장소 사용 중이거나 설정으로 꺼짐)");
+            return;
+        }
+        rebuild("startup");
+    }
+
+    @EventListener
+    public void onPublicDataSynced(PublicDataSyncedEvent event) {
+        if (event.isMarketData()) {
+            rebuild(event.jobName());
+        }
+    }
+
+    synchronized void rebuild(String trigger) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            MarketKeyBloomFilter profit = build(PublicProfitData.class);
+            MarketKeyBloomFilter store = build(PublicStoreData.class);
+            this.filters = Map.of(MarketMetric.Dataset.PROFIT, profit, MarketMetric.Dataset.STORE, store);
+            log.info("공공 데이터 존재 인덱스 적재 (trigger: {}): 매출 키 {}개, 점포 키 {}개, 예상 오탐률 {}/{}",
+                    trigger, profit.getInsertions(), store.getInsertions(),
+                    String.format("%.4f", profit.expectedFpp()), String.format("%.4f", store.expectedFpp()));
+        } catch (Exception e) {
+            // 적재 실패 시 기존 필터(또는 필터 없이 MongoDB 조회)를 그대로 사용
+            log.error("공공 데이터 존재 인덱스 적재 실패 (trigger: {})", trigger, e);
+        }
+    }
+
+    private MarketKeyBloomFilter build(Class<?> entityClass) {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass));
+        long expected = Math.max(MIN_EXPECTED_INSERTIONS, (long) (collection.estimatedDocumentCount() * GROWTH_HEADROOM));
+        MarketKeyBloomFilter filter = new MarketKeyBloomFilter(expected, fpp);
+
+        Document projection = new Document("_id", 0)
+                .append(PublicDataQueries.STDR_YYQU_CD, 1)
+                .append(PublicDataQueries.TRDAR_CD, 1)
+                .append(PublicDataQueries.SVC_INDUTY_CD, 1);
+        // 키 필드만 전송받아 문서 전체를 읽는 것보다 네트워크/메모리 사용량이 작음
+        try (MongoCursor<Document> cursor = collection.find().projection(projection).batchSize(10_000).iterator()) {
+            while (cursor.hasNext()) {
+                Document key = cursor.next();
+                String quarter = key.getString(PublicDataQueries.STDR_YYQU_CD);
+                String trdarCd = key.getString(PublicDataQueries.TRDAR_CD);
+                String svcIndutyCd = key.getString(PublicDataQueries.SVC_INDUTY_CD);
+                if (quarter != null && trdarCd != null && svcIndutyCd != null) {
+                    filter.put(quarter, trdarCd, svcIndutyCd);
+                }
+            }
+        }
+        return filter;
+    }
+
+    private MarketKeyBloomFilter filterOf(MarketMetric.Dataset dataset) {
+        return filters.get(dataset);
+    }
+
+    private double expectedFpp(MarketMetric.Dataset dataset) {
+        MarketKeyBloomFilter filter = filterOf(dataset);
+        return filter != null ? filter.expectedFpp() : Double.NaN;
+    }
+}
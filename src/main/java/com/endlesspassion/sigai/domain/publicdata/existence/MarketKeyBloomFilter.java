@@ -0,0 +1,111 @@
+package com.endlesspassion.sigai.domain.publicdata.existence;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * (분기, 상권, 업종) 키 Bloom 필터
+ *
+ * - mightContain이 false면 해당 키는 확실히 없음 → MongoDB 조회 생략
+ * - true면 있을 수도 있음 (오탐률 ≈ 생성 시 지정한 fpp)
+ * - 적재 이후에는 읽기 전용이므로 여러 스레드에서 동시에 조회해도 안전
+ *
+ * 비트 수 m = -n·ln(p) / (ln 2)², 해시 수 k = m/n · ln 2 (n: 예상 키 수, p: 목표 오탐률)
+ * 키마다 64비트 해시 두 개(h1, h2)를 구한 뒤 h1 + i·h2 로 k개의 위치를 만든다 (double hashing).
+ */
+public final class MarketKeyBloomFilter {
+
+    private final long[] bits;
+    private final long bitSize;
+    private final int hashCount;
+    private long insertions;
+
+    public MarketKeyBloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("예상 키 수는 1 이상이어야 합니다.");
+        }
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다.");
+        }
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        m = Math.max(64, (m + 63) / 64 * 64);
+        this.bits = new long[Math.toIntExact(m / 64)];
+        this.bitSize = m;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String quarter, String trdarCd, String svcIndutyCd) {
+        long h1 = hash(quarter, trdarCd, svcIndutyCd);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L; // 홀수로 만들어 모든 위치를 순회
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+        insertions++;
+    }
+
+    public boolean mightContain(String quarter, String trdarCd, String svcIndutyCd) {
+        if (quarter == null || trdarCd == null || svcIndutyCd == null) {
+            return false;
+        }
+        long h1 = hash(quarter, trdarCd, svcIndutyCd);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 적재된 키 수 기준 예상 오탐률: (1 - e^(-k·n/m))^k
+     */
+    public double expectedFpp() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions / bitSize), hashCount);
+    }
+
+    public long getInsertions() {
+        return insertions;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 세 코드를 구분자(0x1F)로 이어 FNV-1a로 해시한 뒤 비트를 섞는다
+     */
+    private static long hash(String quarter, String trdarCd, String svcIndutyCd) {
+        long h = 0xCBF29CE484222325L;
+        h = fnv(h, quarter);
+        h = (h ^ 0x1F) * 0x100000001B3L;
+        h = fnv(h, trdarCd);
+        h = (h ^ 0x1F) * 0x100000001B3L;
+        h = fnv(h, svcIndutyCd);
+        return mix(h);
+    }
+
+    private static long fnv(long h, String value) {
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h = (h ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        return h;
+    }
+
+    /**
+     * MurmurHash3 fmix64
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE53B4A63L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
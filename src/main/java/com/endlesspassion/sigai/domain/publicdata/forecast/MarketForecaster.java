@@ -0,0 +1,173 @@
+package com.endlesspassion.sigai.domain.publicdata.forecast;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketDataView;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketSeriesMatrix;
+import com.endlesspassion.sigai.global.util.HoltWinters;
+import com.endlesspassion.sigai.global.util.Quarter;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * (상권, 업종) 계열별 매출/폐업률 예측
+ *
+ * 컬럼형 상권 저장소를 MarketSeriesMatrix로 (상권, 업종) 계열 × 분기 배열에 옮긴 뒤(값이 없는 분기는 NaN)
+ * 계열 단위로 Holt-Winters(주기 4분기)를 맞춘다.
+ * - 모든 계열이 같은 마지막 분기에서 끝나므로, 예측 분기는 전체 계열이 공통(마지막 분기 + 1 ~ + horizon)
+ * - 계열끼리 독립이므로 ForkJoinPool에서 계열 구간을 반씩 나누어 병렬로 맞춘다.
+ * - 결과도 계열 * horizon 크기의 double[]에 모아 두어 계열마다 객체를 만들지 않는다.
+ */
+public final class MarketForecaster {
+
+    static final int PERIOD = 4; // 분기 데이터 → 1년 주기
+    private static final int SPLIT_THRESHOLD = 256; // 이보다 적은 계열은 한 작업에서 처리
+
+    private MarketForecaster() {
+    }
+
+    /**
+     * @param horizon 몇 분기 뒤까지 예측할지
+     * @param pool 계열 병렬 처리용 풀
+     */
+    public static Result forecast(MarketDataView view, int horizon, ForkJoinPool pool) {
+        if (horizon < 1) {
+            throw new IllegalArgumentException("예측 분기 수는 1 이상이어야 합니다: " + horizon);
+        }
+        MarketSeriesMatrix matrix = MarketSeriesMatrix.build(view, MarketMetric.THSMON_SELNG_AMT, MarketMetric.CLSBIZ_RT);
+        Result result = new Result(matrix, horizon);
+        if (matrix.seriesCount() > 0) {
+            pool.invoke(new FitTask(matrix.values(MarketMetric.THSMON_SELNG_AMT), matrix.values(MarketMetric.CLSBIZ_RT),
+                    matrix.length(), result, 0, matrix.seriesCount()));
+        }
+        return result;
+    }
+
+    /**
+     * 예측 결과 (계열 i의 h단계 뒤 값 = 배열[i * horizon + h - 1])
+     */
+    public static final class Result {
+
+        private final MarketSeriesMatrix matrix;
+        private final int horizon;
+        private final double[] revenues;
+        private final double[] closedRates;
+        private final double[] revenueRmses;
+        private final double[] closedRateRmses;
+        private final HoltWinters.Model[] revenueModels;
+
+        private Result(MarketSeriesMatrix matrix, int horizon) {
+            int size = matrix.seriesCount();
+            this.matrix = matrix;
+            this.horizon = horizon;
+            this.revenues = new double[size * horizon];
+            this.closedRates = new double[size * horizon];
+            this.revenueRmses = new double[size];
+            this.closedRateRmses = new double[size];
+            this.revenueModels = new HoltWinters.Model[size];
+        }
+
+        public int size() {
+            return matrix.seriesCount();
+        }
+
+        /**
+         * @return 학습에 쓴 마지막 분기 (데이터가 없으면 null)
+         */
+        public Quarter baseQuarter() {
+            return matrix.lastQuarter();
+        }
+
+        public int horizon() {
+            return horizon;
+        }
+
+        public String trdarCdOf(int series) {
+            return matrix.trdarCdOf(series);
+        }
+
+        public String svcIndutyCdOf(int series) {
+            return matrix.svcIndutyCdOf(series);
+        }
+
+        /**
+         * @param step 몇 분기 뒤 (1 ~ horizon)
+         * @return 예측 당월 매출 금액 (관측이 하나도 없으면 NaN)
+         */
+        public double revenue(int series, int step) {
+            return revenues[series * horizon + step - 1];
+        }
+
+        /**
+         * @param step 몇 분기 뒤 (1 ~ horizon)
+         * @return 예측 폐업률 (관측이 하나도 없으면 NaN)
+         */
+        public double closedRate(int series, int step) {
+            return closedRates[series * horizon + step - 1];
+        }
+
+        public double revenueRmse(int series) {
+            return revenueRmses[series];
+        }
+
+        public double closedRateRmse(int series) {
+            return closedRateRmses[series];
+        }
+
+        public HoltWinters.Model revenueModel(int series) {
+            return revenueModels[series];
+        }
+    }
+
+    private static final class FitTask extends RecursiveAction {
+
+        private final double[] revenues;
+        private final double[] closedRates;
+        private final int length;
+        private final Result result;
+        private final int from;
+        private final int to;
+
+        private FitTask(double[] revenues, double[] closedRates, int length, Result result, int from, int to) {
+            this.revenues = revenues;
+            this.closedRates = closedRates;
+            this.length = length;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int series = from; series < to; series++) {
+                    fitSeries(series);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FitTask(revenues, closedRates, length, result, from, middle),
+                    new FitTask(revenues, closedRates, length, result, middle, to));
+        }
+
+        private void fitSeries(int series) {
+            int horizon = result.horizon;
+            int offset = series * horizon;
+
+            HoltWinters.Fit revenue = HoltWinters.fit(revenues, series * length, length, PERIOD);
+            revenue.forecast(horizon, result.revenues, offset);
+            result.revenueRmses[series] = revenue.rmse();
+            result.revenueModels[series] = revenue.model();
+
+            HoltWinters.Fit closed = HoltWinters.fit(closedRates, series * length, length, PERIOD);
+            closed.forecast(horizon, result.closedRates, offset);
+            result.closedRateRmses[series] = closed.rmse();
+
+            // 매출은 음수가 될 수 없고, 폐업률은 0 ~ 100%
+            for (int i = offset; i < offset + horizon; i++) {
+                result.revenues[i] = Math.max(0.0, result.revenues[i]);
+                result.closedRates[i] = Math.min(100.0, Math.max(0.0, result.closedRates[i]));
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.endlesspassion.sigai.domain.publicdata.repository;
+
+import com.endlesspassion.sigai.domain.analysis.document.StoreAnalysisSnapshot;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactProfitData;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactSchema;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactStoreData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketAnomaly;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketRanking;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketSurvival;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.endlesspassion.sigai.domain.publicdata.repository.PublicDataQueries.*;
+
+/**
+ * 공공 데이터 컬렉션에 반드시 있어야 하는 인덱스 목록과 보정 로직
+ *
+ * auto-index-creation이 꺼져 있으므로 @CompoundIndex 선언만으로는 운영 DB에 인덱스가 생긴다는 보장이 없다.
+ * 기동 시 MongoConfig가 reconcile을 호출하여 없는 인덱스를 생성한다.
+ *
+ * 인덱스별 용도:
+ * - idx_unique_*: 고유 키 (분기, 상권, 업종) — 배치 upsert, 단건 조회
+ * - idx_sales_rank: 단건 조회 + 매출 내림차순 정렬 (SORT 단계 없이)
+ * - idx_market_history: 한 상권/업종의 여러 분기 조회 + 분기 오름차순 정렬
+ * - idx_industry_ranking: 분기/업종 전체 상권 순위 ($setWindowFields 정렬)
+ * - idx_unique_market_ranking / idx_ranking_page: 순위 컬렉션 $merge 키, 키셋 페이지 조회
+ * - idx_compact_*: 압축 스키마(v2) 컬렉션의 고유 키 / 분기 이력 (축약 키 사용)
+ * - idx_population_unique: 상권 인구 고유 키 (상권, 분기) — 배치 upsert, 한 상권의 여러 분기 조회
+ * - idx_snapshot_store: 가게별 상권 분석 사전 계산 결과 무효화
+ * - idx_anomaly_quarter: 분기별 이상 기록 점수 순 조회 / idx_anomaly_refreshed: 갱신 후 오래된 기록 삭제
+ * - idx_survival_refreshed: 생존 곡선 갱신 후 오래된 곡선 삭제 (조회는 _id)
+ */
+@Slf4j
+public final class PublicDataIndexes {
+
+    private PublicDataIndexes() {
+    }
+
+    public static Map<Class<?>, List<Index>> required() {
+        Map<Class<?>, List<Index>> indexes = new LinkedHashMap<>();
+        indexes.put(PublicProfitData.class, List.of(
+                new Index().named("idx_unique_sales_data")
+                        .on(STDR_YYQU_CD, Sort.Direction.ASC)
+                        .on(TRDAR_CD, Sort.Direction.ASC)
+                        .on(SVC_INDUTY_CD, Sort.Direction.ASC)
+                        .unique(),
+                new Index().named("idx_sales_rank")
+                        .on(STDR_YYQU_CD, Sort.Direction.ASC)
+                        .on(TRDAR_CD, Sort.Direction.ASC)
+                        .on(SVC_INDUTY_CD, Sort.Direction.ASC)
+                        .on(THSMON_SELNG_AMT, Sort.Direction.DESC),
+                marketHistory(),
+                new Index().named("idx_industry_ranking")
+                        .on(STDR_YYQU_CD, Sort.Direction.ASC)
+                        .on(SVC_INDUTY_CD, Sort.Direction.ASC)
+                        .on(THSMON_SELNG_AMT, Sort.Direction.DESC)));
+        indexes.put(PublicStoreData.class, List.of(
+                new Index().named("idx_unique_store_data")
+                        .on(STDR_YYQU_CD, Sort.Direction.ASC)
+                        .on(TRDAR_CD, Sort.Direction.ASC)
+                        .on(SVC_INDUTY_CD, Sort.Direction.ASC)
+                        .unique(),
+                marketHistory()));
+        indexes.put(PublicMarketRanking.class, List.of(
+                new Index().named("idx_unique_market_ranking")
+                        .on(STDR_YYQU_CD, Sort.Direction.ASC)
+                        .on(SVC_INDUTY_CD, Sort.Direction.ASC)
+                        .on(TRDAR_CD, Sort.Direction.ASC)
+                        .unique(),
+                new Index().named("idx_ranking_page")
+                        .on(STDR_YYQU_CD, Sort.Direction.ASC)
+                        .on(SVC_INDUTY_CD, Sort.Direction.ASC)
+                        .on(RANK, Sort.Direction.ASC)
+                        .on(TRDAR_CD, Sort.Direction.ASC)));
+        indexes.put(CompactProfitData.class, List.of(compactUnique(), compactHistory()));
+        indexes.put(CompactStoreData.class, List.of(compactUnique(), compactHistory()));
+        indexes.put(CompactPopulationData.class, List.of(
+                new Index().named("idx_population_unique")
+                        .on(CompactSchema.AREA, Sort.Direction.ASC)
+                        .on(CompactSchema.QUARTER, Sort.Direction.ASC)
+                        .unique()));
+        indexes.put(StoreAnalysisSnapshot.class, List.of(
+                new Index().named("idx_snapshot_store")
+                        .on(StoreAnalysisSnapshot.STORE_ID, Sort.Direction.ASC)));
+        indexes.put(PublicMarketAnomaly.class, List.of(
+                new Index().named("idx_anomaly_quarter")
+                        .on(STDR_YYQU_CD, Sort.Direction.ASC)
+                        .on(SCORE, Sort.Direction.DESC)
+                        .on(TRDAR_CD, Sort.Direction.ASC),
+                new Index().named("idx_anomaly_refreshed")
+                        .on(REFRESHED_AT, Sort.Direction.ASC)));
+        indexes.put(PublicMarketSurvival.class, List.of(
+                new Index().named("idx_survival_refreshed")
+                        .on(REFRESHED_AT, Sort.Direction.ASC)));
+        return indexes;
+    }
+
+    /**
+     * 없는 인덱스를 생성한다. 이미 같은 이름의 인덱스가 있으면 건드리지 않는다.
+     * (정의가 바뀐 인덱스는 운영 중 재생성 비용이 크므로 자동으로 삭제하지 않고 경고만 남긴다)
+     *
+     * @return 새로 생성한 인덱스 수
+     */
+    public static int reconcile(MongoTemplate mongoTemplate) {
+        int created = 0;
+        for (Map.Entry<Class<?>, List<Index>> entry : required().entrySet()) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entry.getKey());
+            Map<String, IndexInfo> existing = indexOps.getIndexInfo().stream()
+                    .collect(Collectors.toMap(IndexInfo::getName, info -> info));
+
+            for (Index index : entry.getValue()) {
+                String name = index.getIndexOptions().getString("name");
+                IndexInfo current = existing.get(name);
+                if (current == null) {
+                    indexOps.ensureIndex(index);
+                    created++;
+                    log.info("인덱스 생성: {}.{}", mongoTemplate.getCollectionName(entry.getKey()), name);
+                } else if (!sameKeys(current, index)) {
+                    log.warn("인덱스 정의가 다릅니다. 수동 확인 필요: {}.{} (현재: {}, 기대: {})",
+                            mongoTemplate.getCollectionName(entry.getKey()), name,
+                            current.getIndexFields(), index.getIndexKeys());
+                }
+            }
+        }
+        return created;
+    }
+
+    private static Index marketHistory() {
+        return new Index().named("idx_market_history")
+                .on(TRDAR_CD, Sort.Direction.ASC)
+                .on(SVC_INDUTY_CD, Sort.Direction.ASC)
+                .on(STDR_YYQU_CD, Sort.Direction.ASC);
+    }
+
+    private static Index compactUnique() {
+        return new Index().named("idx_compact_unique")
+                .on(CompactSchema.QUARTER, Sort.Direction.ASC)
+                .on(CompactSchema.AREA, Sort.Direction.ASC)
+                .on(CompactSchema.INDUSTRY, Sort.Direction.ASC)
+                .unique();
+    }
+
+    private static Index compactHistory() {
+        return new Index().named("idx_compact_history")
+                .on(CompactSchema.AREA, Sort.Direction.ASC)
+                .on(CompactSchema.INDUSTRY, Sort.Direction.ASC)
+                .on(CompactSchema.QUARTER, Sort.Direction.ASC);
+    }
+
+    private static boolean sameKeys(IndexInfo current, Index expected) {
+        List<String> currentKeys = current.getIndexFields().stream()
+                .map(field -> field.getKey() + ":" + field.getDirection())
+                .toList();
+        List<String> expectedKeys = expected.getIndexKeys().entrySet().stream()
+                .map(key -> key.getKey() + ":" + (((Number) key.getValue()).intValue() > 0
+                        ? Sort.Direction.ASC : Sort.Direction.DESC))
+                .toList();
+        return currentKeys.equals(expectedKeys);
+    }
+}
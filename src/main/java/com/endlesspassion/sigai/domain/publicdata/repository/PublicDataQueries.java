@@ -0,0 +1,276 @@
+package com.endlesspassion.sigai.domain.publicdata.repository;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactSchema;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 공공 데이터 컬렉션 조회 쿼리 모음
+ *
+ * PublicDataService / ReactivePublicDataService가 실행하는 쿼리를 한 곳에서 만든다.
+ * 쿼리 실행 계획 테스트(PublicDataQueryPlanTest)도 같은 쿼리를 explain 하므로,
+ * 새 쿼리를 추가할 때는 여기에 만들고 PublicDataIndexes에 필요한 인덱스를 함께 등록한다.
+ *
+ * 필드명은 MongoDB 필드명(snake_case)을 그대로 사용한다.
+ */
+public final class PublicDataQueries {
+
+    public static final String STDR_YYQU_CD = "stdr_yyqu_cd";
+    public static final String TRDAR_CD = "trdar_cd";
+    public static final String SVC_INDUTY_CD = "svc_induty_cd";
+    public static final String TRDAR_CD_NM = "trdar_cd_nm";
+    public static final String SVC_INDUTY_CD_NM = "svc_induty_cd_nm";
+    public static final String THSMON_SELNG_AMT = "thsmon_selng_amt";
+    public static final String RANK = "rank";
+    public static final String TOTAL_COUNT = "total_count";
+    public static final String TOP_PERCENTILE = "top_percentile";
+    public static final String REFRESHED_AT = "refreshed_at";
+    public static final String METRIC = "metric";
+    public static final String GU = "gu";
+    public static final String SEVERITY = "severity";
+    public static final String SCORE = "score";
+    public static final String REVENUE_SKETCH = "revenue_sketch";
+    public static final String CLSBIZ_RT_SKETCH = "clsbiz_rt_sketch";
+
+    private PublicDataQueries() {
+    }
+
+    /**
+     * (분기, 상권, 업종) 단건 조회 — 고유 키 인덱스 사용
+     */
+    public static Query byKey(String quarter, String trdarCd, String svcIndutyCd) {
+        return new Query(Criteria.where(STDR_YYQU_CD).is(quarter)
+                .and(TRDAR_CD).is(trdarCd)
+                .and(SVC_INDUTY_CD).is(svcIndutyCd));
+    }
+
+    /**
+     * (분기, 상권, 업종) 매출 데이터 조회, 매출 내림차순 — idx_sales_rank 사용
+     */
+    public static Query byKeyOrderBySalesDesc(String quarter, String trdarCd, String svcIndutyCd) {
+        return byKey(quarter, trdarCd, svcIndutyCd)
+                .with(Sort.by(Sort.Direction.DESC, THSMON_SELNG_AMT));
+    }
+
+    /**
+     * 여러 분기의 (상권, 업종) 데이터 조회, 분기 오름차순 — idx_market_history 사용
+     */
+    public static Query byQuarters(List<String> quarters, String trdarCd, String svcIndutyCd) {
+        return new Query(Criteria.where(TRDAR_CD).is(trdarCd)
+                .and(SVC_INDUTY_CD).is(svcIndutyCd)
+                .and(STDR_YYQU_CD).in(quarters))
+                .with(Sort.by(Sort.Direction.ASC, STDR_YYQU_CD)); // 과거 분기부터
+    }
+
+    /**
+     * 한 (상권, 업종)의 전체 분기 이력, 분기 오름차순 — idx_market_history 범위 스캔
+     *
+     * @param fields 가져올 필드 (분기 코드는 항상 포함)
+     */
+    public static Query marketHistory(String trdarCd, String svcIndutyCd, String... fields) {
+        Query query = new Query(Criteria.where(TRDAR_CD).is(trdarCd)
+                .and(SVC_INDUTY_CD).is(svcIndutyCd))
+                .with(Sort.by(Sort.Direction.ASC, STDR_YYQU_CD)); // 과거 분기부터
+        query.fields().exclude("_id").include(STDR_YYQU_CD);
+        for (String field : fields) {
+            query.fields().include(field);
+        }
+        return query;
+    }
+
+    /**
+     * 여러 분기의 한 업종 전체 상권 매출 금액 — idx_industry_ranking 커버드 쿼리 (문서를 읽지 않음, 조회 1회)
+     *
+     * 순위 계산용 비교 대상 분포를 만들 때 사용하며, 매출 금액이 없는 상권은 제외한다.
+     * 숫자 조건은 $type 대신 범위 비교로 걸어 인덱스 경계만으로 판별되게 한다 (FETCH 없음).
+     */
+    public static Query industrySales(List<String> quarters, String svcIndutyCd) {
+        Query query = new Query(Criteria.where(STDR_YYQU_CD).in(quarters)
+                .and(SVC_INDUTY_CD).is(svcIndutyCd)
+                .and(THSMON_SELNG_AMT).gte(Double.NEGATIVE_INFINITY)); // 숫자 값만 (null/NaN 제외)
+        query.fields().exclude("_id").include(STDR_YYQU_CD).include(THSMON_SELNG_AMT);
+        return query;
+    }
+
+    /**
+     * 한 상권의 여러 분기 인구 데이터, 분기 오름차순 — idx_population_unique 사용 (분기 수와 무관하게 조회 1회)
+     */
+    public static Query populationByQuarters(List<String> quarters, String trdarCd) {
+        return new Query(Criteria.where(CompactSchema.AREA).is(trdarCd)
+                .and(CompactSchema.QUARTER).in(quarters))
+                .with(Sort.by(Sort.Direction.ASC, CompactSchema.QUARTER)); // 과거 분기부터
+    }
+
+    // ========== 순위 ($setWindowFields) ==========
+
+    /**
+     * 분기/업종의 상권 매출 순위 한 페이지 (public_profit_data에서 실시간 계산) — idx_industry_ranking 사용
+     *
+     * 순위는 분기/업종 전체를 대상으로 계산한 뒤 (rank, trdar_cd) 순으로 키셋 페이지네이션한다.
+     * 순위 계산의 매출 정렬은 인덱스 순서를 쓰지만, 키셋 페이지의 $sort는 계산된 rank 기준이라 인덱스로 흡수되지 않고
+     * 한 분기/업종 파티션(상권 수 이하) 안에서 메모리 정렬한다. 인덱스만으로 페이지를 읽으려면 persistedRanking을 사용.
+     *
+     * @param maxTopPercentile 상위 몇 % 까지만 (null이면 전체)
+     * @param afterRank 커서의 순위 (첫 페이지면 null)
+     * @param afterTrdarCd 커서의 상권 코드 (첫 페이지면 null)
+     * @param limit 최대 건수
+     */
+    public static List<Document> industryRankingPipeline(
+            String quarter, String svcIndutyCd, Double maxTopPercentile,
+            Integer afterRank, String afterTrdarCd, int limit) {
+
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$match", new Document(STDR_YYQU_CD, quarter)
+                .append(SVC_INDUTY_CD, svcIndutyCd)
+                .append(THSMON_SELNG_AMT, new Document("$type", "number"))));
+        pipeline.add(rankWindow(null));
+        pipeline.add(topPercentileStage());
+        appendKeysetStages(pipeline, maxTopPercentile, afterRank, afterTrdarCd, limit);
+        pipeline.add(new Document("$project", new Document("_id", 0)
+                .append(TRDAR_CD, 1)
+                .append(TRDAR_CD_NM, 1)
+                .append(THSMON_SELNG_AMT, 1)
+                .append(RANK, 1)
+                .append(TOTAL_COUNT, 1)
+                .append(TOP_PERCENTILE, 1)));
+        return pipeline;
+    }
+
+    /**
+     * 사전 계산된 순위 컬렉션 한 페이지 — idx_ranking_page 사용
+     */
+    public static Query persistedRanking(
+            String quarter, String svcIndutyCd, Double maxTopPercentile,
+            Integer afterRank, String afterTrdarCd, int limit) {
+
+        Criteria criteria = Criteria.where(STDR_YYQU_CD).is(quarter).and(SVC_INDUTY_CD).is(svcIndutyCd);
+        if (maxTopPercentile != null) {
+            criteria = criteria.and(TOP_PERCENTILE).lte(maxTopPercentile);
+        }
+        if (afterRank != null) {
+            // rank 하한을 함께 주어 idx_ranking_page 범위 스캔으로 바로 커서 위치부터 읽도록 함
+            criteria = criteria.and(RANK).gte(afterRank).orOperator(
+                    Criteria.where(RANK).gt(afterRank),
+                    Criteria.where(RANK).is(afterRank).and(TRDAR_CD).gt(afterTrdarCd));
+        }
+        return new Query(criteria)
+                .with(Sort.by(Sort.Order.asc(RANK), Sort.Order.asc(TRDAR_CD)))
+                .limit(limit);
+    }
+
+    /**
+     * 분기의 이상 기록 조회, 점수 내림차순 — idx_anomaly_quarter 사용 (나머지 조건은 인덱스 범위 안에서 거름)
+     *
+     * @param metric 지표 (null이면 전체)
+     * @param severity 심각도 (null이면 전체)
+     * @param gu 자치구 (null이면 전체)
+     * @param svcIndutyCd 업종 코드 (null이면 전체)
+     */
+    public static Query anomalies(
+            String quarter, String metric, String severity, String gu, String svcIndutyCd, int limit) {
+
+        Criteria criteria = Criteria.where(STDR_YYQU_CD).is(quarter);
+        if (metric != null) {
+            criteria = criteria.and(METRIC).is(metric);
+        }
+        if (severity != null) {
+            criteria = criteria.and(SEVERITY).is(severity);
+        }
+        if (gu != null) {
+            criteria = criteria.and(GU).is(gu);
+        }
+        if (svcIndutyCd != null) {
+            criteria = criteria.and(SVC_INDUTY_CD).is(svcIndutyCd);
+        }
+        return new Query(criteria)
+                .with(Sort.by(Sort.Order.desc(SCORE), Sort.Order.asc(TRDAR_CD)))
+                .limit(limit);
+    }
+
+    /**
+     * 집계 셀들의 분위수 스케치만 조회 — _id 인덱스 사용
+     *
+     * @param ids 집계 셀 _id ("분기:자치구:업종")
+     * @param sketchField REVENUE_SKETCH 또는 CLSBIZ_RT_SKETCH
+     */
+    public static Query rollupSketches(Collection<String> ids, String sketchField) {
+        Query query = new Query(Criteria.where("_id").in(ids));
+        query.fields().include(sketchField);
+        return query;
+    }
+
+    /**
+     * 전체 분기/업종 순위를 다시 계산하여 순위 컬렉션에 병합 ($merge)
+     *
+     * @param refreshedAt 이번 갱신 시각 (이보다 오래된 문서는 갱신 후 삭제 대상)
+     * @param targetCollection 순위 컬렉션 이름
+     */
+    public static List<Document> rankingRefreshPipeline(Date refreshedAt, String targetCollection) {
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$match", new Document(THSMON_SELNG_AMT, new Document("$type", "number"))));
+        pipeline.add(rankWindow(new Document(STDR_YYQU_CD, "$" + STDR_YYQU_CD).append(SVC_INDUTY_CD, "$" + SVC_INDUTY_CD)));
+        pipeline.add(topPercentileStage());
+        pipeline.add(new Document("$project", new Document("_id", 0)
+                .append(STDR_YYQU_CD, 1)
+                .append(SVC_INDUTY_CD, 1)
+                .append(TRDAR_CD, 1)
+                .append(TRDAR_CD_NM, 1)
+                .append(THSMON_SELNG_AMT, 1)
+                .append(RANK, 1)
+                .append(TOTAL_COUNT, 1)
+                .append(TOP_PERCENTILE, 1)
+                .append(REFRESHED_AT, new Document("$literal", refreshedAt))));
+        pipeline.add(new Document("$merge", new Document("into", targetCollection)
+                .append("on", List.of(STDR_YYQU_CD, SVC_INDUTY_CD, TRDAR_CD))
+                .append("whenMatched", "replace")
+                .append("whenNotMatched", "insert")));
+        return pipeline;
+    }
+
+    /**
+     * 매출 내림차순 순위 + 전체 개수 (partitionBy가 null이면 $match 결과 전체가 하나의 파티션)
+     */
+    private static Document rankWindow(Document partitionBy) {
+        Document window = new Document();
+        if (partitionBy != null) {
+            window.append("partitionBy", partitionBy);
+        }
+        window.append("sortBy", new Document(THSMON_SELNG_AMT, -1))
+                .append("output", new Document(RANK, new Document("$rank", new Document()))
+                        .append(TOTAL_COUNT, new Document("$count", new Document())
+                                .append("window", new Document("documents", List.of("unbounded", "unbounded")))));
+        return new Document("$setWindowFields", window);
+    }
+
+    /**
+     * 상위 퍼센트 = rank / total_count * 100 (소수점 첫째 자리, RevenueComparisonService와 같은 기준)
+     */
+    private static Document topPercentileStage() {
+        return new Document("$addFields", new Document(TOP_PERCENTILE,
+                new Document("$round", List.of(
+                        new Document("$multiply", List.of(
+                                new Document("$divide", List.of("$" + RANK, "$" + TOTAL_COUNT)), 100)),
+                        1))));
+    }
+
+    private static void appendKeysetStages(List<Document> pipeline, Double maxTopPercentile,
+                                           Integer afterRank, String afterTrdarCd, int limit) {
+        if (maxTopPercentile != null) {
+            pipeline.add(new Document("$match", new Document(TOP_PERCENTILE, new Document("$lte", maxTopPercentile))));
+        }
+        pipeline.add(new Document("$sort", new Document(RANK, 1).append(TRDAR_CD, 1)));
+        if (afterRank != null) {
+            pipeline.add(new Document("$match", new Document(RANK, new Document("$gte", afterRank)).append("$or", List.of(
+                    new Document(RANK, new Document("$gt", afterRank)),
+                    new Document(RANK, afterRank).append(TRDAR_CD, new Document("$gt", afterTrdarCd))))));
+        }
+        pipeline.add(new Document("$limit", limit));
+    }
+}
@@ -0,0 +1,191 @@
+package com.endlesspassion.sigai.domain.publicdata.rollup;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketDataView;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric;
+import com.endlesspassion.sigai.global.common.enums.SeoulGuCommercialArea;
+import com.endlesspassion.sigai.global.util.KllSketch;
+import com.endlesspassion.sigai.global.util.StatisticsUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분기 × 자치구 × 업종, 분기 × 업종(서울시 전체) 집계 큐브
+ *
+ * 컬럼형 상권 저장소의 모든 행을 한 번 훑어 셀마다 행 번호를 모은 뒤(계수 정렬),
+ * 셀 단위로 매출/폐업률 값을 한 배열에 모아 정렬하여 합계/개수/평균/사분위수를 계산한다.
+ * 같은 값으로 병합 가능한 분위수 스케치(KllSketch)도 만들어, 여러 셀을 묶은 임의 그룹의 분위/순위를 셀 스케치 병합으로 구한다.
+ * 자치구는 SeoulGuCommercialArea.guOf로 상권 코드 구간에서 찾고, 자치구를 알 수 없는 상권은 서울 전체 셀에만 넣는다.
+ */
+public final class MarketRollupCube {
+
+    /**
+     * 서울시 전체 셀의 자치구 자리 값
+     */
+    public static final String ALL_GU = "ALL";
+
+    private MarketRollupCube() {
+    }
+
+    /**
+     * 지표 하나의 요약 (값이 하나도 없으면 count = 0, 나머지 NaN)
+     */
+    public record Stats(int count, double sum, double mean, double p25, double p50, double p75) {
+
+        static Stats of(double[] values, int count) {
+            if (count == 0) {
+                return new Stats(0, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+            }
+            Arrays.sort(values, 0, count);
+            double sum = 0;
+            for (int i = 0; i < count; i++) {
+                sum += values[i];
+            }
+            return new Stats(count, sum, sum / count,
+                    StatisticsUtils.quantileSorted(values, count, 0.25),
+                    StatisticsUtils.quantileSorted(values, count, 0.5),
+                    StatisticsUtils.quantileSorted(values, count, 0.75));
+        }
+    }
+
+    /**
+     * 집계 셀 하나
+     *
+     * @param quarter 분기 코드 ("YYYYQ")
+     * @param gu 자치구 (서울시 전체면 ALL_GU)
+     * @param marketCount 셀에 속한 상권 수
+     * @param revenue 상권별 당월 매출 금액 요약
+     * @param closedRate 상권별 폐업률 요약 (상권 단순 평균/분위)
+     * @param storeCount 점포 수 합계
+     * @param closedStoreCount 폐업 점포 수 합계 (점포 가중 폐업률 = closedStoreCount / storeCount * 100)
+     * @param revenueSketch 상권별 당월 매출 금액 분위수 스케치
+     * @param closedRateSketch 상권별 폐업률 분위수 스케치
+     */
+    public record Cell(
+            String quarter,
+            String gu,
+            String svcIndutyCd,
+            String svcIndutyCdNm,
+            int marketCount,
+            Stats revenue,
+            Stats closedRate,
+            double storeCount,
+            double closedStoreCount,
+            KllSketch revenueSketch,
+            KllSketch closedRateSketch
+    ) {
+    }
+
+    public static String keyOf(String quarter, String gu, String svcIndutyCd) {
+        return quarter + ":" + gu + ":" + svcIndutyCd;
+    }
+
+    /**
+     * @return 자치구 셀과 서울시 전체 셀 목록
+     */
+    public static List<Cell> build(MarketDataView view) {
+        int rowCount = view.getRowCount();
+
+        // 1. 행마다 (자치구 셀, 전체 셀) 번호 부여 + 셀 크기 집계
+        Map<String, String> guByTrdarCd = new HashMap<>();
+        Map<String, Integer> cellIds = new HashMap<>();
+        List<String[]> cellKeys = new ArrayList<>(); // {분기, 자치구, 업종}
+        int[] guCellOfRow = new int[rowCount];
+        int[] allCellOfRow = new int[rowCount];
+        int[] sizes = new int[64];
+        for (int row = 0; row < rowCount; row++) {
+            String quarter = view.quarterCodeOf(row);
+            String svcIndutyCd = view.svcIndutyCdOf(row);
+            String gu = guByTrdarCd.computeIfAbsent(view.trdarCdOf(row), SeoulGuCommercialArea::guOf);
+            guCellOfRow[row] = gu != null ? cellId(cellIds, cellKeys, quarter, gu, svcIndutyCd) : -1;
+            allCellOfRow[row] = cellId(cellIds, cellKeys, quarter, ALL_GU, svcIndutyCd);
+            if (cellKeys.size() > sizes.length) {
+                sizes = Arrays.copyOf(sizes, Math.max(sizes.length * 2, cellKeys.size()));
+            }
+            if (guCellOfRow[row] >= 0) {
+                sizes[guCellOfRow[row]]++;
+            }
+            sizes[allCellOfRow[row]]++;
+        }
+
+        // 2. 셀별 행 목록
+        int[][] rowsByCell = new int[cellKeys.size()][];
+        int maxSize = 0;
+        for (int cell = 0; cell < rowsByCell.length; cell++) {
+            rowsByCell[cell] = new int[sizes[cell]];
+            maxSize = Math.max(maxSize, sizes[cell]);
+        }
+        int[] filled = new int[rowsByCell.length];
+        for (int row = 0; row < rowCount; row++) {
+            int guCell = guCellOfRow[row];
+            if (guCell >= 0) {
+                rowsByCell[guCell][filled[guCell]++] = row;
+            }
+            int allCell = allCellOfRow[row];
+            rowsByCell[allCell][filled[allCell]++] = row;
+        }
+
+        // 3. 셀별 요약 (값 배열은 셀마다 재사용)
+        double[] revenues = new double[maxSize];
+        double[] closedRates = new double[maxSize];
+        List<Cell> cells = new ArrayList<>(rowsByCell.length);
+        for (int cell = 0; cell < rowsByCell.length; cell++) {
+            int[] rows = rowsByCell[cell];
+            int revenueCount = 0;
+            int closedRateCount = 0;
+            double storeCount = 0;
+            double closedStoreCount = 0;
+            for (int row : rows) {
+                if (view.hasProfit(row)) {
+                    double revenue = view.value(MarketMetric.THSMON_SELNG_AMT, row);
+                    if (!Double.isNaN(revenue)) {
+                        revenues[revenueCount++] = revenue;
+                    }
+                }
+                if (view.hasStore(row)) {
+                    double closedRate = view.value(MarketMetric.CLSBIZ_RT, row);
+                    if (!Double.isNaN(closedRate)) {
+                        closedRates[closedRateCount++] = closedRate;
+                    }
+                    storeCount += zeroIfNaN(view.value(MarketMetric.STOR_CO, row));
+                    closedStoreCount += zeroIfNaN(view.value(MarketMetric.CLSBIZ_STOR_CO, row));
+                }
+            }
+            String[] key = cellKeys.get(cell);
+            Stats revenue = Stats.of(revenues, revenueCount);
+            Stats closedRate = Stats.of(closedRates, closedRateCount);
+            cells.add(new Cell(
+                    key[0],
+                    key[1],
+                    key[2],
+                    rows.length > 0 ? view.svcIndutyCdNmOf(rows[0]) : null,
+                    rows.length,
+                    revenue,
+                    closedRate,
+                    storeCount,
+                    closedStoreCount,
+                    KllSketch.of(revenues, revenueCount),
+                    KllSketch.of(closedRates, closedRateCount)));
+        }
+        return cells;
+    }
+
+    private static int cellId(Map<String, Integer> cellIds, List<String[]> cellKeys,
+                              String quarter, String gu, String svcIndutyCd) {
+        String key = keyOf(quarter, gu, svcIndutyCd);
+        Integer id = cellIds.get(key);
+        if (id == null) {
+            id = cellKeys.size();
+            cellIds.put(key, id);
+            cellKeys.add(new String[]{quarter, gu, svcIndutyCd});
+        }
+        return id;
+    }
+
+    private static double zeroIfNaN(double value) {
+        return Double.isNaN(value) ? 0 : value;
+    }
+}
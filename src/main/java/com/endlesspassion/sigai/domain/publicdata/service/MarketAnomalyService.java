@@ -0,0 +1,175 @@
+package com.endlesspassion.sigai.domain.publicdata.service;
+
+import com.endlesspassion.sigai.domain.publicdata.anomaly.MarketAnomalyDetector;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketAnomaly;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketAnomalies;
+import com.endlesspassion.sigai.domain.publicdata.event.MarketDataReloadedEvent;
+import com.endlesspassion.sigai.domain.publicdata.repository.PublicDataIndexes;
+import com.endlesspassion.sigai.domain.publicdata.repository.PublicDataQueries;
+import com.endlesspassion.sigai.global.util.Quarter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 상권/업종 분기 변화 이상 탐지 서비스
+ *
+ * 컬럼형 상권 저장소가 다시 적재되면(MarketDataReloadedEvent) 서울시 전체 (상권, 업종)의 모든 분기를
+ * MarketAnomalyDetector로 한 번에 훑어 이상 기록을 public_market_anomaly에 저장하고,
+ * 이번 갱신에 포함되지 않은 기록(더 이상 이상이 아닌 기록)은 삭제한다.
+ *
+ * - 기동 시 적재("startup")는 이상 기록 컬렉션이 비어 있을 때만 계산, 비어 있던 컬렉션이므로 오래된 문서 삭제는 하지 않음
+ * - 스냅샷 폴링("poll")은 무시: 동기화한 노드가 이미 같은 데이터로 갱신했고, 여러 노드가 같은 컬렉션을 다시 쓰면
+ *   한 노드의 오래된 문서 삭제가 다른 노드가 방금 기록한 문서를 지울 수 있음
+ * - sigai.public-data.anomaly.enabled=false면 계산하지 않음 (조회는 저장된 기록 그대로)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MarketAnomalyService {
+
+    private static final String STARTUP_TRIGGER = "startup";
+    private static final String POLL_TRIGGER = "poll";
+    private static final int WRITE_CHUNK_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${sigai.public-data.anomaly.enabled:false}")
+    private boolean enabled;
+
+    @Value("${sigai.public-data.anomaly.window:8}")
+    private int window = 8;
+
+    @Value("${sigai.public-data.anomaly.threshold:3.5}")
+    private double threshold = 3.5;
+
+    @Value("${sigai.public-data.anomaly.parallelism:0}")
+    private int parallelism; // 0 이하면 CPU 코어 수
+
+    @EventListener
+    public void onMarketDataReloaded(MarketDataReloadedEvent event) {
+        if (!enabled || POLL_TRIGGER.equals(event.trigger())) {
+            return;
+        }
+        if (STARTUP_TRIGGER.equals(event.trigger())
+                && mongoTemplate.exists(new Query(), PublicMarketAnomaly.class)) {
+            return;
+        }
+        try {
+            refresh(event);
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 이상 기록을 그대로 사용
+            log.error("상권 이상 탐지 실패 (trigger: {})", event.trigger(), e);
+        }
+    }
+
+    /**
+     * 분기의 이상 기록 조회 (점수 내림차순)
+     *
+     * @param quarter 분기 코드 ("YYYYQ" 또는 "YYYYQQ")
+     * @param metric REVENUE / CLOSED_RATE (null이면 전체)
+     * @param severity WARNING / CRITICAL (null이면 전체)
+     * @param gu 자치구 (null이면 전체)
+     * @param svcIndutyCd 업종 코드 (null이면 전체)
+     * @param size 조회 건수 (1~200)
+     */
+    public MarketAnomalies findAnomalies(
+            String quarter, String metric, String severity, String gu, String svcIndutyCd, int size) {
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 건수는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        String quarterKey = Quarter.parse(quarter).mongoKey();
+        Query query = PublicDataQueries.anomalies(quarterKey,
+                normalize(metric, MarketAnomalyDetector.Metric.class),
+                normalize(severity, MarketAnomalyDetector.Severity.class),
+                gu, svcIndutyCd, size);
+        return MarketAnomalies.of(quarterKey, mongoTemplate.find(query, PublicMarketAnomaly.class));
+    }
+
+    private void refresh(MarketDataReloadedEvent event) {
+        long startedAt = System.currentTimeMillis();
+        Date refreshedAt = new Date(startedAt);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        List<MarketAnomalyDetector.Anomaly> anomalies;
+        try {
+            anomalies = MarketAnomalyDetector.detect(event.view(), window, threshold, pool);
+        } finally {
+            pool.shutdown();
+        }
+        long detectedAt = System.currentTimeMillis();
+
+        // 오래된 기록 삭제에 필요한 인덱스
+        PublicDataIndexes.reconcile(mongoTemplate);
+
+        for (int from = 0; from < anomalies.size(); from += WRITE_CHUNK_SIZE) {
+            int to = Math.min(anomalies.size(), from + WRITE_CHUNK_SIZE);
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PublicMarketAnomaly.class);
+            for (MarketAnomalyDetector.Anomaly anomaly : anomalies.subList(from, to)) {
+                String quarter = anomaly.quarter().mongoKey();
+                Update update = new Update()
+                        .set(PublicDataQueries.STDR_YYQU_CD, quarter)
+                        .set(PublicDataQueries.METRIC, anomaly.metric().name())
+                        .set(PublicDataQueries.TRDAR_CD, anomaly.trdarCd())
+                        .set(PublicDataQueries.TRDAR_CD_NM, anomaly.trdarCdNm())
+                        .set(PublicDataQueries.SVC_INDUTY_CD, anomaly.svcIndutyCd())
+                        .set(PublicDataQueries.GU, anomaly.gu())
+                        .set("value", finiteOrNull(anomaly.value()))
+                        .set("previous_value", finiteOrNull(anomaly.previousValue()))
+                        .set("change", finiteOrNull(anomaly.change()))
+                        .set("self_score", finiteOrNull(anomaly.selfScore()))
+                        .set("peer_score", finiteOrNull(anomaly.peerScore()))
+                        .set(PublicDataQueries.SCORE, score(anomaly))
+                        .set(PublicDataQueries.SEVERITY, anomaly.severity().name())
+                        .set(PublicDataQueries.REFRESHED_AT, refreshedAt);
+                String id = PublicMarketAnomaly.idOf(
+                        anomaly.metric().name(), quarter, anomaly.trdarCd(), anomaly.svcIndutyCd());
+                bulkOps.upsert(new Query(Criteria.where("_id").is(id)), update);
+            }
+            bulkOps.execute();
+        }
+
+        long removed = STARTUP_TRIGGER.equals(event.trigger()) ? 0 : mongoTemplate.remove(
+                new Query(Criteria.where(PublicDataQueries.REFRESHED_AT).lt(refreshedAt)),
+                PublicMarketAnomaly.class).getDeletedCount();
+
+        log.info("상권 이상 탐지 완료 (trigger: {}): 이상 {}건, 탐지 {} ms, 저장 {} ms, 해소된 기록 {}건 삭제",
+                event.trigger(), anomalies.size(), detectedAt - startedAt,
+                System.currentTimeMillis() - detectedAt, removed);
+    }
+
+    private static double score(MarketAnomalyDetector.Anomaly anomaly) {
+        double self = Double.isNaN(anomaly.selfScore()) ? 0 : Math.abs(anomaly.selfScore());
+        double peer = Double.isNaN(anomaly.peerScore()) ? 0 : Math.abs(anomaly.peerScore());
+        return Math.max(self, peer);
+    }
+
+    private static <E extends Enum<E>> String normalize(String value, Class<E> type) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT)).name();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 값입니다: " + value);
+        }
+    }
+
+    private static Double finiteOrNull(double value) {
+        return Double.isFinite(value) ? value : null;
+    }
+}
@@ -0,0 +1,142 @@
+package com.endlesspassion.sigai.domain.publicdata.service;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketForecast;
+import com.endlesspassion.sigai.domain.publicdata.event.MarketDataReloadedEvent;
+import com.endlesspassion.sigai.domain.publicdata.forecast.MarketForecaster;
+import com.endlesspassion.sigai.domain.publicdata.repository.PublicDataQueries;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 상권/업종별 매출·폐업률 예측 서비스
+ *
+ * 컬럼형 상권 저장소가 다시 적재되면(MarketDataReloadedEvent) 모든 (상권, 업종) 계열의 예측을
+ * MarketForecaster로 병렬 계산하여 public_market_forecast에 저장하고, 이번 갱신에 포함되지 않은 문서는 삭제한다.
+ * 분석 응답은 저장된 문서를 _id로 한 건 읽기만 하므로 요청 시점의 예측 계산은 없다.
+ *
+ * - 기동 시 적재("startup")는 예측 컬렉션이 비어 있을 때만 계산 (데이터가 바뀌지 않았으므로), 비어 있던 컬렉션이므로 오래된 문서 삭제는 하지 않음
+ * - 스냅샷 폴링("poll")은 무시: 동기화한 노드가 이미 같은 데이터로 갱신했고, 여러 노드가 같은 컬렉션을 다시 쓰면
+ *   한 노드의 오래된 문서 삭제가 다른 노드가 방금 기록한 문서를 지울 수 있음
+ * - sigai.public-data.forecast.enabled=false면 계산하지 않고, 조회도 항상 null
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MarketForecastService {
+
+    private static final String STARTUP_TRIGGER = "startup";
+    private static final String POLL_TRIGGER = "poll";
+    private static final int WRITE_CHUNK_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${sigai.public-data.forecast.enabled:false}")
+    private boolean enabled;
+
+    @Value("${sigai.public-data.forecast.horizon:4}")
+    private int horizon = 4;
+
+    @Value("${sigai.public-data.forecast.parallelism:0}")
+    private int parallelism; // 0 이하면 CPU 코어 수
+
+    @EventListener
+    public void onMarketDataReloaded(MarketDataReloadedEvent event) {
+        if (!enabled || POLL_TRIGGER.equals(event.trigger())) {
+            return;
+        }
+        if (STARTUP_TRIGGER.equals(event.trigger())
+                && mongoTemplate.exists(new Query(), PublicMarketForecast.class)) {
+            return;
+        }
+        try {
+            refresh(event);
+        } catch (Exception e) {
+            // 예측 갱신 실패 시 기존 예측을 그대로 사용
+            log.error("상권 예측 갱신 실패 (trigger: {})", event.trigger(), e);
+        }
+    }
+
+    /**
+     * (상권, 업종)의 저장된 예측 조회
+     *
+     * @return 비활성화되었거나 예측이 없으면 null
+     */
+    public PublicMarketForecast find(String trdarCd, String svcIndutyCd) {
+        if (!enabled) {
+            return null;
+        }
+        return mongoTemplate.findById(PublicMarketForecast.idOf(trdarCd, svcIndutyCd), PublicMarketForecast.class);
+    }
+
+    private void refresh(MarketDataReloadedEvent event) {
+        long startedAt = System.currentTimeMillis();
+        Date refreshedAt = new Date(startedAt);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        MarketForecaster.Result result;
+        try {
+            result = MarketForecaster.forecast(event.view(), horizon, pool);
+        } finally {
+            pool.shutdown();
+        }
+        if (result.size() == 0) {
+            return;
+        }
+        long fittedAt = System.currentTimeMillis();
+
+        String baseQuarter = result.baseQuarter().mongoKey();
+        for (int from = 0; from < result.size(); from += WRITE_CHUNK_SIZE) {
+            int to = Math.min(result.size(), from + WRITE_CHUNK_SIZE);
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PublicMarketForecast.class);
+            for (int series = from; series < to; series++) {
+                String trdarCd = result.trdarCdOf(series);
+                String svcIndutyCd = result.svcIndutyCdOf(series);
+                Update update = new Update()
+                        .set(PublicDataQueries.TRDAR_CD, trdarCd)
+                        .set(PublicDataQueries.SVC_INDUTY_CD, svcIndutyCd)
+                        .set("base_quarter", baseQuarter)
+                        .set("revenue", toList(result, series, true))
+                        .set("clsbiz_rt", toList(result, series, false))
+                        .set("revenue_rmse", finiteOrNull(result.revenueRmse(series)))
+                        .set("clsbiz_rmse", finiteOrNull(result.closedRateRmse(series)))
+                        .set("model", result.revenueModel(series).name())
+                        .set(PublicDataQueries.REFRESHED_AT, refreshedAt);
+                bulkOps.upsert(new Query(Criteria.where("_id").is(PublicMarketForecast.idOf(trdarCd, svcIndutyCd))), update);
+            }
+            bulkOps.execute();
+        }
+
+        long removed = STARTUP_TRIGGER.equals(event.trigger()) ? 0 : mongoTemplate.remove(
+                new Query(Criteria.where(PublicDataQueries.REFRESHED_AT).lt(refreshedAt)),
+                PublicMarketForecast.class).getDeletedCount();
+
+        log.info("상권 예측 갱신 완료 (trigger: {}): 계열 {}개, 기준 분기 {}, 학습 {} ms, 저장 {} ms, 오래된 문서 {}건 삭제",
+                event.trigger(), result.size(), baseQuarter,
+                fittedAt - startedAt, System.currentTimeMillis() - fittedAt, removed);
+    }
+
+    private static List<Double> toList(MarketForecaster.Result result, int series, boolean revenue) {
+        List<Double> values = new ArrayList<>(result.horizon());
+        for (int step = 1; step <= result.horizon(); step++) {
+            values.add(finiteOrNull(revenue ? result.revenue(series, step) : result.closedRate(series, step)));
+        }
+        return values;
+    }
+
+    private static Double finiteOrNull(double value) {
+        return Double.isFinite(value) ? value : null;
+    }
+}
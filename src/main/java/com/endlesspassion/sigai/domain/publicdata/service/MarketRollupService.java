@@ -0,0 +1,150 @@
+package com.endlesspassion.sigai.domain.publicdata.service;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketRollup;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketRollup;
+import com.endlesspassion.sigai.domain.publicdata.event.MarketDataReloadedEvent;
+import com.endlesspassion.sigai.domain.publicdata.repository.PublicDataQueries;
+import com.endlesspassion.sigai.domain.publicdata.rollup.MarketRollupCube;
+import com.endlesspassion.sigai.global.util.Quarter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 자치구/업종 집계 큐브 서비스
+ *
+ * 컬럼형 상권 저장소가 다시 적재되면(MarketDataReloadedEvent) 분기 × 자치구 × 업종, 분기 × 업종 셀을 모두 계산하여
+ * public_market_rollup에 저장하고, 이번 갱신에 포함되지 않은 셀은 삭제한다.
+ * 조회는 _id 단건 조회 한 번이므로 자치구 안의 상권 문서를 훑지 않는다.
+ *
+ * - 기동 시 적재("startup")는 집계 컬렉션이 비어 있을 때만 계산, 비어 있던 컬렉션이므로 오래된 문서 삭제는 하지 않음
+ * - 스냅샷 폴링("poll")은 무시: 동기화한 노드가 이미 같은 데이터로 갱신했고, 여러 노드가 같은 컬렉션을 다시 쓰면
+ *   한 노드의 오래된 문서 삭제가 다른 노드가 방금 기록한 문서를 지울 수 있음
+ * - sigai.public-data.rollup.enabled=false면 계산하지 않음 (조회는 저장된 셀 그대로)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MarketRollupService {
+
+    private static final String STARTUP_TRIGGER = "startup";
+    private static final String POLL_TRIGGER = "poll";
+    private static final int WRITE_CHUNK_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${sigai.public-data.rollup.enabled:false}")
+    private boolean enabled;
+
+    @EventListener
+    public void onMarketDataReloaded(MarketDataReloadedEvent event) {
+        if (!enabled || POLL_TRIGGER.equals(event.trigger())) {
+            return;
+        }
+        if (STARTUP_TRIGGER.equals(event.trigger())
+                && mongoTemplate.exists(new Query(), PublicMarketRollup.class)) {
+            return;
+        }
+        try {
+            refresh(event);
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 집계를 그대로 사용
+            log.error("자치구/업종 집계 갱신 실패 (trigger: {})", event.trigger(), e);
+        }
+    }
+
+    /**
+     * 분기 × 자치구 × 업종 집계
+     *
+     * @param quarter 분기 코드 ("YYYYQ" 또는 "YYYYQQ")
+     * @param gu 자치구 (예: 성동구)
+     */
+    public MarketRollup findGuRollup(String quarter, String gu, String svcIndutyCd) {
+        if (gu == null || gu.isBlank() || MarketRollupCube.ALL_GU.equals(gu)) {
+            throw new IllegalArgumentException("자치구를 입력해주세요.");
+        }
+        return MarketRollup.from(find(quarter, gu, svcIndutyCd), false);
+    }
+
+    /**
+     * 분기 × 업종 집계 (서울시 전체)
+     *
+     * @param quarter 분기 코드 ("YYYYQ" 또는 "YYYYQQ")
+     */
+    public MarketRollup findIndustryRollup(String quarter, String svcIndutyCd) {
+        return MarketRollup.from(find(quarter, MarketRollupCube.ALL_GU, svcIndutyCd), true);
+    }
+
+    private PublicMarketRollup find(String quarter, String gu, String svcIndutyCd) {
+        String quarterKey = Quarter.parse(quarter).mongoKey();
+        PublicMarketRollup rollup = mongoTemplate.findById(
+                MarketRollupCube.keyOf(quarterKey, gu, svcIndutyCd), PublicMarketRollup.class);
+        if (rollup == null) {
+            throw new IllegalArgumentException(
+                    "해당 분기/자치구/업종의 집계가 없습니다: " + quarterKey + ", " + gu + ", " + svcIndutyCd);
+        }
+        return rollup;
+    }
+
+    private void refresh(MarketDataReloadedEvent event) {
+        long startedAt = System.currentTimeMillis();
+        Date refreshedAt = new Date(startedAt);
+
+        List<MarketRollupCube.Cell> cells = MarketRollupCube.build(event.view());
+        long builtAt = System.currentTimeMillis();
+
+        for (int from = 0; from < cells.size(); from += WRITE_CHUNK_SIZE) {
+            int to = Math.min(cells.size(), from + WRITE_CHUNK_SIZE);
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PublicMarketRollup.class);
+            for (MarketRollupCube.Cell cell : cells.subList(from, to)) {
+                Update update = new Update()
+                        .set(PublicDataQueries.STDR_YYQU_CD, cell.quarter())
+                        .set(PublicDataQueries.GU, cell.gu())
+                        .set(PublicDataQueries.SVC_INDUTY_CD, cell.svcIndutyCd())
+                        .set(PublicDataQueries.SVC_INDUTY_CD_NM, cell.svcIndutyCdNm())
+                        .set("market_count", cell.marketCount())
+                        .set("revenue", toDocument(cell.revenue()))
+                        .set("clsbiz_rt", toDocument(cell.closedRate()))
+                        .set("stor_co", cell.storeCount())
+                        .set("clsbiz_stor_co", cell.closedStoreCount())
+                        .set(PublicDataQueries.REVENUE_SKETCH, cell.revenueSketch().toBytes())
+                        .set(PublicDataQueries.CLSBIZ_RT_SKETCH, cell.closedRateSketch().toBytes())
+                        .set(PublicDataQueries.REFRESHED_AT, refreshedAt);
+                String id = MarketRollupCube.keyOf(cell.quarter(), cell.gu(), cell.svcIndutyCd());
+                bulkOps.upsert(new Query(Criteria.where("_id").is(id)), update);
+            }
+            bulkOps.execute();
+        }
+
+        long removed = STARTUP_TRIGGER.equals(event.trigger()) ? 0 : mongoTemplate.remove(
+                new Query(Criteria.where(PublicDataQueries.REFRESHED_AT).lt(refreshedAt)),
+                PublicMarketRollup.class).getDeletedCount();
+
+        log.info("자치구/업종 집계 갱신 완료 (trigger: {}): 셀 {}개, 계산 {} ms, 저장 {} ms, 오래된 셀 {}건 삭제",
+                event.trigger(), cells.size(), builtAt - startedAt, System.currentTimeMillis() - builtAt, removed);
+    }
+
+    private static Document toDocument(MarketRollupCube.Stats stats) {
+        return new Document("count", stats.count())
+                .append("sum", finiteOrNull(stats.sum()))
+                .append("mean", finiteOrNull(stats.mean()))
+                .append("p25", finiteOrNull(stats.p25()))
+                .append("p50", finiteOrNull(stats.p50()))
+                .append("p75", finiteOrNull(stats.p75()));
+    }
+
+    private static Double finiteOrNull(double value) {
+        return Double.isFinite(value) ? value : null;
+    }
+}
@@ -0,0 +1,178 @@
+package com.endlesspassion.sigai.domain.publicdata.service;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketSurvival;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketSurvival;
+import com.endlesspassion.sigai.domain.publicdata.event.MarketDataReloadedEvent;
+import com.endlesspassion.sigai.domain.publicdata.repository.PublicDataQueries;
+import com.endlesspassion.sigai.domain.publicdata.rollup.MarketRollupCube;
+import com.endlesspassion.sigai.domain.publicdata.survival.MarketSurvivalEstimator;
+import com.endlesspassion.sigai.global.common.enums.SeoulGuCommercialArea;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 상권/업종 점포 생존 곡선 서비스
+ *
+ * 컬럼형 상권 저장소가 다시 적재되면(MarketDataReloadedEvent) 모든 (상권, 업종) 계열과 (자치구, 업종), (서울시, 업종)
+ * 그룹의 생존 곡선을 MarketSurvivalEstimator로 병렬 계산하여 public_market_survival에 저장하고,
+ * 이번 갱신에 포함되지 않은 문서는 삭제한다.
+ * 조회는 상권 곡선과 자치구/서울시 기준 곡선을 _id $in 조회 한 번으로 읽으므로 요청 시점의 계산은 없다.
+ *
+ * - 기동 시 적재("startup")는 생존 곡선 컬렉션이 비어 있을 때만 계산, 비어 있던 컬렉션이므로 오래된 문서 삭제는 하지 않음
+ * - 스냅샷 폴링("poll")은 무시: 동기화한 노드가 이미 같은 데이터로 갱신했고, 여러 노드가 같은 컬렉션을 다시 쓰면
+ *   한 노드의 오래된 문서 삭제가 다른 노드가 방금 기록한 문서를 지울 수 있음
+ * - sigai.public-data.survival.enabled=false면 계산하지 않음 (조회는 저장된 곡선 그대로)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MarketSurvivalService {
+
+    private static final String STARTUP_TRIGGER = "startup";
+    private static final String POLL_TRIGGER = "poll";
+    private static final int WRITE_CHUNK_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${sigai.public-data.survival.enabled:false}")
+    private boolean enabled;
+
+    @Value("${sigai.public-data.survival.window:12}")
+    private int window = 12;
+
+    @Value("${sigai.public-data.survival.horizon:20}")
+    private int horizon = 20;
+
+    @Value("${sigai.public-data.survival.parallelism:0}")
+    private int parallelism; // 0 이하면 CPU 코어 수
+
+    @EventListener
+    public void onMarketDataReloaded(MarketDataReloadedEvent event) {
+        if (!enabled || POLL_TRIGGER.equals(event.trigger())) {
+            return;
+        }
+        if (STARTUP_TRIGGER.equals(event.trigger())
+                && mongoTemplate.exists(new Query(), PublicMarketSurvival.class)) {
+            return;
+        }
+        try {
+            refresh(event);
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 곡선을 그대로 사용
+            log.error("생존 곡선 갱신 실패 (trigger: {})", event.trigger(), e);
+        }
+    }
+
+    /**
+     * 상권/업종 생존 곡선 + 같은 업종의 자치구/서울시 기준 곡선 (조회 1회)
+     */
+    public MarketSurvival find(String trdarCd, String svcIndutyCd) {
+        String marketId = PublicMarketSurvival.idOf(MarketSurvivalEstimator.Scope.MARKET.name(), trdarCd, svcIndutyCd);
+        String cityId = PublicMarketSurvival.idOf(
+                MarketSurvivalEstimator.Scope.CITY.name(), MarketRollupCube.ALL_GU, svcIndutyCd);
+        String gu = SeoulGuCommercialArea.guOf(trdarCd);
+        String guId = gu != null
+                ? PublicMarketSurvival.idOf(MarketSurvivalEstimator.Scope.GU.name(), gu, svcIndutyCd)
+                : null;
+
+        List<String> ids = new ArrayList<>(3);
+        ids.add(marketId);
+        ids.add(cityId);
+        if (guId != null) {
+            ids.add(guId);
+        }
+        Map<String, PublicMarketSurvival> curves = new HashMap<>();
+        for (PublicMarketSurvival curve : mongoTemplate.find(
+                new Query(Criteria.where("_id").in(ids)), PublicMarketSurvival.class)) {
+            curves.put(curve.getId(), curve);
+        }
+
+        PublicMarketSurvival market = curves.get(marketId);
+        if (market == null) {
+            throw new IllegalArgumentException("해당 상권/업종의 생존 곡선이 없습니다: " + trdarCd + ", " + svcIndutyCd);
+        }
+        return MarketSurvival.of(trdarCd, svcIndutyCd, market,
+                guId != null ? curves.get(guId) : null, curves.get(cityId));
+    }
+
+    private void refresh(MarketDataReloadedEvent event) {
+        long startedAt = System.currentTimeMillis();
+        Date refreshedAt = new Date(startedAt);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        MarketSurvivalEstimator.Result result;
+        try {
+            result = MarketSurvivalEstimator.estimate(event.view(), window, horizon, pool);
+        } finally {
+            pool.shutdown();
+        }
+        if (result.size() == 0) {
+            return;
+        }
+        long estimatedAt = System.currentTimeMillis();
+
+        String baseQuarter = result.baseQuarter().mongoKey();
+        int written = 0;
+        for (int from = 0; from < result.size(); from += WRITE_CHUNK_SIZE) {
+            int to = Math.min(result.size(), from + WRITE_CHUNK_SIZE);
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PublicMarketSurvival.class);
+            int operations = 0;
+            for (int curve = from; curve < to; curve++) {
+                if (Double.isNaN(result.survival(curve, 1))) {
+                    continue; // 점포 수 관측이 없는 곡선
+                }
+                String scope = result.scopeOf(curve).name();
+                String code = result.codeOf(curve);
+                String svcIndutyCd = result.svcIndutyCdOf(curve);
+                Update update = new Update()
+                        .set("scope", scope)
+                        .set("code", code)
+                        .set(PublicDataQueries.GU, result.guOf(curve))
+                        .set(PublicDataQueries.SVC_INDUTY_CD, svcIndutyCd)
+                        .set("base_quarter", baseQuarter)
+                        .set("window", result.window())
+                        .set("at_risk", result.atRisk(curve))
+                        .set("events", result.events(curve))
+                        .set("survival_bp", toBasisPoints(result, curve))
+                        .set(PublicDataQueries.REFRESHED_AT, refreshedAt);
+                bulkOps.upsert(new Query(Criteria.where("_id").is(PublicMarketSurvival.idOf(scope, code, svcIndutyCd))), update);
+                operations++;
+            }
+            if (operations > 0) {
+                bulkOps.execute();
+                written += operations;
+            }
+        }
+
+        long removed = STARTUP_TRIGGER.equals(event.trigger()) ? 0 : mongoTemplate.remove(
+                new Query(Criteria.where(PublicDataQueries.REFRESHED_AT).lt(refreshedAt)),
+                PublicMarketSurvival.class).getDeletedCount();
+
+        log.info("생존 곡선 갱신 완료 (trigger: {}): 곡선 {}개 / 저장 {}개, 기준 분기 {}, 계산 {} ms, 저장 {} ms, 오래된 문서 {}건 삭제",
+                event.trigger(), result.size(), written, baseQuarter,
+                estimatedAt - startedAt, System.currentTimeMillis() - estimatedAt, removed);
+    }
+
+    private static List<Integer> toBasisPoints(MarketSurvivalEstimator.Result result, int curve) {
+        List<Integer> values = new ArrayList<>(result.horizon());
+        for (int step = 1; step <= result.horizon(); step++) {
+            values.add((int) Math.round(result.survival(curve, step) * 10000.0));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,179 @@
+package com.endlesspassion.sigai.domain.publicdata.service;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketRanking;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketRankingPage;
+import com.endlesspassion.sigai.domain.publicdata.event.PublicDataSyncedEvent;
+import com.endlesspassion.sigai.domain.publicdata.repository.PublicDataIndexes;
+import com.endlesspassion.sigai.domain.publicdata.repository.PublicDataQueries;
+import com.endlesspassion.sigai.global.util.Quarter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 분기/업종별 상권 매출 순위 서비스
+ *
+ * 사장님 한 명의 순위(RevenueComparisonService)가 아니라, 한 업종의 모든 상권을 순위 매긴 표를 제공한다.
+ * 예) 2024년 3분기 한식음식점 상위 10% 상권, 상권별 퍼센타일 구간
+ *
+ * - 순위 계산은 MongoDB $setWindowFields($rank, $count)로 서버에서 수행 (문서를 JVM으로 가져와 정렬하지 않음)
+ * - (rank, trdar_cd) 기준 키셋 페이지네이션
+ * - sigai.public-data.ranking.persisted.enabled=true면 동기화 배치 후 전체 순위를 public_market_ranking에
+ *   미리 저장해 두고, 조회는 인덱스 범위 스캔만 수행
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PublicDataRankingService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String PROFIT_SYNC_JOB = "profitDataSyncJob";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${sigai.public-data.ranking.persisted.enabled:false}")
+    private boolean persistedEnabled;
+
+    /**
+     * 분기/업종의 상권 매출 순위 한 페이지 조회
+     *
+     * @param quarter 분기 코드 ("YYYYQ" 또는 "YYYYQQ")
+     * @param svcIndutyCd 업종 코드
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1~200)
+     * @param maxTopPercentile 상위 몇 %까지만 조회 (null이면 전체)
+     */
+    public MarketRankingPage findIndustryRanking(
+            String quarter, String svcIndutyCd, String cursor, int size, Double maxTopPercentile) {
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        Integer afterRank = null;
+        String afterTrdarCd = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split(":", 2);
+            try {
+                afterRank = Integer.parseInt(parts[0]);
+                afterTrdarCd = parts[1];
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        String quarterKey = Quarter.parse(quarter).mongoKey();
+        List<MarketRankingPage.Entry> entries = persistedEnabled && hasPersistedRanking(quarterKey, svcIndutyCd)
+                ? findPersisted(quarterKey, svcIndutyCd, maxTopPercentile, afterRank, afterTrdarCd, size + 1)
+                : findLive(quarterKey, svcIndutyCd, maxTopPercentile, afterRank, afterTrdarCd, size + 1);
+
+        String nextCursor = null;
+        if (entries.size() > size) {
+            entries = entries.subList(0, size);
+            MarketRankingPage.Entry last = entries.get(size - 1);
+            nextCursor = last.getRank() + ":" + last.getTrdarCd();
+        }
+        return MarketRankingPage.of(quarterKey, svcIndutyCd, entries, nextCursor);
+    }
+
+    /**
+     * 매출 동기화가 끝나면 사전 계산 순위를 갱신
+     */
+    @EventListener
+    public void onPublicDataSynced(PublicDataSyncedEvent event) {
+        if (persistedEnabled && PROFIT_SYNC_JOB.equals(event.jobName())) {
+            refreshPersistedRanking();
+        }
+    }
+
+    /**
+     * 전체 분기/업종 순위를 다시 계산하여 public_market_ranking에 병합하고, 이번 갱신에 포함되지 않은 문서는 삭제
+     *
+     * @return 삭제된 오래된 순위 문서 수
+     */
+    public long refreshPersistedRanking() {
+        long startedAt = System.currentTimeMillis();
+        Date refreshedAt = new Date(startedAt);
+        String rankingCollection = mongoTemplate.getCollectionName(PublicMarketRanking.class);
+
+        // $merge의 on 필드에는 고유 인덱스가 필요
+        PublicDataIndexes.reconcile(mongoTemplate);
+
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(PublicProfitData.class))
+                .aggregate(PublicDataQueries.rankingRefreshPipeline(refreshedAt, rankingCollection))
+                .allowDiskUse(true)
+                .toCollection();
+
+        long removed = mongoTemplate.remove(
+                new Query(Criteria.where(PublicDataQueries.REFRESHED_AT).lt(refreshedAt)),
+                PublicMarketRanking.class).getDeletedCount();
+
+        log.info("상권 매출 순위 갱신 완료: 오래된 문서 {}건 삭제, 소요 {} ms",
+                removed, System.currentTimeMillis() - startedAt);
+        return removed;
+    }
+
+    private boolean hasPersistedRanking(String quarter, String svcIndutyCd) {
+        return mongoTemplate.exists(
+                new Query(Criteria.where(PublicDataQueries.STDR_YYQU_CD).is(quarter)
+                        .and(PublicDataQueries.SVC_INDUTY_CD).is(svcIndutyCd)),
+                PublicMarketRanking.class);
+    }
+
+    private List<MarketRankingPage.Entry> findPersisted(
+            String quarter, String svcIndutyCd, Double maxTopPercentile,
+            Integer afterRank, String afterTrdarCd, int limit) {
+
+        Query query = PublicDataQueries.persistedRanking(quarter, svcIndutyCd, maxTopPercentile, afterRank, afterTrdarCd, limit);
+        List<MarketRankingPage.Entry> entries = new ArrayList<>();
+        for (PublicMarketRanking ranking : mongoTemplate.find(query, PublicMarketRanking.class)) {
+            entries.add(MarketRankingPage.Entry.of(
+                    ranking.getTrdarCd(),
+                    ranking.getTrdarCdNm(),
+                    ranking.getThsmonSelngAmt(),
+                    ranking.getRank(),
+                    ranking.getTotalCount(),
+                    ranking.getTopPercentile()));
+        }
+        return entries;
+    }
+
+    private List<MarketRankingPage.Entry> findLive(
+            String quarter, String svcIndutyCd, Double maxTopPercentile,
+            Integer afterRank, String afterTrdarCd, int limit) {
+
+        List<Document> pipeline = PublicDataQueries.industryRankingPipeline(
+                quarter, svcIndutyCd, maxTopPercentile, afterRank, afterTrdarCd, limit);
+        List<MarketRankingPage.Entry> entries = new ArrayList<>();
+        for (Document document : mongoTemplate.getCollection(mongoTemplate.getCollectionName(PublicProfitData.class))
+                .aggregate(pipeline)) {
+            entries.add(MarketRankingPage.Entry.of(
+                    document.getString(PublicDataQueries.TRDAR_CD),
+                    document.getString(PublicDataQueries.TRDAR_CD_NM),
+                    toDouble(document.get(PublicDataQueries.THSMON_SELNG_AMT)),
+                    toInteger(document.get(PublicDataQueries.RANK)),
+                    toInteger(document.get(PublicDataQueries.TOTAL_COUNT)),
+                    toDouble(document.get(PublicDataQueries.TOP_PERCENTILE))));
+        }
+        return entries;
+    }
+
+    private static Double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
+
+    private static Integer toInteger(Object value) {
+        return value instanceof Number number ? number.intValue() : null;
+    }
+}
@@ -1,49 +1,106 @@
 package com.endlesspassion.sigai.domain.publicdata.service;
 
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketColumnStoreLoader;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketDataView;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
 import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
 import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketHistory;
+import com.endlesspassion.sigai.domain.publicdata.dto.MarketRankingPage;
+import com.endlesspassion.sigai.domain.publicdata.dto.PublicMarketDataBundle;
+import com.endlesspassion.sigai.domain.publicdata.existence.MarketExistenceIndex;
+import com.endlesspassion.sigai.domain.publicdata.repository.PublicDataQueries;
 import com.endlesspassion.sigai.domain.publicdata.repository.PublicProfitDataRepository;
 import com.endlesspassion.sigai.domain.publicdata.repository.PublicStoreDataRepository;
+import com.endlesspassion.sigai.global.util.Quarter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.bson.Document;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric.Dataset.PROFIT;
+import static com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric.Dataset.STORE;
 
 /**
  * 공공 데이터 조회 서비스
  *
- * MongoDB에서 매출 및 점포 데이터를 조회하고 집계하는 책임
+ * MongoDB에서 매출, 점포 및 상권 인구 데이터를 조회하고 집계하는 책임
  *
  * 설계 원칙:
  * - 단일 책임: 오직 데이터 조회와 기본 필터링만 담당
  * - 비즈니스 로직은 상위 서비스에서 처리
  * - Repository 패턴을 통한 데이터 접근 추상화
+ * - 컬럼형 저장소(MarketColumnStore 또는 mmap 스냅샷)가 적재되어 있으면 O(1) 인메모리 조회, 없으면 MongoDB 조회
+ * - MongoDB 조회 전 존재 인덱스(MarketExistenceIndex)로 확실히 없는 키는 조회를 생략 (컬럼형 저장소가 꺼져 있을 때만 적재됨)
+ * - 분기는 "YYYYQ"/"YYYYQQ" 어느 형식으로 받아도 공공 데이터 키("YYYYQ")로 맞춰 조회
  */
 
 @RequiredArgsConstructor
 @Service
 public class PublicDataService {
 
+    private static final String[] PROFIT_HISTORY_FIELDS = {
+            PublicDataQueries.TRDAR_CD_NM,
+            PublicDataQueries.SVC_INDUTY_CD_NM,
+            MarketMetric.THSMON_SELNG_AMT.getField(),
+            MarketMetric.THSMON_SELNG_CO.getField(),
+            MarketMetric.ML_SELNG_AMT.getField(),
+            MarketMetric.FML_SELNG_AMT.getField(),
+            MarketMetric.AGRDE_10_SELNG_CO.getField(),
+            MarketMetric.AGRDE_20_SELNG_CO.getField(),
+            MarketMetric.AGRDE_30_SELNG_CO.getField(),
+            MarketMetric.AGRDE_40_SELNG_CO.getField(),
+            MarketMetric.AGRDE_50_SELNG_CO.getField(),
+            MarketMetric.AGRDE_60_ABOVE_SELNG_CO.getField()
+    };
+
+    private static final String[] STORE_HISTORY_FIELDS = {
+            PublicDataQueries.TRDAR_CD_NM,
+            PublicDataQueries.SVC_INDUTY_CD_NM,
+            MarketMetric.STOR_CO.getField(),
+            MarketMetric.OPBIZ_RT.getField(),
+            MarketMetric.CLSBIZ_RT.getField()
+    };
+
     private final PublicProfitDataRepository publicProfitDataRepository;
     private final PublicStoreDataRepository publicStoreDataRepository;
     private final MongoTemplate mongoTemplate;
+    private final MarketColumnStoreLoader marketColumnStoreLoader;
+    private final PublicDataRankingService publicDataRankingService;
+    private final MarketExistenceIndex marketExistenceIndex;
 
     /**
      * 특정 분기, 상권, 업종의 매출 데이터 조회
      *
-     * @param quarter 분기 코드 (예: "202401")
+     * @param quarter 분기 코드 (예: "20241" 또는 "202401")
      * @param trdarCd 상권 코드
      * @param svcIndutyCd 업종 코드
      * @return 매출 데이터 (없으면 null)
      */
     public PublicProfitData getProfitData(String quarter, String trdarCd, String svcIndutyCd) {
-        return publicProfitDataRepository
-                .findByStdrYyquCdAndTrdarCdAndSvcIndutyCd(quarter, trdarCd, svcIndutyCd)
+        String quarterKey = Quarter.parse(quarter).mongoKey();
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            return store.toProfitData(store.findRow(quarterKey, trdarCd, svcIndutyCd));
+        }
+        if (!marketExistenceIndex.mightContain(PROFIT, quarterKey, trdarCd, svcIndutyCd)) {
+            return null;
+        }
+        PublicProfitData data = publicProfitDataRepository
+                .findByStdrYyquCdAndTrdarCdAndSvcIndutyCd(quarterKey, trdarCd, svcIndutyCd)
                 .orElse(null); // 이후 예외처리 진행
+        if (data == null) {
+            marketExistenceIndex.recordMiss(PROFIT);
+        }
+        return data;
     }
 
     /**
@@ -55,9 +112,21 @@ public class PublicDataService {
      * @return 점포 데이터 (없으면 null)
      */
     public PublicStoreData findStoreData(String quarter, String trdarCd, String svcIndutyCd) {
-        return publicStoreDataRepository
-                .findByStdrYyquCdAndTrdarCdAndSvcIndutyCd(quarter, trdarCd, svcIndutyCd)
+        String quarterKey = Quarter.parse(quarter).mongoKey();
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            return store.toStoreData(store.findRow(quarterKey, trdarCd, svcIndutyCd));
+        }
+        if (!marketExistenceIndex.mightContain(STORE, quarterKey, trdarCd, svcIndutyCd)) {
+            return null;
+        }
+        PublicStoreData data = publicStoreDataRepository
+                .findByStdrYyquCdAndTrdarCdAndSvcIndutyCd(quarterKey, trdarCd, svcIndutyCd)
                 .orElse(null);
+        if (data == null) {
+            marketExistenceIndex.recordMiss(STORE);
+        }
+        return data;
     }
 
     /**
@@ -73,13 +142,23 @@ public class PublicDataService {
     public List<PublicProfitData> findAllProfitDataByMarketAndIndustry(
             String quarter, String trdarCd, String svcIndutyCd) {
 
-        Query query = new Query();
-        query.addCriteria(Criteria.where("stdrYyquCd").is(quarter));
-        query.addCriteria(Criteria.where("trdarCd").is(trdarCd));
-        query.addCriteria(Criteria.where("svcIndutyCd").is(svcIndutyCd));
-        query.with(Sort.by(Sort.Direction.DESC, "thsmonSelngAmt")); // 매출 내림차순
+        String quarterKey = Quarter.parse(quarter).mongoKey();
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            // (분기, 상권, 업종)은 고유 키이므로 최대 1건
+            PublicProfitData data = store.toProfitData(store.findRow(quarterKey, trdarCd, svcIndutyCd));
+            return data != null ? List.of(data) : List.of();
+        }
+        if (!marketExistenceIndex.mightContain(PROFIT, quarterKey, trdarCd, svcIndutyCd)) {
+            return List.of();
+        }
 
-        return mongoTemplate.find(query, PublicProfitData.class);
+        List<PublicProfitData> result = mongoTemplate.find(
+                PublicDataQueries.byKeyOrderBySalesDesc(quarterKey, trdarCd, svcIndutyCd), PublicProfitData.class);
+        if (result.isEmpty()) {
+            marketExistenceIndex.recordMiss(PROFIT);
+        }
+        return result;
     }
 
     /**
@@ -93,13 +172,28 @@ public class PublicDataService {
     public List<PublicProfitData> findProfitDataByQuarters(
             List<String> quarters, String trdarCd, String svcIndutyCd) {
 
-        Query query = new Query();
-        query.addCriteria(Criteria.where("stdrYyquCd").in(quarters));
-        query.addCriteria(Criteria.where("trdarCd").is(trdarCd));
-        query.addCriteria(Criteria.where("svcIndutyCd").is(svcIndutyCd));
-        query.with(Sort.by(Sort.Direction.ASC, "stdrYyquCd")); // 과거 분기부터
+        List<String> quarterKeys = Quarter.mongoKeys(quarters);
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            List<PublicProfitData> result = new ArrayList<>(quarterKeys.size());
+            for (String quarter : quarterKeys) {
+                PublicProfitData data = store.toProfitData(store.findRow(quarter, trdarCd, svcIndutyCd));
+                if (data != null) {
+                    result.add(data);
+                }
+            }
+            result.sort(Comparator.comparing(PublicProfitData::getStdrYyquCd)); // 과거 분기부터
+            return result;
+        }
 
-        return mongoTemplate.find(query, PublicProfitData.class);
+        List<String> candidates = marketExistenceIndex.candidates(PROFIT, quarterKeys, trdarCd, svcIndutyCd);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        List<PublicProfitData> result = mongoTemplate.find(
+                PublicDataQueries.byQuarters(candidates, trdarCd, svcIndutyCd), PublicProfitData.class); // 과거 분기부터
+        marketExistenceIndex.recordMisses(PROFIT, candidates.size() - result.size());
+        return result;
     }
 
     /**
@@ -113,14 +207,119 @@ public class PublicDataService {
     public List<PublicStoreData> findStoreDataByQuarters(
             List<String> quarters, String trdarCd, String svcIndutyCd) {
 
-        Query query = new Query();
-        query.addCriteria(Criteria.where("stdrYyquCd").in(quarters));
-        query.addCriteria(Criteria.where("trdarCd").is(trdarCd));
-        query.addCriteria(Criteria.where("svcIndutyCd").is(svcIndutyCd));
-        query.with(Sort.by(Sort.Direction.ASC, "stdrYyquCd")); // 과거 분기부터
+        List<String> quarterKeys = Quarter.mongoKeys(quarters);
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            List<PublicStoreData> result = new ArrayList<>(quarterKeys.size());
+            for (String quarter : quarterKeys) {
+                PublicStoreData data = store.toStoreData(store.findRow(quarter, trdarCd, svcIndutyCd));
+                if (data != null) {
+                    result.add(data);
+                }
+            }
+            result.sort(Comparator.comparing(PublicStoreData::getStdrYyquCd)); // 과거 분기부터
+            return result;
+        }
+
+        List<String> candidates = marketExistenceIndex.candidates(STORE, quarterKeys, trdarCd, svcIndutyCd);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        List<PublicStoreData> result = mongoTemplate.find(
+                PublicDataQueries.byQuarters(candidates, trdarCd, svcIndutyCd), PublicStoreData.class); // 과거 분기부터
+        marketExistenceIndex.recordMisses(STORE, candidates.size() - result.size());
+        return result;
+    }
+
+    /**
+     * 여러 분기의 한 업종 서울시 전체 상권 매출 금액 조회 (순위 비교 대상 분포용)
+     *
+     * 컬럼형 저장소가 있으면 분기마다 상권 수만큼 키만 훑고, 없으면 idx_industry_ranking 커버드 쿼리 1회로 읽는다.
+     *
+     * @param quarters 분기 코드 리스트
+     * @param svcIndutyCd 업종 코드
+     * @return 분기 키("YYYYQ")별 상권 매출 금액 (정렬 안 됨, 매출 금액이 없는 상권 제외, 데이터가 없는 분기는 키 없음)
+     */
+    public Map<String, double[]> findIndustrySalesByQuarters(List<String> quarters, String svcIndutyCd) {
+        List<String> quarterKeys = Quarter.mongoKeys(quarters);
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            return industrySalesByQuarter(store, quarterKeys, svcIndutyCd);
+        }
+        return industrySalesByQuarter(mongoTemplate.find(
+                PublicDataQueries.industrySales(quarterKeys, svcIndutyCd),
+                Document.class,
+                mongoTemplate.getCollectionName(PublicProfitData.class)));
+    }
+
+    static Map<String, double[]> industrySalesByQuarter(MarketDataView store, List<String> quarterKeys, String svcIndutyCd) {
+        Map<String, double[]> salesByQuarter = new HashMap<>();
+        for (String quarter : quarterKeys) {
+            double[] sales = store.valuesAcrossAreas(MarketMetric.THSMON_SELNG_AMT, quarter, svcIndutyCd);
+            if (sales.length > 0) {
+                salesByQuarter.put(quarter, sales);
+            }
+        }
+        return salesByQuarter;
+    }
 
-        return mongoTemplate.find(query, PublicStoreData.class);
+    /**
+     * industrySales 쿼리 결과를 분기별 배열로 변환 (분기별 개수를 먼저 세고 배열을 한 번에 채움)
+     */
+    static Map<String, double[]> industrySalesByQuarter(List<Document> rows) {
+        Map<String, int[]> counts = new HashMap<>();
+        for (Document row : rows) {
+            counts.computeIfAbsent(row.getString(PublicDataQueries.STDR_YYQU_CD), quarter -> new int[1])[0]++;
+        }
+        Map<String, double[]> salesByQuarter = new HashMap<>();
+        counts.forEach((quarter, count) -> {
+            salesByQuarter.put(quarter, new double[count[0]]);
+            count[0] = 0;
+        });
+        for (Document row : rows) {
+            String quarter = row.getString(PublicDataQueries.STDR_YYQU_CD);
+            salesByQuarter.get(quarter)[counts.get(quarter)[0]++] =
+                    ((Number) row.get(PublicDataQueries.THSMON_SELNG_AMT)).doubleValue();
+        }
+        return salesByQuarter;
     }
+
+    /**
+     * 한 상권의 여러 분기 인구 데이터를 한 번에 조회 (분기 수와 무관하게 조회 1회)
+     *
+     * @param quarters 분기 코드 리스트
+     * @param trdarCd 상권 코드
+     * @return 인구 데이터 리스트 (분기 오름차순 정렬: 과거 → 최신)
+     */
+    public List<CompactPopulationData> findPopulationByQuarters(List<String> quarters, String trdarCd) {
+        return mongoTemplate.find(
+                PublicDataQueries.populationByQuarters(Quarter.mongoKeys(quarters), trdarCd),
+                CompactPopulationData.class);
+    }
+
+    /**
+     * 한 상권/업종의 여러 분기 매출/점포/인구 데이터와 업종 전체 상권 매출 분포를 묶음으로 조회 (조회 종류마다 1회)
+     *
+     * 여러 가게를 일괄 분석할 때 같은 상권/업종의 공공 데이터를 한 번만 읽기 위해 사용한다.
+     */
+    public PublicMarketDataBundle loadBundle(List<String> quarters, String trdarCd, String svcIndutyCd) {
+        Map<String, PublicProfitData> profitByQuarter = new HashMap<>();
+        for (PublicProfitData data : findProfitDataByQuarters(quarters, trdarCd, svcIndutyCd)) {
+            profitByQuarter.putIfAbsent(data.getStdrYyquCd(), data);
+        }
+        Map<String, PublicStoreData> storeByQuarter = new HashMap<>();
+        for (PublicStoreData data : findStoreDataByQuarters(quarters, trdarCd, svcIndutyCd)) {
+            storeByQuarter.putIfAbsent(data.getStdrYyquCd(), data);
+        }
+        Map<String, CompactPopulationData> populationByQuarter = new HashMap<>();
+        for (CompactPopulationData data : findPopulationByQuarters(quarters, trdarCd)) {
+            populationByQuarter.putIfAbsent(data.getStdrYyquCd(), data);
+        }
+        return PublicMarketDataBundle.of(
+                trdarCd, svcIndutyCd, quarters, profitByQuarter, storeByQuarter, populationByQuarter,
+                findIndustrySalesByQuarters(quarters, svcIndutyCd));
+    }
+
     /**
      * 특정 분기의 동일 상권, 동일 업종 매출 데이터 개수 조회
      *
@@ -129,12 +328,100 @@ public class PublicDataService {
     public long countProfitDataByMarketAndIndustry(
             String quarter, String trdarCd, String svcIndutyCd) {
 
-        Query query = new Query();
-        query.addCriteria(Criteria.where("stdrYyquCd").is(quarter));
-        query.addCriteria(Criteria.where("trdarCd").is(trdarCd));
-        query.addCriteria(Criteria.where("svcIndutyCd").is(svcIndutyCd));
+        String quarterKey = Quarter.parse(quarter).mongoKey();
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            return store.hasProfit(store.findRow(quarterKey, trdarCd, svcIndutyCd)) ? 1 : 0;
+        }
+        if (!marketExistenceIndex.mightContain(PROFIT, quarterKey, trdarCd, svcIndutyCd)) {
+            return 0;
+        }
+
+        return mongoTemplate.count(
+                PublicDataQueries.byKey(quarterKey, trdarCd, svcIndutyCd), PublicProfitData.class);
+    }
+
+    /**
+     * 한 상권/업종의 전체 분기 이력을 지표별 병렬 배열로 조회
+     *
+     * 컬렉션마다 idx_market_history 범위 스캔 한 번으로 모든 분기를 읽고(필요한 필드만),
+     * 매출/점포 데이터를 분기 기준으로 맞춰 배열을 만든다.
+     *
+     * @param trdarCd 상권 코드
+     * @param svcIndutyCd 업종 코드
+     * @return 분기 이력 (데이터가 없으면 빈 배열)
+     */
+    public MarketHistory findMarketHistory(String trdarCd, String svcIndutyCd) {
+        Map<String, Document> profitByQuarter = findHistoryRows(
+                PublicProfitData.class, trdarCd, svcIndutyCd, PROFIT_HISTORY_FIELDS);
+        Map<String, Document> storeByQuarter = findHistoryRows(
+                PublicStoreData.class, trdarCd, svcIndutyCd, STORE_HISTORY_FIELDS);
 
-        return mongoTemplate.count(query, PublicProfitData.class);
+        if (profitByQuarter.isEmpty() && storeByQuarter.isEmpty()) {
+            return MarketHistory.empty(trdarCd, svcIndutyCd);
+        }
+
+        TreeSet<String> quarterSet = new TreeSet<>(profitByQuarter.keySet());
+        quarterSet.addAll(storeByQuarter.keySet());
+        List<String> quarters = List.copyOf(quarterSet);
+
+        // 이름은 가장 최근 분기 기준
+        Document latest = profitByQuarter.getOrDefault(quarters.get(quarters.size() - 1),
+                storeByQuarter.get(quarters.get(quarters.size() - 1)));
+
+        return MarketHistory.builder()
+                .trdarCd(trdarCd)
+                .trdarCdNm(latest.getString(PublicDataQueries.TRDAR_CD_NM))
+                .svcIndutyCd(svcIndutyCd)
+                .svcIndutyCdNm(latest.getString(PublicDataQueries.SVC_INDUTY_CD_NM))
+                .quarters(quarters)
+                .thsmonSelngAmt(column(quarters, profitByQuarter, MarketMetric.THSMON_SELNG_AMT))
+                .thsmonSelngCo(column(quarters, profitByQuarter, MarketMetric.THSMON_SELNG_CO))
+                .mlSelngAmt(column(quarters, profitByQuarter, MarketMetric.ML_SELNG_AMT))
+                .fmlSelngAmt(column(quarters, profitByQuarter, MarketMetric.FML_SELNG_AMT))
+                .agrde10SelngCo(column(quarters, profitByQuarter, MarketMetric.AGRDE_10_SELNG_CO))
+                .agrde20SelngCo(column(quarters, profitByQuarter, MarketMetric.AGRDE_20_SELNG_CO))
+                .agrde30SelngCo(column(quarters, profitByQuarter, MarketMetric.AGRDE_30_SELNG_CO))
+                .agrde40SelngCo(column(quarters, profitByQuarter, MarketMetric.AGRDE_40_SELNG_CO))
+                .agrde50SelngCo(column(quarters, profitByQuarter, MarketMetric.AGRDE_50_SELNG_CO))
+                .agrde60AboveSelngCo(column(quarters, profitByQuarter, MarketMetric.AGRDE_60_ABOVE_SELNG_CO))
+                .storCo(column(quarters, storeByQuarter, MarketMetric.STOR_CO))
+                .opbizRt(column(quarters, storeByQuarter, MarketMetric.OPBIZ_RT))
+                .clsbizRt(column(quarters, storeByQuarter, MarketMetric.CLSBIZ_RT))
+                .build();
+    }
+
+    private Map<String, Document> findHistoryRows(
+            Class<?> entityClass, String trdarCd, String svcIndutyCd, String[] fields) {
+        List<Document> rows = mongoTemplate.find(
+                PublicDataQueries.marketHistory(trdarCd, svcIndutyCd, fields),
+                Document.class,
+                mongoTemplate.getCollectionName(entityClass));
+        Map<String, Document> byQuarter = new HashMap<>(rows.size() * 2);
+        for (Document row : rows) {
+            byQuarter.put(row.getString(PublicDataQueries.STDR_YYQU_CD), row);
+        }
+        return byQuarter;
+    }
+
+    private static List<Double> column(List<String> quarters, Map<String, Document> rows, MarketMetric metric) {
+        List<Double> values = new ArrayList<>(quarters.size());
+        for (String quarter : quarters) {
+            Document row = rows.get(quarter);
+            Object value = row != null ? row.get(metric.getField()) : null;
+            values.add(value instanceof Number number ? number.doubleValue() : null);
+        }
+        return values;
+    }
+
+    /**
+     * 분기/업종의 전체 상권 매출 순위 한 페이지 조회 (MongoDB 윈도우 함수로 서버에서 계산)
+     *
+     * @see PublicDataRankingService#findIndustryRanking
+     */
+    public MarketRankingPage findIndustryRanking(
+            String quarter, String svcIndutyCd, String cursor, int size, Double maxTopPercentile) {
+        return publicDataRankingService.findIndustryRanking(quarter, svcIndutyCd, cursor, size, maxTopPercentile);
     }
 
 }
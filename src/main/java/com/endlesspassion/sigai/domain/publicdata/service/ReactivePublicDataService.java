@@ -0,0 +1,171 @@
+package com.endlesspassion.sigai.domain.publicdata.service;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketColumnStoreLoader;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketDataView;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import com.endlesspassion.sigai.domain.publicdata.dto.PublicMarketDataBundle;
+import com.endlesspassion.sigai.domain.publicdata.existence.MarketExistenceIndex;
+import com.endlesspassion.sigai.domain.publicdata.repository.PublicDataQueries;
+import com.endlesspassion.sigai.global.util.Quarter;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric.Dataset.PROFIT;
+import static com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric.Dataset.STORE;
+
+/**
+ * 공공 데이터 조회 서비스 (논블로킹)
+ *
+ * PublicDataService와 같은 조회를 Mono/Flux로 제공한다.
+ * - ReactiveMongoTemplate 사용: 요청 스레드를 점유하지 않고 조회를 동시에 발행 (블로킹 조회 대비 성능은 실측 전)
+ * - 여러 분기 조회는 PublicDataService와 같은 $in 조회 한 번 (묶음 조회는 매출/점포/인구/업종 매출 분포 조회 4개를 동시에 발행)
+ * - MongoDB 조회 전 존재 인덱스(MarketExistenceIndex)로 확실히 없는 키는 조회를 생략 (컬럼형 저장소가 꺼져 있을 때만 적재됨)
+ * - 컬럼형 저장소가 적재되어 있으면 PublicDataService와 동일하게 인메모리에서 바로 응답
+ */
+@RequiredArgsConstructor
+@Service
+public class ReactivePublicDataService {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final MarketColumnStoreLoader marketColumnStoreLoader;
+    private final MarketExistenceIndex marketExistenceIndex;
+
+    /**
+     * 특정 분기, 상권, 업종의 매출 데이터 조회 (없으면 empty)
+     */
+    public Mono<PublicProfitData> getProfitData(String quarter, String trdarCd, String svcIndutyCd) {
+        String quarterKey = Quarter.parse(quarter).mongoKey();
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            return Mono.justOrEmpty(store.toProfitData(store.findRow(quarterKey, trdarCd, svcIndutyCd)));
+        }
+        if (!marketExistenceIndex.mightContain(PROFIT, quarterKey, trdarCd, svcIndutyCd)) {
+            return Mono.empty();
+        }
+        return reactiveMongoTemplate.findOne(PublicDataQueries.byKey(quarterKey, trdarCd, svcIndutyCd), PublicProfitData.class)
+                .switchIfEmpty(Mono.fromRunnable(() -> marketExistenceIndex.recordMiss(PROFIT)));
+    }
+
+    /**
+     * 특정 분기, 상권, 업종의 점포 데이터 조회 (없으면 empty)
+     */
+    public Mono<PublicStoreData> findStoreData(String quarter, String trdarCd, String svcIndutyCd) {
+        String quarterKey = Quarter.parse(quarter).mongoKey();
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            return Mono.justOrEmpty(store.toStoreData(store.findRow(quarterKey, trdarCd, svcIndutyCd)));
+        }
+        if (!marketExistenceIndex.mightContain(STORE, quarterKey, trdarCd, svcIndutyCd)) {
+            return Mono.empty();
+        }
+        return reactiveMongoTemplate.findOne(PublicDataQueries.byKey(quarterKey, trdarCd, svcIndutyCd), PublicStoreData.class)
+                .switchIfEmpty(Mono.fromRunnable(() -> marketExistenceIndex.recordMiss(STORE)));
+    }
+
+    /**
+     * 여러 분기의 매출 데이터 조회 (분기 오름차순: 과거 → 최신)
+     */
+    public Flux<PublicProfitData> findProfitDataByQuarters(List<String> quarters, String trdarCd, String svcIndutyCd) {
+        List<String> quarterKeys = Quarter.mongoKeys(quarters);
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            return Flux.fromIterable(quarterKeys)
+                    .sort()
+                    .mapNotNull(quarter -> store.toProfitData(store.findRow(quarter, trdarCd, svcIndutyCd)));
+        }
+        List<String> candidates = marketExistenceIndex.candidates(PROFIT, quarterKeys, trdarCd, svcIndutyCd);
+        if (candidates.isEmpty()) {
+            return Flux.empty();
+        }
+        return reactiveMongoTemplate.find(PublicDataQueries.byQuarters(candidates, trdarCd, svcIndutyCd), PublicProfitData.class)
+                .collectList()
+                .doOnNext(result -> marketExistenceIndex.recordMisses(PROFIT, candidates.size() - result.size()))
+                .flatMapIterable(result -> result);
+    }
+
+    /**
+     * 여러 분기의 점포 데이터 조회 (분기 오름차순: 과거 → 최신)
+     */
+    public Flux<PublicStoreData> findStoreDataByQuarters(List<String> quarters, String trdarCd, String svcIndutyCd) {
+        List<String> quarterKeys = Quarter.mongoKeys(quarters);
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            return Flux.fromIterable(quarterKeys)
+                    .sort()
+                    .mapNotNull(quarter -> store.toStoreData(store.findRow(quarter, trdarCd, svcIndutyCd)));
+        }
+        List<String> candidates = marketExistenceIndex.candidates(STORE, quarterKeys, trdarCd, svcIndutyCd);
+        if (candidates.isEmpty()) {
+            return Flux.empty();
+        }
+        return reactiveMongoTemplate.find(PublicDataQueries.byQuarters(candidates, trdarCd, svcIndutyCd), PublicStoreData.class)
+                .collectList()
+                .doOnNext(result -> marketExistenceIndex.recordMisses(STORE, candidates.size() - result.size()))
+                .flatMapIterable(result -> result);
+    }
+
+    /**
+     * 특정 분기의 동일 상권, 동일 업종 매출 데이터 개수 조회
+     */
+    public Mono<Long> countProfitDataByMarketAndIndustry(String quarter, String trdarCd, String svcIndutyCd) {
+        String quarterKey = Quarter.parse(quarter).mongoKey();
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            return Mono.just(store.hasProfit(store.findRow(quarterKey, trdarCd, svcIndutyCd)) ? 1L : 0L);
+        }
+        return reactiveMongoTemplate.count(PublicDataQueries.byKey(quarterKey, trdarCd, svcIndutyCd), PublicProfitData.class);
+    }
+
+    /**
+     * 한 상권/업종의 여러 분기 매출 + 점포 + 인구 데이터를 동시에 조회하여 묶음으로 반환
+     *
+     * 매출/점포/인구를 컬렉션마다 $in 조회 한 번으로 읽고 세 조회를 동시에 발행하므로,
+     * 분기 수와 무관하게 왕복은 가장 느린 조회 한 번 수준이다. (존재 인덱스에서 걸러진 컬렉션은 조회 생략)
+     */
+    public Mono<PublicMarketDataBundle> loadBundle(List<String> quarters, String trdarCd, String svcIndutyCd) {
+        Mono<Map<String, PublicProfitData>> profits = findProfitDataByQuarters(quarters, trdarCd, svcIndutyCd)
+                .collectMap(PublicProfitData::getStdrYyquCd);
+
+        Mono<Map<String, PublicStoreData>> stores = findStoreDataByQuarters(quarters, trdarCd, svcIndutyCd)
+                .collectMap(PublicStoreData::getStdrYyquCd);
+
+        // 인구는 상권 단위 문서라 분기 목록 전체를 조회 1회로 읽음
+        Mono<Map<String, CompactPopulationData>> populations = reactiveMongoTemplate.find(
+                        PublicDataQueries.populationByQuarters(Quarter.mongoKeys(quarters), trdarCd),
+                        CompactPopulationData.class)
+                .collectMap(CompactPopulationData::getStdrYyquCd);
+
+        return Mono.zip(profits, stores, populations, findIndustrySalesByQuarters(quarters, svcIndutyCd))
+                .map(tuple -> PublicMarketDataBundle.of(
+                        trdarCd, svcIndutyCd, quarters, tuple.getT1(), tuple.getT2(), tuple.getT3(), tuple.getT4()));
+    }
+
+    /**
+     * 여러 분기의 한 업종 서울시 전체 상권 매출 금액 조회 (순위 비교 대상 분포용, 조회 1회)
+     *
+     * @return 분기 키("YYYYQ")별 상권 매출 금액 (정렬 안 됨, 데이터가 없는 분기는 키 없음)
+     * @see PublicDataService#findIndustrySalesByQuarters
+     */
+    public Mono<Map<String, double[]>> findIndustrySalesByQuarters(List<String> quarters, String svcIndutyCd) {
+        List<String> quarterKeys = Quarter.mongoKeys(quarters);
+        MarketDataView store = marketColumnStoreLoader.getStore();
+        if (store != null) {
+            return Mono.just(PublicDataService.industrySalesByQuarter(store, quarterKeys, svcIndutyCd));
+        }
+        return reactiveMongoTemplate.find(
+                        PublicDataQueries.industrySales(quarterKeys, svcIndutyCd),
+                        Document.class,
+                        reactiveMongoTemplate.getCollectionName(PublicProfitData.class))
+                .collectList()
+                .map(PublicDataService::industrySalesByQuarter);
+    }
+}
@@ -0,0 +1,70 @@
+package com.endlesspassion.sigai.domain.publicdata.service;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketColumnStoreLoader;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketDataView;
+import com.endlesspassion.sigai.domain.publicdata.dto.SimilarMarkets;
+import com.endlesspassion.sigai.domain.publicdata.similarity.MarketFeatureIndex;
+import com.endlesspassion.sigai.global.exception.GlobalException;
+import com.endlesspassion.sigai.global.exception.code.GlobalErrorCode;
+import com.endlesspassion.sigai.global.util.Quarter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 유사 상권 검색 서비스
+ *
+ * 컬럼형 상권 저장소로 MarketFeatureIndex를 만들어 두고 조회마다 재사용한다.
+ * 동기화 배치나 스냅샷 폴링으로 저장소가 교체되면, 다음 조회에서 새 저장소로 인덱스를 다시 만든다.
+ * (저장소 교체와 이벤트 리스너 실행 순서에 의존하지 않도록 조회 시점에 원본 뷰를 비교)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SimilarMarketService {
+
+    private static final int MAX_K = 50;
+
+    private final MarketColumnStoreLoader marketColumnStoreLoader;
+
+    private volatile MarketFeatureIndex index;
+
+    /**
+     * @param quarter 분기 코드 (YYYYQ 또는 YYYYQQ)
+     * @param k 조회할 상권 수 (1~50)
+     */
+    public SimilarMarkets findSimilarMarkets(String quarter, String trdarCd, String svcIndutyCd, int k) {
+        if (k < 1 || k > MAX_K) {
+            throw new IllegalArgumentException("조회할 상권 수는 1~" + MAX_K + " 사이여야 합니다: " + k);
+        }
+        String quarterKey = Quarter.parse(quarter).mongoKey();
+        return SimilarMarkets.of(quarterKey, trdarCd, svcIndutyCd,
+                currentIndex().nearest(quarterKey, trdarCd, svcIndutyCd, k));
+    }
+
+    private MarketFeatureIndex currentIndex() {
+        MarketDataView view = marketColumnStoreLoader.getStore();
+        if (view == null) {
+            // 컬럼형 저장소가 비활성화되었거나 아직 적재 전
+            throw new GlobalException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+        }
+        MarketFeatureIndex current = index;
+        if (current != null && current.getSource() == view) {
+            return current;
+        }
+        return rebuild(view);
+    }
+
+    private synchronized MarketFeatureIndex rebuild(MarketDataView view) {
+        MarketFeatureIndex current = index;
+        if (current != null && current.getSource() == view) {
+            return current; // 다른 요청이 먼저 만듦
+        }
+        long startedAt = System.nanoTime();
+        MarketFeatureIndex built = MarketFeatureIndex.build(view);
+        this.index = built;
+        log.info("유사 상권 인덱스 생성: (분기, 업종) {}개, 소요 {} ms",
+                built.partitionCount(), (System.nanoTime() - startedAt) / 1_000_000);
+        return built;
+    }
+}
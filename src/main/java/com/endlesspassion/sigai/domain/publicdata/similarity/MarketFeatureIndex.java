@@ -0,0 +1,304 @@
+package com.endlesspassion.sigai.domain.publicdata.similarity;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketDataView;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유사 상권 검색용 k-NN 인덱스 (불변)
+ *
+ * (분기, 업종)마다 상권별 특성 벡터를 float[] 하나에 행 우선으로 이어 붙여 두고,
+ * 조회 시 같은 (분기, 업종)의 벡터를 처음부터 끝까지 한 번 훑어 거리가 가까운 k개를 고른다.
+ * 상권 수가 1,100여 개, 차원이 10이므로 한 번 조회에 약 1만 번의 곱셈이고 연속 메모리만 읽으므로
+ * 트리 인덱스 없이도 수십 마이크로초 안에 끝난다.
+ *
+ * 특성 (같은 분기/업종 안에서 z-score로 정규화, 값이 없으면 평균 = 0):
+ * - 매출 수준: log(1 + 당월 매출 금액)
+ * - 폐업률, 개업률
+ * - 프랜차이즈 비중: 프랜차이즈 점포 수 / 점포 수
+ * - 연령대 구성: 연령대별 매출 건수 비중 (10대 ~ 60대 이상, 6차원)
+ * 연령대 6차원이 거리를 지배하지 않도록 각 차원에 1/√6 가중치를 주어, 다섯 가지 특성이 같은 비중을 갖게 한다.
+ */
+public final class MarketFeatureIndex {
+
+    static final int DIMENSIONS = 10;
+
+    private static final int REVENUE = 0;
+    private static final int CLOSED_RATE = 1;
+    private static final int OPEN_RATE = 2;
+    private static final int FRANCHISE_SHARE = 3;
+    private static final int AGE_MIX = 4;
+
+    private static final MarketMetric[] AGE_METRICS = {
+            MarketMetric.AGRDE_10_SELNG_CO,
+            MarketMetric.AGRDE_20_SELNG_CO,
+            MarketMetric.AGRDE_30_SELNG_CO,
+            MarketMetric.AGRDE_40_SELNG_CO,
+            MarketMetric.AGRDE_50_SELNG_CO,
+            MarketMetric.AGRDE_60_ABOVE_SELNG_CO
+    };
+
+    private static final float[] WEIGHTS = new float[DIMENSIONS];
+
+    static {
+        Arrays.fill(WEIGHTS, 1.0f);
+        Arrays.fill(WEIGHTS, AGE_MIX, DIMENSIONS, (float) (1.0 / Math.sqrt(AGE_METRICS.length)));
+    }
+
+    private final Map<String, Partition> partitions; // "분기:업종" → 파티션
+    private final MarketDataView source;
+
+    private MarketFeatureIndex(Map<String, Partition> partitions, MarketDataView source) {
+        this.partitions = partitions;
+        this.source = source;
+    }
+
+    /**
+     * 한 상권의 검색 결과
+     *
+     * @param distance 정규화된 특성 공간의 유클리드 거리 (0이면 동일)
+     */
+    public record Neighbor(
+            String trdarCd,
+            String trdarCdNm,
+            double distance,
+            double revenue,
+            double closedRate,
+            double openRate,
+            double franchiseShare
+    ) {
+    }
+
+    /**
+     * 컬럼형 저장소의 매출 데이터가 있는 모든 행으로 인덱스 생성
+     */
+    public static MarketFeatureIndex build(MarketDataView view) {
+        int rowCount = view.getRowCount();
+
+        // 1. 행마다 파티션 번호 부여 + 파티션 크기 집계
+        Map<String, Integer> partitionIds = new HashMap<>();
+        List<String> partitionKeys = new ArrayList<>();
+        int[] partitionOfRow = new int[rowCount];
+        int[] sizes = new int[16];
+        for (int row = 0; row < rowCount; row++) {
+            if (!view.hasProfit(row)) {
+                partitionOfRow[row] = -1;
+                continue;
+            }
+            String key = keyOf(view.quarterCodeOf(row), view.svcIndutyCdOf(row));
+            Integer id = partitionIds.get(key);
+            if (id == null) {
+                id = partitionKeys.size();
+                partitionIds.put(key, id);
+                partitionKeys.add(key);
+                if (id == sizes.length) {
+                    sizes = Arrays.copyOf(sizes, sizes.length * 2);
+                }
+            }
+            partitionOfRow[row] = id;
+            sizes[id]++;
+        }
+
+        // 2. 파티션별 행 목록
+        int[][] rowsByPartition = new int[partitionKeys.size()][];
+        for (int id = 0; id < rowsByPartition.length; id++) {
+            rowsByPartition[id] = new int[sizes[id]];
+        }
+        int[] filled = new int[rowsByPartition.length];
+        for (int row = 0; row < rowCount; row++) {
+            int id = partitionOfRow[row];
+            if (id >= 0) {
+                rowsByPartition[id][filled[id]++] = row;
+            }
+        }
+
+        // 3. 파티션별 특성 벡터 생성/정규화
+        Map<String, Partition> partitions = new HashMap<>(partitionKeys.size() * 2);
+        for (int id = 0; id < rowsByPartition.length; id++) {
+            partitions.put(partitionKeys.get(id), Partition.build(view, rowsByPartition[id]));
+        }
+        return new MarketFeatureIndex(partitions, view);
+    }
+
+    /**
+     * @return 인덱스를 만든 원본 뷰 (컬럼형 저장소가 교체되었는지 확인용)
+     */
+    public MarketDataView getSource() {
+        return source;
+    }
+
+    public int partitionCount() {
+        return partitions.size();
+    }
+
+    /**
+     * 같은 분기/업종에서 기준 상권과 가장 비슷한 상권 k개 (기준 상권 제외, 거리 오름차순)
+     *
+     * @param quarter 분기 코드 (컬럼형 저장소와 같은 "YYYYQ" 형식)
+     * @return 기준 상권의 데이터가 없으면 빈 리스트
+     */
+    public List<Neighbor> nearest(String quarter, String trdarCd, String svcIndutyCd, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("조회할 상권 수는 1 이상이어야 합니다: " + k);
+        }
+        Partition partition = partitions.get(keyOf(quarter, svcIndutyCd));
+        if (partition == null) {
+            return List.of();
+        }
+        Integer target = partition.indexOf.get(trdarCd);
+        if (target == null) {
+            return List.of();
+        }
+        return partition.nearest(target, k);
+    }
+
+    private static String keyOf(String quarter, String svcIndutyCd) {
+        return quarter + ":" + svcIndutyCd;
+    }
+
+    private static final class Partition {
+
+        private final String[] trdarCds;
+        private final String[] trdarCdNms;
+        private final float[] vectors; // size * DIMENSIONS, 상권 i의 벡터 = [i * DIMENSIONS, (i + 1) * DIMENSIONS)
+        private final double[] revenues;
+        private final float[] closedRates;
+        private final float[] openRates;
+        private final float[] franchiseShares;
+        private final Map<String, Integer> indexOf;
+
+        private Partition(int size) {
+            this.trdarCds = new String[size];
+            this.trdarCdNms = new String[size];
+            this.vectors = new float[size * DIMENSIONS];
+            this.revenues = new double[size];
+            this.closedRates = new float[size];
+            this.openRates = new float[size];
+            this.franchiseShares = new float[size];
+            this.indexOf = new HashMap<>(size * 2);
+        }
+
+        private static Partition build(MarketDataView view, int[] rows) {
+            int size = rows.length;
+            Partition partition = new Partition(size);
+            float[] vectors = partition.vectors;
+
+            // 원본 특성 (없으면 NaN)
+            for (int i = 0; i < size; i++) {
+                int row = rows[i];
+                partition.trdarCds[i] = view.trdarCdOf(row);
+                partition.trdarCdNms[i] = view.trdarCdNmOf(row);
+                partition.indexOf.put(partition.trdarCds[i], i);
+
+                double revenue = view.value(MarketMetric.THSMON_SELNG_AMT, row);
+                double closedRate = view.value(MarketMetric.CLSBIZ_RT, row);
+                double openRate = view.value(MarketMetric.OPBIZ_RT, row);
+                double franchiseShare = ratio(view.value(MarketMetric.FRC_STOR_CO, row), view.value(MarketMetric.STOR_CO, row));
+                partition.revenues[i] = revenue;
+                partition.closedRates[i] = (float) closedRate;
+                partition.openRates[i] = (float) openRate;
+                partition.franchiseShares[i] = (float) franchiseShare;
+
+                int base = i * DIMENSIONS;
+                vectors[base + REVENUE] = (float) (revenue >= 0 ? Math.log1p(revenue) : Double.NaN);
+                vectors[base + CLOSED_RATE] = (float) closedRate;
+                vectors[base + OPEN_RATE] = (float) openRate;
+                vectors[base + FRANCHISE_SHARE] = (float) franchiseShare;
+
+                double ageTotal = 0;
+                for (MarketMetric metric : AGE_METRICS) {
+                    double count = view.value(metric, row);
+                    ageTotal += Double.isNaN(count) ? 0 : count;
+                }
+                for (int a = 0; a < AGE_METRICS.length; a++) {
+                    vectors[base + AGE_MIX + a] = (float) ratio(view.value(AGE_METRICS[a], row), ageTotal);
+                }
+            }
+
+            // 차원별 z-score 정규화 + 가중치 (값이 없으면 평균 = 0, 분산이 0이면 모두 0)
+            for (int d = 0; d < DIMENSIONS; d++) {
+                double sum = 0;
+                double sumOfSquares = 0;
+                int count = 0;
+                for (int i = d; i < vectors.length; i += DIMENSIONS) {
+                    float value = vectors[i];
+                    if (!Float.isNaN(value)) {
+                        sum += value;
+                        sumOfSquares += (double) value * value;
+                        count++;
+                    }
+                }
+                double mean = count > 0 ? sum / count : 0;
+                double variance = count > 0 ? Math.max(0, sumOfSquares / count - mean * mean) : 0;
+                double scale = variance > 0 ? WEIGHTS[d] / Math.sqrt(variance) : 0;
+                for (int i = d; i < vectors.length; i += DIMENSIONS) {
+                    float value = vectors[i];
+                    vectors[i] = Float.isNaN(value) ? 0f : (float) ((value - mean) * scale);
+                }
+            }
+            return partition;
+        }
+
+        private List<Neighbor> nearest(int target, int k) {
+            int limit = Math.min(k, trdarCds.length - 1);
+            if (limit <= 0) {
+                return List.of();
+            }
+
+            // 거리 오름차순으로 유지하는 크기 limit의 배열 (k가 작으므로 삽입 정렬)
+            float[] bestDistances = new float[limit];
+            int[] bestIndexes = new int[limit];
+            int found = 0;
+
+            float[] vectors = this.vectors;
+            int targetBase = target * DIMENSIONS;
+            for (int i = 0, base = 0; i < trdarCds.length; i++, base += DIMENSIONS) {
+                if (i == target) {
+                    continue;
+                }
+                float distance = 0f;
+                for (int d = 0; d < DIMENSIONS; d++) {
+                    float diff = vectors[base + d] - vectors[targetBase + d];
+                    distance += diff * diff;
+                }
+                if (found == limit && distance >= bestDistances[limit - 1]) {
+                    continue;
+                }
+                int position = found < limit ? found++ : limit - 1;
+                while (position > 0 && bestDistances[position - 1] > distance) {
+                    bestDistances[position] = bestDistances[position - 1];
+                    bestIndexes[position] = bestIndexes[position - 1];
+                    position--;
+                }
+                bestDistances[position] = distance;
+                bestIndexes[position] = i;
+            }
+
+            List<Neighbor> neighbors = new ArrayList<>(found);
+            for (int n = 0; n < found; n++) {
+                int i = bestIndexes[n];
+                neighbors.add(new Neighbor(
+                        trdarCds[i],
+                        trdarCdNms[i],
+                        Math.sqrt(bestDistances[n]),
+                        revenues[i],
+                        closedRates[i],
+                        openRates[i],
+                        franchiseShares[i]));
+            }
+            return neighbors;
+        }
+
+        private static double ratio(double numerator, double denominator) {
+            if (Double.isNaN(numerator) || Double.isNaN(denominator) || denominator <= 0) {
+                return Double.NaN;
+            }
+            return numerator / denominator;
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.endlesspassion.sigai.domain.publicdata.survival;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketDataView;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketSeriesMatrix;
+import com.endlesspassion.sigai.domain.publicdata.rollup.MarketRollupCube;
+import com.endlesspassion.sigai.global.common.enums.SeoulGuCommercialArea;
+import com.endlesspassion.sigai.global.util.Quarter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * (상권, 업종) / (자치구, 업종) / (서울시 전체, 업종) 점포 생존 곡선 추정
+ *
+ * 공공 데이터에는 점포별 개업/폐업 시점이 없고 분기마다 점포 수와 폐업 점포 수만 있으므로,
+ * 분기 t의 점포 수를 위험 집합(n_t), 폐업 점포 수를 사건 수(d_t)로 보는 Kaplan-Meier 방식의 곱 추정을 쓴다.
+ * - 최근 window개 분기의 (n_t, d_t)를 분기(1~4분기)별로 합쳐 계절별 분기 폐업 위험 h_s = Σd / Σn을 구한다.
+ * - 지금 영업 중인 점포가 k분기 뒤에도 남아 있을 확률 S(k) = Π_{j=1..k} (1 - h_{기준 분기 + j의 계절})
+ * - 데이터가 없는 계절은 그 곡선의 전체 평균 위험으로 대신한다. (관측이 하나도 없으면 곡선 없음)
+ * - 폐업 점포 수가 없는 분기는 폐업률 × 점포 수로 대신한다.
+ *
+ * 자치구/서울시 기준 곡선은 같은 업종 상권들의 (n, d)를 계절별로 합쳐 같은 방식으로 만든다.
+ * 계열별 집계와 곡선 계산은 MarketSeriesMatrix의 배열을 그대로 읽어 ForkJoinPool에서 계열 구간 단위로 나누어 하고,
+ * 결과도 곡선 * horizon 크기의 double[]에 모아 두어 곡선마다 객체를 만들지 않는다.
+ * 자치구는 SeoulGuCommercialArea.guOf로 상권 코드 구간에서 찾고, 자치구를 알 수 없는 상권은 자치구 기준선에서 제외한다.
+ */
+public final class MarketSurvivalEstimator {
+
+    static final int SEASONS = 4;
+    private static final int SPLIT_THRESHOLD = 256;
+
+    private MarketSurvivalEstimator() {
+    }
+
+    public enum Scope {
+        MARKET, // 상권
+        GU, // 자치구 (같은 업종)
+        CITY // 서울시 전체 (같은 업종)
+    }
+
+    /**
+     * @param window 위험을 추정할 최근 분기 수
+     * @param horizon 생존 곡선 길이 (몇 분기 뒤까지)
+     * @param pool 계열 병렬 처리용 풀
+     */
+    public static Result estimate(MarketDataView view, int window, int horizon, ForkJoinPool pool) {
+        if (window < 1 || horizon < 1) {
+            throw new IllegalArgumentException("분기 수는 1 이상이어야 합니다: window=" + window + ", horizon=" + horizon);
+        }
+        MarketSeriesMatrix matrix = MarketSeriesMatrix.build(
+                view, MarketMetric.STOR_CO, MarketMetric.CLSBIZ_STOR_CO, MarketMetric.CLSBIZ_RT);
+        int seriesCount = matrix.seriesCount();
+        if (seriesCount == 0) {
+            return new Result(matrix, window, horizon, new String[0], List.of(), 0);
+        }
+
+        // 1. 계열별 계절 위험 집합/사건 수 (병렬)
+        Result.Counts seriesCounts = new Result.Counts(seriesCount);
+        int from = Math.max(0, matrix.length() - window);
+        pool.invoke(new CountTask(matrix, from, seriesCounts, 0, seriesCount));
+
+        // 2. 자치구/서울시 그룹에 계열 값 합치기 (그룹 수는 계열 수보다 훨씬 적으므로 순차)
+        Map<String, String> guByTrdarCd = new HashMap<>();
+        Map<String, Integer> groupIds = new HashMap<>();
+        List<String[]> groupKeys = new ArrayList<>(); // {범위, 지역, 업종}
+        String[] guOfSeries = new String[seriesCount];
+        int[] guGroupOfSeries = new int[seriesCount];
+        int[] cityGroupOfSeries = new int[seriesCount];
+        for (int series = 0; series < seriesCount; series++) {
+            String svcIndutyCd = matrix.svcIndutyCdOf(series);
+            String gu = guByTrdarCd.computeIfAbsent(matrix.trdarCdOf(series), SeoulGuCommercialArea::guOf);
+            guOfSeries[series] = gu;
+            guGroupOfSeries[series] = gu != null ? groupId(groupIds, groupKeys, Scope.GU, gu, svcIndutyCd) : -1;
+            cityGroupOfSeries[series] = groupId(groupIds, groupKeys, Scope.CITY, MarketRollupCube.ALL_GU, svcIndutyCd);
+        }
+
+        Result result = new Result(matrix, window, horizon, guOfSeries, groupKeys, seriesCount + groupKeys.size());
+        Result.Counts counts = result.counts;
+        System.arraycopy(seriesCounts.atRisk, 0, counts.atRisk, 0, seriesCounts.atRisk.length);
+        System.arraycopy(seriesCounts.events, 0, counts.events, 0, seriesCounts.events.length);
+        for (int series = 0; series < seriesCount; series++) {
+            if (guGroupOfSeries[series] >= 0) {
+                counts.add(seriesCount + guGroupOfSeries[series], seriesCounts, series);
+            }
+            counts.add(seriesCount + cityGroupOfSeries[series], seriesCounts, series);
+        }
+
+        // 3. 곡선 계산 (병렬)
+        int baseSeason = matrix.lastQuarter().quarter() - 1;
+        pool.invoke(new CurveTask(result, baseSeason, 0, result.size()));
+        return result;
+    }
+
+    private static int groupId(Map<String, Integer> groupIds, List<String[]> groupKeys,
+                               Scope scope, String code, String svcIndutyCd) {
+        String key = scope + ":" + code + ":" + svcIndutyCd;
+        Integer id = groupIds.get(key);
+        if (id == null) {
+            id = groupKeys.size();
+            groupIds.put(key, id);
+            groupKeys.add(new String[]{scope.name(), code, svcIndutyCd});
+        }
+        return id;
+    }
+
+    /**
+     * 추정 결과
+     *
+     * 곡선 번호 0 ~ 계열 수 - 1은 (상권, 업종) 계열, 그 뒤는 자치구/서울시 그룹.
+     * 곡선 i의 k분기 뒤 생존 확률 = survival[i * horizon + k - 1] (관측이 없으면 NaN)
+     */
+    public static final class Result {
+
+        private final MarketSeriesMatrix matrix;
+        private final int window;
+        private final int horizon;
+        private final String[] guOfSeries;
+        private final List<String[]> groupKeys;
+        private final Counts counts;
+        private final double[] survival;
+
+        private Result(MarketSeriesMatrix matrix, int window, int horizon,
+                       String[] guOfSeries, List<String[]> groupKeys, int size) {
+            this.matrix = matrix;
+            this.window = window;
+            this.horizon = horizon;
+            this.guOfSeries = guOfSeries;
+            this.groupKeys = groupKeys;
+            this.counts = new Counts(size);
+            this.survival = new double[size * horizon];
+        }
+
+        public int size() {
+            return matrix.seriesCount() + groupKeys.size();
+        }
+
+        /**
+         * @return 추정에 쓴 마지막 분기 (데이터가 없으면 null), 곡선은 다음 분기부터
+         */
+        public Quarter baseQuarter() {
+            return matrix.lastQuarter();
+        }
+
+        /**
+         * @return 실제로 추정에 쓴 분기 수 (데이터가 window보다 짧으면 전체 길이)
+         */
+        public int window() {
+            return Math.min(window, matrix.length());
+        }
+
+        public int horizon() {
+            return horizon;
+        }
+
+        public Scope scopeOf(int curve) {
+            return curve < matrix.seriesCount() ? Scope.MARKET : Scope.valueOf(groupKeys.get(group(curve))[0]);
+        }
+
+        /**
+         * @return 상권 코드 (MARKET), 자치구 (GU) 또는 MarketRollupCube.ALL_GU (CITY)
+         */
+        public String codeOf(int curve) {
+            return curve < matrix.seriesCount() ? matrix.trdarCdOf(curve) : groupKeys.get(group(curve))[1];
+        }
+
+        public String svcIndutyCdOf(int curve) {
+            return curve < matrix.seriesCount() ? matrix.svcIndutyCdOf(curve) : groupKeys.get(group(curve))[2];
+        }
+
+        /**
+         * @return 곡선의 자치구 (서울시 전체 곡선이나 자치구를 추정하지 못한 상권이면 null)
+         */
+        public String guOf(int curve) {
+            if (curve < matrix.seriesCount()) {
+                return guOfSeries[curve];
+            }
+            return scopeOf(curve) == Scope.GU ? codeOf(curve) : null;
+        }
+
+        /**
+         * @return window 동안의 위험 집합 합계 (분기별 점포 수의 합)
+         */
+        public double atRisk(int curve) {
+            return counts.total(counts.atRisk, curve);
+        }
+
+        /**
+         * @return window 동안의 폐업 점포 수 합계
+         */
+        public double events(int curve) {
+            return counts.total(counts.events, curve);
+        }
+
+        /**
+         * @param step 몇 분기 뒤 (1 ~ horizon)
+         * @return 생존 확률 0 ~ 1 (관측이 없으면 NaN)
+         */
+        public double survival(int curve, int step) {
+            return survival[curve * horizon + step - 1];
+        }
+
+        private int group(int curve) {
+            return curve - matrix.seriesCount();
+        }
+
+        /**
+         * 곡선별 계절 위험 집합/사건 수 (곡선 i의 계절 s = 배열[i * SEASONS + s])
+         */
+        private static final class Counts {
+
+            private final double[] atRisk;
+            private final double[] events;
+
+            private Counts(int size) {
+                this.atRisk = new double[size * SEASONS];
+                this.events = new double[size * SEASONS];
+            }
+
+            private void add(int curve, Counts source, int sourceCurve) {
+                for (int season = 0; season < SEASONS; season++) {
+                    atRisk[curve * SEASONS + season] += source.atRisk[sourceCurve * SEASONS + season];
+                    events[curve * SEASONS + season] += source.events[sourceCurve * SEASONS + season];
+                }
+            }
+
+            private double total(double[] values, int curve) {
+                double sum = 0;
+                for (int season = 0; season < SEASONS; season++) {
+                    sum += values[curve * SEASONS + season];
+                }
+                return sum;
+            }
+        }
+    }
+
+    private static final class CountTask extends RecursiveAction {
+
+        private final MarketSeriesMatrix matrix;
+        private final int fromQuarter;
+        private final Result.Counts counts;
+        private final int from;
+        private final int to;
+
+        private CountTask(MarketSeriesMatrix matrix, int fromQuarter, Result.Counts counts, int from, int to) {
+            this.matrix = matrix;
+            this.fromQuarter = fromQuarter;
+            this.counts = counts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                double[] stores = matrix.values(MarketMetric.STOR_CO);
+                double[] closedStores = matrix.values(MarketMetric.CLSBIZ_STOR_CO);
+                double[] closedRates = matrix.values(MarketMetric.CLSBIZ_RT);
+                int length = matrix.length();
+                int firstSeason = matrix.firstQuarter().quarter() - 1;
+                for (int series = from; series < to; series++) {
+                    count(series, stores, closedStores, closedRates, length, firstSeason);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CountTask(matrix, fromQuarter, counts, from, middle),
+                    new CountTask(matrix, fromQuarter, counts, middle, to));
+        }
+
+        private void count(int series, double[] stores, double[] closedStores, double[] closedRates,
+                           int length, int firstSeason) {
+            int offset = series * length;
+            for (int t = fromQuarter; t < length; t++) {
+                double atRisk = stores[offset + t];
+                if (!(atRisk > 0)) {
+                    continue; // NaN 또는 점포 없음
+                }
+                double events = closedStores[offset + t];
+                if (Double.isNaN(events)) {
+                    double closedRate = closedRates[offset + t];
+                    if (Double.isNaN(closedRate)) {
+                        continue;
+                    }
+                    events = closedRate / 100.0 * atRisk;
+                }
+                int index = series * SEASONS + (firstSeason + t) % SEASONS;
+                counts.atRisk[index] += atRisk;
+                counts.events[index] += Math.min(atRisk, Math.max(0.0, events));
+            }
+        }
+    }
+
+    private static final class CurveTask extends RecursiveAction {
+
+        private final Result result;
+        private final int baseSeason;
+        private final int from;
+        private final int to;
+
+        private CurveTask(Result result, int baseSeason, int from, int to) {
+            this.result = result;
+            this.baseSeason = baseSeason;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                double[] hazards = new double[SEASONS];
+                for (int curve = from; curve < to; curve++) {
+                    curve(curve, hazards);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CurveTask(result, baseSeason, from, middle),
+                    new CurveTask(result, baseSeason, middle, to));
+        }
+
+        private void curve(int curve, double[] hazards) {
+            double[] atRisk = result.counts.atRisk;
+            double[] events = result.counts.events;
+            int horizon = result.horizon;
+            int offset = curve * horizon;
+
+            double totalAtRisk = result.atRisk(curve);
+            if (!(totalAtRisk > 0)) {
+                Arrays.fill(result.survival, offset, offset + horizon, Double.NaN);
+                return;
+            }
+            double pooledHazard = result.events(curve) / totalAtRisk;
+            for (int season = 0; season < SEASONS; season++) {
+                int index = curve * SEASONS + season;
+                hazards[season] = atRisk[index] > 0 ? events[index] / atRisk[index] : pooledHazard;
+            }
+
+            double survival = 1.0;
+            for (int step = 1; step <= horizon; step++) {
+                survival *= 1.0 - hazards[(baseSeason + step) % SEASONS];
+                result.survival[offset + step - 1] = survival;
+            }
+        }
+    }
+}
@@ -12,7 +12,10 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "store_revenue")
+@Table(name = "store_revenue", indexes = {
+        // 가게별 기간 조회/분기 집계용 (StoreRevenueRepository.sumQuarterlyRevenue)
+        @Index(name = "idx_store_revenue_store_period", columnList = "sotre_id, reveunue_year, revenue_month")
+})
 public class StoreRevenue extends BaseTimeEntity {
 
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,17 @@
+package com.endlesspassion.sigai.domain.store.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가게의 분석 입력(월별 매출, 가게의 상권/업종 정보)이 바뀌었을 때 발행되는 이벤트
+ *
+ * 트랜잭션 커밋 후 미리 계산된 상권 분석 결과를 무효화하고 다시 계산하는 데 사용한다.
+ *
+ * @param storeId 변경된 가게 ID
+ * @param changedAt 변경 시각
+ */
+public record StoreRevenueChangedEvent(
+        Long storeId,
+        LocalDateTime changedAt
+) {
+}
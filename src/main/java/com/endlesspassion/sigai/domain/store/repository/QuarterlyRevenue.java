@@ -0,0 +1,14 @@
+package com.endlesspassion.sigai.domain.store.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 가게의 분기 매출 합계 (월별 매출 엔티티 대신 DB에서 분기 단위로 합산한 결과)
+ *
+ * @param storeId 가게 ID
+ * @param year 연도
+ * @param quarter 분기 (1~4)
+ * @param revenue 분기 매출 합계
+ */
+public record QuarterlyRevenue(Long storeId, Integer year, Integer quarter, BigDecimal revenue) {
+}
@@ -2,6 +2,7 @@ package com.endlesspassion.sigai.domain.store.repository;
 
 import com.endlesspassion.sigai.domain.store.entity.Store;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -12,4 +13,10 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
      * JPA의 1:N 관계를 활용한 메서드
      */
     List<Store> findByMember_PhoneNumber(String phoneNumber);
+
+    /**
+     * 모든 가게 ID (엔티티를 적재하지 않음)
+     */
+    @Query("select s.id from Store s")
+    List<Long> findAllIds();
 }
@@ -2,8 +2,12 @@ package com.endlesspassion.sigai.domain.store.repository;
 
 import com.endlesspassion.sigai.domain.store.entity.Store;
 import com.endlesspassion.sigai.domain.store.entity.StoreRevenue;
+import com.endlesspassion.sigai.global.util.Quarter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +29,46 @@ public interface StoreRevenueRepository extends JpaRepository<StoreRevenue, Long
      * @return 가장 최신 매출 데이터 (Optional)
      */
     Optional<StoreRevenue> findFirstByStoreOrderByYearDescMonthDesc(Store store);
-}
\ No newline at end of file
+
+    /**
+     * 매출 데이터가 한 건이라도 있는지 (분석 기간에 매출이 없을 때 가게 자체에 매출이 없는지 구분)
+     */
+    boolean existsByStore(Store store);
+
+    /**
+     * 가게별 분기 매출 합계를 분석 기간(from ~ to 분기)만 DB에서 집계
+     *
+     * 월별 엔티티를 모두 읽어 애플리케이션에서 합산하지 않고, 기간 안의 행만 (store_id, 연도, 월) 인덱스로 읽어
+     * (가게, 연도, 분기)별 합계 행만 전달받는다. 매출이 없는 분기는 결과에 없다.
+     */
+    default List<QuarterlyRevenue> sumQuarterlyRevenue(Collection<Store> stores, Quarter from, Quarter to) {
+        return sumQuarterlyRevenue(stores, from.year(), to.year(),
+                from.year() * 100 + from.firstMonth(), to.lastYearMonth());
+    }
+
+    /**
+     * @param fromYear 시작 연도 (인덱스 범위 조건)
+     * @param toYear 끝 연도 (인덱스 범위 조건)
+     * @param fromYearMonth 시작 연월 YYYYMM (포함)
+     * @param toYearMonth 끝 연월 YYYYMM (포함)
+     */
+    @Query("""
+            select new com.endlesspassion.sigai.domain.store.repository.QuarterlyRevenue(
+                r.store.id,
+                r.year,
+                case when r.month <= 3 then 1 when r.month <= 6 then 2 when r.month <= 9 then 3 else 4 end,
+                sum(r.monthlyRevenue))
+            from StoreRevenue r
+            where r.store in :stores
+              and r.year between :fromYear and :toYear
+              and r.year * 100 + r.month between :fromYearMonth and :toYearMonth
+            group by r.store.id, r.year,
+                case when r.month <= 3 then 1 when r.month <= 6 then 2 when r.month <= 9 then 3 else 4 end
+            """)
+    List<QuarterlyRevenue> sumQuarterlyRevenue(
+            @Param("stores") Collection<Store> stores,
+            @Param("fromYear") int fromYear,
+            @Param("toYear") int toYear,
+            @Param("fromYearMonth") int fromYearMonth,
+            @Param("toYearMonth") int toYearMonth);
+}
@@ -4,12 +4,15 @@ import com.endlesspassion.sigai.domain.store.dto.request.StoreRevenueReq;
 import com.endlesspassion.sigai.domain.store.dto.respose.StoreRevenueRes;
 import com.endlesspassion.sigai.domain.store.entity.Store;
 import com.endlesspassion.sigai.domain.store.entity.StoreRevenue;
+import com.endlesspassion.sigai.domain.store.event.StoreRevenueChangedEvent;
 import com.endlesspassion.sigai.domain.store.repository.StoreRepository;
 import com.endlesspassion.sigai.domain.store.repository.StoreRevenueRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -19,6 +22,7 @@ public class StoreRevenueService {
 
     private final StoreRevenueRepository storeRevenueRepository;
     private final StoreRepository storeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 가게의 모든 월별 매출 데이터 조회
@@ -52,5 +56,8 @@ public class StoreRevenueService {
 
         // StoreRevenue 엔티티 생성 및 저장
         storeRevenueRepository.save(req.to(store));
+
+        // 커밋 후 사전 계산된 상권 분석 결과 갱신
+        eventPublisher.publishEvent(new StoreRevenueChangedEvent(store.getId(), LocalDateTime.now()));
     }
 }
@@ -5,11 +5,14 @@ import com.endlesspassion.sigai.domain.member.repository.MemberRepository;
 import com.endlesspassion.sigai.domain.store.dto.request.StoreReq;
 import com.endlesspassion.sigai.domain.store.dto.respose.StoreRes;
 import com.endlesspassion.sigai.domain.store.entity.Store;
+import com.endlesspassion.sigai.domain.store.event.StoreRevenueChangedEvent;
 import com.endlesspassion.sigai.domain.store.repository.StoreRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,6 +23,7 @@ public class StoreService {
 
     private final StoreRepository storeRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public StoreRes get(Long storeId) {
         Store store = storeRepository.findById(storeId)
@@ -63,6 +67,9 @@ public class StoreService {
         }
 
         store.update(req);
+
+        // 상권/업종이 바뀌면 분석 결과도 달라지므로 사전 계산 결과 갱신
+        eventPublisher.publishEvent(new StoreRevenueChangedEvent(storeId, LocalDateTime.now()));
     }
 
     public void delete(String phoneNumber, Long storeId) {
@@ -1,6 +1,7 @@
 package com.endlesspassion.sigai.global.common.enums;
 
 import lombok.Getter;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -15,42 +16,44 @@ import java.util.stream.Stream;
 public enum SeoulGuCommercialArea {
 
     // 강북
-    A_3110019("3110019", "창덕궁"),            // 종로구
-    A_3110039("3110039", "회현역 1번"),        // 중구 (남대문시장)
-    A_3110086("3110086", "이태원역 북측"),      // 용산구
-    A_3110120("3110120", "서울숲카페거리"),     // 성동구
-    A_3110141("3110141", "건대입구역 1번"),    // 광진구
-    A_3110189("3110189", "제기동역 1번"),      // 동대문구 (경동시장)
-    A_3110265("3110265", "망우역 1번"),        // 중랑구
-    A_3110303("3110303", "성신여대입구역 1번"), // 성북구
-    A_3110367("3110367", "강북구청"),           // 강북구
-    A_3110406("3110406", "도봉산역 1번"),      // 도봉구
-    A_3110422("3110422", "노원역 9번"),        // 노원구
-    A_3110464("3110464", "연신내역 5번"),      // 은평구
+    A_3110019("3110019", "창덕궁", "종로구"),
+    A_3110039("3110039", "회현역 1번", "중구"), // 남대문시장
+    A_3110086("3110086", "이태원역 북측", "용산구"),
+    A_3110120("3110120", "서울숲카페거리", "성동구"),
+    A_3110141("3110141", "건대입구역 1번", "광진구"),
+    A_3110189("3110189", "제기동역 1번", "동대문구"), // 경동시장
+    A_3110265("3110265", "망우역 1번", "중랑구"),
+    A_3110303("3110303", "성신여대입구역 1번", "성북구"),
+    A_3110367("3110367", "강북구청", "강북구"),
+    A_3110406("3110406", "도봉산역 1번", "도봉구"),
+    A_3110422("3110422", "노원역 9번", "노원구"),
+    A_3110464("3110464", "연신내역 5번", "은평구"),
 
     // 강서
-    A_3110505("3110505", "신촌역 1번"),        // 서대문구
-    A_3110543("3110543", "홍대입구역 8번"),    // 마포구
-    A_3110582("3110582", "목동역 1번"),        // 양천구
-    A_3110629("3110629", "마곡역 3번"),        // 강서구
-    A_3110668("3110668", "구로디지털단지역 1번"), // 구로구
-    A_3110700("3110700", "가산디지털단지역 7번"), // 금천구
-    A_3110729("3110729", "여의도역 5번"),      // 영등포구
-    A_3110762("3110762", "노량진역 1번"),      // 동작구
-    A_3110800("3110800", "서울대입구역 2번"),  // 관악구
+    A_3110505("3110505", "신촌역 1번", "서대문구"),
+    A_3110543("3110543", "홍대입구역 8번", "마포구"),
+    A_3110582("3110582", "목동역 1번", "양천구"),
+    A_3110629("3110629", "마곡역 3번", "강서구"),
+    A_3110668("3110668", "구로디지털단지역 1번", "구로구"),
+    A_3110700("3110700", "가산디지털단지역 7번", "금천구"),
+    A_3110729("3110729", "여의도역 5번", "영등포구"),
+    A_3110762("3110762", "노량진역 1번", "동작구"),
+    A_3110800("3110800", "서울대입구역 2번", "관악구"),
 
     // 강남
-    A_3110842("3110842", "교대역 13번"),       // 서초구
-    A_3110903("3110903", "강남역 11번"),       // 강남구
-    A_3110991("3110991", "잠실역 1번"),        // 송파구 (롯데월드)
-    A_3111047("3111047", "강동역 1번");        // 강동구
+    A_3110842("3110842", "교대역 13번", "서초구"),
+    A_3110903("3110903", "강남역 11번", "강남구"),
+    A_3110991("3110991", "잠실역 1번", "송파구"), // 롯데월드
+    A_3111047("3111047", "강동역 1번", "강동구");
 
     private final String code;
     private final String displayName;
+    private final String gu; // 자치구
 
-    SeoulGuCommercialArea(String code, String displayName) {
+    SeoulGuCommercialArea(String code, String displayName, String gu) {
         this.code = code;
         this.displayName = displayName;
+        this.gu = gu;
     }
 
     // --- 빠른 조회를 위한 정적(Static) 맵 ---
@@ -59,11 +62,31 @@ public enum SeoulGuCommercialArea {
     private static final Map<String, SeoulGuCommercialArea> BY_CODE =
             Stream.of(values()).collect(Collectors.toMap(SeoulGuCommercialArea::getCode, Function.identity()));
 
-    // 2. 이름으로 Enum 상수를 찾는 맵 (예: "강남역 11번" -> A_3110903)
+    // 3. 이름으로 Enum 상수를 찾는 맵 (예: "강남역 11번" -> A_3110903)
     private static final Map<String, SeoulGuCommercialArea> BY_DISPLAY_NAME =
             Stream.of(values()).collect(Collectors.toMap(SeoulGuCommercialArea::getDisplayName, Function.identity()));
 
 
+    // --- 상권 코드 구간별 자치구 (ServiceArea 상권 목록 기준) ---
+
+    // 구간 시작 상권 코드 (오름차순). 서울시 상권 코드는 자치구 순서로 발급되었고,
+    // 관악구 ~ 송파구는 3110886부터 한 번 더 발급되어 같은 자치구가 두 구간을 가진다. 강동구는 두 번째 구간에만 있다.
+    private static final long[] GU_START_CODES = {
+            3110001, 3110038, 3110058, 3110100, 3110139, 3110181, 3110233, 3110280, 3110337, 3110383,
+            3110414, 3110443, 3110493, 3110541, 3110573, 3110612, 3110637, 3110646, 3110672, 3110706,
+            3110723, 3110755, 3110802, 3110832,
+            3110886, 3110903, 3110950, 3111003, 3111048
+    };
+
+    private static final String[] GU_OF_RANGE = {
+            "종로구", "중구", "용산구", "성동구", "광진구", "동대문구", "중랑구", "성북구", "강북구", "도봉구",
+            "노원구", "은평구", "서대문구", "마포구", "강서구", "구로구", "금천구", "동작구", "영등포구", "양천구",
+            "관악구", "강남구", "서초구", "송파구",
+            "관악구", "서초구", "강남구", "송파구", "강동구"
+    };
+
+    private static final long LAST_CODE = 3111090; // 마지막 상권 코드 (강일동주민센터)
+
     // --- 정적 조회 메소드 ---
 
     /**
@@ -83,4 +106,24 @@ public enum SeoulGuCommercialArea {
     public static SeoulGuCommercialArea findByDisplayName(String displayName) {
         return BY_DISPLAY_NAME.get(displayName);
     }
-}
\ No newline at end of file
+
+    /**
+     * 상권 코드가 속한 자치구를 조회합니다.
+     * 상권 코드 구간(GU_START_CODES)에서 코드가 들어가는 구간의 자치구를 찾습니다.
+     * @param code (예: "3110905")
+     * @return 자치구 이름. 숫자 코드가 아니거나 서울시 상권 코드 범위(3110001 ~ 3111090) 밖이면 null 반환.
+     */
+    public static String guOf(String code) {
+        long value;
+        try {
+            value = Long.parseLong(code);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (value < GU_START_CODES[0] || value > LAST_CODE) {
+            return null;
+        }
+        int index = Arrays.binarySearch(GU_START_CODES, value);
+        return GU_OF_RANGE[index >= 0 ? index : -index - 2];
+    }
+}
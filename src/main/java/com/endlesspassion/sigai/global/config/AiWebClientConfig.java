@@ -1,22 +1,44 @@
 package com.endlesspassion.sigai.global.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
 
+import java.time.Duration;
+
+/**
+ * AI 예측 서버 WebClient
+ *
+ * 연결/응답 대기 제한 시간을 Reactor Netty 클라이언트에 걸어, AI 서버가 느리거나 멈춰도 연결이 무한정 남지 않게 한다.
+ * (요청 전체 제한 시간은 AiPredictService에서 sigai.ai.deadline-ms로 건다)
+ */
 @Configuration
 public class AiWebClientConfig {
 
-    private static final String BASE_URL = "http://13.124.15.77:8080";
+    @Value("${sigai.ai.base-url:http://13.124.15.77:8080}")
+    private String baseUrl;
+
+    @Value("${sigai.ai.connect-timeout-ms:2000}")
+    private int connectTimeoutMs = 2000;
+
+    @Value("${sigai.ai.read-timeout-ms:5000}")
+    private long readTimeoutMs = 5000;
 
     @Bean
     public WebClient aiApiWebClient() {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs)); // 응답을 읽는 중 이 시간 동안 아무것도 오지 않으면 실패
 
         return WebClient.builder()
-                .baseUrl(BASE_URL)
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
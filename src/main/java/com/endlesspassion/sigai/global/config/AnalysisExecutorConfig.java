@@ -0,0 +1,80 @@
+package com.endlesspassion.sigai.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상권 분석 하위 작업(매출 비교, 폐업률 비교 등) 전용 실행기
+ *
+ * - 하위 분석은 MongoDB I/O 대기가 대부분이므로 요청 스레드와 분리해 동시에 실행한다
+ * - 스레드 수와 대기열 크기를 제한하고, 가득 차면 작업을 거절 (RejectedExecutionException)
+ *   호출 스레드에서 직접 실행하면(CallerRunsPolicy) 하위 분석 제한 시간이 적용되지 않으므로,
+ *   거절된 섹션은 MarketAnalysisService가 빈 섹션(필수 섹션은 SERVICE_UNAVAILABLE)으로 처리한다
+ * - JDK 21 이상에서 실행되면 가상 스레드를 사용 (sigai.analysis.executor.virtual-threads=false로 끌 수 있음)
+ */
+@Slf4j
+@Configuration
+public class AnalysisExecutorConfig {
+
+    @Value("${sigai.analysis.executor.max-threads:32}")
+    private int maxThreads;
+
+    @Value("${sigai.analysis.executor.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${sigai.analysis.executor.virtual-threads:true}")
+    private boolean virtualThreads;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService analysisExecutor() {
+        ThreadFactory threadFactory = virtualThreads ? virtualThreadFactory() : null;
+        if (threadFactory == null) {
+            threadFactory = platformThreadFactory();
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                maxThreads, maxThreads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Thread.ofVirtual().name("analysis-vt-", 0).factory() — 컴파일 대상이 JDK 17이므로 리플렉션으로 호출
+     *
+     * @return 가상 스레드를 지원하지 않는 런타임이면 null
+     */
+    private ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "analysis-vt-", 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            log.info("상권 분석 실행기: 가상 스레드 사용 (최대 동시 실행 {})", maxThreads);
+            return factory;
+        } catch (ReflectiveOperationException e) {
+            log.info("상권 분석 실행기: 가상 스레드 미지원 런타임, 플랫폼 스레드 사용 (최대 {})", maxThreads);
+            return null;
+        }
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "analysis-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.endlesspassion.sigai.global.config;
+
+import com.mongodb.MongoCompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MongoDB 통신 압축 설정
+ *
+ * sigai.mongo.compressors(예: "zstd,snappy")를 지정하면 드라이버-서버 간 통신을 압축한다.
+ * 서버와 협상하여 앞에서부터 지원되는 방식을 사용하며, 비어 있으면 압축하지 않는다.
+ *
+ * MongoClient를 만들 때 적용되므로 MongoTemplate 등 MongoClient에 의존하는 빈을 주입받지 않는다.
+ * (주입받으면 MongoClient → 이 설정 → MongoTemplate → MongoClient 순환 참조가 생김)
+ */
+@Configuration
+public class MongoCompressorConfig {
+
+    @Value("${sigai.mongo.compressors:}")
+    private List<String> compressors;
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCompressorCustomizer() {
+        return settings -> {
+            List<MongoCompressor> configured = new ArrayList<>();
+            for (String name : compressors) {
+                switch (name.trim().toLowerCase()) {
+                    case "zstd" -> configured.add(MongoCompressor.createZstdCompressor());
+                    case "snappy" -> configured.add(MongoCompressor.createSnappyCompressor());
+                    case "zlib" -> configured.add(MongoCompressor.createZlibCompressor());
+                    case "" -> {
+                    }
+                    default -> throw new IllegalArgumentException("지원하지 않는 MongoDB 압축 방식입니다: " + name);
+                }
+            }
+            if (!configured.isEmpty()) {
+                settings.compressorList(configured);
+            }
+        };
+    }
+}
@@ -1,4 +1,44 @@
 package com.endlesspassion.sigai.global.config;
 
+import com.endlesspassion.sigai.domain.publicdata.repository.PublicDataIndexes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * MongoDB 설정
+ *
+ * 기동 시 조회 계층이 의존하는 인덱스(PublicDataIndexes)가 모두 있는지 확인하고 없으면 생성한다.
+ * 인덱스 생성 실패는 기동을 막지 않고 에러 로그만 남긴다 (조회는 느려지지만 서비스는 가능).
+ * (통신 압축 설정은 MongoTemplate보다 먼저 만들어져야 하므로 MongoCompressorConfig에 분리)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
 public class MongoConfig {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${sigai.mongo.index-reconcile.enabled:true}")
+    private boolean indexReconcileEnabled;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileIndexes() {
+        if (!indexReconcileEnabled) {
+            return;
+        }
+        try {
+            int created = PublicDataIndexes.reconcile(mongoTemplate);
+            log.info("MongoDB 인덱스 확인 완료 (새로 생성: {}개)", created);
+        } catch (Exception e) {
+            log.error("MongoDB 인덱스 확인/생성 실패", e);
+        }
+    }
 }
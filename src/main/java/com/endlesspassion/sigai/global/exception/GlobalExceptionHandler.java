@@ -3,6 +3,7 @@ package com.endlesspassion.sigai.global.exception;
 import com.endlesspassion.sigai.global.exception.code.ErrorCode;
 import com.endlesspassion.sigai.global.exception.code.GlobalErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -50,6 +51,21 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(GlobalErrorCode.BAD_REQUEST, errors);
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ApiResponse<?>> handleConstraintViolation(
+            ConstraintViolationException e, HttpServletRequest request) {
+        log.warn("Constraint violation: {}, URI: {}", e.getMessage(), request.getRequestURI(), e);
+
+        // propertyPath: "메서드명.파라미터명" → 파라미터명만 사용
+        Map<String, String> errors = new HashMap<>();
+        e.getConstraintViolations().forEach(violation -> {
+            String path = violation.getPropertyPath().toString();
+            errors.put(path.substring(path.lastIndexOf('.') + 1), violation.getMessage());
+        });
+
+        return buildErrorResponse(GlobalErrorCode.BAD_REQUEST, errors);
+    }
+
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<ApiResponse<?>> handleMissingServletRequestParameter(
             MissingServletRequestParameterException e, HttpServletRequest request) {
@@ -0,0 +1,190 @@
+package com.endlesspassion.sigai.global.util;
+
+/**
+ * 가법(additive) Holt-Winters 시계열 예측
+ *
+ * 수준(level) + 추세(trend) + 계절(seasonal, 주기 period) 세 성분을 지수 평활로 갱신하고,
+ * 평활 계수(alpha, beta, gamma)는 작은 격자에서 1단계 예측 오차 제곱합이 가장 작은 조합을 고른다.
+ *
+ * - 입력은 과거 → 최신 순서의 primitive double[] 구간이며 NaN은 결측값이다.
+ *   결측 시점은 그 시점의 예측값을 관측값으로 보고(오차 0) 상태만 이어 간다.
+ * - 관측이 두 주기 미만이면 계절 성분 없이 Holt(수준 + 추세), 관측이 2개 미만이면 마지막 값 유지(NAIVE)
+ * - 계열 하나를 맞추는 데 필요한 상태 배열은 주기 크기만큼만 만든다. (여러 계열을 병렬로 맞출 때 할당 최소화)
+ */
+public final class HoltWinters {
+
+    private static final double[] ALPHAS = {0.2, 0.5, 0.8};
+    private static final double[] BETAS = {0.05, 0.2};
+    private static final double[] GAMMAS = {0.1, 0.3, 0.5};
+
+    private HoltWinters() {
+    }
+
+    public enum Model {
+        HOLT_WINTERS, // 수준 + 추세 + 계절
+        HOLT, // 수준 + 추세
+        NAIVE // 마지막 관측값 유지
+    }
+
+    /**
+     * 학습 결과 (마지막 시점의 상태)
+     *
+     * @param seasonals 다음 시점부터 순서대로의 계절 성분 (seasonals[h % period]가 h + 1단계 뒤)
+     * @param rmse 1단계 예측 오차의 제곱평균제곱근 (오차를 계산할 관측이 없으면 NaN)
+     */
+    public record Fit(
+            Model model,
+            double alpha,
+            double beta,
+            double gamma,
+            double level,
+            double trend,
+            double[] seasonals,
+            double rmse
+    ) {
+
+        /**
+         * @param steps 몇 단계 뒤 (1 = 다음 시점)
+         */
+        public double forecast(int steps) {
+            if (steps < 1) {
+                throw new IllegalArgumentException("예측 단계는 1 이상이어야 합니다: " + steps);
+            }
+            double seasonal = seasonals.length > 0 ? seasonals[(steps - 1) % seasonals.length] : 0.0;
+            return level + steps * trend + seasonal;
+        }
+
+        /**
+         * 1 ~ horizon 단계 예측값을 out[offset]부터 채움
+         */
+        public void forecast(int horizon, double[] out, int offset) {
+            for (int h = 1; h <= horizon; h++) {
+                out[offset + h - 1] = forecast(h);
+            }
+        }
+    }
+
+    /**
+     * @param values 시계열이 담긴 배열 (여러 계열을 이어 붙인 배열도 가능)
+     * @param start 계열 시작 위치
+     * @param length 계열 길이
+     * @param period 계절 주기 (분기 데이터면 4)
+     */
+    public static Fit fit(double[] values, int start, int length, int period) {
+        if (start < 0 || length < 0 || start + length > values.length) {
+            throw new IllegalArgumentException("잘못된 구간입니다: start=" + start + ", length=" + length);
+        }
+        if (period < 2) {
+            throw new IllegalArgumentException("계절 주기는 2 이상이어야 합니다: " + period);
+        }
+
+        // 첫 관측 이전의 결측 구간은 버린다
+        int first = start;
+        int end = start + length;
+        while (first < end && Double.isNaN(values[first])) {
+            first++;
+        }
+        int observed = 0;
+        double last = Double.NaN;
+        for (int i = first; i < end; i++) {
+            if (!Double.isNaN(values[i])) {
+                observed++;
+                last = values[i];
+            }
+        }
+        if (observed < 2) {
+            return new Fit(Model.NAIVE, 0, 0, 0, last, 0, new double[0], Double.NaN);
+        }
+
+        boolean seasonal = end - first >= 2 * period;
+        double[] season = new double[seasonal ? period : 1];
+        double[] bestSeason = new double[season.length];
+        double[] gammas = seasonal ? GAMMAS : new double[]{0.0};
+
+        Fit best = null;
+        double bestSse = Double.POSITIVE_INFINITY;
+        for (double alpha : ALPHAS) {
+            for (double beta : BETAS) {
+                for (double gamma : gammas) {
+                    double[] state = run(values, first, end, seasonal ? period : 0, alpha, beta, gamma, season);
+                    double sse = state[2];
+                    if (best == null || sse < bestSse) {
+                        bestSse = sse;
+                        System.arraycopy(season, 0, bestSeason, 0, season.length);
+                        best = new Fit(seasonal ? Model.HOLT_WINTERS : Model.HOLT, alpha, beta, gamma,
+                                state[0], state[1], null, state[3] > 0 ? Math.sqrt(sse / state[3]) : Double.NaN);
+                    }
+                }
+            }
+        }
+
+        // 계절 성분을 "다음 시점부터" 순서로 회전
+        double[] nextSeasonals = new double[seasonal ? period : 0];
+        if (seasonal) {
+            int phase = (end - first) % period;
+            for (int h = 0; h < period; h++) {
+                nextSeasonals[h] = bestSeason[(phase + h) % period];
+            }
+        }
+        return new Fit(best.model(), best.alpha(), best.beta(), best.gamma(),
+                best.level(), best.trend(), nextSeasonals, best.rmse());
+    }
+
+    /**
+     * 주어진 계수로 [first, end) 구간을 한 번 평활
+     *
+     * @param period 0이면 계절 성분 없음
+     * @param season 계절 성분 상태 (덮어씀)
+     * @return {마지막 수준, 마지막 추세, 오차 제곱합, 오차 계산 횟수}
+     */
+    private static double[] run(double[] values, int first, int end, int period,
+                                double alpha, double beta, double gamma, double[] season) {
+        double level;
+        double trend;
+        int from;
+        if (period > 0) {
+            // 초기값: 첫 주기 평균 = 수준, 두 주기 평균 차이 / 주기 = 추세, 첫 주기 편차 = 계절
+            double firstMean = StatisticsUtils.mean(values, first, period);
+            double secondMean = StatisticsUtils.mean(values, first + period, period);
+            level = firstMean;
+            trend = Double.isNaN(secondMean) ? 0.0 : (secondMean - firstMean) / period;
+            for (int i = 0; i < period; i++) {
+                double value = values[first + i];
+                season[i] = Double.isNaN(value) ? 0.0 : value - firstMean;
+            }
+            from = first + period;
+        } else {
+            level = values[first];
+            int next = first + 1;
+            while (next < end && Double.isNaN(values[next])) {
+                next++;
+            }
+            trend = (values[next] - level) / (next - first);
+            from = first + 1;
+        }
+
+        double sse = 0;
+        int errors = 0;
+        for (int t = from; t < end; t++) {
+            int s = period > 0 ? (t - first) % period : 0;
+            double seasonal = period > 0 ? season[s] : 0.0;
+            double predicted = level + trend + seasonal;
+            double value = values[t];
+            if (Double.isNaN(value)) {
+                value = predicted;
+            } else {
+                double error = value - predicted;
+                sse += error * error;
+                errors++;
+            }
+
+            double previousLevel = level;
+            level = alpha * (value - seasonal) + (1 - alpha) * (level + trend);
+            trend = beta * (level - previousLevel) + (1 - beta) * trend;
+            if (period > 0) {
+                season[s] = gamma * (value - level) + (1 - gamma) * seasonal;
+            }
+        }
+        return new double[]{level, trend, sse, errors};
+    }
+}
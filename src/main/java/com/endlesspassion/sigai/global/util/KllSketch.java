@@ -0,0 +1,369 @@
+package com.endlesspassion.sigai.global.util;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 병합 가능한 분위수 스케치 (KLL)
+ *
+ * 값을 전부 보관하지 않고 높이 h의 압축기(compactor)마다 가중치 2^h인 값만 남긴다.
+ * 압축기가 가득 차면 정렬 후 한 칸씩 건너 절반만 윗단으로 올리므로, 보관하는 값은 n과 무관하게 약 3k개 이하다.
+ * - 순위/분위수 오차: 정규화 순위 기준 약 1.65% (k = 200, 99% 신뢰) — 값이 k개 이하면 정확
+ * - 병합: 같은 k의 스케치끼리 압축기를 높이별로 이어 붙인 뒤 다시 압축 (분기/자치구/업종 임의 묶음)
+ * - 직렬화: 값을 float로 저장 (k = 200이면 수 KB 이하)
+ *
+ * 압축 시 짝수/홀수 위치 선택은 난수 대신 번갈아 하므로 같은 입력이면 같은 결과가 나온다.
+ * 스레드 안전하지 않다. (공유하려면 직렬화한 바이트를 공유)
+ */
+public final class KllSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final double DECAY = 2.0 / 3.0; // 아랫단으로 갈수록 용량이 2/3씩 줄어듦
+    private static final int MIN_LEVEL_CAPACITY = 8;
+    private static final int MAX_K = 0xFFFF;
+    private static final byte FORMAT_VERSION = 1;
+
+    private final int k;
+    private long n;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    private float[][] levels;
+    private int[] sizes;
+    private int compactions; // 압축 횟수 (짝수/홀수 위치 선택을 번갈아 하기 위함)
+
+    // 조회용 정렬 뷰 (갱신/병합 시 무효화)
+    private float[] sortedItems;
+    private long[] cumulativeWeights;
+
+    public KllSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * @param k 정확도 파라미터 (클수록 정확하고 커짐, 8 ~ 65535)
+     */
+    public KllSketch(int k) {
+        if (k < MIN_LEVEL_CAPACITY || k > MAX_K) {
+            throw new IllegalArgumentException("k는 " + MIN_LEVEL_CAPACITY + "~" + MAX_K + " 사이여야 합니다: " + k);
+        }
+        this.k = k;
+        this.levels = new float[][]{new float[MIN_LEVEL_CAPACITY]};
+        this.sizes = new int[1];
+    }
+
+    /**
+     * values[0, count)로 스케치 생성 (NaN은 건너뜀)
+     */
+    public static KllSketch of(double[] values, int count) {
+        KllSketch sketch = new KllSketch();
+        for (int i = 0; i < count; i++) {
+            sketch.update(values[i]);
+        }
+        return sketch;
+    }
+
+    public void update(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        min = n == 0 ? value : Math.min(min, value);
+        max = n == 0 ? value : Math.max(max, value);
+        n++;
+        append(0, (float) value);
+        compressIfNeeded();
+        invalidate();
+    }
+
+    /**
+     * other의 값을 이 스케치에 더함 (other는 바뀌지 않음)
+     */
+    public void merge(KllSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("k가 다른 스케치는 병합할 수 없습니다: " + k + ", " + other.k);
+        }
+        if (other.n == 0) {
+            return;
+        }
+        for (int level = 0; level < other.levels.length; level++) {
+            for (int i = 0; i < other.sizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        min = n == 0 ? other.min : Math.min(min, other.min);
+        max = n == 0 ? other.max : Math.max(max, other.max);
+        n += other.n;
+        compressIfNeeded();
+        invalidate();
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * @return 지금까지 넣은 값의 수
+     */
+    public long getN() {
+        return n;
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    /**
+     * @return 최솟값 (비어 있으면 NaN)
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return 최댓값 (비어 있으면 NaN)
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return 실제로 보관 중인 값의 수
+     */
+    public int retainedItems() {
+        int retained = 0;
+        for (int size : sizes) {
+            retained += size;
+        }
+        return retained;
+    }
+
+    /**
+     * value 이하인 값의 비율 (0~1, 비어 있으면 NaN)
+     */
+    public double rank(double value) {
+        if (n == 0 || Double.isNaN(value)) {
+            return Double.NaN;
+        }
+        if (value < min) {
+            return 0.0;
+        }
+        if (value >= max) {
+            return 1.0;
+        }
+        ensureSortedView();
+        // value 이하인 마지막 위치
+        float item = (float) value;
+        int low = 0;
+        int high = sortedItems.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedItems[middle] <= item) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low == 0 ? 0.0 : (double) cumulativeWeights[low - 1] / n;
+    }
+
+    /**
+     * q 분위수 (비어 있으면 NaN)
+     *
+     * @param q 0 ~ 1 (0 = 최솟값, 0.5 = 중앙값, 1 = 최댓값)
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1 || Double.isNaN(q)) {
+            throw new IllegalArgumentException("분위는 0~1 사이여야 합니다: " + q);
+        }
+        if (n == 0) {
+            return Double.NaN;
+        }
+        if (q == 0) {
+            return min;
+        }
+        if (q == 1) {
+            return max;
+        }
+        ensureSortedView();
+        double target = q * n;
+        // 누적 가중치가 target 이상이 되는 첫 위치
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulativeWeights[middle] >= target) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return Math.max(min, Math.min(max, sortedItems[low]));
+    }
+
+    /**
+     * 직렬화
+     *
+     * 형식: 버전(1) | k(2) | n(8) | min(8) | max(8) | 압축 횟수(4) | 높이 수(1) | 높이별 {개수(4) | float 값들}
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(32 + levels.length * Integer.BYTES + retainedItems() * Float.BYTES);
+        buffer.put(FORMAT_VERSION)
+                .putChar((char) k)
+                .putLong(n)
+                .putDouble(min)
+                .putDouble(max)
+                .putInt(compactions)
+                .put((byte) levels.length);
+        for (int level = 0; level < levels.length; level++) {
+            buffer.putInt(sizes[level]);
+            for (int i = 0; i < sizes[level]; i++) {
+                buffer.putFloat(levels[level][i]);
+            }
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    public static KllSketch fromBytes(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            byte version = buffer.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 스케치 형식입니다: " + version);
+            }
+            KllSketch sketch = new KllSketch(buffer.getChar());
+            sketch.n = buffer.getLong();
+            sketch.min = buffer.getDouble();
+            sketch.max = buffer.getDouble();
+            sketch.compactions = buffer.getInt();
+            int levelCount = buffer.get() & 0xFF;
+            sketch.levels = new float[Math.max(1, levelCount)][];
+            sketch.sizes = new int[sketch.levels.length];
+            sketch.levels[0] = new float[MIN_LEVEL_CAPACITY];
+            for (int level = 0; level < levelCount; level++) {
+                int size = buffer.getInt();
+                if (size < 0 || size > buffer.remaining() / Float.BYTES) {
+                    throw new IllegalArgumentException("잘못된 스케치 데이터입니다.");
+                }
+                float[] items = new float[Math.max(MIN_LEVEL_CAPACITY, size)];
+                for (int i = 0; i < size; i++) {
+                    items[i] = buffer.getFloat();
+                }
+                sketch.levels[level] = items;
+                sketch.sizes[level] = size;
+            }
+            return sketch;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("잘못된 스케치 데이터입니다.", e);
+        }
+    }
+
+    private void append(int level, float item) {
+        if (level >= levels.length) {
+            int height = levels.length;
+            levels = Arrays.copyOf(levels, level + 1);
+            sizes = Arrays.copyOf(sizes, level + 1);
+            for (int added = height; added <= level; added++) {
+                levels[added] = new float[MIN_LEVEL_CAPACITY];
+            }
+        }
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+        }
+        levels[level][sizes[level]++] = item;
+    }
+
+    /**
+     * 높이 level의 용량 (맨 윗단이 k, 한 단 내려갈 때마다 2/3배, 최소 8)
+     */
+    private int capacity(int level) {
+        int depth = levels.length - 1 - level;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+    }
+
+    private void compressIfNeeded() {
+        while (true) {
+            int retained = 0;
+            int totalCapacity = 0;
+            for (int level = 0; level < levels.length; level++) {
+                retained += sizes[level];
+                totalCapacity += capacity(level);
+            }
+            if (retained <= totalCapacity) {
+                return;
+            }
+            // 전체 용량을 넘었으면 용량을 넘은 가장 낮은 압축기가 반드시 있음
+            int level = 0;
+            while (sizes[level] < capacity(level)) {
+                level++;
+            }
+            compact(level);
+        }
+    }
+
+    /**
+     * 높이 level을 정렬한 뒤 한 칸씩 건너 절반을 윗단으로 올림 (개수가 홀수면 가장 큰 값 하나는 남김)
+     */
+    private void compact(int level) {
+        float[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+        int even = size & ~1;
+        int offset = compactions++ & 1;
+        for (int i = offset; i < even; i += 2) {
+            append(level + 1, items[i]);
+        }
+        if (size != even) {
+            items[0] = items[size - 1];
+            sizes[level] = 1;
+        } else {
+            sizes[level] = 0;
+        }
+    }
+
+    private void invalidate() {
+        sortedItems = null;
+        cumulativeWeights = null;
+    }
+
+    /**
+     * 모든 높이의 값을 (값, 높이)로 묶어 한 번에 정렬하고 누적 가중치 계산
+     */
+    private void ensureSortedView() {
+        if (sortedItems != null) {
+            return;
+        }
+        int retained = retainedItems();
+        long[] packed = new long[retained];
+        int index = 0;
+        for (int level = 0; level < levels.length; level++) {
+            for (int i = 0; i < sizes[level]; i++) {
+                packed[index++] = ((long) sortableBits(levels[level][i]) << 8) | level;
+            }
+        }
+        Arrays.sort(packed);
+
+        float[] items = new float[retained];
+        long[] cumulative = new long[retained];
+        long weight = 0;
+        for (int i = 0; i < retained; i++) {
+            items[i] = fromSortableBits((int) (packed[i] >> 8));
+            weight += 1L << (packed[i] & 0xFF);
+            cumulative[i] = weight;
+        }
+        this.sortedItems = items;
+        this.cumulativeWeights = cumulative;
+    }
+
+    /**
+     * float 순서와 같은 순서의 int (음수는 부호 비트 외의 비트를 뒤집음)
+     */
+    private static int sortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+    }
+
+    private static float fromSortableBits(int sortable) {
+        return Float.intBitsToFloat(sortable ^ ((sortable >> 31) & 0x7FFFFFFF));
+    }
+}
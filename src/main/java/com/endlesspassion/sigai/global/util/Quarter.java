@@ -0,0 +1,265 @@
+package com.endlesspassion.sigai.global.util;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 분기 값 타입 (연도 * 4 + (분기 - 1)을 int 하나로 표현)
+ *
+ * 서비스마다 분기 문자열 형식이 달라서 생기던 문제를 한 곳에서 처리한다.
+ * - 서울시 공공 데이터(MongoDB): "YYYYQ" (예: "20241") → {@link #mongoKey()}
+ * - 분석 API 요청/응답: "YYYYQQ" (예: "202401") → {@link #code()}
+ * - {@link #parse(String)}는 두 형식을 모두 받는다.
+ *
+ * 다음/이전/n분기 이동, 분기 간 차이는 정수 연산 한 번이고,
+ * 1990~2099년 분기는 미리 만들어 둔 인스턴스와 문자열을 재사용하므로 요청마다 포맷팅/파싱 객체를 만들지 않는다.
+ */
+public final class Quarter implements Comparable<Quarter> {
+
+    private static final int CACHE_FROM_YEAR = 1990;
+    private static final int CACHE_TO_YEAR = 2099;
+    private static final Quarter[] CACHE = new Quarter[(CACHE_TO_YEAR - CACHE_FROM_YEAR + 1) * 4];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Quarter(CACHE_FROM_YEAR * 4 + i);
+        }
+    }
+
+    private final int packed;
+    private final String mongoKey;
+    private final String code;
+
+    private Quarter(int packed) {
+        this.packed = packed;
+        int year = packed >> 2;
+        int quarter = (packed & 3) + 1;
+        this.mongoKey = (year + String.valueOf(quarter)).intern();
+        this.code = (year + "0" + quarter).intern();
+    }
+
+    /**
+     * @param year 연도 (1000~9999)
+     * @param quarter 분기 (1~4)
+     */
+    public static Quarter of(int year, int quarter) {
+        if (year < 1000 || year > 9999) {
+            throw new IllegalArgumentException("연도는 4자리여야 합니다: " + year);
+        }
+        if (quarter < 1 || quarter > 4) {
+            throw new IllegalArgumentException("잘못된 분기 번호입니다: " + quarter);
+        }
+        return ofPacked(year * 4 + quarter - 1);
+    }
+
+    /**
+     * {@link #packed()} 값으로 분기 생성
+     */
+    public static Quarter ofPacked(int packed) {
+        int index = packed - CACHE_FROM_YEAR * 4;
+        if (index >= 0 && index < CACHE.length) {
+            return CACHE[index];
+        }
+        if (packed < 1000 * 4 || packed > 9999 * 4 + 3) {
+            throw new IllegalArgumentException("연도는 4자리여야 합니다: " + (packed >> 2));
+        }
+        return new Quarter(packed);
+    }
+
+    /**
+     * 월이 속한 분기 (1~3월 → 1분기, 4~6월 → 2분기, 7~9월 → 3분기, 10~12월 → 4분기)
+     */
+    public static Quarter ofMonth(int year, int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("잘못된 월입니다: " + month);
+        }
+        return of(year, (month - 1) / 3 + 1);
+    }
+
+    /**
+     * "YYYYQ"(예: "20241") 또는 "YYYYQQ"(예: "202401") 형식의 분기 코드 파싱
+     */
+    public static Quarter parse(String value) {
+        if (value == null || (value.length() != 5 && value.length() != 6)) {
+            throw new IllegalArgumentException("분기 형식은 YYYYQ (예: 20241) 또는 YYYYQQ (예: 202401)이어야 합니다: " + value);
+        }
+        int year = 0;
+        for (int i = 0; i < 4; i++) {
+            year = year * 10 + digitAt(value, i);
+        }
+        if (value.length() == 6 && digitAt(value, 4) != 0) {
+            throw new IllegalArgumentException("잘못된 분기 번호입니다: " + value);
+        }
+        return of(year, digitAt(value, value.length() - 1));
+    }
+
+    /**
+     * 분기 코드 목록을 MongoDB 공공 데이터 키("YYYYQ") 목록으로 변환 (순서 유지)
+     */
+    public static List<String> mongoKeys(List<String> values) {
+        List<String> keys = new ArrayList<>(values.size());
+        for (String value : values) {
+            keys.add(parse(value).mongoKey());
+        }
+        return keys;
+    }
+
+    /**
+     * from부터 to까지(양 끝 포함) 과거 → 최신 순서의 분기 목록 (원소를 미리 만들지 않는 읽기 전용 뷰)
+     */
+    public static List<Quarter> rangeClosed(Quarter from, Quarter to) {
+        int size = from.until(to) + 1;
+        if (size < 0) {
+            throw new IllegalArgumentException("시작 분기가 끝 분기보다 늦습니다: " + from + " ~ " + to);
+        }
+        return new Range(from.packed, size);
+    }
+
+    /**
+     * 이 분기를 마지막으로 하는 최근 count개 분기 (과거 → 최신 순서)
+     */
+    public List<Quarter> lastQuarters(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("분기 수는 1 이상이어야 합니다: " + count);
+        }
+        return rangeClosed(minus(count - 1), this);
+    }
+
+    public int year() {
+        return packed >> 2;
+    }
+
+    /**
+     * @return 분기 번호 (1~4)
+     */
+    public int quarter() {
+        return (packed & 3) + 1;
+    }
+
+    /**
+     * 연도 * 4 + (분기 - 1) (정렬/배열 인덱스용)
+     */
+    public int packed() {
+        return packed;
+    }
+
+    public Quarter next() {
+        return plus(1);
+    }
+
+    public Quarter previous() {
+        return plus(-1);
+    }
+
+    public Quarter plus(int quarters) {
+        return ofPacked(Math.addExact(packed, quarters));
+    }
+
+    public Quarter minus(int quarters) {
+        return ofPacked(Math.subtractExact(packed, quarters));
+    }
+
+    /**
+     * other - this (분기 수, other가 과거면 음수)
+     */
+    public int until(Quarter other) {
+        return other.packed - packed;
+    }
+
+    public boolean isAfter(Quarter other) {
+        return packed > other.packed;
+    }
+
+    public boolean isBefore(Quarter other) {
+        return packed < other.packed;
+    }
+
+    /**
+     * @return 분기의 첫 월 (1, 4, 7, 10)
+     */
+    public int firstMonth() {
+        return (packed & 3) * 3 + 1;
+    }
+
+    /**
+     * @return 분기의 마지막 월 (3, 6, 9, 12)
+     */
+    public int lastMonth() {
+        return (packed & 3) * 3 + 3;
+    }
+
+    /**
+     * @return 분기 마지막 월의 YYYYMM (예: 2024년 1분기 → 202403)
+     */
+    public int lastYearMonth() {
+        return year() * 100 + lastMonth();
+    }
+
+    /**
+     * @return MongoDB 공공 데이터 분기 키 "YYYYQ" (예: "20241")
+     */
+    public String mongoKey() {
+        return mongoKey;
+    }
+
+    /**
+     * @return 분석 API 분기 코드 "YYYYQQ" (예: "202401")
+     */
+    public String code() {
+        return code;
+    }
+
+    @Override
+    public int compareTo(Quarter other) {
+        return Integer.compare(packed, other.packed);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Quarter quarter && quarter.packed == packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return packed;
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+
+    private static int digitAt(String value, int index) {
+        int digit = value.charAt(index) - '0';
+        if (digit < 0 || digit > 9) {
+            throw new IllegalArgumentException("분기 코드는 숫자여야 합니다: " + value);
+        }
+        return digit;
+    }
+
+    private static final class Range extends AbstractList<Quarter> implements RandomAccess {
+
+        private final int fromPacked;
+        private final int size;
+
+        private Range(int fromPacked, int size) {
+            this.fromPacked = fromPacked;
+            this.size = size;
+        }
+
+        @Override
+        public Quarter get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("분기 범위를 벗어났습니다: " + index);
+            }
+            return ofPacked(fromPacked + index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
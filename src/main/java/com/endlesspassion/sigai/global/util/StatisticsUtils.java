@@ -1,4 +1,443 @@
 package com.endlesspassion.sigai.global.util;
 
-public class StatisticsUtils {
+/**
+ * 분석 지표용 단일 패스 통계 계산기
+ *
+ * - 모든 계산은 primitive double[] 위에서 한 번만 순회하며, 박싱/스트림/중간 배열을 만들지 않는다.
+ * - (values, start, length) 형태의 메서드는 인덱스를 values.length로 나눈 나머지로 읽으므로
+ *   일반 배열(start = 0)과 링 버퍼(start = 가장 오래된 위치) 모두에 그대로 쓸 수 있다.
+ * - NaN은 결측값으로 보고 건너뛴다. (분기 데이터가 없는 경우)
+ * - 시계열 값은 과거 → 최신 순서로 넘긴다. 기울기의 x축은 배열 내 위치(0, 1, 2, ...)다.
+ */
+public final class StatisticsUtils {
+
+    /**
+     * 유의수준 5% 양측 검정의 t 임계값 (자유도 1~30)
+     */
+    private static final double[] T_CRITICAL_95 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+    private static final double Z_CRITICAL_95 = 1.960;
+
+    private StatisticsUtils() {
+    }
+
+    /**
+     * 추세 방향
+     */
+    public enum Trend {
+        INCREASING, DECREASING, STABLE
+    }
+
+    /**
+     * 최소제곱 회귀 결과
+     *
+     * @param count 결측값을 제외한 관측치 수
+     * @param slope 기울기 (위치 1칸당 변화량)
+     * @param intercept 절편 (위치 0에서의 추정값)
+     * @param standardError 기울기의 표준 오차 (관측치가 3개 미만이면 NaN)
+     */
+    public record LinearTrend(int count, double slope, double intercept, double standardError) {
+
+        /**
+         * 기울기의 t 통계량 (표준 오차가 0이면 기울기 부호에 따라 ±Infinity)
+         */
+        public double tStatistic() {
+            if (Double.isNaN(standardError)) {
+                return Double.NaN;
+            }
+            if (standardError == 0) {
+                return slope == 0 ? 0 : Math.copySign(Double.POSITIVE_INFINITY, slope);
+            }
+            return slope / standardError;
+        }
+
+        /**
+         * 기울기가 0과 유의하게 다른지 (유의수준 5% 양측 검정)
+         */
+        public boolean isSignificant() {
+            double t = tStatistic();
+            return !Double.isNaN(t) && Math.abs(t) >= tCritical95(count - 2);
+        }
+
+        /**
+         * 유의한 기울기면 방향을, 아니면 STABLE을 반환
+         *
+         * @param minTotalChange 관측 구간 전체 변화량(|기울기| * (관측치 수 - 1))이 이 값 미만이면 유의해도 STABLE
+         */
+        public Trend classify(double minTotalChange) {
+            if (!isSignificant() || Math.abs(slope) * (count - 1) < minTotalChange) {
+                return Trend.STABLE;
+            }
+            return slope > 0 ? Trend.INCREASING : Trend.DECREASING;
+        }
+    }
+
+    /**
+     * Welford 알고리즘 기반 누적 평균/분산 (값을 하나씩 추가, 객체 재사용 가능)
+     */
+    public static final class RunningStats {
+
+        private int count;
+        private double mean;
+        private double m2;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        /**
+         * 값 추가 (NaN은 무시)
+         */
+        public RunningStats add(double value) {
+            if (Double.isNaN(value)) {
+                return this;
+            }
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            return this;
+        }
+
+        public void reset() {
+            count = 0;
+            mean = 0;
+            m2 = 0;
+            min = Double.POSITIVE_INFINITY;
+            max = Double.NEGATIVE_INFINITY;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /**
+         * 평균 (값이 없으면 NaN)
+         */
+        public double mean() {
+            return count > 0 ? mean : Double.NaN;
+        }
+
+        /**
+         * 표본 분산 (n - 1로 나눔, 값이 2개 미만이면 NaN)
+         */
+        public double variance() {
+            return count > 1 ? m2 / (count - 1) : Double.NaN;
+        }
+
+        /**
+         * 표본 표준편차 (값이 2개 미만이면 NaN)
+         */
+        public double stdDev() {
+            return Math.sqrt(variance());
+        }
+
+        public double min() {
+            return count > 0 ? min : Double.NaN;
+        }
+
+        public double max() {
+            return count > 0 ? max : Double.NaN;
+        }
+    }
+
+    /**
+     * 고정 크기 링 버퍼 (가득 차면 가장 오래된 값을 덮어씀)
+     *
+     * 최근 N개 분기처럼 슬라이딩 윈도우 통계를 배열 복사 없이 계산할 때 사용한다.
+     */
+    public static final class DoubleRingBuffer {
+
+        private final double[] values;
+        private int start;
+        private int size;
+
+        public DoubleRingBuffer(int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("링 버퍼 크기는 1 이상이어야 합니다.");
+            }
+            this.values = new double[capacity];
+        }
+
+        public void add(double value) {
+            if (size < values.length) {
+                values[(start + size) % values.length] = value;
+                size++;
+            } else {
+                values[start] = value;
+                start = (start + 1) % values.length;
+            }
+        }
+
+        /**
+         * 과거 → 최신 순서의 index번째 값
+         */
+        public double get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IllegalArgumentException("링 버퍼 범위를 벗어났습니다: " + index);
+            }
+            return values[(start + index) % values.length];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int capacity() {
+            return values.length;
+        }
+
+        public double mean() {
+            return StatisticsUtils.mean(values, start, size);
+        }
+
+        public double variance() {
+            return StatisticsUtils.variance(values, start, size);
+        }
+
+        public double slope() {
+            return StatisticsUtils.slope(values, start, size);
+        }
+
+        public LinearTrend linearTrend() {
+            return StatisticsUtils.linearTrend(values, start, size);
+        }
+
+        public double ewma(double alpha) {
+            return StatisticsUtils.ewma(values, start, size, alpha);
+        }
+    }
+
+    public static double mean(double[] values) {
+        return mean(values, 0, values.length);
+    }
+
+    /**
+     * 평균 (결측값 제외, 값이 없으면 NaN)
+     */
+    public static double mean(double[] values, int start, int length) {
+        checkRange(values, start, length);
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            double value = values[(start + i) % values.length];
+            if (!Double.isNaN(value)) {
+                sum += value;
+                count++;
+            }
+        }
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    public static double variance(double[] values) {
+        return variance(values, 0, values.length);
+    }
+
+    /**
+     * 표본 분산 (Welford, 결측값 제외, 값이 2개 미만이면 NaN)
+     */
+    public static double variance(double[] values, int start, int length) {
+        checkRange(values, start, length);
+        int count = 0;
+        double mean = 0;
+        double m2 = 0;
+        for (int i = 0; i < length; i++) {
+            double value = values[(start + i) % values.length];
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+        return count > 1 ? m2 / (count - 1) : Double.NaN;
+    }
+
+    public static double stdDev(double[] values) {
+        return Math.sqrt(variance(values));
+    }
+
+    /**
+     * 변동계수(%) = 표본 표준편차 / |평균| * 100 (평균이 0이거나 값이 2개 미만이면 NaN)
+     */
+    public static double coefficientOfVariation(double[] values) {
+        double mean = mean(values);
+        if (Double.isNaN(mean) || mean == 0) {
+            return Double.NaN;
+        }
+        return Math.sqrt(variance(values)) / Math.abs(mean) * 100;
+    }
+
+    public static double slope(double[] values) {
+        return slope(values, 0, values.length);
+    }
+
+    /**
+     * 최소제곱 기울기 (결측값 제외, 값이 2개 미만이면 NaN)
+     */
+    public static double slope(double[] values, int start, int length) {
+        checkRange(values, start, length);
+        int count = 0;
+        double meanX = 0;
+        double meanY = 0;
+        double sxx = 0;
+        double sxy = 0;
+        for (int i = 0; i < length; i++) {
+            double y = values[(start + i) % values.length];
+            if (Double.isNaN(y)) {
+                continue;
+            }
+            count++;
+            double dx = i - meanX;
+            meanX += dx / count;
+            meanY += (y - meanY) / count;
+            sxx += dx * (i - meanX);
+            sxy += dx * (y - meanY);
+        }
+        return count > 1 && sxx > 0 ? sxy / sxx : Double.NaN;
+    }
+
+    public static LinearTrend linearTrend(double[] values) {
+        return linearTrend(values, 0, values.length);
+    }
+
+    /**
+     * 최소제곱 회귀 (기울기, 절편, 기울기 표준 오차)를 한 번의 순회로 계산
+     *
+     * 공분산을 Welford 방식으로 누적하므로 매출처럼 큰 값에서도 소거 오차가 작다.
+     */
+    public static LinearTrend linearTrend(double[] values, int start, int length) {
+        checkRange(values, start, length);
+        int count = 0;
+        double meanX = 0;
+        double meanY = 0;
+        double sxx = 0;
+        double syy = 0;
+        double sxy = 0;
+        for (int i = 0; i < length; i++) {
+            double y = values[(start + i) % values.length];
+            if (Double.isNaN(y)) {
+                continue;
+            }
+            count++;
+            double dx = i - meanX;
+            double dy = y - meanY;
+            meanX += dx / count;
+            meanY += dy / count;
+            sxx += dx * (i - meanX);
+            syy += dy * (y - meanY);
+            sxy += dx * (y - meanY);
+        }
+        if (count < 2 || sxx == 0) {
+            return new LinearTrend(count, Double.NaN, Double.NaN, Double.NaN);
+        }
+        double slope = sxy / sxx;
+        double intercept = meanY - slope * meanX;
+        double standardError = Double.NaN;
+        if (count > 2) {
+            double residual = Math.max(0, syy - slope * sxy);
+            standardError = Math.sqrt(residual / (count - 2) / sxx);
+        }
+        return new LinearTrend(count, slope, intercept, standardError);
+    }
+
+    public static double ewma(double[] values, double alpha) {
+        return ewma(values, 0, values.length, alpha);
+    }
+
+    /**
+     * 지수가중이동평균의 마지막 값 (첫 유효값으로 초기화, 결측값은 건너뜀, 값이 없으면 NaN)
+     *
+     * @param alpha 최신 값 가중치 (0 < alpha <= 1)
+     */
+    public static double ewma(double[] values, int start, int length, double alpha) {
+        checkRange(values, start, length);
+        if (!(alpha > 0 && alpha <= 1)) {
+            throw new IllegalArgumentException("alpha는 0보다 크고 1 이하여야 합니다: " + alpha);
+        }
+        double smoothed = Double.NaN;
+        for (int i = 0; i < length; i++) {
+            double value = values[(start + i) % values.length];
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            smoothed = Double.isNaN(smoothed) ? value : smoothed + alpha * (value - smoothed);
+        }
+        return smoothed;
+    }
+
+    /**
+     * 정렬된 sorted[0, count)의 p 분위수 (선형 보간, 값이 없으면 NaN)
+     *
+     * @param p 0 ~ 1 (0.5 = 중앙값)
+     */
+    public static double quantileSorted(double[] sorted, int count, double p) {
+        if (p < 0 || p > 1 || Double.isNaN(p)) {
+            throw new IllegalArgumentException("분위는 0~1 사이여야 합니다: " + p);
+        }
+        checkRange(sorted, 0, count);
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double position = p * (count - 1);
+        int lower = (int) position;
+        if (lower >= count - 1) {
+            return sorted[count - 1];
+        }
+        double fraction = position - lower;
+        return sorted[lower] + (sorted[lower + 1] - sorted[lower]) * fraction;
+    }
+
+    /**
+     * 표준 점수 (표준편차가 0이거나 NaN이면 NaN)
+     */
+    public static double zScore(double value, double mean, double stdDev) {
+        if (Double.isNaN(stdDev) || stdDev == 0) {
+            return Double.NaN;
+        }
+        return (value - mean) / stdDev;
+    }
+
+    /**
+     * values 분포 기준 value의 표준 점수 (평균/표준편차를 한 번의 순회로 계산)
+     */
+    public static double zScore(double[] values, double value) {
+        checkRange(values, 0, values.length);
+        int count = 0;
+        double mean = 0;
+        double m2 = 0;
+        for (double v : values) {
+            if (Double.isNaN(v)) {
+                continue;
+            }
+            count++;
+            double delta = v - mean;
+            mean += delta / count;
+            m2 += delta * (v - mean);
+        }
+        return count > 1 ? zScore(value, mean, Math.sqrt(m2 / (count - 1))) : Double.NaN;
+    }
+
+    /**
+     * 유의수준 5% 양측 검정의 t 임계값 (자유도 30 초과는 정규분포 근사, 1 미만이면 NaN)
+     */
+    public static double tCritical95(int degreesOfFreedom) {
+        if (degreesOfFreedom < 1) {
+            return Double.NaN;
+        }
+        return degreesOfFreedom <= T_CRITICAL_95.length
+                ? T_CRITICAL_95[degreesOfFreedom - 1]
+                : Z_CRITICAL_95;
+    }
+
+    private static void checkRange(double[] values, int start, int length) {
+        if (length < 0 || (length > 0 && (start < 0 || start >= values.length)) || length > values.length) {
+            throw new IllegalArgumentException(
+                    "잘못된 범위입니다: start=" + start + ", length=" + length + ", size=" + values.length);
+        }
+    }
 }
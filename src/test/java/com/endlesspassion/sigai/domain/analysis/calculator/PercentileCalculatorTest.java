@@ -0,0 +1,32 @@
+package com.endlesspassion.sigai.domain.analysis.calculator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("퍼센타일 계산기 테스트")
+class PercentileCalculatorTest {
+
+    private static final double[] DISTRIBUTION = {1, 2, 3, 4, 5};
+
+    @Test
+    @DisplayName("분위 값은 인접한 두 값 사이를 선형 보간한다")
+    void percentile_interpolates() {
+        assertThat(PercentileCalculator.percentile(DISTRIBUTION, 50)).isEqualTo(3.0);
+        assertThat(PercentileCalculator.percentile(DISTRIBUTION, 90)).isCloseTo(4.6, within(1e-9));
+        assertThat(PercentileCalculator.percentiles(DISTRIBUTION, 0, 25, 100)).containsExactly(1.0, 2.0, 5.0);
+        assertThat(PercentileCalculator.percentRank(DISTRIBUTION, 3.5)).isEqualTo(62.5);
+    }
+
+    @Test
+    @DisplayName("상위 퍼센트는 순위 / 전체 * 100을 소수점 첫째 자리로 반올림한다")
+    void topPercentile_rounds() {
+        assertThat(PercentileCalculator.topPercentile(3, 10)).isEqualTo(30.0);
+        assertThat(PercentileCalculator.topPercentile(1, 3)).isEqualTo(33.3);
+        assertThatThrownBy(() -> PercentileCalculator.topPercentile(1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
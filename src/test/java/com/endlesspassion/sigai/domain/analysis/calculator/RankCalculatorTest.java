@@ -0,0 +1,42 @@
+package com.endlesspassion.sigai.domain.analysis.calculator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("매출 순위 계산기 테스트")
+class RankCalculatorTest {
+
+    @Test
+    @DisplayName("나보다 매출이 큰 매장 수 + 1이 순위이고, 동점은 같은 순위다")
+    void rank_withTies() {
+        // given
+        double[] distribution = RankCalculator.toDistribution(new double[]{50, 40, 40, 30, Double.NaN, 10});
+
+        // when & then
+        assertThat(distribution).containsExactly(10, 30, 40, 40, 50);
+        assertThat(RankCalculator.rank(distribution, 60)).isEqualTo(1);
+        assertThat(RankCalculator.rank(distribution, 40)).isEqualTo(2);
+        assertThat(RankCalculator.rank(distribution, 35)).isEqualTo(4);
+        assertThat(RankCalculator.rank(distribution, 5)).isEqualTo(6);
+        assertThat(RankCalculator.rank(new double[0], 5)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 매출의 순위를 한 번에 계산해도 하나씩 계산한 결과와 같다")
+    void rankAll_sameAsSingleRank() {
+        // given
+        double[] distribution = RankCalculator.toDistribution(new double[]{50, 40, 40, 30, 10});
+        double[] revenues = {35, 60, 40, 5, 40};
+
+        // when
+        int[] ranks = RankCalculator.rankAll(distribution, revenues);
+
+        // then
+        assertThat(ranks).containsExactly(4, 1, 2, 6, 2);
+        for (int i = 0; i < revenues.length; i++) {
+            assertThat(ranks[i]).isEqualTo(RankCalculator.rank(distribution, revenues[i]));
+        }
+    }
+}
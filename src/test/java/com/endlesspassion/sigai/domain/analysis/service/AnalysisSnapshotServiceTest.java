@@ -0,0 +1,93 @@
+package com.endlesspassion.sigai.domain.analysis.service;
+
+import com.endlesspassion.sigai.domain.analysis.document.StoreAnalysisSnapshot;
+import com.endlesspassion.sigai.domain.analysis.dto.request.MarketAnalysisReq;
+import com.endlesspassion.sigai.domain.analysis.dto.response.MarketAnalysisRes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상권 분석 사전 계산 결과 서비스 테스트")
+class AnalysisSnapshotServiceTest {
+
+    @Mock
+    private MarketAnalysisService marketAnalysisService;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private AnalysisSnapshotService analysisSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(analysisSnapshotService, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("최신 결과가 있으면 분석하지 않고 저장된 JSON을 그대로 반환한다")
+    void getAnalysis_freshSnapshot() {
+        // given
+        StoreAnalysisSnapshot snapshot = snapshot(3L, 3L, "{\"storeId\":1}");
+        when(mongoTemplate.findById("1:202401:8", StoreAnalysisSnapshot.class)).thenReturn(snapshot);
+
+        // when
+        String result = analysisSnapshotService.getAnalysis(1L, "20241", 8);
+
+        // then
+        assertThat(result).isEqualTo("{\"storeId\":1}");
+        verify(marketAnalysisService, never()).analyze(any());
+    }
+
+    @Test
+    @DisplayName("무효화된 결과는 다시 계산하고, 계산 중 다시 무효화되어 저장이 실패해도 계산 결과로 응답한다")
+    void getAnalysis_staleSnapshot() throws Exception {
+        // given
+        StoreAnalysisSnapshot snapshot = snapshot(4L, 3L, "{\"old\":true}");
+        MarketAnalysisRes res = mock(MarketAnalysisRes.class);
+        when(mongoTemplate.findById("1:202401:8", StoreAnalysisSnapshot.class)).thenReturn(snapshot);
+        when(marketAnalysisService.analyze(any(MarketAnalysisReq.class))).thenReturn(res);
+        when(objectMapper.writeValueAsString(res)).thenReturn("{\"new\":true}");
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(StoreAnalysisSnapshot.class)))
+                .thenThrow(new DuplicateKeyException("generation changed"));
+
+        // when
+        String result = analysisSnapshotService.getAnalysis(1L, "202401", 8);
+
+        // then
+        assertThat(result).isEqualTo("{\"new\":true}");
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(StoreAnalysisSnapshot.class));
+    }
+
+    private StoreAnalysisSnapshot snapshot(long generation, long version, String payload) {
+        StoreAnalysisSnapshot snapshot = new StoreAnalysisSnapshot();
+        snapshot.setId("1:202401:8");
+        snapshot.setStoreId(1L);
+        snapshot.setGeneration(generation);
+        snapshot.setVersion(version);
+        snapshot.setPayload(payload);
+        return snapshot;
+    }
+}
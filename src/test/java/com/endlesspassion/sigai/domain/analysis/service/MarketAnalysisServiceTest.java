@@ -1,35 +1,51 @@
 package com.endlesspassion.sigai.domain.analysis.service;
 
+import com.endlesspassion.sigai.domain.analysis.dto.request.BatchAnalysisReq;
 import com.endlesspassion.sigai.domain.analysis.dto.request.MarketAnalysisReq;
+import com.endlesspassion.sigai.domain.analysis.dto.response.AnalysisStreamEvent;
+import com.endlesspassion.sigai.domain.analysis.dto.response.BatchAnalysisRes;
 import com.endlesspassion.sigai.domain.analysis.dto.response.ClosedComparison;
 import com.endlesspassion.sigai.domain.analysis.dto.response.MarketAnalysisRes;
 import com.endlesspassion.sigai.domain.analysis.dto.response.RevenueComparison;
-import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
 import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import com.endlesspassion.sigai.domain.publicdata.dto.PublicMarketDataBundle;
+import com.endlesspassion.sigai.domain.publicdata.service.MarketForecastService;
 import com.endlesspassion.sigai.domain.publicdata.service.PublicDataService;
+import com.endlesspassion.sigai.domain.publicdata.service.ReactivePublicDataService;
 import com.endlesspassion.sigai.domain.store.entity.Store;
 import com.endlesspassion.sigai.domain.store.entity.StoreRevenue;
+import com.endlesspassion.sigai.domain.store.repository.QuarterlyRevenue;
 import com.endlesspassion.sigai.domain.store.repository.StoreRepository;
 import com.endlesspassion.sigai.domain.store.repository.StoreRevenueRepository;
 import com.endlesspassion.sigai.global.common.enums.ServiceArea;
 import com.endlesspassion.sigai.global.common.enums.ServiceIndustry;
+import com.endlesspassion.sigai.global.util.Quarter;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,7 +70,14 @@ class MarketAnalysisServiceTest {
     @Mock
     private PublicDataService publicDataService;
 
-    @InjectMocks
+    @Mock
+    private ReactivePublicDataService reactivePublicDataService;
+
+    @Mock
+    private MarketForecastService marketForecastService;
+
+    private ExecutorService analysisExecutor;
+
     private MarketAnalysisService marketAnalysisService;
 
     private Store mockStore;
@@ -63,6 +86,18 @@ class MarketAnalysisServiceTest {
 
     @BeforeEach
     void setUp() {
+        analysisExecutor = Executors.newFixedThreadPool(2);
+        marketAnalysisService = new MarketAnalysisService(
+                storeRepository,
+                storeRevenueRepository,
+                revenueComparisonService,
+                populationComparisonService,
+                closedComparisonService,
+                reactivePublicDataService,
+                publicDataService,
+                marketForecastService,
+                analysisExecutor);
+
         // 가게 정보 Mock
         mockStore = Store.builder()
                 .id(1L)
@@ -92,16 +127,16 @@ class MarketAnalysisServiceTest {
     void analyze_Success() {
         // Given
         when(storeRepository.findById(1L)).thenReturn(Optional.of(mockStore));
-        when(storeRevenueRepository.findByStoreOrderByYearDescMonthDesc(mockStore))
-                .thenReturn(mockStoreRevenues);
+        when(storeRevenueRepository.sumQuarterlyRevenue(anyList(), any(Quarter.class), any(Quarter.class)))
+                .thenReturn(toQuarterlyRevenues(mockStoreRevenues));
 
         // 매출 비교 서비스 Mock
         RevenueComparison mockRevenueComparison = createMockRevenueComparison();
         when(revenueComparisonService.analyze(anyList(), anyString(), anyString(), anyList()))
                 .thenReturn(mockRevenueComparison);
 
-        // 인구 비교 서비스 Mock (빈 껍데기)
-        when(populationComparisonService.analysis()).thenReturn(null);
+        // 인구 비교 서비스 Mock
+        when(populationComparisonService.analyze(anyList(), anyString())).thenReturn(null);
 
         // 폐업률 비교 서비스 Mock
         ClosedComparison mockClosedComparison = createMockClosedComparison();
@@ -128,7 +163,7 @@ class MarketAnalysisServiceTest {
         assertThat(result.getClosedComparison().getAverageClosedRate()).isEqualTo(12.5);
         assertThat(result.getClosedComparison().getTrend()).isEqualTo("INCREASING");
 
-        // 인구 비교 데이터 검증 (빈 껍데기)
+        // 인구 비교 데이터 검증
         assertThat(result.getPopulationComparison()).isNull();
     }
 
@@ -149,8 +184,9 @@ class MarketAnalysisServiceTest {
     void analyze_NoRevenueData() {
         // Given
         when(storeRepository.findById(1L)).thenReturn(Optional.of(mockStore));
-        when(storeRevenueRepository.findByStoreOrderByYearDescMonthDesc(mockStore))
-                .thenReturn(List.of()); // 빈 리스트
+        when(storeRevenueRepository.sumQuarterlyRevenue(anyList(), any(Quarter.class), any(Quarter.class)))
+                .thenReturn(List.of()); // 분석 기간 매출 없음
+        when(storeRevenueRepository.existsByStore(mockStore)).thenReturn(false); // 매출 데이터 자체가 없음
 
         // When & Then
         assertThatThrownBy(() -> marketAnalysisService.analyze(analysisReq))
@@ -163,14 +199,14 @@ class MarketAnalysisServiceTest {
     void analyze_QuarterCalculation() {
         // Given
         when(storeRepository.findById(1L)).thenReturn(Optional.of(mockStore));
-        when(storeRevenueRepository.findByStoreOrderByYearDescMonthDesc(mockStore))
-                .thenReturn(mockStoreRevenues);
+        when(storeRevenueRepository.sumQuarterlyRevenue(anyList(), any(Quarter.class), any(Quarter.class)))
+                .thenReturn(toQuarterlyRevenues(mockStoreRevenues));
 
         RevenueComparison mockRevenueComparison = createMockRevenueComparison();
         when(revenueComparisonService.analyze(anyList(), anyString(), anyString(), anyList()))
                 .thenReturn(mockRevenueComparison);
 
-        when(populationComparisonService.analysis()).thenReturn(null);
+        when(populationComparisonService.analyze(anyList(), anyString())).thenReturn(null);
 
         ClosedComparison mockClosedComparison = createMockClosedComparison();
         when(closedComparisonService.analyze(anyList(), anyString(), anyString()))
@@ -204,14 +240,14 @@ class MarketAnalysisServiceTest {
     void analyze_MonthlyToQuarterlyRevenue() {
         // Given
         when(storeRepository.findById(1L)).thenReturn(Optional.of(mockStore));
-        when(storeRevenueRepository.findByStoreOrderByYearDescMonthDesc(mockStore))
-                .thenReturn(mockStoreRevenues);
+        when(storeRevenueRepository.sumQuarterlyRevenue(anyList(), any(Quarter.class), any(Quarter.class)))
+                .thenReturn(toQuarterlyRevenues(mockStoreRevenues));
 
         RevenueComparison mockRevenueComparison = createMockRevenueComparison();
         when(revenueComparisonService.analyze(anyList(), anyString(), anyString(), anyList()))
                 .thenReturn(mockRevenueComparison);
 
-        when(populationComparisonService.analysis()).thenReturn(null);
+        when(populationComparisonService.analyze(anyList(), anyString())).thenReturn(null);
 
         ClosedComparison mockClosedComparison = createMockClosedComparison();
         when(closedComparisonService.analyze(anyList(), anyString(), anyString()))
@@ -230,6 +266,157 @@ class MarketAnalysisServiceTest {
         assertThat(q202404.getRevenue()).isEqualByComparingTo(new BigDecimal("14700000"));
     }
 
+    @Test
+    @DisplayName("폐업률 분석이 실패해도 빈 폐업률 섹션으로 응답한다")
+    void analyze_ClosedComparisonFails_ReturnsEmptySection() {
+        // Given
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(mockStore));
+        when(storeRevenueRepository.sumQuarterlyRevenue(anyList(), any(Quarter.class), any(Quarter.class)))
+                .thenReturn(toQuarterlyRevenues(mockStoreRevenues));
+        when(revenueComparisonService.analyze(anyList(), anyString(), anyString(), anyList()))
+                .thenReturn(createMockRevenueComparison());
+        when(closedComparisonService.analyze(anyList(), anyString(), anyString()))
+                .thenThrow(new IllegalStateException("MongoDB 연결 실패"));
+
+        // When
+        MarketAnalysisRes result = marketAnalysisService.analyze(analysisReq);
+
+        // Then
+        assertThat(result.getRevenueComparison().getQuarterlyRevenueRanks()).hasSize(8);
+        assertThat(result.getClosedComparison()).isNotNull();
+        assertThat(result.getClosedComparison().getQuarterlyClosedRates()).hasSize(8);
+        assertThat(result.getClosedComparison().getAverageClosedRate()).isNull();
+    }
+
+    @Test
+    @DisplayName("선택 섹션 제한 시간은 제출 시점부터 동시에 흐르므로, 느린 섹션들이 대기 시간을 합산하지 않는다")
+    void analyze_OptionalTimeoutsRunConcurrently() {
+        // Given: 인구/폐업률/예측이 모두 제한 시간(300ms)보다 훨씬 느림
+        analysisExecutor.shutdownNow();
+        analysisExecutor = Executors.newFixedThreadPool(4);
+        ReflectionTestUtils.setField(marketAnalysisService, "analysisExecutor", analysisExecutor);
+        ReflectionTestUtils.setField(marketAnalysisService, "populationTimeoutMs", 300L);
+        ReflectionTestUtils.setField(marketAnalysisService, "closedTimeoutMs", 300L);
+        ReflectionTestUtils.setField(marketAnalysisService, "forecastTimeoutMs", 300L);
+
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(mockStore));
+        when(storeRevenueRepository.sumQuarterlyRevenue(anyList(), any(Quarter.class), any(Quarter.class)))
+                .thenReturn(toQuarterlyRevenues(mockStoreRevenues));
+        when(revenueComparisonService.analyze(anyList(), anyString(), anyString(), anyList()))
+                .thenReturn(createMockRevenueComparison());
+        when(populationComparisonService.analyze(anyList(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(3000);
+            return null;
+        });
+        when(closedComparisonService.analyze(anyList(), anyString(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(3000);
+            return null;
+        });
+        when(marketForecastService.find(anyString(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(3000);
+            return null;
+        });
+
+        // When
+        long startedAt = System.nanoTime();
+        MarketAnalysisRes result = marketAnalysisService.analyze(analysisReq);
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        // Then: 순차 대기였다면 300ms × 3 이상 걸림
+        assertThat(elapsedMs).isLessThan(800);
+        assertThat(result.getRevenueComparison().getQuarterlyRevenueRanks()).hasSize(8);
+        assertThat(result.getClosedComparison().getAverageClosedRate()).isNull();
+        assertThat(result.getForecast()).isNull();
+    }
+
+    @Test
+    @DisplayName("일괄 분석 시 같은 상권/업종 가게들은 공공 데이터를 한 번만 조회한다")
+    void analyzeBatch_LoadsEachMarketOnce() {
+        // Given
+        Store secondStore = Store.builder()
+                .id(2L)
+                .storeName("김씨네 한식당 2호점")
+                .serviceArea(ServiceArea.SA_3110001)
+                .serviceIndustry(ServiceIndustry.CS100001)
+                .gu("종로구")
+                .dong("청운동")
+                .openingDate(LocalDate.of(2023, 1, 1))
+                .isFranchise(false)
+                .build();
+        List<StoreRevenue> allRevenues = new ArrayList<>(mockStoreRevenues);
+        allRevenues.addAll(createMockStoreRevenues(secondStore));
+
+        when(storeRepository.findAllById(any())).thenReturn(List.of(mockStore, secondStore));
+        when(storeRevenueRepository.sumQuarterlyRevenue(anyList(), any(Quarter.class), any(Quarter.class)))
+                .thenReturn(toQuarterlyRevenues(allRevenues));
+        PublicMarketDataBundle bundle = PublicMarketDataBundle.of(
+                "3110001", "CS100001", List.of(), Map.of(), Map.of());
+        when(publicDataService.loadBundle(anyList(), eq("3110001"), eq("CS100001"))).thenReturn(bundle);
+        when(revenueComparisonService.analyze(anyList(), anyList(), eq(bundle)))
+                .thenReturn(createMockRevenueComparison());
+        when(closedComparisonService.analyze(anyList(), eq(bundle)))
+                .thenReturn(createMockClosedComparison());
+
+        BatchAnalysisReq req = BatchAnalysisReq.builder()
+                .storeIds(List.of(1L, 2L, 3L))
+                .quarter("202404")
+                .count(8)
+                .build();
+
+        // When
+        BatchAnalysisRes result = marketAnalysisService.analyzeBatch(req);
+
+        // Then
+        assertThat(result.getResults()).extracting(MarketAnalysisRes::getStoreId).containsExactly(1L, 2L);
+        assertThat(result.getFailures()).extracting(BatchAnalysisRes.Failure::getStoreId).containsExactly(3L);
+        assertThat(result.getMarketCount()).isEqualTo(1);
+        verify(publicDataService, times(1)).loadBundle(anyList(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("스트리밍 분석은 분기별 결과를 과거 → 최신 순서로 보내고 마지막에 요약을 보낸다")
+    void analyzeStream_EmitsQuartersInOrderThenSummary() {
+        // Given: 과거 분기일수록 조회가 늦게 끝나도 순서는 유지되어야 함
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(mockStore));
+        when(storeRevenueRepository.sumQuarterlyRevenue(anyList(), any(Quarter.class), any(Quarter.class)))
+                .thenReturn(toQuarterlyRevenues(mockStoreRevenues));
+        when(reactivePublicDataService.findIndustrySalesByQuarters(anyList(), anyString()))
+                .thenAnswer(invocation -> Mono.just(Map.<String, double[]>of())
+                        .delaySubscription(Duration.ofMillis(
+                                10L * Quarter.parse(invocation.<List<String>>getArgument(0).get(0)).until(Quarter.parse("202404")))));
+        when(reactivePublicDataService.findStoreData(anyString(), anyString(), anyString()))
+                .thenReturn(Mono.empty());
+        when(revenueComparisonService.rankForQuarter(anyString(), anyString(), anyString(), any(), any(), any()))
+                .thenAnswer(invocation -> RevenueComparison.QuarterlyRevenueRank.empty(
+                        invocation.getArgument(0), invocation.getArgument(3)));
+        when(closedComparisonService.calculateClosedRateForQuarter(anyString(), anyString(), anyString(), isNull(), isNull()))
+                .thenAnswer(invocation -> ClosedComparison.QuarterlyClosedRate.empty(invocation.getArgument(0)));
+        when(revenueComparisonService.summarize(anyList(), anyList(), anyList(), isNull()))
+                .thenReturn(createMockRevenueComparison());
+        when(closedComparisonService.summarize(anyList()))
+                .thenReturn(createMockClosedComparison());
+
+        // When
+        List<AnalysisStreamEvent> events = marketAnalysisService.analyzeStream(analysisReq)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(events).hasSize(8 * 2 + 1);
+        assertThat(events).filteredOn(event -> event.getType() == AnalysisStreamEvent.Type.REVENUE_RANK)
+                .extracting(event -> event.getRevenueRank().getQuarter())
+                .containsExactly("202301", "202302", "202303", "202304", "202401", "202402", "202403", "202404");
+        assertThat(events.get(0).getType()).isEqualTo(AnalysisStreamEvent.Type.REVENUE_RANK);
+        assertThat(events.get(1).getType()).isEqualTo(AnalysisStreamEvent.Type.CLOSED_RATE);
+        assertThat(events.get(events.size() - 1).getType()).isEqualTo(AnalysisStreamEvent.Type.SUMMARY);
+        assertThat(events.get(events.size() - 1).getSummary().getStoreName()).isEqualTo("김씨네 한식당");
+    }
+
+    @AfterEach
+    void tearDown() {
+        analysisExecutor.shutdownNow();
+    }
+
     // Mock 데이터 생성 헬퍼 메서드
 
     /**
@@ -259,6 +446,21 @@ class MarketAnalysisServiceTest {
         return revenues;
     }
 
+    /**
+     * 월별 매출을 DB 분기 집계 결과(가게, 연도, 분기별 합계)로 변환
+     */
+    private List<QuarterlyRevenue> toQuarterlyRevenues(List<StoreRevenue> monthlyRevenues) {
+        Map<List<Object>, BigDecimal> sums = new LinkedHashMap<>();
+        for (StoreRevenue revenue : monthlyRevenues) {
+            List<Object> key = List.of(revenue.getStore().getId(), revenue.getYear(), (revenue.getMonth() - 1) / 3 + 1);
+            sums.merge(key, revenue.getMonthlyRevenue(), BigDecimal::add);
+        }
+        List<QuarterlyRevenue> result = new ArrayList<>();
+        sums.forEach((key, sum) -> result.add(
+                new QuarterlyRevenue((Long) key.get(0), (Integer) key.get(1), (Integer) key.get(2), sum)));
+        return result;
+    }
+
     private StoreRevenue createStoreRevenue(Store store, int year, int month, BigDecimal revenue) {
         return StoreRevenue.builder()
                 .store(store)
@@ -0,0 +1,62 @@
+package com.endlesspassion.sigai.domain.analysis.service;
+
+import com.endlesspassion.sigai.domain.analysis.dto.response.PopulationComparison;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
+import com.endlesspassion.sigai.domain.publicdata.service.PublicDataService;
+import com.endlesspassion.sigai.global.util.Quarter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("인구 비교 분석 서비스 테스트")
+class PopulationComparisonServiceTest {
+
+    @Mock
+    private PublicDataService publicDataService;
+
+    @InjectMocks
+    private PopulationComparisonService populationComparisonService;
+
+    @Test
+    @DisplayName("유동/상주/직장인구 추세를 회귀 기울기 유의성으로 판단하고, 값이 없는 분기는 건너뛴다")
+    void analyze_ClassifiesPopulationTrends() {
+        // Given: 8분기 (과거 → 최신) 유동인구는 꾸준히 증가, 상주인구는 제자리, 직장인구는 꾸준히 감소
+        // 2023년 3분기는 상주인구 데이터 없음
+        List<String> quarters = Quarter.parse("202404").lastQuarters(8).stream()
+                .map(Quarter::mongoKey)
+                .toList();
+        List<CompactPopulationData> populations = new ArrayList<>();
+        for (int t = 0; t < quarters.size(); t++) {
+            CompactPopulationData data = new CompactPopulationData();
+            data.setStdrYyquCd(quarters.get(t));
+            data.setTrdarCd("3110001");
+            data.setFloating(List.of(10_000 + 1_000 * t));
+            data.setResident(t == 2 ? null : List.of(t % 2 == 0 ? 5_000 : 5_010));
+            data.setWorking(List.of(8_000 - 300 * t));
+            populations.add(data);
+        }
+        when(publicDataService.findPopulationByQuarters(anyList(), anyString())).thenReturn(populations);
+
+        // When
+        PopulationComparison result = populationComparisonService.analyze(quarters, "3110001");
+
+        // Then
+        assertThat(result.isAvailable()).isTrue();
+        assertThat(result.getFloatingTrend()).isEqualTo("INCREASING");
+        assertThat(result.getResidentTrend()).isEqualTo("STABLE");
+        assertThat(result.getWorkingTrend()).isEqualTo("DECREASING");
+        assertThat(result.getFloatingChangeRate()).isEqualTo(70.0);
+    }
+}
@@ -1,9 +1,10 @@
 package com.endlesspassion.sigai.domain.analysis.service;
 
 import com.endlesspassion.sigai.domain.analysis.dto.response.RevenueComparison;
-import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.analysis.dto.response.RevenueSimulationRes;
 import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
 import com.endlesspassion.sigai.domain.publicdata.service.PublicDataService;
+import com.endlesspassion.sigai.global.util.Quarter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,12 +14,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -64,34 +69,24 @@ class RevenueComparisonServiceTest {
     @DisplayName("매출 순위 계산 - 정상 케이스")
     void analyze_Success() {
         // Given
-        // 202404 분기의 공공 데이터 (총 10개 매장, 내림차순 정렬)
-        List<PublicProfitData> quarter202404Data = createMockProfitData("202404", List.of(
+        // 202404 분기 같은 업종 전체 상권 매출 (총 10개 상권)
+        Map<String, double[]> industrySales = defaultIndustrySales();
+        industrySales.put("20244", new double[]{
                 20000000.0, 18000000.0, 15000000.0, // 사장님 가게: 3위 (상위 30%)
                 14000000.0, 13000000.0, 12000000.0,
                 11000000.0, 10000000.0, 9000000.0, 8000000.0
-        ));
+        });
 
-        // 202403 분기의 공공 데이터
-        List<PublicProfitData> quarter202403Data = createMockProfitData("202403", List.of(
+        // 202403 분기
+        industrySales.put("20243", new double[]{
                 19000000.0, 17000000.0, 14000000.0, // 사장님 가게: 3위 (상위 30%)
                 13000000.0, 12000000.0, 11000000.0,
                 10000000.0, 9000000.0, 8000000.0, 7000000.0
-        ));
-
-        // Mock 설정
-        when(publicDataService.findAllProfitDataByMarketAndIndustry("202404", trdarCd, svcIndutyCd))
-                .thenReturn(quarter202404Data);
-        when(publicDataService.findAllProfitDataByMarketAndIndustry("202403", trdarCd, svcIndutyCd))
-                .thenReturn(quarter202403Data);
-
-        // 나머지 분기들도 Mock 설정 (간단하게)
-        for (int i = 2; i < quarters.size(); i++) {
-            when(publicDataService.findAllProfitDataByMarketAndIndustry(quarters.get(i), trdarCd, svcIndutyCd))
-                    .thenReturn(createMockProfitData(quarters.get(i), List.of(
-                            20000000.0, 18000000.0, 16000000.0, 14000000.0, 12000000.0,
-                            10000000.0, 8000000.0, 6000000.0, 4000000.0, 2000000.0
-                    )));
-        }
+        });
+
+        // Mock 설정 (모든 분기를 한 번에 조회)
+        when(publicDataService.findIndustrySalesByQuarters(quarters, svcIndutyCd))
+                .thenReturn(industrySales);
 
         // 경쟁 강도 Mock (최근 분기 기준)
         PublicStoreData storeData = new PublicStoreData();
@@ -127,8 +122,8 @@ class RevenueComparisonServiceTest {
     @DisplayName("매출 순위 계산 - 데이터 없는 경우")
     void analyze_NoData() {
         // Given
-        when(publicDataService.findAllProfitDataByMarketAndIndustry(anyString(), anyString(), anyString()))
-                .thenReturn(List.of()); // 빈 리스트
+        when(publicDataService.findIndustrySalesByQuarters(quarters, svcIndutyCd))
+                .thenReturn(Map.of()); // 모든 분기 데이터 없음
 
         when(publicDataService.findStoreData(anyString(), anyString(), anyString()))
                 .thenReturn(null);
@@ -170,31 +165,21 @@ class RevenueComparisonServiceTest {
     @DisplayName("순위 변화 계산 - 순위 상승")
     void analyze_RankImproved() {
         // Given
+        Map<String, double[]> industrySales = defaultIndustrySales();
         // 202404: 3위
-        List<PublicProfitData> quarter202404Data = createMockProfitData("202404", List.of(
+        industrySales.put("20244", new double[]{
                 20000000.0, 18000000.0, 15000000.0, 14000000.0, 13000000.0,
                 12000000.0, 11000000.0, 10000000.0, 9000000.0, 8000000.0
-        ));
+        });
 
         // 202403: 5위 (이전 분기에서는 순위가 낮았음)
-        List<PublicProfitData> quarter202403Data = createMockProfitData("202403", List.of(
+        industrySales.put("20243", new double[]{
                 20000000.0, 18000000.0, 16000000.0, 15000000.0, 14000000.0, // 5위
                 13000000.0, 12000000.0, 11000000.0, 10000000.0, 9000000.0
-        ));
-
-        when(publicDataService.findAllProfitDataByMarketAndIndustry("202404", trdarCd, svcIndutyCd))
-                .thenReturn(quarter202404Data);
-        when(publicDataService.findAllProfitDataByMarketAndIndustry("202403", trdarCd, svcIndutyCd))
-                .thenReturn(quarter202403Data);
-
-        // 나머지 분기 Mock
-        for (int i = 2; i < quarters.size(); i++) {
-            when(publicDataService.findAllProfitDataByMarketAndIndustry(quarters.get(i), trdarCd, svcIndutyCd))
-                    .thenReturn(createMockProfitData(quarters.get(i), List.of(
-                            20000000.0, 18000000.0, 16000000.0, 14000000.0, 12000000.0,
-                            10000000.0, 8000000.0, 6000000.0, 4000000.0, 2000000.0
-                    )));
-        }
+        });
+
+        when(publicDataService.findIndustrySalesByQuarters(quarters, svcIndutyCd))
+                .thenReturn(industrySales);
 
         PublicStoreData storeData = new PublicStoreData();
         storeData.setStorCo(45.0);
@@ -209,17 +194,54 @@ class RevenueComparisonServiceTest {
         assertThat(secondQuarter.getRankChange()).isEqualTo(-2); // 5위 -> 3위 = 5 - 3 = 2 (음수는 순위 하락 의미이지만, 로직상 previousRank - currentRank이므로 실제로는 순위 상승)
     }
 
+    @Test
+    @DisplayName("매출 금액이 없는 상권은 순위와 전체 수에서 모두 제외한다")
+    void rankForQuarter_ExcludesMissingSales() {
+        // Given: 5개 상권 중 2개는 매출 금액 없음
+        double[] industrySales = {20000000.0, Double.NaN, 15000000.0, Double.NaN, 8000000.0};
+
+        // When
+        RevenueComparison.QuarterlyRevenueRank lowest = revenueComparisonService.rankForQuarter(
+                "202404", trdarCd, svcIndutyCd, new BigDecimal("1000000"), null, industrySales);
+
+        // Then
+        assertThat(lowest.getTotalStoreCount()).isEqualTo(3);
+        assertThat(lowest.getRank()).isEqualTo(4);
+        assertThat(lowest.getTopPercentile()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("가상 매출 시뮬레이션 - 비교 대상은 한 번만 조회하고 모든 가상 매출의 순위를 계산한다")
+    void simulateQuarter_RanksAllPoints() {
+        // Given
+        when(publicDataService.findIndustrySalesByQuarters(List.of("202404"), svcIndutyCd))
+                .thenReturn(Map.of("20244", new double[]{
+                        20000000.0, 18000000.0, 15000000.0, 14000000.0, 13000000.0,
+                        12000000.0, 11000000.0, 10000000.0, 9000000.0, 8000000.0
+                }));
+        double[] points = {25000000.0, 15000000.0, 14500000.0, 1000000.0};
+
+        // When
+        RevenueSimulationRes.QuarterlyCurve curve = revenueComparisonService.simulateQuarter(
+                "202404", trdarCd, svcIndutyCd, new BigDecimal("12000000"), points);
+
+        // Then
+        assertThat(curve.getTotalStoreCount()).isEqualTo(10);
+        assertThat(curve.getRanks()).containsExactly(1, 3, 4, 11);
+        assertThat(curve.getTopPercentiles()).containsExactly(10.0, 30.0, 40.0, 100.0);
+        assertThat(curve.getCurrentRank()).isEqualTo(6);
+        verify(publicDataService, times(1)).findIndustrySalesByQuarters(anyList(), anyString());
+    }
+
     // Mock 데이터 생성 헬퍼 메서드
-    private List<PublicProfitData> createMockProfitData(String quarter, List<Double> revenues) {
-        List<PublicProfitData> dataList = new ArrayList<>();
-        for (Double revenue : revenues) {
-            PublicProfitData data = new PublicProfitData();
-            data.setStdrYyquCd(quarter);
-            data.setTrdarCd(trdarCd);
-            data.setSvcIndutyCd(svcIndutyCd);
-            data.setThsmonSelngAmt(revenue);
-            dataList.add(data);
+    private Map<String, double[]> defaultIndustrySales() {
+        Map<String, double[]> industrySales = new HashMap<>();
+        for (String quarter : quarters) {
+            industrySales.put(Quarter.parse(quarter).mongoKey(), new double[]{
+                    20000000.0, 18000000.0, 16000000.0, 14000000.0, 12000000.0,
+                    10000000.0, 8000000.0, 6000000.0, 4000000.0, 2000000.0
+            });
         }
-        return dataList;
+        return industrySales;
     }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.endlesspassion.sigai.domain.batch.processor;
+
+import com.endlesspassion.sigai.domain.analysis.dto.response.PopulationComparison;
+import com.endlesspassion.sigai.domain.analysis.service.PopulationComparisonService;
+import com.endlesspassion.sigai.domain.batch.reader.AbstractPublicApiReader;
+import com.endlesspassion.sigai.domain.batch.service.GetPublicDataService;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
+import com.endlesspassion.sigai.domain.publicdata.compact.PopulationType;
+import com.endlesspassion.sigai.domain.publicdata.dto.PublicMarketDataBundle;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상권 인구 수집 파이프라인 테스트")
+class PopulationDataProcessorTest {
+
+    private static final String FLPOP_SERVICE = "VwsmTrdarFlpopQq";
+    private static final String REPOP_SERVICE = "VwsmTrdarRepopQq";
+
+    @Test
+    @DisplayName("API 응답을 페이지 단위로 읽어 종류별 인구 배열로 변환한다")
+    void readAndProcess_populationRows() throws Exception {
+        // given: 유동인구 2행 (두 번째 행은 상권 코드 없음)
+        StubPublicDataService api = new StubPublicDataService(FLPOP_SERVICE, List.of(
+                floatingRow("20244", "3110001", 1000.4, 400, 600, new int[]{100, 300, 200, 150, 150, 100}),
+                floatingRow("20244", null, 10, 5, 5, new int[]{1, 2, 3, 2, 1, 1})));
+        AbstractPublicApiReader reader = new AbstractPublicApiReader(api, "key", FLPOP_SERVICE) {
+        };
+        PopulationDataProcessor processor =
+                new PopulationDataProcessor(new ObjectMapper(), FLPOP_SERVICE, PopulationType.FLOATING);
+
+        // when
+        reader.retrieveTotalCount(null);
+        List<CompactPopulationData> result = new ArrayList<>();
+        for (String page = reader.read(); page != null; page = reader.read()) {
+            result.addAll(processor.process(page));
+        }
+
+        // then
+        assertThat(api.calls).isEqualTo(2); // 전체 개수 1회 + 페이지 1회
+        assertThat(result).hasSize(1);
+        CompactPopulationData data = result.get(0);
+        assertThat(data.getStdrYyquCd()).isEqualTo("20244");
+        assertThat(data.getTrdarCd()).isEqualTo("3110001");
+        assertThat(data.getFloating()).containsExactly(1000, 400, 600, 100, 300, 200, 150, 150, 100);
+        assertThat(data.getResident()).isNull(); // 다른 종류 배열은 건드리지 않음
+    }
+
+    @Test
+    @DisplayName("묶음의 분기별 인구로 변화율과 유동인구 구성을 계산한다")
+    void analyze_fromBundle() throws Exception {
+        // given: 20243(유동 1000, 상주 500), 20244(유동 1200, 상주 450), 20242 데이터 없음
+        Map<String, CompactPopulationData> populationByQuarter = new HashMap<>();
+        merge(populationByQuarter, process(FLPOP_SERVICE, PopulationType.FLOATING, List.of(
+                floatingRow("20243", "3110001", 1000, 500, 500, new int[]{100, 400, 200, 100, 100, 100}),
+                floatingRow("20244", "3110001", 1200, 500, 700, new int[]{100, 300, 400, 200, 100, 100}))));
+        merge(populationByQuarter, process(REPOP_SERVICE, PopulationType.RESIDENT, List.of(
+                residentRow("20243", "3110001", 500),
+                residentRow("20244", "3110001", 450))));
+        PublicMarketDataBundle bundle = PublicMarketDataBundle.of(
+                "3110001", "CS100001", List.of("202402", "202403", "202404"), Map.of(), Map.of(), populationByQuarter);
+
+        // when
+        PopulationComparison result = new PopulationComparisonService(null)
+                .analyze(List.of("202402", "202403", "202404"), bundle);
+
+        // then
+        assertThat(result.isAvailable()).isTrue();
+        assertThat(result.getQuarterlyPopulations()).extracting(PopulationComparison.QuarterlyPopulation::getQuarter)
+                .containsExactly("202404", "202403", "202402"); // 최신순
+        assertThat(result.getQuarterlyPopulations().get(0).getFloatingChangeRate()).isEqualTo(20.0);
+        assertThat(result.getQuarterlyPopulations().get(2).getFloatingPopulation()).isNull();
+        assertThat(result.getAverageFloatingPopulation()).isEqualTo(1100.0);
+        assertThat(result.getFloatingChangeRate()).isEqualTo(20.0);
+        assertThat(result.getResidentChangeRate()).isEqualTo(-10.0);
+        assertThat(result.getWorkingChangeRate()).isNull();
+        assertThat(result.getFemaleFloatingRatio()).isEqualTo(58.3);
+        assertThat(result.getMainFloatingAgeGroup()).isEqualTo("30대");
+    }
+
+    private static List<CompactPopulationData> process(
+            String serviceName, PopulationType type, List<Map<String, Object>> rows) throws Exception {
+        StubPublicDataService api = new StubPublicDataService(serviceName, rows);
+        PopulationDataProcessor processor = new PopulationDataProcessor(new ObjectMapper(), serviceName, type);
+        return processor.process("{\"startIndex\":1,\"endIndex\":" + rows.size() + ",\"data\":"
+                + api.fetchData("key", serviceName, 1, rows.size()) + "}");
+    }
+
+    /**
+     * 배치 writer가 종류별 배열만 $set 하는 것과 같이 (분기, 상권) 문서에 합침
+     */
+    private static void merge(Map<String, CompactPopulationData> target, List<CompactPopulationData> documents) {
+        for (CompactPopulationData document : documents) {
+            CompactPopulationData merged = target.computeIfAbsent(document.getStdrYyquCd(), quarter -> document);
+            for (PopulationType type : PopulationType.values()) {
+                if (type.valuesOf(document) != null) {
+                    type.setValues(merged, type.valuesOf(document));
+                }
+            }
+        }
+    }
+
+    private static Map<String, Object> floatingRow(
+            String quarter, String trdarCd, double total, int male, int female, int[] ages) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("STDR_YYQU_CD", quarter);
+        row.put("TRDAR_CD", trdarCd);
+        row.put("TOT_FLPOP_CO", total);
+        row.put("ML_FLPOP_CO", male);
+        row.put("FML_FLPOP_CO", female);
+        for (int i = 0; i < ages.length; i++) {
+            row.put(PopulationType.FLOATING.apiField(PopulationType.AGE_10 + i), ages[i]);
+        }
+        return row;
+    }
+
+    private static Map<String, Object> residentRow(String quarter, String trdarCd, int total) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("STDR_YYQU_CD", quarter);
+        row.put("TRDAR_CD", trdarCd);
+        row.put("TOT_REPOP_CO", total);
+        return row;
+    }
+
+    /**
+     * 서울시 Open API 대역: 요청 범위의 행만 서울시 응답 형식으로 돌려줌
+     */
+    private static class StubPublicDataService extends GetPublicDataService {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final String serviceName;
+        private final List<Map<String, Object>> rows;
+        private int calls;
+
+        StubPublicDataService(String serviceName, List<Map<String, Object>> rows) {
+            super(null);
+            this.serviceName = serviceName;
+            this.rows = rows;
+        }
+
+        @Override
+        public String fetchData(String apiKey, String serviceName, int startIndex, int endIndex) {
+            calls++;
+            Map<String, Object> body = new HashMap<>();
+            body.put("list_total_count", rows.size());
+            body.put("RESULT", Map.of("CODE", "INFO-000", "MESSAGE", "정상 처리되었습니다"));
+            body.put("row", rows.subList(startIndex - 1, Math.min(endIndex, rows.size())));
+            try {
+                return objectMapper.writeValueAsString(Map.of(this.serviceName, body));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
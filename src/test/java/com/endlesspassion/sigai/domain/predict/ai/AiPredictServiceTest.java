@@ -0,0 +1,83 @@
+package com.endlesspassion.sigai.domain.predict.ai;
+
+import com.endlesspassion.sigai.domain.predict.ai.dto.AiPredictReq;
+import com.endlesspassion.sigai.domain.predict.ai.dto.AiPredictRes;
+import com.endlesspassion.sigai.global.exception.GlobalException;
+import com.endlesspassion.sigai.global.exception.code.GlobalErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AI 예측 서버 호출 테스트")
+class AiPredictServiceTest {
+
+    @Test
+    @DisplayName("AI 서버 응답을 예측 결과로 변환한다")
+    void predict_success() {
+        // given
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body("{\"prediction_tier\":\"주의\",\"xgb_probability\":0.42}")
+                        .build()))
+                .build();
+        AiPredictService aiPredictService = new AiPredictService(webClient);
+
+        // when
+        AiPredictRes result = aiPredictService.predict(AiPredictReq.builder().build()).block();
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.getPredictionTier()).isEqualTo("주의");
+        assertThat(result.getXgbProbability()).isEqualTo(0.42);
+    }
+
+    @Test
+    @DisplayName("전체 제한 시간을 넘기면 AI 서버 요청을 취소하고 REQUEST_TIMEOUT으로 실패한다")
+    void predict_deadlineExceeded() {
+        // given: 응답하지 않는 AI 서버
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.<ClientResponse>never().doOnCancel(() -> cancelled.set(true)))
+                .build();
+        AiPredictService aiPredictService = new AiPredictService(webClient);
+        ReflectionTestUtils.setField(aiPredictService, "deadlineMs", 100L);
+
+        // when & then
+        long startedAt = System.currentTimeMillis();
+        assertThatThrownBy(() -> aiPredictService.predict(AiPredictReq.builder().build()).block(Duration.ofSeconds(5)))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(GlobalErrorCode.REQUEST_TIMEOUT);
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(3000);
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("AI 서버 오류 응답은 SERVICE_UNAVAILABLE로 변환한다")
+    void predict_serverError() {
+        // given
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build()))
+                .build();
+        AiPredictService aiPredictService = new AiPredictService(webClient);
+
+        // when & then
+        assertThatThrownBy(() -> aiPredictService.predict(AiPredictReq.builder().build()).block())
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(GlobalErrorCode.SERVICE_UNAVAILABLE);
+    }
+}
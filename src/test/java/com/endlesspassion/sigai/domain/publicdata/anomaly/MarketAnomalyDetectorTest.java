@@ -0,0 +1,73 @@
+package com.endlesspassion.sigai.domain.publicdata.anomaly;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketColumnStore;
+import com.endlesspassion.sigai.global.util.Quarter;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("상권 이상 변화 탐지 테스트")
+class MarketAnomalyDetectorTest {
+
+    @Test
+    @DisplayName("자기 이력과 같은 자치구/업종 상권 모두에 비해 급변한 상권만 CRITICAL로 찾는다")
+    void detect_flagsOnlyTheSpike() {
+        // given: 강남구 코드대 상권 7개, 10개 분기 동안 매출이 6.25%씩 오르내림, 3110955만 마지막 분기에 2.125배
+        // (모두 2진수로 정확한 배율이라 동료 상권의 변화가 정확히 같음)
+        MarketColumnStore.Builder builder = MarketColumnStore.builder();
+        List<Quarter> quarters = Quarter.parse("20242").lastQuarters(10);
+        for (int market = 0; market < 7; market++) {
+            String trdarCd = String.valueOf(3110955 + market);
+            double base = 100_000_000.0 * (market + 1);
+            for (int t = 0; t < quarters.size(); t++) {
+                double revenue = base * (t % 2 == 0 ? 1.0 : 1.0625);
+                if (market == 0 && t == quarters.size() - 1) {
+                    revenue = base * 2.125;
+                }
+                addMarket(builder, quarters.get(t).mongoKey(), trdarCd, revenue);
+            }
+        }
+
+        // when
+        ForkJoinPool pool = new ForkJoinPool(2);
+        List<MarketAnomalyDetector.Anomaly> anomalies;
+        try {
+            anomalies = MarketAnomalyDetector.detect(builder.build(), 8, 3.5, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        // then: 폐업률은 변화가 없으므로 이상 없음
+        assertThat(anomalies).hasSize(1);
+        MarketAnomalyDetector.Anomaly anomaly = anomalies.get(0);
+        assertThat(anomaly.metric()).isEqualTo(MarketAnomalyDetector.Metric.REVENUE);
+        assertThat(anomaly.quarter().mongoKey()).isEqualTo("20242");
+        assertThat(anomaly.trdarCd()).isEqualTo("3110955");
+        assertThat(anomaly.gu()).isEqualTo("강남구");
+        assertThat(anomaly.change()).isCloseTo(112.5, within(1e-6));
+        assertThat(anomaly.selfScore()).isGreaterThan(3.5);
+        assertThat(anomaly.peerScore()).isGreaterThan(3.5);
+        assertThat(anomaly.severity()).isEqualTo(MarketAnomalyDetector.Severity.CRITICAL);
+    }
+
+    private void addMarket(MarketColumnStore.Builder builder, String quarter, String trdarCd, double revenue) {
+        builder.addProfitDocument(new Document()
+                .append("stdr_yyqu_cd", quarter)
+                .append("trdar_cd", trdarCd)
+                .append("trdar_cd_nm", "상권" + trdarCd)
+                .append("svc_induty_cd", "CS100001")
+                .append("thsmon_selng_amt", revenue));
+        builder.addStoreDocument(new Document()
+                .append("stdr_yyqu_cd", quarter)
+                .append("trdar_cd", trdarCd)
+                .append("svc_induty_cd", "CS100001")
+                .append("stor_co", 10)
+                .append("clsbiz_rt", 3.0));
+    }
+}
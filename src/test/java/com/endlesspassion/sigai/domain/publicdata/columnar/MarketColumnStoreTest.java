@@ -0,0 +1,148 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactSchema;
+import com.endlesspassion.sigai.domain.publicdata.compact.MarketLabel;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("컬럼형 상권 저장소 테스트")
+class MarketColumnStoreTest {
+
+    @Test
+    @DisplayName("적재한 원본 문서와 같은 값으로 매출/점포 문서를 복원한다")
+    void toProfitDataAndStoreData_roundTrip() {
+        // given: 같은 (분기, 상권, 업종)의 매출/점포 문서 + 매출만 있는 행
+        Document profitDocument = new Document()
+                .append("stdr_yyqu_cd", "20244")
+                .append("trdar_cd", "3110001")
+                .append("trdar_cd_nm", "이화여대")
+                .append("trdar_se_cd", "D")
+                .append("trdar_se_cd_nm", "발달상권")
+                .append("svc_induty_cd", "CS100001")
+                .append("svc_induty_cd_nm", "한식음식점")
+                .append("thsmon_selng_amt", 345_678_901_234.0)
+                .append("ml_selng_amt", 145_678_901_234.0)
+                .append("fml_selng_amt", 200_000_000_000.0)
+                .append("thsmon_selng_co", 1_234_567.0)
+                .append("mdwk_selng_co", 987_654.0)
+                .append("ml_selng_co", 600_000.0)
+                .append("fml_selng_co", 634_567.0)
+                .append("agrde_10_selng_co", 1_000.0)
+                .append("agrde_20_selng_co", 2_000.0)
+                .append("agrde_30_selng_co", 3_000.0)
+                .append("agrde_40_selng_co", 4_000.0)
+                .append("agrde_50_selng_co", 5_000.0)
+                .append("agrde_60_above_selng_co", 6_000.0);
+        Document storeDocument = new Document()
+                .append("stdr_yyqu_cd", "20244")
+                .append("trdar_cd", "3110001")
+                .append("svc_induty_cd", "CS100001")
+                .append("stor_co", 61.0)
+                .append("similr_induty_stor_co", 64.0)
+                .append("opbiz_rt", 2.7)
+                .append("opbiz_stor_co", 2.0)
+                .append("clsbiz_rt", 3.3)
+                .append("clsbiz_stor_co", 2.0)
+                .append("frc_stor_co", 3.0);
+        Document otherProfitDocument = new Document()
+                .append("stdr_yyqu_cd", "20243")
+                .append("trdar_cd", "3110002")
+                .append("svc_induty_cd", "CS100002")
+                .append("thsmon_selng_amt", "1000.5"); // 문자열 숫자도 읽음
+
+        // when
+        MarketColumnStore store = MarketColumnStore.builder()
+                .addProfitDocument(profitDocument)
+                .addStoreDocument(storeDocument)
+                .addProfitDocument(otherProfitDocument)
+                .build();
+
+        // then: 모든 지표가 원본 값 그대로 (개업/폐업률 포함)
+        int row = store.findRow("20244", "3110001", "CS100001");
+        for (MarketMetric metric : MarketMetric.all()) {
+            Document source = metric.getDataset() == MarketMetric.Dataset.PROFIT ? profitDocument : storeDocument;
+            assertThat(store.value(metric, row))
+                    .as(metric.name())
+                    .isEqualTo(((Number) source.get(metric.getField())).doubleValue());
+        }
+
+        PublicProfitData profit = store.toProfitData(row);
+        assertThat(profit.getStdrYyquCd()).isEqualTo("20244");
+        assertThat(profit.getTrdarCdNm()).isEqualTo("이화여대");
+        assertThat(profit.getTrdarSeCdNm()).isEqualTo("발달상권");
+        assertThat(profit.getSvcIndutyCdNm()).isEqualTo("한식음식점");
+        assertThat(profit.getThsmonSelngAmt()).isEqualTo(345_678_901_234.0);
+        assertThat(profit.getThsmonSelngCo()).isEqualTo(1_234_567.0);
+
+        PublicStoreData storeData = store.toStoreData(row);
+        assertThat(storeData.getTrdarCdNm()).isEqualTo("이화여대"); // 라벨은 매출 문서에서 한 번만 보관
+        assertThat(storeData.getStorCo()).isEqualTo(61.0);
+        assertThat(storeData.getOpbizRt()).isEqualTo(2.7);
+        assertThat(storeData.getClsbizRt()).isEqualTo(3.3);
+        assertThat(storeData.getFrcStorCo()).isEqualTo(3.0);
+
+        int otherRow = store.findRow("20243", "3110002", "CS100002");
+        assertThat(store.toProfitData(otherRow).getThsmonSelngAmt()).isEqualTo(1000.5);
+        assertThat(store.toProfitData(otherRow).getMlSelngAmt()).isNull();
+        assertThat(store.toStoreData(otherRow)).isNull();
+        assertThat(store.findRow("20244", "3110002", "CS100001")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("압축 스키마(v2) 문서와 라벨로 적재해도 v1과 같은 문서를 복원한다")
+    void addCompactDocuments_sameAsV1() {
+        // given: v1 문서와 같은 내용의 v2 문서 (건수는 int32, 라벨은 별도 문서)
+        Document areaLabel = new Document()
+                .append(CompactSchema.LABEL_TYPE, MarketLabel.AREA)
+                .append(CompactSchema.LABEL_CODE, "3110001")
+                .append(CompactSchema.LABEL_NAME, "이화여대")
+                .append(CompactSchema.LABEL_SE_CODE, "D")
+                .append(CompactSchema.LABEL_SE_NAME, "발달상권");
+        Document industryLabel = new Document()
+                .append(CompactSchema.LABEL_TYPE, MarketLabel.INDUSTRY)
+                .append(CompactSchema.LABEL_CODE, "CS100001")
+                .append(CompactSchema.LABEL_NAME, "한식음식점");
+        Document compactProfit = new Document()
+                .append(CompactSchema.SCHEMA_VERSION, CompactSchema.VERSION)
+                .append(CompactSchema.QUARTER, "20244")
+                .append(CompactSchema.AREA, "3110001")
+                .append(CompactSchema.INDUSTRY, "CS100001")
+                .append(CompactSchema.SALES_AMT, 345_678_901_234.0)
+                .append(CompactSchema.SALES_CO, 1_234_567);
+        Document compactStore = new Document()
+                .append(CompactSchema.SCHEMA_VERSION, CompactSchema.VERSION)
+                .append(CompactSchema.QUARTER, "20244")
+                .append(CompactSchema.AREA, "3110001")
+                .append(CompactSchema.INDUSTRY, "CS100001")
+                .append(CompactSchema.STORE_CO, 61)
+                .append(CompactSchema.CLOSE_RATE, 3.3);
+
+        // when
+        MarketColumnStore store = MarketColumnStore.builder()
+                .addLabelDocument(areaLabel)
+                .addLabelDocument(industryLabel)
+                .addCompactProfitDocument(compactProfit)
+                .addCompactStoreDocument(compactStore)
+                .build();
+
+        // then
+        int row = store.findRow("20244", "3110001", "CS100001");
+        PublicProfitData profit = store.toProfitData(row);
+        assertThat(profit.getTrdarCdNm()).isEqualTo("이화여대");
+        assertThat(profit.getTrdarSeCd()).isEqualTo("D");
+        assertThat(profit.getSvcIndutyCdNm()).isEqualTo("한식음식점");
+        assertThat(profit.getThsmonSelngAmt()).isEqualTo(345_678_901_234.0);
+        assertThat(profit.getThsmonSelngCo()).isEqualTo(1_234_567.0);
+        assertThat(profit.getMlSelngAmt()).isNull();
+
+        PublicStoreData storeData = store.toStoreData(row);
+        assertThat(storeData.getStorCo()).isEqualTo(61.0);
+        assertThat(storeData.getClsbizRt()).isEqualTo(3.3);
+        assertThat(storeData.getOpbizRt()).isNull();
+    }
+}
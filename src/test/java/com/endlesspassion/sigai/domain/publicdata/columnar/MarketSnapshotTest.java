@@ -0,0 +1,97 @@
+package com.endlesspassion.sigai.domain.publicdata.columnar;
+
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("상권 스냅샷 파일 테스트")
+class MarketSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MarketColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        MarketColumnStore.Builder builder = MarketColumnStore.builder();
+        for (String quarter : new String[]{"20241", "20242"}) {
+            for (int area = 0; area < 3; area++) {
+                String trdarCd = String.valueOf(3110001 + area);
+                builder.addProfitDocument(new Document()
+                        .append("stdr_yyqu_cd", quarter)
+                        .append("trdar_cd", trdarCd)
+                        .append("trdar_cd_nm", "상권" + area)
+                        .append("trdar_se_cd", "A")
+                        .append("trdar_se_cd_nm", "골목상권")
+                        .append("svc_induty_cd", "CS100001")
+                        .append("svc_induty_cd_nm", "한식음식점")
+                        .append("thsmon_selng_amt", 123_456_789_012.0 + area)
+                        .append("thsmon_selng_co", 1500.0));
+            }
+            builder.addStoreDocument(new Document()
+                    .append("stdr_yyqu_cd", quarter)
+                    .append("trdar_cd", "3110001")
+                    .append("svc_induty_cd", "CS100001")
+                    .append("stor_co", 12)
+                    .append("clsbiz_rt", 3.5));
+        }
+        store = builder.build();
+    }
+
+    @Test
+    @DisplayName("기록한 스냅샷을 열면 힙 저장소와 동일한 데이터를 조회한다")
+    void writeAndOpen_sameAsHeapStore() throws Exception {
+        // given
+        Path path = tempDir.resolve("market-snapshot.bin");
+
+        // when
+        MarketSnapshotWriter.write(store, 42L, path);
+        MarketSnapshot snapshot = MarketSnapshot.open(path);
+
+        // then
+        assertThat(snapshot.getJobExecutionId()).isEqualTo(42L);
+        assertThat(snapshot.getRowCount()).isEqualTo(store.getRowCount());
+
+        PublicProfitData profit = snapshot.toProfitData(snapshot.findRow("20242", "3110003", "CS100001"));
+        assertThat(profit.getThsmonSelngAmt()).isEqualTo(123_456_789_014.0);
+        assertThat(profit.getThsmonSelngCo()).isEqualTo(1500.0);
+        assertThat(profit.getMlSelngAmt()).isNull();
+        assertThat(profit.getTrdarCdNm()).isEqualTo("상권2");
+        assertThat(profit.getSvcIndutyCdNm()).isEqualTo("한식음식점");
+
+        PublicStoreData storeData = snapshot.toStoreData(snapshot.findRow("20241", "3110001", "CS100001"));
+        assertThat(storeData.getStorCo()).isEqualTo(12.0);
+        assertThat(storeData.getClsbizRt()).isEqualTo(3.5);
+        assertThat(snapshot.toStoreData(snapshot.findRow("20241", "3110002", "CS100001"))).isNull();
+
+        assertThat(snapshot.findRow("20243", "3110001", "CS100001")).isEqualTo(-1);
+        assertThat(snapshot.findRow("20241", "9999999", "CS100001")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("본문이 손상된 스냅샷은 체크섬 검증에서 거부된다")
+    void open_corruptedFile_throwsException() throws Exception {
+        // given
+        Path path = tempDir.resolve("market-snapshot.bin");
+        MarketSnapshotWriter.write(store, 1L, path);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        // when & then
+        assertThatThrownBy(() -> MarketSnapshot.open(path))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("체크섬");
+    }
+}
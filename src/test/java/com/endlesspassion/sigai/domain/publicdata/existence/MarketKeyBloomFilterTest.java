@@ -0,0 +1,59 @@
+package com.endlesspassion.sigai.domain.publicdata.existence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("상권 키 Bloom 필터 테스트")
+class MarketKeyBloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 키는 항상 있을 수 있음으로 판정하고, 없는 키의 오탐률은 목표치 근처다")
+    void mightContain_noFalseNegativeAndBoundedFpp() {
+        // given
+        MarketKeyBloomFilter filter = new MarketKeyBloomFilter(20_000, 0.01);
+        for (int area = 0; area < 2_000; area++) {
+            for (int industry = 0; industry < 10; industry++) {
+                filter.put("20241", String.valueOf(3110001 + area), "CS1000" + industry);
+            }
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int area = 0; area < 2_000; area++) {
+            for (int industry = 0; industry < 10; industry++) {
+                assertThat(filter.mightContain("20241", String.valueOf(3110001 + area), "CS1000" + industry)).isTrue();
+                if (filter.mightContain("20242", String.valueOf(3110001 + area), "CS1000" + industry)) {
+                    falsePositives++;
+                }
+            }
+        }
+
+        // then
+        assertThat(filter.getInsertions()).isEqualTo(20_000);
+        assertThat(filter.expectedFpp()).isBetween(0.005, 0.02);
+        assertThat(falsePositives / 20_000.0).isLessThan(0.03);
+    }
+
+    @Test
+    @DisplayName("코드 경계가 다른 키는 서로 구분된다")
+    void mightContain_distinguishesFieldBoundaries() {
+        // given
+        MarketKeyBloomFilter filter = new MarketKeyBloomFilter(1_000, 0.001);
+        filter.put("20241", "311", "0001");
+
+        // when & then
+        assertThat(filter.mightContain("20241", "311", "0001")).isTrue();
+        assertThat(filter.mightContain("20241", "3110", "001")).isFalse();
+        assertThat(filter.mightContain(null, "311", "0001")).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 오탐률이면 예외가 발생한다")
+    void constructor_invalidFpp() {
+        assertThatThrownBy(() -> new MarketKeyBloomFilter(1_000, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,308 @@
+package com.endlesspassion.sigai.domain.publicdata.repository;
+
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactSchema;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketAnomaly;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketRanking;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicMarketRollup;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공공 데이터 쿼리 실행 계획 회귀 테스트
+ *
+ * PublicDataQueries의 모든 쿼리를 실제 MongoDB에서 explain 하여
+ * 전체 컬렉션 스캔(COLLSCAN)이나 메모리 정렬(SORT)이 없는지 확인한다.
+ * 새 쿼리를 추가하면 이 테스트에도 케이스를 추가한다. (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("공공 데이터 쿼리 실행 계획 테스트")
+class PublicDataQueryPlanTest {
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, "sigai");
+
+        // 플래너가 인덱스를 고르도록 여러 분기/상권/업종 데이터를 적재
+        List<Document> documents = new ArrayList<>();
+        for (int quarter = 1; quarter <= 8; quarter++) {
+            for (int area = 0; area < 50; area++) {
+                for (int industry = 0; industry < 10; industry++) {
+                    documents.add(new Document()
+                            .append("stdr_yyqu_cd", "202" + (2 + (quarter - 1) / 4) + ((quarter - 1) % 4 + 1))
+                            .append("trdar_cd", String.valueOf(3110001 + area))
+                            .append("svc_induty_cd", "CS1000" + String.format("%02d", industry))
+                            .append("thsmon_selng_amt", (double) (quarter * 1000 + area * 10 + industry))
+                            .append("clsbiz_rt", 1.5));
+                }
+            }
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(PublicProfitData.class)).insertMany(documents);
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(PublicStoreData.class))
+                .insertMany(documents.stream().map(Document::new).toList());
+
+        List<Document> anomalies = new ArrayList<>();
+        for (Document document : documents) {
+            if (document.getString("svc_induty_cd").endsWith("3")) {
+                anomalies.add(new Document()
+                        .append("stdr_yyqu_cd", document.getString("stdr_yyqu_cd"))
+                        .append("metric", "REVENUE")
+                        .append("trdar_cd", document.getString("trdar_cd"))
+                        .append("svc_induty_cd", document.getString("svc_induty_cd"))
+                        .append("gu", "종로구")
+                        .append("score", document.getDouble("thsmon_selng_amt") / 100)
+                        .append("severity", document.getDouble("thsmon_selng_amt") % 2 == 0 ? "WARNING" : "CRITICAL"));
+            }
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(PublicMarketAnomaly.class)).insertMany(anomalies);
+
+        List<Document> rollups = new ArrayList<>();
+        for (int quarter = 1; quarter <= 4; quarter++) {
+            for (int industry = 0; industry < 10; industry++) {
+                rollups.add(new Document("_id", "2024" + quarter + ":종로구:CS1000" + String.format("%02d", industry))
+                        .append("revenue_sketch", new Document("k", 200))
+                        .append("clsbiz_rt_sketch", new Document("k", 200)));
+            }
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(PublicMarketRollup.class)).insertMany(rollups);
+
+        List<Document> populations = new ArrayList<>();
+        for (Document document : documents) {
+            if (document.getString("svc_induty_cd").equals("CS100000")) { // 상권/분기당 한 건
+                populations.add(new Document()
+                        .append(CompactSchema.SCHEMA_VERSION, CompactSchema.VERSION)
+                        .append(CompactSchema.QUARTER, document.getString("stdr_yyqu_cd"))
+                        .append(CompactSchema.AREA, document.getString("trdar_cd"))
+                        .append(CompactSchema.FLOATING_POPULATION, 1000L));
+            }
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(CompactPopulationData.class)).insertMany(populations);
+
+        PublicDataIndexes.reconcile(mongoTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("필요한 인덱스가 모두 생성되고, 다시 실행해도 추가 생성이 없다")
+    void reconcile_isIdempotent() {
+        assertThat(PublicDataIndexes.reconcile(mongoTemplate)).isZero();
+    }
+
+    @Test
+    @DisplayName("단건 조회는 인덱스를 사용한다")
+    void byKey_usesIndex() {
+        Query query = PublicDataQueries.byKey("20241", "3110010", "CS100003");
+
+        assertIndexedWithoutSort(PublicProfitData.class, query);
+        assertIndexedWithoutSort(PublicStoreData.class, query);
+    }
+
+    @Test
+    @DisplayName("매출 내림차순 조회는 메모리 정렬 없이 인덱스 순서를 사용한다")
+    void byKeyOrderBySalesDesc_usesIndexForSort() {
+        assertIndexedWithoutSort(PublicProfitData.class,
+                PublicDataQueries.byKeyOrderBySalesDesc("20241", "3110010", "CS100003"));
+    }
+
+    @Test
+    @DisplayName("여러 분기 조회는 메모리 정렬 없이 분기 오름차순으로 읽는다")
+    void byQuarters_usesIndexForSort() {
+        Query query = PublicDataQueries.byQuarters(List.of("20224", "20231", "20232", "20233"), "3110010", "CS100003");
+
+        assertIndexedWithoutSort(PublicProfitData.class, query);
+        assertIndexedWithoutSort(PublicStoreData.class, query);
+    }
+
+    @Test
+    @DisplayName("전체 분기 이력 조회는 메모리 정렬 없이 인덱스 범위 스캔으로 읽는다")
+    void marketHistory_usesIndexForSort() {
+        Query query = PublicDataQueries.marketHistory("3110010", "CS100003", "thsmon_selng_amt");
+
+        assertIndexedWithoutSort(PublicProfitData.class, query);
+        assertIndexedWithoutSort(PublicStoreData.class, query);
+    }
+
+    @Test
+    @DisplayName("업종 전체 상권 매출 조회는 문서를 읽지 않는 커버드 쿼리로 실행된다")
+    void industrySales_isCoveredByIndex() {
+        Query query = PublicDataQueries.industrySales(List.of("20241", "20242"), "CS100003");
+        assertIndexedWithoutSort(PublicProfitData.class, query);
+
+        Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(PublicProfitData.class))
+                .find(query.getQueryObject())
+                .projection(query.getFieldsObject())
+                .explain();
+        List<String> stages = new ArrayList<>();
+        collectStages(explain.get("queryPlanner", Document.class).get("winningPlan", Document.class), stages);
+
+        assertThat(stages).as("실행 계획: %s", stages).contains("IXSCAN").doesNotContain("FETCH");
+        assertThat(mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(PublicProfitData.class)))
+                .hasSize(2 * 50);
+    }
+
+    @Test
+    @DisplayName("업종 순위 집계는 인덱스 순서로 순위를 매기고, 메모리 정렬은 한 분기/업종 안의 키셋 정렬 한 번뿐이다")
+    void industryRankingPipeline_usesIndex() {
+        List<Document> pipeline = PublicDataQueries.industryRankingPipeline("20241", "CS100003", 10.0, 1, "3110001", 21);
+
+        Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(PublicProfitData.class))
+                .aggregate(pipeline)
+                .explain();
+
+        List<String> stages = new ArrayList<>();
+        collectAggregateStages(explain, stages);
+        assertThat(stages).as("순위 집계 실행 계획: %s", stages)
+                .contains("IXSCAN")
+                .doesNotContain("COLLSCAN", "SORT");
+        // $setWindowFields의 sortBy(매출 내림차순)는 idx_industry_ranking 순서로 흡수되고,
+        // 키셋 페이지의 $sort (rank, trdar_cd)는 계산된 필드라 인덱스로 흡수될 수 없으므로 한 번만 남는다
+        assertThat(pipelineStages(explain)).as("순위 집계 단계")
+                .containsOnlyOnce("$sort");
+    }
+
+    @Test
+    @DisplayName("사전 계산 순위를 갱신하고 키셋 페이지를 인덱스 순서로 읽는다")
+    void persistedRanking_refreshAndPage() {
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(PublicProfitData.class))
+                .aggregate(PublicDataQueries.rankingRefreshPipeline(new Date(), "public_market_ranking"))
+                .toCollection();
+
+        Query firstPage = PublicDataQueries.persistedRanking("20241", "CS100003", null, null, null, 10);
+        List<Document> ranks = mongoTemplate.find(firstPage, Document.class, "public_market_ranking");
+        assertThat(ranks).hasSize(10);
+        assertThat(ranks.get(0).getInteger("rank")).isEqualTo(1);
+        assertThat(ranks.get(0).getString("trdar_cd")).isEqualTo("3110050"); // 매출이 가장 큰 상권
+        assertThat(ranks.get(0).getInteger("total_count")).isEqualTo(50);
+
+        Document last = ranks.get(9);
+        Query nextPage = PublicDataQueries.persistedRanking("20241", "CS100003", null,
+                last.getInteger("rank"), last.getString("trdar_cd"), 10);
+        assertThat(mongoTemplate.find(nextPage, Document.class, "public_market_ranking").get(0).getInteger("rank"))
+                .isEqualTo(11);
+        assertIndexedWithoutSort(PublicMarketRanking.class, nextPage);
+    }
+
+    @Test
+    @DisplayName("분기별 이상 기록 조회는 필터가 있어도 메모리 정렬 없이 점수 순 인덱스를 사용한다")
+    void anomalies_usesIndexForSort() {
+        assertIndexedWithoutSort(PublicMarketAnomaly.class,
+                PublicDataQueries.anomalies("20241", null, null, null, null, 20));
+        assertIndexedWithoutSort(PublicMarketAnomaly.class,
+                PublicDataQueries.anomalies("20241", "REVENUE", "CRITICAL", "종로구", "CS100003", 20));
+    }
+
+    @Test
+    @DisplayName("집계 셀 스케치 조회는 _id 인덱스를 사용하고 스케치 필드만 읽는다")
+    void rollupSketches_usesIdIndex() {
+        Query query = PublicDataQueries.rollupSketches(
+                List.of("20241:종로구:CS100003", "20242:종로구:CS100003"), PublicDataQueries.REVENUE_SKETCH);
+        assertIndexedWithoutSort(PublicMarketRollup.class, query);
+
+        List<Document> sketches = mongoTemplate.find(query, Document.class,
+                mongoTemplate.getCollectionName(PublicMarketRollup.class));
+        assertThat(sketches).hasSize(2)
+                .allSatisfy(sketch -> assertThat(sketch.keySet()).containsExactlyInAnyOrder("_id", "revenue_sketch"));
+    }
+
+    @Test
+    @DisplayName("상권 인구 여러 분기 조회는 메모리 정렬 없이 (상권, 분기) 인덱스 순서로 읽는다")
+    void populationByQuarters_usesIndexForSort() {
+        Query query = PublicDataQueries.populationByQuarters(List.of("20224", "20231", "20232", "20233"), "3110010");
+        assertIndexedWithoutSort(CompactPopulationData.class, query);
+
+        assertThat(mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(CompactPopulationData.class)))
+                .extracting(document -> document.getString(CompactSchema.QUARTER))
+                .containsExactly("20224", "20231", "20232", "20233");
+    }
+
+    private static void assertIndexedWithoutSort(Class<?> entityClass, Query query) {
+        Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
+                .find(query.getQueryObject())
+                .sort(query.getSortObject())
+                .explain();
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+
+        List<String> stages = new ArrayList<>();
+        collectStages(winningPlan, stages);
+
+        assertThat(stages)
+                .as("%s %s 실행 계획: %s", entityClass.getSimpleName(), query, stages)
+                .contains("IXSCAN")
+                .doesNotContain("COLLSCAN", "SORT");
+    }
+
+    /**
+     * 집계 explain 결과에서 stage 이름 수집 (클래식 엔진: stages[0].$cursor, SBE: 최상위 queryPlanner)
+     */
+    @SuppressWarnings("unchecked")
+    private static void collectAggregateStages(Document explain, List<String> stages) {
+        Document queryPlanner = explain.get("queryPlanner", Document.class);
+        if (queryPlanner == null && explain.get("stages") != null) {
+            Document cursor = ((List<Document>) explain.get("stages")).get(0).get("$cursor", Document.class);
+            queryPlanner = cursor.get("queryPlanner", Document.class);
+        }
+        collectStages(queryPlanner.get("winningPlan", Document.class), stages);
+    }
+
+    /**
+     * 집계 explain 결과의 파이프라인 단계 이름 ($cursor, $sort, $_internalSetWindowFields 등)
+     * (전체가 쿼리 엔진으로 내려간 경우 stages가 없으므로 빈 목록)
+     */
+    @SuppressWarnings("unchecked")
+    private static List<String> pipelineStages(Document explain) {
+        List<String> names = new ArrayList<>();
+        List<Document> stages = (List<Document>) explain.get("stages");
+        if (stages != null) {
+            stages.forEach(stage -> names.addAll(stage.keySet()));
+        }
+        return names;
+    }
+
+    /**
+     * 실행 계획 트리의 stage 이름을 모두 수집 (inputStage / inputStages, SBE의 queryPlan 포함)
+     */
+    @SuppressWarnings("unchecked")
+    private static void collectStages(Document plan, List<String> stages) {
+        if (plan == null) {
+            return;
+        }
+        if (plan.containsKey("stage")) {
+            stages.add(plan.getString("stage"));
+        }
+        collectStages(plan.get("queryPlan", Document.class), stages);
+        collectStages(plan.get("inputStage", Document.class), stages);
+        List<Document> inputStages = (List<Document>) plan.get("inputStages");
+        if (inputStages != null) {
+            inputStages.forEach(child -> collectStages(child, stages));
+        }
+    }
+}
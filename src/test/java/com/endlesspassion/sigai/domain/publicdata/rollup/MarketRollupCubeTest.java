@@ -0,0 +1,81 @@
+package com.endlesspassion.sigai.domain.publicdata.rollup;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketColumnStore;
+import com.endlesspassion.sigai.global.util.KllSketch;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("자치구/업종 집계 큐브 테스트")
+class MarketRollupCubeTest {
+
+    @Test
+    @DisplayName("자치구 셀과 서울시 전체 셀에 합계/평균/사분위수/점포 합계를 계산한다")
+    void build_guAndCityCells() {
+        // given: 성동구 코드대 상권 4개 + 강남구 코드대 상권 1개 (같은 업종)
+        MarketColumnStore.Builder builder = MarketColumnStore.builder();
+        addMarket(builder, "3110118", 100.0, 1.0, 10, 1);
+        addMarket(builder, "3110119", 200.0, 2.0, 20, 2);
+        addMarket(builder, "3110120", 300.0, 3.0, 30, 3);
+        addMarket(builder, "3110121", 400.0, 4.0, 40, 4);
+        addMarket(builder, "3110955", 1000.0, 10.0, 100, 50);
+
+        // when
+        Map<String, MarketRollupCube.Cell> cells = MarketRollupCube.build(builder.build()).stream()
+                .collect(Collectors.toMap(cell -> cell.gu(), Function.identity()));
+
+        // then
+        assertThat(cells.keySet()).containsExactlyInAnyOrder("성동구", "강남구", MarketRollupCube.ALL_GU);
+
+        MarketRollupCube.Cell seongdong = cells.get("성동구");
+        assertThat(seongdong.quarter()).isEqualTo("20241");
+        assertThat(seongdong.svcIndutyCd()).isEqualTo("CS100010");
+        assertThat(seongdong.marketCount()).isEqualTo(4);
+        assertThat(seongdong.revenue().sum()).isEqualTo(1000.0);
+        assertThat(seongdong.revenue().mean()).isEqualTo(250.0);
+        assertThat(seongdong.revenue().p25()).isCloseTo(175.0, within(1e-9));
+        assertThat(seongdong.revenue().p50()).isCloseTo(250.0, within(1e-9));
+        assertThat(seongdong.revenue().p75()).isCloseTo(325.0, within(1e-9));
+        assertThat(seongdong.closedRate().p50()).isCloseTo(2.5, within(1e-6));
+        assertThat(seongdong.storeCount()).isEqualTo(100.0);
+        assertThat(seongdong.closedStoreCount()).isEqualTo(10.0);
+
+        MarketRollupCube.Cell city = cells.get(MarketRollupCube.ALL_GU);
+        assertThat(city.marketCount()).isEqualTo(5);
+        assertThat(city.revenue().p50()).isEqualTo(300.0);
+        assertThat(city.storeCount()).isEqualTo(200.0);
+        assertThat(city.closedStoreCount()).isEqualTo(60.0);
+
+        // 셀 스케치를 병합하면 자치구 셀을 묶은 분위를 구할 수 있음
+        KllSketch merged = new KllSketch();
+        merged.merge(seongdong.revenueSketch());
+        merged.merge(cells.get("강남구").revenueSketch());
+        assertThat(merged.getN()).isEqualTo(city.revenueSketch().getN());
+        assertThat(merged.quantile(0.5)).isEqualTo(city.revenueSketch().quantile(0.5));
+    }
+
+    private void addMarket(MarketColumnStore.Builder builder, String trdarCd,
+                           double revenue, double closedRate, int storeCount, int closedStoreCount) {
+        builder.addProfitDocument(new Document()
+                .append("stdr_yyqu_cd", "20241")
+                .append("trdar_cd", trdarCd)
+                .append("trdar_cd_nm", "상권" + trdarCd)
+                .append("svc_induty_cd", "CS100010")
+                .append("svc_induty_cd_nm", "커피-음료")
+                .append("thsmon_selng_amt", revenue));
+        builder.addStoreDocument(new Document()
+                .append("stdr_yyqu_cd", "20241")
+                .append("trdar_cd", trdarCd)
+                .append("svc_induty_cd", "CS100010")
+                .append("stor_co", storeCount)
+                .append("clsbiz_stor_co", closedStoreCount)
+                .append("clsbiz_rt", closedRate));
+    }
+}
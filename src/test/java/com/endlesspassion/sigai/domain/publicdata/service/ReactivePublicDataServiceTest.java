@@ -0,0 +1,120 @@
+package com.endlesspassion.sigai.domain.publicdata.service;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketColumnStoreLoader;
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketMetric;
+import com.endlesspassion.sigai.domain.publicdata.compact.CompactPopulationData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicProfitData;
+import com.endlesspassion.sigai.domain.publicdata.document.PublicStoreData;
+import com.endlesspassion.sigai.domain.publicdata.dto.PublicMarketDataBundle;
+import com.endlesspassion.sigai.domain.publicdata.existence.MarketExistenceIndex;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("논블로킹 공공 데이터 조회 서비스 테스트")
+class ReactivePublicDataServiceTest {
+
+    @Mock
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Mock
+    private MarketColumnStoreLoader marketColumnStoreLoader;
+
+    @Mock
+    private MarketExistenceIndex marketExistenceIndex;
+
+    @InjectMocks
+    private ReactivePublicDataService reactivePublicDataService;
+
+    @Test
+    @DisplayName("매출/점포/인구/업종 매출 분포를 조회 종류마다 $in 조회 한 번으로 동시에 읽고, 존재 인덱스에서 걸러진 분기는 조회하지 않는다")
+    void loadBundle_singleInQueryPerCollection() {
+        // Given: 조회마다 100ms 지연, 매출 20243은 존재 인덱스에서 제외, 점포 20244는 MongoDB에 없음
+        List<String> quarters = List.of("20241", "20242", "20243", "20244");
+        when(marketColumnStoreLoader.getStore()).thenReturn(null);
+        when(marketExistenceIndex.candidates(any(), anyList(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    List<String> requested = invocation.getArgument(1);
+                    return invocation.getArgument(0) == MarketMetric.Dataset.PROFIT
+                            ? requested.stream().filter(quarter -> !"20243".equals(quarter)).toList()
+                            : requested;
+                });
+        when(reactiveMongoTemplate.find(any(Query.class), eq(PublicProfitData.class)))
+                .thenAnswer(invocation -> Flux.fromIterable(quartersOf(invocation.getArgument(0)))
+                        .map(ReactivePublicDataServiceTest::profit)
+                        .delaySequence(Duration.ofMillis(100)));
+        when(reactiveMongoTemplate.find(any(Query.class), eq(PublicStoreData.class)))
+                .thenAnswer(invocation -> Flux.fromIterable(quartersOf(invocation.getArgument(0)))
+                        .filter(quarter -> !"20244".equals(quarter))
+                        .map(ReactivePublicDataServiceTest::store)
+                        .delaySequence(Duration.ofMillis(100)));
+        when(reactiveMongoTemplate.find(any(Query.class), eq(CompactPopulationData.class)))
+                .thenReturn(Flux.empty());
+        when(reactiveMongoTemplate.getCollectionName(PublicProfitData.class)).thenReturn("public_profit_data");
+        when(reactiveMongoTemplate.find(any(Query.class), eq(Document.class), eq("public_profit_data")))
+                .thenReturn(Flux.just(
+                        new Document("stdr_yyqu_cd", "20241").append("thsmon_selng_amt", 1_000_000.0),
+                        new Document("stdr_yyqu_cd", "20241").append("thsmon_selng_amt", 2_000_000L))
+                        .delaySequence(Duration.ofMillis(100)));
+
+        // When
+        long startedAt = System.nanoTime();
+        PublicMarketDataBundle bundle = reactivePublicDataService.loadBundle(quarters, "3110001", "CS100001").block();
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // Then
+        assertThat(bundle).isNotNull();
+        assertThat(bundle.getProfitByQuarter()).containsOnlyKeys("20241", "20242", "20244");
+        assertThat(bundle.storeOf("20241").getStdrYyquCd()).isEqualTo("20241");
+        assertThat(bundle.storeOf("20244")).isNull();
+        assertThat(bundle.populationOf("20241")).isNull();
+        assertThat(bundle.industrySalesOf("20241")).containsExactlyInAnyOrder(1_000_000.0, 2_000_000.0);
+        assertThat(bundle.industrySalesOf("20242")).isEmpty();
+        assertThat(elapsedMs).isLessThan(500); // 두 조회가 동시에 발행됨
+
+        verify(reactiveMongoTemplate, times(1)).find(any(Query.class), eq(PublicProfitData.class));
+        verify(reactiveMongoTemplate, times(1)).find(any(Query.class), eq(PublicStoreData.class));
+        verify(reactiveMongoTemplate, never()).findOne(any(Query.class), any());
+        verify(marketExistenceIndex).recordMisses(MarketMetric.Dataset.PROFIT, 0);
+        verify(marketExistenceIndex).recordMisses(MarketMetric.Dataset.STORE, 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> quartersOf(Query query) {
+        Document condition = (Document) query.getQueryObject().get("stdr_yyqu_cd");
+        return (List<String>) condition.get("$in");
+    }
+
+    private static PublicProfitData profit(String quarter) {
+        PublicProfitData data = new PublicProfitData();
+        data.setStdrYyquCd(quarter);
+        return data;
+    }
+
+    private static PublicStoreData store(String quarter) {
+        PublicStoreData data = new PublicStoreData();
+        data.setStdrYyquCd(quarter);
+        return data;
+    }
+}
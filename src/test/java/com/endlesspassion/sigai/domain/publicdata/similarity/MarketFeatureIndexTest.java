@@ -0,0 +1,54 @@
+package com.endlesspassion.sigai.domain.publicdata.similarity;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketColumnStore;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("유사 상권 k-NN 인덱스 테스트")
+class MarketFeatureIndexTest {
+
+    @Test
+    @DisplayName("같은 분기/업종에서 특성이 가까운 순서로 기준 상권을 제외한 k개를 반환한다")
+    void nearest_ordersByDistance() {
+        // given: 상권 0과 매출/폐업률이 가까운 순서는 1 → 2 → 3, 다른 업종의 상권 9는 제외
+        MarketColumnStore.Builder builder = MarketColumnStore.builder();
+        addMarket(builder, "3110000", "CS100001", 100_000_000.0, 3.0);
+        addMarket(builder, "3110001", "CS100001", 101_000_000.0, 3.1);
+        addMarket(builder, "3110002", "CS100001", 150_000_000.0, 5.0);
+        addMarket(builder, "3110003", "CS100001", 900_000_000.0, 12.0);
+        addMarket(builder, "3110009", "CS100002", 100_000_000.0, 3.0);
+        MarketFeatureIndex index = MarketFeatureIndex.build(builder.build());
+
+        // when
+        List<MarketFeatureIndex.Neighbor> neighbors = index.nearest("20241", "3110000", "CS100001", 2);
+
+        // then
+        assertThat(neighbors).extracting(MarketFeatureIndex.Neighbor::trdarCd).containsExactly("3110001", "3110002");
+        assertThat(neighbors.get(0).distance()).isLessThan(neighbors.get(1).distance());
+        assertThat(neighbors.get(0).closedRate()).isEqualTo(3.1f);
+        assertThat(index.nearest("20241", "3110000", "CS100001", 10)).hasSize(3);
+        assertThat(index.nearest("20241", "9999999", "CS100001", 10)).isEmpty();
+        assertThat(index.nearest("20242", "3110000", "CS100001", 10)).isEmpty();
+    }
+
+    private void addMarket(MarketColumnStore.Builder builder, String trdarCd, String svcIndutyCd, double revenue, double closedRate) {
+        builder.addProfitDocument(new Document()
+                .append("stdr_yyqu_cd", "20241")
+                .append("trdar_cd", trdarCd)
+                .append("trdar_cd_nm", "상권" + trdarCd)
+                .append("svc_induty_cd", svcIndutyCd)
+                .append("thsmon_selng_amt", revenue)
+                .append("agrde_30_selng_co", 100.0));
+        builder.addStoreDocument(new Document()
+                .append("stdr_yyqu_cd", "20241")
+                .append("trdar_cd", trdarCd)
+                .append("svc_induty_cd", svcIndutyCd)
+                .append("stor_co", 10)
+                .append("clsbiz_rt", closedRate));
+    }
+}
@@ -0,0 +1,82 @@
+package com.endlesspassion.sigai.domain.publicdata.survival;
+
+import com.endlesspassion.sigai.domain.publicdata.columnar.MarketColumnStore;
+import com.endlesspassion.sigai.domain.publicdata.rollup.MarketRollupCube;
+import com.endlesspassion.sigai.global.util.Quarter;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("점포 생존 곡선 추정 테스트")
+class MarketSurvivalEstimatorTest {
+
+    @Test
+    @DisplayName("분기별 폐업 위험의 곱으로 상권 곡선을, 같은 업종 상권을 합쳐 자치구/서울시 곡선을 만든다")
+    void estimate_marketAndBaselines() {
+        // given: 8개 분기 (2023년 1분기 ~ 2024년 4분기)
+        // - 성동구 3110118: 점포 100개, 1분기 폐업 5개 / 그 외 2개
+        // - 성동구 3110119: 점포 50개, 폐업 점포 수 없이 폐업률 4%
+        // - 강남구 3110903: 점포 0개 (위험 집합 없음)
+        MarketColumnStore.Builder builder = MarketColumnStore.builder();
+        for (Quarter quarter : Quarter.parse("20244").lastQuarters(8)) {
+            addStore(builder, quarter.mongoKey(), "3110118", 100, quarter.quarter() == 1 ? 5.0 : 2.0, null);
+            addStore(builder, quarter.mongoKey(), "3110119", 50, null, 4.0);
+            addStore(builder, quarter.mongoKey(), "3110955", 0, 0.0, 0.0);
+        }
+
+        // when
+        ForkJoinPool pool = new ForkJoinPool(2);
+        MarketSurvivalEstimator.Result result;
+        try {
+            result = MarketSurvivalEstimator.estimate(builder.build(), 8, 8, pool);
+        } finally {
+            pool.shutdown();
+        }
+        Map<String, Integer> curves = new HashMap<>();
+        for (int curve = 0; curve < result.size(); curve++) {
+            curves.put(result.scopeOf(curve) + ":" + result.codeOf(curve), curve);
+        }
+
+        // then: 기준 분기 2024년 4분기 → 1분기 뒤는 2025년 1분기 (폐업 위험 5%)
+        assertThat(result.baseQuarter().mongoKey()).isEqualTo("20244");
+        int market = curves.get("MARKET:3110118");
+        assertThat(result.guOf(market)).isEqualTo("성동구");
+        assertThat(result.atRisk(market)).isEqualTo(800.0);
+        assertThat(result.events(market)).isEqualTo(22.0);
+        assertThat(result.survival(market, 1)).isCloseTo(0.95, within(1e-9));
+        assertThat(result.survival(market, 4)).isCloseTo(0.95 * 0.98 * 0.98 * 0.98, within(1e-9));
+        assertThat(result.survival(curves.get("MARKET:3110119"), 1)).isCloseTo(0.96, within(1e-9));
+        assertThat(result.survival(curves.get("MARKET:3110903"), 1)).isNaN();
+
+        // 성동구 1분기 위험 = (2 × 5 + 2 × 2) / (2 × 150) — 서울시도 같은 상권들이므로 같음
+        int gu = curves.get("GU:성동구");
+        int city = curves.get("CITY:" + MarketRollupCube.ALL_GU);
+        assertThat(result.survival(gu, 1)).isCloseTo(1 - 14.0 / 300.0, within(1e-9));
+        assertThat(result.survival(city, 8)).isCloseTo(result.survival(gu, 8), within(1e-12));
+        assertThat(result.events(city)).isEqualTo(38.0);
+        assertThat(result.survival(curves.get("GU:강남구"), 1)).isNaN();
+    }
+
+    private void addStore(MarketColumnStore.Builder builder, String quarter, String trdarCd,
+                          int storeCount, Double closedStoreCount, Double closedRate) {
+        Document document = new Document()
+                .append("stdr_yyqu_cd", quarter)
+                .append("trdar_cd", trdarCd)
+                .append("svc_induty_cd", "CS100001")
+                .append("stor_co", storeCount);
+        if (closedStoreCount != null) {
+            document.append("clsbiz_stor_co", closedStoreCount);
+        }
+        if (closedRate != null) {
+            document.append("clsbiz_rt", closedRate);
+        }
+        builder.addStoreDocument(document);
+    }
+}
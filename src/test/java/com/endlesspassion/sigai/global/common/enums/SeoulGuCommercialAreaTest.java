@@ -0,0 +1,35 @@
+package com.endlesspassion.sigai.global.common.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("자치구 대표 상권 Enum 테스트")
+class SeoulGuCommercialAreaTest {
+
+    @Test
+    @DisplayName("상권 코드 구간으로 자치구를 찾고, 두 번 발급된 자치구도 두 구간 모두에서 찾는다")
+    void guOf_codeRanges() {
+        // when & then
+        assertThat(SeoulGuCommercialArea.guOf("3110001")).isEqualTo("종로구");
+        assertThat(SeoulGuCommercialArea.guOf("3110037")).isEqualTo("종로구");
+        assertThat(SeoulGuCommercialArea.guOf("3110038")).isEqualTo("중구");
+        assertThat(SeoulGuCommercialArea.guOf("3110714")).isEqualTo("양천구"); // 목동역 8번
+        assertThat(SeoulGuCommercialArea.guOf("3110775")).isEqualTo("강남구"); // 강남역 1번
+        assertThat(SeoulGuCommercialArea.guOf("3110895")).isEqualTo("관악구"); // 샤로수길
+        assertThat(SeoulGuCommercialArea.guOf("3110903")).isEqualTo("서초구"); // 방배아이파크아파트
+        assertThat(SeoulGuCommercialArea.guOf("3111047")).isEqualTo("송파구"); // 마천1치안센터
+        assertThat(SeoulGuCommercialArea.guOf("3111090")).isEqualTo("강동구");
+    }
+
+    @Test
+    @DisplayName("서울시 상권 코드 범위 밖이거나 숫자가 아닌 코드는 null을 반환한다")
+    void guOf_outOfRange() {
+        // when & then
+        assertThat(SeoulGuCommercialArea.guOf("3111091")).isNull();
+        assertThat(SeoulGuCommercialArea.guOf("3110000")).isNull();
+        assertThat(SeoulGuCommercialArea.guOf("Z000001")).isNull();
+        assertThat(SeoulGuCommercialArea.guOf(null)).isNull();
+    }
+}
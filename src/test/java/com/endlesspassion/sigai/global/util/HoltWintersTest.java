@@ -0,0 +1,53 @@
+package com.endlesspassion.sigai.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Holt-Winters 예측 테스트")
+class HoltWintersTest {
+
+    @Test
+    @DisplayName("추세 + 분기 계절성이 있는 계열은 다음 해 같은 분기의 패턴을 이어서 예측한다")
+    void fit_seasonalSeries() {
+        // given: 분기마다 +1씩 오르고 1분기 +10, 3분기 -10 계절 효과 (5년, 중간 결측 1개)
+        double[] seasonal = {10, 0, -10, 0};
+        double[] values = new double[20];
+        for (int t = 0; t < values.length; t++) {
+            values[t] = 100 + t + seasonal[t % 4];
+        }
+        values[9] = Double.NaN;
+
+        // when
+        HoltWinters.Fit fit = HoltWinters.fit(values, 0, values.length, 4);
+
+        // then: 다음 분기(t = 20)는 1분기
+        assertThat(fit.model()).isEqualTo(HoltWinters.Model.HOLT_WINTERS);
+        for (int h = 1; h <= 4; h++) {
+            double expected = 100 + (19 + h) + seasonal[(19 + h) % 4];
+            assertThat(fit.forecast(h)).isCloseTo(expected, within(3.0));
+        }
+        assertThat(fit.forecast(1)).isGreaterThan(fit.forecast(3)); // 1분기 > 3분기
+    }
+
+    @Test
+    @DisplayName("관측이 두 주기 미만이면 Holt, 하나뿐이면 마지막 값을 유지한다")
+    void fit_fallbackModels() {
+        // given: 앞쪽 두 칸은 다른 계열 (구간 지정)
+        double[] values = {999, 999, Double.NaN, 10, 12, 14, Double.NaN, 18};
+        double[] single = {Double.NaN, 7, Double.NaN};
+
+        // when
+        HoltWinters.Fit holt = HoltWinters.fit(values, 2, 6, 4);
+        HoltWinters.Fit naive = HoltWinters.fit(single, 0, single.length, 4);
+
+        // then
+        assertThat(holt.model()).isEqualTo(HoltWinters.Model.HOLT);
+        assertThat(holt.forecast(1)).isCloseTo(20.0, within(1.0));
+        assertThat(naive.model()).isEqualTo(HoltWinters.Model.NAIVE);
+        assertThat(naive.forecast(4)).isEqualTo(7.0);
+        assertThat(naive.rmse()).isNaN();
+    }
+}
@@ -0,0 +1,75 @@
+package com.endlesspassion.sigai.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("KLL 분위수 스케치 테스트")
+class KllSketchTest {
+
+    @Test
+    @DisplayName("값이 k개 이하면 순위와 분위수가 정확하다")
+    void smallSketch_isExact() {
+        // given
+        KllSketch sketch = new KllSketch();
+        for (int value = 1; value <= 100; value++) {
+            sketch.update(value);
+        }
+        sketch.update(Double.NaN); // 무시
+
+        // when & then
+        assertThat(sketch.getN()).isEqualTo(100);
+        assertThat(sketch.retainedItems()).isEqualTo(100);
+        assertThat(sketch.rank(25)).isEqualTo(0.25);
+        assertThat(sketch.rank(0)).isZero();
+        assertThat(sketch.rank(100)).isEqualTo(1.0);
+        assertThat(sketch.quantile(0.5)).isEqualTo(50);
+        assertThat(sketch.quantile(0)).isEqualTo(1);
+        assertThat(sketch.quantile(1)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("나누어 만든 스케치를 병합하면 전체를 한 번에 만든 것과 같은 오차 범위 안의 순위를 준다")
+    void merge_keepsRankErrorBounded() {
+        // given: 10만 개 값을 네 조각으로 나누어 스케치 생성 후 병합 (직렬화 왕복 포함)
+        Random random = new Random(42);
+        int total = 100_000;
+        KllSketch merged = new KllSketch();
+        for (int part = 0; part < 4; part++) {
+            KllSketch sketch = new KllSketch();
+            for (int i = 0; i < total / 4; i++) {
+                sketch.update(random.nextInt(total) + 0.5);
+            }
+            merged.merge(KllSketch.fromBytes(sketch.toBytes()));
+        }
+
+        // when & then: 균등분포이므로 참 순위 ≈ value / total
+        assertThat(merged.getN()).isEqualTo(total);
+        assertThat(merged.retainedItems()).isLessThan(1000);
+        for (double q = 0.1; q < 1; q += 0.1) {
+            assertThat(merged.rank(q * total)).isCloseTo(q, within(0.02));
+            assertThat(merged.quantile(q) / total).isCloseTo(q, within(0.02));
+        }
+    }
+
+    @Test
+    @DisplayName("빈 스케치는 NaN을 주고, k가 다른 스케치나 잘못된 바이트는 거부한다")
+    void emptyAndInvalid() {
+        // given
+        KllSketch empty = KllSketch.fromBytes(new KllSketch().toBytes());
+
+        // when & then
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.rank(1)).isNaN();
+        assertThat(empty.quantile(0.5)).isNaN();
+        assertThatThrownBy(() -> empty.merge(new KllSketch(100)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KllSketch.fromBytes(new byte[]{1, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.endlesspassion.sigai.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("분기 값 타입 테스트")
+class QuarterTest {
+
+    @Test
+    @DisplayName("YYYYQ와 YYYYQQ 형식을 모두 파싱하고, 같은 분기는 같은 인스턴스와 문자열을 재사용한다")
+    void parse_bothFormats() {
+        // when
+        Quarter mongo = Quarter.parse("20241");
+        Quarter code = Quarter.parse("202401");
+
+        // then
+        assertThat(mongo).isSameAs(code);
+        assertThat(mongo.mongoKey()).isEqualTo("20241").isSameAs(code.mongoKey());
+        assertThat(mongo.code()).isEqualTo("202401");
+        assertThatThrownBy(() -> Quarter.parse("202405")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Quarter.parse("202411")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Quarter.parse("2024Q1")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("연도 경계를 넘는 분기 이동과 분기 차이를 계산한다")
+    void arithmetic_acrossYears() {
+        // given
+        Quarter quarter = Quarter.of(2024, 1);
+
+        // when & then
+        assertThat(quarter.previous().code()).isEqualTo("202304");
+        assertThat(quarter.plus(7).code()).isEqualTo("202504");
+        assertThat(quarter.minus(5).until(quarter)).isEqualTo(5);
+        assertThat(quarter.lastQuarters(4)).extracting(Quarter::code)
+                .containsExactly("202302", "202303", "202304", "202401");
+    }
+
+    @Test
+    @DisplayName("월과 분기를 서로 변환한다")
+    void monthMapping() {
+        assertThat(Quarter.ofMonth(2024, 3).code()).isEqualTo("202401");
+        assertThat(Quarter.ofMonth(2024, 10).code()).isEqualTo("202404");
+        assertThat(Quarter.of(2024, 2).firstMonth()).isEqualTo(4);
+        assertThat(Quarter.of(2024, 4).lastYearMonth()).isEqualTo(202412);
+    }
+}
@@ -0,0 +1,62 @@
+package com.endlesspassion.sigai.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("통계 계산기 테스트")
+class StatisticsUtilsTest {
+
+    @Test
+    @DisplayName("평균/분산/표준 점수는 결측값(NaN)을 제외하고 계산한다")
+    void meanVarianceZScore_skipNaN() {
+        // given
+        double[] values = {2, 4, Double.NaN, 4, 4, 5, 5, 7, 9};
+
+        // when & then
+        assertThat(StatisticsUtils.mean(values)).isEqualTo(5.0);
+        assertThat(StatisticsUtils.variance(values)).isCloseTo(32.0 / 7, within(1e-12));
+        assertThat(StatisticsUtils.zScore(values, 9)).isCloseTo(4 / Math.sqrt(32.0 / 7), within(1e-12));
+        assertThat(StatisticsUtils.variance(new double[]{3})).isNaN();
+    }
+
+    @Test
+    @DisplayName("꾸준히 오르는 시계열은 기울기가 유의하고, 들쭉날쭉한 시계열은 유의하지 않다")
+    void linearTrend_significance() {
+        // given
+        double[] rising = {9, 10, 11, 13, 12, 16, 14, 15};
+        double[] noisy = {10, 10, 11, 9, 10, 10, 11, 10};
+
+        // when
+        StatisticsUtils.LinearTrend risingFit = StatisticsUtils.linearTrend(rising);
+        StatisticsUtils.LinearTrend noisyFit = StatisticsUtils.linearTrend(noisy);
+
+        // then
+        assertThat(risingFit.slope()).isCloseTo(StatisticsUtils.slope(rising), within(1e-12));
+        assertThat(risingFit.slope()).isCloseTo(38.0 / 42, within(1e-12));
+        assertThat(risingFit.classify(1.0)).isEqualTo(StatisticsUtils.Trend.INCREASING);
+        assertThat(noisyFit.isSignificant()).isFalse();
+        assertThat(noisyFit.classify(1.0)).isEqualTo(StatisticsUtils.Trend.STABLE);
+    }
+
+    @Test
+    @DisplayName("링 버퍼는 가장 오래된 값을 덮어쓰고, 최근 값만으로 통계를 계산한다")
+    void ringBuffer_slidingWindow() {
+        // given
+        StatisticsUtils.DoubleRingBuffer buffer = new StatisticsUtils.DoubleRingBuffer(3);
+
+        // when
+        for (double value : new double[]{100, 1, 2, 3}) {
+            buffer.add(value);
+        }
+
+        // then
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.get(0)).isEqualTo(1.0);
+        assertThat(buffer.mean()).isEqualTo(2.0);
+        assertThat(buffer.slope()).isCloseTo(1.0, within(1e-12));
+        assertThat(buffer.ewma(0.5)).isEqualTo(2.25); // 1 → 1.5 → 2.25
+    }
+}